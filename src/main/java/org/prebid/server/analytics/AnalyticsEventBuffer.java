@@ -0,0 +1,92 @@
+package org.prebid.server.analytics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded lock-free ring buffer of analytics events.
+ * <p>
+ * Any thread may offer events, but only one thread at a time is allowed to drain them (the owning event loop).
+ * When the buffer is full new events are rejected instead of blocking the producer.
+ */
+class AnalyticsEventBuffer {
+
+    private final int capacity;
+    private final AtomicReferenceArray<Object> slots;
+    private final AtomicLong head;
+    private final AtomicLong tail;
+    private final AtomicBoolean flushScheduled;
+
+    AnalyticsEventBuffer(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Analytics event buffer capacity must be positive");
+        }
+
+        this.capacity = capacity;
+        slots = new AtomicReferenceArray<>(capacity);
+        head = new AtomicLong();
+        tail = new AtomicLong();
+        flushScheduled = new AtomicBoolean();
+    }
+
+    /**
+     * Puts event to the buffer. Returns false if there is no room for it.
+     */
+    boolean offer(Object event) {
+        while (true) {
+            final long currentTail = tail.get();
+            if (currentTail - head.get() >= capacity) {
+                return false;
+            }
+            if (tail.compareAndSet(currentTail, currentTail + 1)) {
+                slots.lazySet(index(currentTail), event);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Removes all published events from the buffer. Must not be called concurrently.
+     */
+    List<Object> drain() {
+        long currentHead = head.get();
+        final List<Object> events = new ArrayList<>((int) Math.min(capacity, tail.get() - currentHead));
+
+        while (true) {
+            final int index = index(currentHead);
+            final Object event = slots.get(index);
+            // either buffer is empty or producer claimed the slot but has not published event yet
+            if (event == null) {
+                break;
+            }
+            slots.lazySet(index, null);
+            events.add(event);
+            currentHead++;
+        }
+
+        head.set(currentHead);
+        return events;
+    }
+
+    int size() {
+        return (int) (tail.get() - head.get());
+    }
+
+    /**
+     * Returns true if caller is the one who should schedule flush of this buffer.
+     */
+    boolean markFlushScheduled() {
+        return flushScheduled.compareAndSet(false, true);
+    }
+
+    void resetFlushScheduled() {
+        flushScheduled.set(false);
+    }
+
+    private int index(long sequence) {
+        return (int) (sequence % capacity);
+    }
+}
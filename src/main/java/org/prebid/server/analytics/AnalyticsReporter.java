@@ -1,5 +1,7 @@
 package org.prebid.server.analytics;
 
+import java.util.List;
+
 /**
  * Type of component that does transactional logging.
  */
@@ -13,4 +15,16 @@ public interface AnalyticsReporter {
      * Implementation note: this method is executed on Vert.x event loop thread so it must never use blocking API.
      */
     <T> void processEvent(T event);
+
+    /**
+     * Callback method invoked for a batch of buffered application events. Reporters able to handle events in bulk
+     * (for example, write them in one I/O operation) should override it, by default events are processed one by one.
+     * <p>
+     * Implementation note: this method is executed on Vert.x event loop thread so it must never use blocking API.
+     */
+    default void processEvents(List<?> events) {
+        for (final Object event : events) {
+            processEvent(event);
+        }
+    }
 }
@@ -1,27 +1,170 @@
 package org.prebid.server.analytics;
 
+import io.vertx.core.Context;
 import io.vertx.core.Vertx;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+import org.prebid.server.analytics.model.AmpEvent;
+import org.prebid.server.analytics.model.AuctionEvent;
+import org.prebid.server.analytics.model.NotificationEvent;
+import org.prebid.server.analytics.model.VideoEvent;
+import org.prebid.server.auction.model.AuctionContext;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.settings.model.Account;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Implementation of the Composite design pattern that dispatches event processing to all enabled reporters.
+ * <p>
+ * Events are sampled according to {@link Account#getAnalyticsSamplingFactor()} before they reach any reporter.
+ * <p>
+ * If buffering is enabled (buffer capacity is positive) events are collected in a bounded buffer per Vert.x context
+ * and passed to reporters in batches, either periodically or as soon as batch size is reached. When buffer is full
+ * new events are dropped, so analytics never delays request processing.
  */
 public class CompositeAnalyticsReporter implements AnalyticsReporter {
 
+    private static final Logger logger = LoggerFactory.getLogger(CompositeAnalyticsReporter.class);
+
+    private static final String BUFFER_CONTEXT_KEY = CompositeAnalyticsReporter.class.getName() + ".buffer";
+
     private final List<AnalyticsReporter> delegates;
     private final Vertx vertx;
+    private final Metrics metrics;
+    private final int bufferCapacity;
+    private final int batchSize;
+    private final long flushPeriodMs;
+
+    private final AnalyticsEventBuffer fallbackBuffer;
+
+    public CompositeAnalyticsReporter(List<AnalyticsReporter> delegates,
+                                      Vertx vertx,
+                                      Metrics metrics,
+                                      int bufferCapacity,
+                                      int batchSize,
+                                      long flushPeriodMs) {
 
-    public CompositeAnalyticsReporter(List<AnalyticsReporter> delegates, Vertx vertx) {
         this.delegates = Objects.requireNonNull(delegates);
         this.vertx = Objects.requireNonNull(vertx);
+        this.metrics = Objects.requireNonNull(metrics);
+        this.bufferCapacity = bufferCapacity;
+        this.batchSize = Math.max(batchSize, 1);
+        this.flushPeriodMs = flushPeriodMs;
+
+        if (isBufferingEnabled()) {
+            if (flushPeriodMs <= 0) {
+                throw new IllegalArgumentException("Analytics buffer flush period must be positive");
+            }
+
+            // used for events reported outside of Vert.x context
+            fallbackBuffer = new AnalyticsEventBuffer(bufferCapacity);
+            vertx.setPeriodic(flushPeriodMs, ignored -> flush(fallbackBuffer));
+        } else {
+            fallbackBuffer = null;
+        }
     }
 
     @Override
     public <T> void processEvent(T event) {
+        if (delegates.isEmpty()) {
+            return;
+        }
+
+        if (!isSampled(event)) {
+            metrics.updateAnalyticsEventSampledOutMetric();
+            return;
+        }
+
+        if (isBufferingEnabled()) {
+            bufferEvent(event);
+        } else {
+            for (final AnalyticsReporter reporter : delegates) {
+                vertx.runOnContext(ignored -> reporter.processEvent(event));
+            }
+        }
+    }
+
+    private boolean isBufferingEnabled() {
+        return bufferCapacity > 0;
+    }
+
+    /**
+     * Returns true if event should be passed to reporters according to account sampling factor.
+     * <p>
+     * Factor value N means that every N-th event (randomly) is reported, absent or non-positive value means
+     * all events are reported.
+     */
+    private static boolean isSampled(Object event) {
+        final Account account = accountFrom(event);
+        final Integer samplingFactor = account != null ? account.getAnalyticsSamplingFactor() : null;
+
+        return samplingFactor == null || samplingFactor <= 1
+                || ThreadLocalRandom.current().nextInt(samplingFactor) == 0;
+    }
+
+    private static Account accountFrom(Object event) {
+        final AuctionContext auctionContext;
+        if (event instanceof AuctionEvent) {
+            auctionContext = ((AuctionEvent) event).getAuctionContext();
+        } else if (event instanceof AmpEvent) {
+            auctionContext = ((AmpEvent) event).getAuctionContext();
+        } else if (event instanceof VideoEvent) {
+            auctionContext = ((VideoEvent) event).getAuctionContext();
+        } else if (event instanceof NotificationEvent) {
+            return ((NotificationEvent) event).getAccount();
+        } else {
+            auctionContext = null;
+        }
+
+        return auctionContext != null ? auctionContext.getAccount() : null;
+    }
+
+    private void bufferEvent(Object event) {
+        final Context context = Vertx.currentContext();
+        final AnalyticsEventBuffer buffer = context != null ? contextBuffer(context) : fallbackBuffer;
+
+        if (!buffer.offer(event)) {
+            metrics.updateAnalyticsEventDroppedMetric();
+            return;
+        }
+
+        if (context != null && buffer.size() >= batchSize && buffer.markFlushScheduled()) {
+            context.runOnContext(ignored -> flush(buffer));
+        }
+    }
+
+    /**
+     * Returns buffer bound to the given context, creates it along with periodic flush timer if absent.
+     */
+    private AnalyticsEventBuffer contextBuffer(Context context) {
+        final AnalyticsEventBuffer existingBuffer = context.get(BUFFER_CONTEXT_KEY);
+        if (existingBuffer != null) {
+            return existingBuffer;
+        }
+
+        final AnalyticsEventBuffer buffer = new AnalyticsEventBuffer(bufferCapacity);
+        context.put(BUFFER_CONTEXT_KEY, buffer);
+        vertx.setPeriodic(flushPeriodMs, ignored -> flush(buffer));
+        return buffer;
+    }
+
+    private void flush(AnalyticsEventBuffer buffer) {
+        buffer.resetFlushScheduled();
+
+        final List<Object> events = buffer.drain();
+        if (events.isEmpty()) {
+            return;
+        }
+
         for (final AnalyticsReporter reporter : delegates) {
-            vertx.runOnContext(ignored -> reporter.processEvent(event));
+            try {
+                reporter.processEvents(events);
+            } catch (Exception e) {
+                logger.warn("Error occurred while processing analytics events batch", e);
+            }
         }
     }
 }
@@ -0,0 +1,85 @@
+package org.prebid.server.analytics;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+import org.prebid.server.json.JacksonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * {@link AnalyticsReporter} implementation that appends application events to a local file.
+ * <p>
+ * Each batch of events is written as a separate gzip member containing newline-delimited JSON, so the file
+ * stays a valid gzip stream and can be read with standard tools. Serialization, compression and writing are
+ * performed on a worker thread.
+ */
+public class FileAnalyticsReporter implements AnalyticsReporter {
+
+    private static final Logger logger = LoggerFactory.getLogger(FileAnalyticsReporter.class);
+
+    private final Path filePath;
+    private final Vertx vertx;
+    private final JacksonMapper mapper;
+
+    public FileAnalyticsReporter(String filePath, Vertx vertx, JacksonMapper mapper) {
+        this.filePath = Paths.get(Objects.requireNonNull(filePath));
+        this.vertx = Objects.requireNonNull(vertx);
+        this.mapper = Objects.requireNonNull(mapper);
+    }
+
+    @Override
+    public <T> void processEvent(T event) {
+        processEvents(Collections.singletonList(event));
+    }
+
+    @Override
+    public void processEvents(List<?> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+
+        vertx.executeBlocking(promise -> writeEvents(events, promise), true, this::handleWriteResult);
+    }
+
+    private void writeEvents(List<?> events, Promise<Void> promise) {
+        try {
+            Files.write(filePath, compress(events), StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            promise.complete();
+        } catch (IOException | RuntimeException e) {
+            promise.fail(e);
+        }
+    }
+
+    private byte[] compress(List<?> events) throws IOException {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (Writer writer = new OutputStreamWriter(new GZIPOutputStream(outputStream), StandardCharsets.UTF_8)) {
+            for (final Object event : events) {
+                writer.write(mapper.encode(LogAnalyticsReporter.toLogEvent(event)));
+                writer.write('\n');
+            }
+        }
+        return outputStream.toByteArray();
+    }
+
+    private void handleWriteResult(AsyncResult<Void> result) {
+        if (result.failed()) {
+            logger.warn("Error occurred while writing analytics events to file {0}: {1}",
+                    filePath, result.cause().getMessage());
+        }
+    }
+}
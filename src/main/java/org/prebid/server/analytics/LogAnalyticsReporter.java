@@ -29,6 +29,16 @@ public class LogAnalyticsReporter implements AnalyticsReporter {
 
     @Override
     public <T> void processEvent(T event) {
+        // avoid encoding of the whole event if it is not going to be logged anyway
+        if (logger.isDebugEnabled()) {
+            logger.debug(mapper.encode(toLogEvent(event)));
+        }
+    }
+
+    /**
+     * Converts application event to the structure suitable for logging.
+     */
+    static LogEvent<?> toLogEvent(Object event) {
         final LogEvent<?> logEvent;
 
         if (event instanceof AuctionEvent) {
@@ -48,12 +58,12 @@ public class LogAnalyticsReporter implements AnalyticsReporter {
             logEvent = new LogEvent<>("unknown", null);
         }
 
-        logger.debug(mapper.encode(logEvent));
+        return logEvent;
     }
 
     @AllArgsConstructor
     @Value
-    private static class LogEvent<T> {
+    static class LogEvent<T> {
 
         String type;
 
@@ -80,6 +80,7 @@ public class AmpRequestFactory {
     private final FpdResolver fpdResolver;
     private final TimeoutResolver timeoutResolver;
     private final JacksonMapper mapper;
+    private final AmpRequestTemplateCache ampRequestTemplateCache;
 
     public AmpRequestFactory(StoredRequestProcessor storedRequestProcessor,
                              AuctionRequestFactory auctionRequestFactory,
@@ -87,7 +88,8 @@ public class AmpRequestFactory {
                              ImplicitParametersExtractor implicitParametersExtractor,
                              FpdResolver fpdResolver,
                              TimeoutResolver timeoutResolver,
-                             JacksonMapper mapper) {
+                             JacksonMapper mapper,
+                             AmpRequestTemplateCache ampRequestTemplateCache) {
         this.storedRequestProcessor = Objects.requireNonNull(storedRequestProcessor);
         this.auctionRequestFactory = Objects.requireNonNull(auctionRequestFactory);
         this.ortbTypesResolver = Objects.requireNonNull(ortbTypesResolver);
@@ -95,6 +97,7 @@ public class AmpRequestFactory {
         this.fpdResolver = Objects.requireNonNull(fpdResolver);
         this.timeoutResolver = Objects.requireNonNull(timeoutResolver);
         this.mapper = Objects.requireNonNull(mapper);
+        this.ampRequestTemplateCache = ampRequestTemplateCache;
     }
 
     /**
@@ -122,7 +125,7 @@ public class AmpRequestFactory {
     private Future<Tuple2<BidRequest, List<String>>> createBidRequest(RoutingContext context, String tagId) {
         final List<String> errors = new ArrayList<>();
         return storedRequestProcessor.processAmpRequest(context.request().getParam(ACCOUNT_REQUEST_PARAM), tagId)
-                .map(bidRequest -> validateStoredBidRequest(tagId, bidRequest))
+                .map(bidRequest -> ampRequestTemplate(tagId, bidRequest))
                 .map(bidRequest -> fillExplicitParameters(bidRequest, context))
                 .map(bidRequest -> overrideParameters(bidRequest, context.request(), errors))
                 .map(bidRequest -> auctionRequestFactory.fillImplicitParameters(bidRequest, context, timeoutResolver))
@@ -130,6 +133,20 @@ public class AmpRequestFactory {
                 .map(bidRequest -> Tuple2.of(bidRequest, errors));
     }
 
+    /**
+     * Returns validated stored {@link BidRequest} with AMP defaults applied, which does not depend on request query
+     * string and therefore is cached if {@link AmpRequestTemplateCache} is enabled.
+     */
+    private BidRequest ampRequestTemplate(String tagId, BidRequest storedBidRequest) {
+        return ampRequestTemplateCache != null
+                ? ampRequestTemplateCache.getTemplate(storedBidRequest, bidRequest -> createTemplate(tagId, bidRequest))
+                : createTemplate(tagId, storedBidRequest);
+    }
+
+    private BidRequest createTemplate(String tagId, BidRequest storedBidRequest) {
+        return applyAmpDefaults(validateStoredBidRequest(tagId, storedBidRequest));
+    }
+
     /**
      * Throws {@link InvalidRequestException} in case of invalid {@link BidRequest}.
      */
@@ -162,10 +179,9 @@ public class AmpRequestFactory {
      * values if it was not included by user
      * - Updates {@link Imp} security if required to ensure that amp always uses
      * https protocol
-     * - Sets {@link BidRequest}.test = 1 if it was passed in {@link RoutingContext}
-     * - Updates {@link BidRequest}.ext.prebid.amp.data with all query parameters
+     * - Sets {@link BidRequest}.ext.prebid.channel to amp if it was not included by user
      */
-    private BidRequest fillExplicitParameters(BidRequest bidRequest, RoutingContext context) {
+    private BidRequest applyAmpDefaults(BidRequest bidRequest) {
         final List<Imp> imps = bidRequest.getImp();
         // Force HTTPS as AMP requires it, but pubs can forget to set it.
         final Imp imp = imps.get(0);
@@ -198,6 +214,25 @@ public class AmpRequestFactory {
             setChannel = prebid.getChannel() == null;
         }
 
+        final BidRequest result;
+        if (setSecure || setDefaultTargeting || setDefaultCache || setChannel) {
+            result = bidRequest.toBuilder()
+                    .imp(setSecure ? Collections.singletonList(imp.toBuilder().secure(1).build()) : imps)
+                    .ext(extRequestWithDefaults(bidRequest, setDefaultTargeting, setDefaultCache, setChannel))
+                    .build();
+        } else {
+            result = bidRequest;
+        }
+        return result;
+    }
+
+    /**
+     * - Sets {@link BidRequest}.test = 1 if it was passed in {@link RoutingContext}
+     * - Updates {@link BidRequest}.ext.prebid.amp.data with all query parameters
+     */
+    private BidRequest fillExplicitParameters(BidRequest bidRequest, RoutingContext context) {
+        final ExtRequestPrebid prebid = bidRequest.getExt().getPrebid();
+
         final Integer debugQueryParam = debugFromQueryStringParam(context);
 
         final Integer test = bidRequest.getTest();
@@ -213,24 +248,10 @@ public class AmpRequestFactory {
         final Map<String, String> updatedAmpData = updateAmpData(prebid, context.request());
 
         final BidRequest result;
-        if (setSecure
-                || setDefaultTargeting
-                || setDefaultCache
-                || setChannel
-                || updatedTest != null
-                || updatedDebug != null
-                || updatedAmpData != null) {
-
+        if (updatedTest != null || updatedDebug != null || updatedAmpData != null) {
             result = bidRequest.toBuilder()
-                    .imp(setSecure ? Collections.singletonList(imps.get(0).toBuilder().secure(1).build()) : imps)
                     .test(ObjectUtils.defaultIfNull(updatedTest, test))
-                    .ext(extRequest(
-                            bidRequest,
-                            setDefaultTargeting,
-                            setDefaultCache,
-                            setChannel,
-                            updatedDebug,
-                            updatedAmpData))
+                    .ext(extRequest(bidRequest, updatedDebug, updatedAmpData))
                     .build();
         } else {
             result = bidRequest;
@@ -569,22 +590,17 @@ public class AmpRequestFactory {
     }
 
     /**
-     * Creates updated bidrequest.ext {@link ObjectNode}.
+     * Creates bidrequest.ext {@link ExtRequest} updated with AMP defaults.
      */
-    private ExtRequest extRequest(BidRequest bidRequest,
-                                  boolean setDefaultTargeting,
-                                  boolean setDefaultCache,
-                                  boolean setChannel,
-                                  Integer updatedDebug,
-                                  Map<String, String> updatedAmpData) {
+    private ExtRequest extRequestWithDefaults(BidRequest bidRequest,
+                                              boolean setDefaultTargeting,
+                                              boolean setDefaultCache,
+                                              boolean setChannel) {
 
         final ExtRequest result;
-        if (setDefaultTargeting || setDefaultCache || setChannel || updatedDebug != null || updatedAmpData != null) {
-            final ExtRequest requestExt = bidRequest.getExt();
-            final ExtRequestPrebid prebid = requestExt != null ? requestExt.getPrebid() : null;
-            final ExtRequestPrebid.ExtRequestPrebidBuilder prebidBuilder = prebid != null
-                    ? prebid.toBuilder()
-                    : ExtRequestPrebid.builder();
+        if (setDefaultTargeting || setDefaultCache || setChannel) {
+            final ExtRequestPrebid prebid = bidRequest.getExt().getPrebid();
+            final ExtRequestPrebid.ExtRequestPrebidBuilder prebidBuilder = prebidBuilder(prebid);
 
             if (setDefaultTargeting) {
                 prebidBuilder.targeting(createTargetingWithDefaults(prebid));
@@ -596,10 +612,29 @@ public class AmpRequestFactory {
             if (setChannel) {
                 prebidBuilder.channel(ExtRequestPrebidChannel.of(AMP_CHANNEL));
             }
+
+            result = ExtRequest.of(prebidBuilder.build());
+        } else {
+            result = bidRequest.getExt();
+        }
+        return result;
+    }
+
+    /**
+     * Creates updated bidrequest.ext {@link ExtRequest}.
+     */
+    private static ExtRequest extRequest(BidRequest bidRequest,
+                                         Integer updatedDebug,
+                                         Map<String, String> updatedAmpData) {
+
+        final ExtRequest result;
+        if (updatedDebug != null || updatedAmpData != null) {
+            final ExtRequestPrebid.ExtRequestPrebidBuilder prebidBuilder =
+                    prebidBuilder(bidRequest.getExt().getPrebid());
+
             if (updatedDebug != null) {
                 prebidBuilder.debug(updatedDebug);
             }
-
             if (updatedAmpData != null) {
                 prebidBuilder.amp(ExtRequestPrebidAmp.of(updatedAmpData));
             }
@@ -611,6 +646,10 @@ public class AmpRequestFactory {
         return result;
     }
 
+    private static ExtRequestPrebid.ExtRequestPrebidBuilder prebidBuilder(ExtRequestPrebid prebid) {
+        return prebid != null ? prebid.toBuilder() : ExtRequestPrebid.builder();
+    }
+
     /**
      * Creates updated with default values bidrequest.ext.targeting {@link ExtRequestTargeting} if at least one of it's
      * child properties is missed or entire targeting does not exist.
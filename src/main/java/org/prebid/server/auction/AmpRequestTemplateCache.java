@@ -0,0 +1,110 @@
+package org.prebid.server.auction;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.iab.openrtb.request.BidRequest;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+import org.apache.commons.collections4.MapUtils;
+import org.prebid.server.settings.CacheNotificationListener;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+
+/**
+ * Keeps AMP {@link BidRequest}s built from stored requests, so that requests for the same tag_id do not merge stored
+ * request JSON and apply AMP defaults over and over again.
+ * <p>
+ * Merged stored requests are cached per account and tag_id along with stored request JSON they were built from, which
+ * serves as their version. Templates are cached per merged stored request instance, so they are dropped together.
+ * <p>
+ * Cached {@link BidRequest}s are shared between requests and must never be modified.
+ */
+public class AmpRequestTemplateCache implements CacheNotificationListener {
+
+    private final Map<TemplateKey, MergedRequest> mergedRequests;
+    private final Map<BidRequest, BidRequest> templates;
+
+    public AmpRequestTemplateCache(int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("size must be positive");
+        }
+
+        mergedRequests = Caffeine.newBuilder()
+                .maximumSize(size)
+                .<TemplateKey, MergedRequest>build()
+                .asMap();
+        // weak keys are compared by identity
+        templates = Caffeine.newBuilder()
+                .weakKeys()
+                .maximumSize(size)
+                .<BidRequest, BidRequest>build()
+                .asMap();
+    }
+
+    /**
+     * Returns stored request merged earlier for given account and tag_id if it was built from the same stored
+     * request JSON, or null otherwise.
+     */
+    BidRequest getMergedRequest(String accountId, String tagId, String storedRequest) {
+        final MergedRequest mergedRequest = mergedRequests.get(TemplateKey.of(accountId, tagId));
+        return mergedRequest != null && Objects.equals(mergedRequest.getStoredRequest(), storedRequest)
+                ? mergedRequest.getBidRequest()
+                : null;
+    }
+
+    void putMergedRequest(String accountId, String tagId, String storedRequest, BidRequest bidRequest) {
+        if (storedRequest != null) {
+            mergedRequests.put(TemplateKey.of(accountId, tagId), MergedRequest.of(storedRequest, bidRequest));
+        }
+    }
+
+    /**
+     * Returns template created by given factory from merged stored request. Nothing is cached if factory throws
+     * exception.
+     */
+    BidRequest getTemplate(BidRequest mergedRequest, UnaryOperator<BidRequest> templateFactory) {
+        return templates.computeIfAbsent(mergedRequest, templateFactory);
+    }
+
+    @Override
+    public void save(Map<String, String> requests, Map<String, String> imps) {
+        if (MapUtils.isNotEmpty(requests)) {
+            removeTagIds(requests.keySet());
+        }
+    }
+
+    @Override
+    public void invalidate(List<String> requests, List<String> imps) {
+        // lists may be long and lookups in them slow
+        removeTagIds(new HashSet<>(requests));
+    }
+
+    /**
+     * Notifications do not carry account, so entries of all accounts are removed.
+     */
+    private void removeTagIds(Set<String> tagIds) {
+        mergedRequests.keySet().removeIf(key -> tagIds.contains(key.getTagId()));
+    }
+
+    @AllArgsConstructor(staticName = "of")
+    @Value
+    private static class TemplateKey {
+
+        String accountId;
+
+        String tagId;
+    }
+
+    @AllArgsConstructor(staticName = "of")
+    @Value
+    private static class MergedRequest {
+
+        String storedRequest;
+
+        BidRequest bidRequest;
+    }
+}
@@ -30,7 +30,9 @@ import org.prebid.server.exception.BlacklistedAccountException;
 import org.prebid.server.exception.BlacklistedAppException;
 import org.prebid.server.exception.InvalidRequestException;
 import org.prebid.server.exception.PreBidException;
+import org.prebid.server.exception.RateLimitedAccountException;
 import org.prebid.server.exception.UnauthorizedAccountException;
+import org.prebid.server.execution.AccountRateLimiter;
 import org.prebid.server.execution.Timeout;
 import org.prebid.server.execution.TimeoutFactory;
 import org.prebid.server.geolocation.model.GeoInfo;
@@ -38,6 +40,7 @@ import org.prebid.server.identity.IdGenerator;
 import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.log.ConditionalLogger;
 import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.privacy.model.PrivacyContext;
 import org.prebid.server.proto.openrtb.ext.request.ExtMediaTypePriceGranularity;
 import org.prebid.server.proto.openrtb.ext.request.ExtPriceGranularity;
@@ -85,6 +88,7 @@ public class AuctionRequestFactory {
     public static final String APP_CHANNEL = "app";
 
     private final long maxRequestSize;
+    private final boolean streamingParseEnabled;
     private final boolean enforceValidAccount;
     private final boolean shouldCacheOnlyWinningBids;
     private final String adServerCurrency;
@@ -104,8 +108,11 @@ public class AuctionRequestFactory {
     private final PrivacyEnforcementService privacyEnforcementService;
     private final JacksonMapper mapper;
     private final OrtbTypesResolver ortbTypesResolver;
+    private final Metrics metrics;
+    private final AccountRateLimiter accountRateLimiter;
 
     public AuctionRequestFactory(long maxRequestSize,
+                                 boolean streamingParseEnabled,
                                  boolean enforceValidAccount,
                                  boolean shouldCacheOnlyWinningBids,
                                  String adServerCurrency,
@@ -124,9 +131,12 @@ public class AuctionRequestFactory {
                                  ApplicationSettings applicationSettings,
                                  IdGenerator idGenerator,
                                  PrivacyEnforcementService privacyEnforcementService,
-                                 JacksonMapper mapper) {
+                                 JacksonMapper mapper,
+                                 Metrics metrics,
+                                 AccountRateLimiter accountRateLimiter) {
 
         this.maxRequestSize = maxRequestSize;
+        this.streamingParseEnabled = streamingParseEnabled;
         this.enforceValidAccount = enforceValidAccount;
         this.shouldCacheOnlyWinningBids = shouldCacheOnlyWinningBids;
         this.adServerCurrency = validateCurrency(Objects.requireNonNull(adServerCurrency));
@@ -146,6 +156,8 @@ public class AuctionRequestFactory {
         this.idGenerator = Objects.requireNonNull(idGenerator);
         this.privacyEnforcementService = Objects.requireNonNull(privacyEnforcementService);
         this.mapper = Objects.requireNonNull(mapper);
+        this.metrics = Objects.requireNonNull(metrics);
+        this.accountRateLimiter = Objects.requireNonNull(accountRateLimiter);
     }
 
     /**
@@ -166,11 +178,13 @@ public class AuctionRequestFactory {
     public Future<AuctionContext> fromRequest(RoutingContext routingContext, long startTime) {
         final List<String> errors = new ArrayList<>();
         final BidRequest incomingBidRequest;
+        final long parseStartTime = System.nanoTime();
         try {
             incomingBidRequest = parseRequest(routingContext, errors);
         } catch (InvalidRequestException e) {
             return Future.failedFuture(e);
         }
+        metrics.updateAuctionStageTimeMetric(MetricName.parse_request, System.nanoTime() - parseStartTime);
 
         return updateBidRequest(routingContext, incomingBidRequest)
                 .compose(bidRequest -> toAuctionContext(
@@ -197,6 +211,7 @@ public class AuctionRequestFactory {
         final Timeout timeout = timeout(bidRequest, startTime, timeoutResolver);
 
         return accountFrom(bidRequest, timeout, routingContext)
+                .map(account -> acquireAccountRateLimits(account, routingContext))
                 .compose(account -> privacyEnforcementService.contextFromBidRequest(
                         bidRequest, account, requestTypeMetric, timeout, errors)
                         .map(privacyContext -> AuctionContext.builder()
@@ -216,6 +231,9 @@ public class AuctionRequestFactory {
     /**
      * Parses request body to {@link BidRequest}.
      * <p>
+     * If streaming parse is enabled, body is deserialized directly to {@link BidRequest} with types normalization
+     * applied on the fly, otherwise it is read into {@link JsonNode} first.
+     * <p>
      * Throws {@link InvalidRequestException} if body is empty, exceeds max request size or couldn't be deserialized.
      */
     private BidRequest parseRequest(RoutingContext context, List<String> errors) {
@@ -229,6 +247,15 @@ public class AuctionRequestFactory {
                     String.format("Request size exceeded max size of %d bytes.", maxRequestSize));
         }
 
+        final String referer = paramsExtractor.refererFrom(context.request());
+        if (streamingParseEnabled) {
+            try (ByteBufInputStream inputStream = new ByteBufInputStream(body.getByteBuf())) {
+                return ortbTypesResolver.parseBidRequest(inputStream, body::toString, errors, referer);
+            } catch (IOException e) {
+                throw new InvalidRequestException(String.format("Error decoding bidRequest: %s", e.getMessage()));
+            }
+        }
+
         final JsonNode bidRequestNode;
         try (ByteBufInputStream inputStream = new ByteBufInputStream(body.getByteBuf())) {
             bidRequestNode = mapper.mapper().readTree(inputStream);
@@ -236,7 +263,6 @@ public class AuctionRequestFactory {
             throw new InvalidRequestException(String.format("Error decoding bidRequest: %s", e.getMessage()));
         }
 
-        final String referer = paramsExtractor.refererFrom(context.request());
         ortbTypesResolver.normalizeBidRequest(bidRequestNode, errors, referer);
 
         try {
@@ -781,6 +807,26 @@ public class AuctionRequestFactory {
                 .recover(exception -> accountFallback(exception, accountId, routingContext));
     }
 
+    /**
+     * Checks request against account rate limits and registers release of the acquired request once response is
+     * done. Throws {@link RateLimitedAccountException} if any limit is exceeded.
+     */
+    private Account acquireAccountRateLimits(Account account, RoutingContext routingContext) {
+        if (account.getRateLimits() == null) {
+            return account;
+        }
+
+        final MetricName exceededLimit = accountRateLimiter.tryAcquire(account);
+        if (exceededLimit != null) {
+            metrics.updateAccountRequestLimitedMetrics(account.getId(), exceededLimit);
+            throw new RateLimitedAccountException(
+                    String.format("Too many requests for account id: %s", account.getId()), account.getId());
+        }
+
+        HttpUtil.addResponseEndHandler(routingContext, ignored -> accountRateLimiter.release(account));
+        return account;
+    }
+
     /**
      * Extracts publisher id either from {@link BidRequest}.app.publisher or {@link BidRequest}.site.publisher.
      * If neither is present returns empty string.
@@ -75,7 +75,7 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.EnumMap;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -207,7 +207,8 @@ public class BidResponseCreator {
 
         final Set<Bid> bidsToCache = cacheInfo.isShouldCacheWinningBidsOnly()
                 ? winningBids
-                : bidderResponses.stream().flatMap(BidResponseCreator::getBids).collect(Collectors.toSet());
+                : bidderResponses.stream().flatMap(BidResponseCreator::getBids)
+                .collect(Collectors.toCollection(BidResponseCreator::newIdentitySet));
 
         final EventsContext eventsContext = EventsContext.builder()
                 .enabledForAccount(eventsEnabledForAccount(auctionContext))
@@ -287,9 +288,9 @@ public class BidResponseCreator {
         final Map<String, List<BidderBid>> impIdToBidderBid = responseBidderBids.stream()
                 .collect(Collectors.groupingBy(bidderBid -> bidderBid.getBid().getImpid()));
 
-        final Set<BidderBid> mostValuableBids = impIdToBidderBid.values().stream()
+        final List<BidderBid> mostValuableBids = impIdToBidderBid.values().stream()
                 .map(BidResponseCreator::mostValuableBid)
-                .collect(Collectors.toSet());
+                .collect(Collectors.toList());
 
         responseBidderBids.clear();
         responseBidderBids.addAll(mostValuableBids);
@@ -312,10 +313,19 @@ public class BidResponseCreator {
     }
 
     /**
-     * Returns new {@link HashSet} in case of existing keywordsCreator or empty collection if null.
+     * Returns new identity-based set in case of existing keywordsCreator or empty collection if null.
      */
     private static Set<Bid> newOrEmptySet(ExtRequestTargeting targeting) {
-        return targeting != null ? new HashSet<>() : Collections.emptySet();
+        return targeting != null ? newIdentitySet() : Collections.emptySet();
+    }
+
+    /**
+     * Returns new {@link Set} comparing {@link Bid}s by reference.
+     * <p>
+     * Bids are mutable and may carry large markup, so they should never be hashed by value.
+     */
+    private static Set<Bid> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
     }
 
     /**
@@ -460,11 +470,14 @@ public class BidResponseCreator {
     }
 
     /**
-     * Creates a map with {@link Bid} as a key and null as a value.
+     * Creates an identity-based map with {@link Bid} as a key and empty {@link CacheInfo} as a value.
      */
     private static Map<Bid, CacheInfo> toMapBidsWithEmptyCacheIds(Set<Bid> bids) {
-        return bids.stream()
-                .collect(Collectors.toMap(Function.identity(), ignored -> CacheInfo.empty()));
+        final Map<Bid, CacheInfo> result = new IdentityHashMap<>(bids.size());
+        for (Bid bid : bids) {
+            result.put(bid, CacheInfo.empty());
+        }
+        return result;
     }
 
     /**
@@ -474,7 +487,7 @@ public class BidResponseCreator {
         final Map<Bid, CacheInfo> bidToCacheId = cacheResult.getCacheBids();
 
         if (bids.size() > bidToCacheId.size()) {
-            final Map<Bid, CacheInfo> updatedBidToCacheInfo = new HashMap<>(bidToCacheId);
+            final Map<Bid, CacheInfo> updatedBidToCacheInfo = new IdentityHashMap<>(bidToCacheId);
             for (Bid bid : bids) {
                 if (!updatedBidToCacheInfo.containsKey(bid)) {
                     updatedBidToCacheInfo.put(bid, CacheInfo.empty());
@@ -806,7 +819,7 @@ public class BidResponseCreator {
         final Bid bid = bidderBid.getBid();
         final BidType bidType = bidderBid.getType();
 
-        // preliminary variables are needed because bid is changing below, so we can lost it in winning bids sets
+        // sets and map are identity-based, so lookups do not depend on bid content changed below
         final boolean isWinningBid = winningBids.contains(bid);
         final boolean isWinningBidByBidder = winningBidsByBidder.contains(bid);
 
@@ -35,6 +35,7 @@ import org.prebid.server.bidder.model.BidderSeatBid;
 import org.prebid.server.cookie.UidsCookie;
 import org.prebid.server.currency.CurrencyConversionService;
 import org.prebid.server.exception.PreBidException;
+import org.prebid.server.execution.AdmissionController;
 import org.prebid.server.execution.Timeout;
 import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.metric.MetricName;
@@ -70,6 +71,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -100,6 +102,7 @@ public class ExchangeService {
     private final Metrics metrics;
     private final Clock clock;
     private final JacksonMapper mapper;
+    private final AdmissionController admissionController;
 
     public ExchangeService(long expectedCacheTime,
                            BidderCatalog bidderCatalog,
@@ -113,7 +116,8 @@ public class ExchangeService {
                            BidResponsePostProcessor bidResponsePostProcessor,
                            Metrics metrics,
                            Clock clock,
-                           JacksonMapper mapper) {
+                           JacksonMapper mapper,
+                           AdmissionController admissionController) {
 
         if (expectedCacheTime < 0) {
             throw new IllegalArgumentException("Expected cache time should be positive");
@@ -131,6 +135,7 @@ public class ExchangeService {
         this.metrics = Objects.requireNonNull(metrics);
         this.clock = Objects.requireNonNull(clock);
         this.mapper = Objects.requireNonNull(mapper);
+        this.admissionController = admissionController;
     }
 
     /**
@@ -154,14 +159,15 @@ public class ExchangeService {
                 .compose(impsRequiredRequest -> extractBidderRequests(context, impsRequiredRequest, aliases))
                 .map(bidderRequests -> updateRequestMetric(
                         bidderRequests, uidsCookie, aliases, publisherId, context.getRequestTypeMetric()))
-                .compose(bidderRequests -> CompositeFuture.join(
+                .compose(bidderRequests -> timedStage(MetricName.bidder_requests, () -> CompositeFuture.join(
                         bidderRequests.stream()
                                 .map(bidderRequest -> requestBids(
                                         bidderRequest,
                                         auctionTimeout(timeout, cacheInfo.isDoCaching()),
                                         debugEnabled,
-                                        aliases))
-                                .collect(Collectors.toList())))
+                                        aliases,
+                                        httpBidderRequester.shouldOffloadStages(bidderRequests.size())))
+                                .collect(Collectors.toList()))))
                 // send all the requests to the bidders and gathers results
                 .map(CompositeFuture::<BidderResponse>list)
                 .map(bidderResponses -> storedResponseProcessor.mergeWithBidderResponses(
@@ -169,15 +175,24 @@ public class ExchangeService {
                 .map(bidderResponses -> validateAndAdjustBids(bidderResponses, context, aliases))
                 .map(bidderResponses -> updateMetricsFromResponses(bidderResponses, publisherId, aliases))
                 // produce response from bidder results
-                .compose(bidderResponses -> bidResponseCreator.create(
-                        bidderResponses,
-                        context,
-                        cacheInfo,
-                        debugEnabled))
+                .compose(bidderResponses -> timedStage(MetricName.bid_response_creation,
+                        () -> bidResponseCreator.create(bidderResponses, context, cacheInfo, debugEnabled)))
                 .compose(bidResponse -> bidResponsePostProcessor.postProcess(
                         context.getRoutingContext(), uidsCookie, bidRequest, bidResponse, account));
     }
 
+    /**
+     * Runs given auction stage and records its duration if it succeeded.
+     */
+    private <T> Future<T> timedStage(MetricName stage, Supplier<Future<T>> stageRunner) {
+        final long startTime = System.nanoTime();
+        return stageRunner.get()
+                .map(result -> {
+                    metrics.updateAuctionStageTimeMetric(stage, System.nanoTime() - startTime);
+                    return result;
+                });
+    }
+
     private BidderAliases aliases(BidRequest bidRequest) {
         final ExtRequestPrebid prebid = extRequestPrebid(bidRequest);
         final Map<String, String> aliases = prebid != null ? prebid.getAliases() : null;
@@ -815,13 +830,19 @@ public class ExchangeService {
     private Future<BidderResponse> requestBids(BidderRequest bidderRequest,
                                                Timeout timeout,
                                                boolean debugEnabled,
-                                               BidderAliases aliases) {
+                                               BidderAliases aliases,
+                                               boolean offloadStages) {
 
         final String bidderName = bidderRequest.getBidder();
         final Bidder<?> bidder = bidderCatalog.bidderByName(aliases.resolveBidder(bidderName));
+        final BidRequest bidRequest = bidderRequest.getBidRequest();
         final long startTime = clock.millis();
 
-        return httpBidderRequester.requestBids(bidder, bidderRequest.getBidRequest(), timeout, debugEnabled)
+        final Future<BidderSeatBid> seatBidFuture = offloadStages
+                ? httpBidderRequester.requestBids(bidder, bidRequest, timeout, debugEnabled, true)
+                : httpBidderRequester.requestBids(bidder, bidRequest, timeout, debugEnabled);
+
+        return seatBidFuture
                 .map(seatBid -> BidderResponse.of(bidderName, seatBid, responseTime(startTime)));
     }
 
@@ -989,6 +1010,11 @@ public class ExchangeService {
                         .map(ExchangeService::bidderErrorTypeToMetric)
                         .forEach(errorMetric -> metrics.updateAdapterRequestErrorMetric(bidder, errorMetric));
             }
+
+            if (admissionController != null) {
+                admissionController.recordBidderResponse(CollectionUtils.isNotEmpty(errors) && errors.stream()
+                        .anyMatch(error -> error.getType() == BidderError.Type.timeout));
+            }
         }
 
         return bidderResponses;
@@ -1012,6 +1038,9 @@ public class ExchangeService {
             case timeout:
                 errorMetric = MetricName.timeout;
                 break;
+            case response_too_large:
+                errorMetric = MetricName.responsetoolarge;
+                break;
             case generic:
             default:
                 errorMetric = MetricName.unknown_error;
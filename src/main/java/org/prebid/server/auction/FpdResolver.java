@@ -185,9 +185,17 @@ public class FpdResolver {
                 ? (ObjectNode) jsonMerger.merge(targeting, extImpContextData)
                 : targeting;
 
-        return extImpContext != null && extImpContext.isObject()
-                ? impExt.set(CONTEXT, ((ObjectNode) extImpContext).set(DATA, resolvedData))
-                : impExt.set(CONTEXT, jacksonMapper.mapper().createObjectNode().set(DATA, resolvedData));
+        // imp.ext may be shared between requests (e.g. cached AMP template), so updated nodes are copied
+        final ObjectNode resolvedContext = jacksonMapper.mapper().createObjectNode();
+        if (extImpContext != null && extImpContext.isObject()) {
+            resolvedContext.setAll((ObjectNode) extImpContext);
+        }
+        resolvedContext.set(DATA, resolvedData);
+
+        final ObjectNode resolvedImpExt = jacksonMapper.mapper().createObjectNode();
+        resolvedImpExt.setAll(impExt);
+        resolvedImpExt.set(CONTEXT, resolvedContext);
+        return resolvedImpExt;
     }
 
     public ExtRequest resolveBidRequestExt(ExtRequest extRequest, Targeting targeting) {
@@ -0,0 +1,56 @@
+package org.prebid.server.auction;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Small bounded cache for values derived from request on every auction (like registrable domain of the referer
+ * or sanitized IP address) which are expensive to compute but repeat a lot across requests.
+ * <p>
+ * Absence of value is cached as well, so malformed input repeated by the same client is not parsed over and over.
+ * Cache with zero size is disabled and just delegates to the loader.
+ */
+public class HotPathCache<K, V> {
+
+    private static final Object NULL_VALUE = new Object();
+
+    private final MetricName type;
+    private final Map<K, Object> cache;
+    private final Metrics metrics;
+
+    public HotPathCache(MetricName type, int maxSize, Metrics metrics) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("Hot path cache size must be non-negative");
+        }
+
+        this.type = Objects.requireNonNull(type);
+        this.metrics = Objects.requireNonNull(metrics);
+        cache = maxSize > 0 ? Caffeine.newBuilder().maximumSize(maxSize).<K, Object>build().asMap() : null;
+    }
+
+    /**
+     * Returns value cached for the given key or computes it with the given loader and caches the result.
+     */
+    @SuppressWarnings("unchecked")
+    public V get(K key, Function<K, V> loader) {
+        if (cache == null || key == null) {
+            return loader.apply(key);
+        }
+
+        final Object cached = cache.get(key);
+        if (cached != null) {
+            metrics.updateHotPathCacheEventMetric(type, MetricName.hit);
+            return cached != NULL_VALUE ? (V) cached : null;
+        }
+
+        metrics.updateHotPathCacheEventMetric(type, MetricName.miss);
+        final V value = loader.apply(key);
+        cache.put(key, value != null ? value : NULL_VALUE);
+        return value;
+    }
+}
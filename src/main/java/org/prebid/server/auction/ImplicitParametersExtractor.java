@@ -5,6 +5,8 @@ import io.vertx.core.MultiMap;
 import io.vertx.core.http.HttpServerRequest;
 import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.exception.PreBidException;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.util.HttpUtil;
 
 import java.net.MalformedURLException;
@@ -21,9 +23,11 @@ import java.util.stream.Collectors;
 public class ImplicitParametersExtractor {
 
     private final PublicSuffixList psl;
+    private final HotPathCache<String, String> registrableDomainCache;
 
-    public ImplicitParametersExtractor(PublicSuffixList psl) {
+    public ImplicitParametersExtractor(PublicSuffixList psl, int hotPathCacheMaxSize, Metrics metrics) {
         this.psl = Objects.requireNonNull(psl);
+        registrableDomainCache = new HotPathCache<>(MetricName.registrable_domain, hotPathCacheMaxSize, metrics);
     }
 
     /**
@@ -59,7 +63,8 @@ public class ImplicitParametersExtractor {
             throw new PreBidException(String.format("Host not found from URL '%s'", url.toString()));
         }
 
-        final String domain = psl.getRegistrableDomain(host);
+        // public suffix list lookup is the most expensive part here, while hosts repeat across requests a lot
+        final String domain = registrableDomainCache.get(host, psl::getRegistrableDomain);
 
         if (domain == null) {
             // null means effective top level domain plus one couldn't be derived
@@ -9,6 +9,8 @@ import io.vertx.core.logging.LoggerFactory;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.http.conn.util.InetAddressUtils;
 import org.prebid.server.auction.model.IpAddress;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -18,6 +20,8 @@ public class IpAddressHelper {
 
     private static final Logger logger = LoggerFactory.getLogger(IpAddressHelper.class);
 
+    private static final long INVALID_IPV4 = -1L;
+
     private static final IPAddressStringParameters IP_ADDRESS_VALIDATION_OPTIONS =
             IPAddressString.DEFAULT_VALIDATION_OPTIONS.toBuilder()
                     .allowSingleSegment(false)
@@ -27,8 +31,16 @@ public class IpAddressHelper {
     private final IPAddress ipv6AlwaysMaskAddress;
     private final IPAddress ipv6AnonLeftMaskAddress;
     private final List<IPAddress> ipv6LocalNetworkMaskAddresses;
+    private final boolean ipv4FastPathEnabled;
+    private final HotPathCache<String, IpAddress> ipAddressCache;
+    private final HotPathCache<String, String> anonymizedIpv6Cache;
+
+    public IpAddressHelper(int ipv6AlwaysMaskBits,
+                           int ipv6AnonLeftMaskBits,
+                           List<String> ipv6LocalNetworks,
+                           int hotPathCacheMaxSize,
+                           Metrics metrics) {
 
-    public IpAddressHelper(int ipv6AlwaysMaskBits, int ipv6AnonLeftMaskBits, List<String> ipv6LocalNetworks) {
         ipv6AlwaysMaskAddress =
                 toAddress(String.format("::/%d", validateIpv6AlwaysMaskBits(ipv6AlwaysMaskBits))).getNetworkMask();
         ipv6AnonLeftMaskAddress =
@@ -36,9 +48,18 @@ public class IpAddressHelper {
         ipv6LocalNetworkMaskAddresses = ipv6LocalNetworks.stream()
                 .map(this::toAddress)
                 .collect(Collectors.toList());
+        // local networks are checked by library only, so IPv4 networks among them disable the fast path
+        ipv4FastPathEnabled = ipv6LocalNetworkMaskAddresses.stream().noneMatch(IPAddress::isIPv4);
+
+        ipAddressCache = new HotPathCache<>(MetricName.ip_address, hotPathCacheMaxSize, metrics);
+        anonymizedIpv6Cache = new HotPathCache<>(MetricName.anonymized_ipv6, hotPathCacheMaxSize, metrics);
     }
 
     public String anonymizeIpv6(String ip) {
+        return parseIpv4(ip) != INVALID_IPV4 ? null : anonymizedIpv6Cache.get(ip, this::anonymizeIpv6Internal);
+    }
+
+    private String anonymizeIpv6Internal(String ip) {
         try {
             final IPAddressString ipAddressString = new IPAddressString(ip);
             return ipAddressString.isIPv6()
@@ -51,6 +72,15 @@ public class IpAddressHelper {
     }
 
     public IpAddress toIpAddress(String ip) {
+        final long ipv4 = ipv4FastPathEnabled ? parseIpv4(ip) : INVALID_IPV4;
+        if (ipv4 != INVALID_IPV4) {
+            return isIpv4Public(ipv4) ? IpAddress.of(ip, IpAddress.IP.v4) : null;
+        }
+
+        return ipAddressCache.get(ip, this::toIpAddressUncached);
+    }
+
+    private IpAddress toIpAddressUncached(String ip) {
         final IPAddress ipAddress = toIpAddressInternal(ip);
 
         if (ipAddress == null) {
@@ -75,6 +105,10 @@ public class IpAddressHelper {
     }
 
     public String maskIpv4(String ip) {
+        if (parseIpv4(ip) != INVALID_IPV4) {
+            return ip.substring(0, ip.lastIndexOf('.') + 1) + "0";
+        }
+
         if (StringUtils.isBlank(ip) || !InetAddressUtils.isIPv4Address(ip)) {
             return ip;
         }
@@ -140,4 +174,63 @@ public class IpAddressHelper {
                 && !ipAddress.isMax()
                 && ipv6LocalNetworkMaskAddresses.stream().noneMatch(network -> network.contains(ipAddress));
     }
+
+    /**
+     * Parses IPv4 address in canonical dotted-decimal form (four decimal octets without leading zeros), which is
+     * what almost all requests have, without involving IP address library.
+     *
+     * @return address as unsigned 32-bit number or {@link #INVALID_IPV4} if string is not canonical IPv4 address,
+     * in such case it should be handled by the library
+     */
+    private static long parseIpv4(String ip) {
+        if (ip == null || ip.length() < 7 || ip.length() > 15) {
+            return INVALID_IPV4;
+        }
+
+        long address = 0;
+        int octets = 0;
+        int octet = 0;
+        int digits = 0;
+        for (int i = 0; i < ip.length(); i++) {
+            final char c = ip.charAt(i);
+            if (c >= '0' && c <= '9') {
+                if (digits == 1 && octet == 0) {
+                    // leading zero
+                    return INVALID_IPV4;
+                }
+                octet = octet * 10 + (c - '0');
+                digits++;
+                if (octet > 255) {
+                    return INVALID_IPV4;
+                }
+            } else if (c == '.' && digits > 0 && octets < 3) {
+                address = (address << 8) | octet;
+                octets++;
+                octet = 0;
+                digits = 0;
+            } else {
+                return INVALID_IPV4;
+            }
+        }
+
+        return digits > 0 && octets == 3 ? (address << 8) | octet : INVALID_IPV4;
+    }
+
+    /**
+     * Mirrors {@link #isIpPublic(IPAddress)} for IPv4 address: it is not public if it is private (10/8, 172.16/12,
+     * 192.168/16), link-local (169.254/16), unspecified (0.0.0.0), loopback (127/8), multicast (224/4)
+     * or broadcast (255.255.255.255) one.
+     */
+    private static boolean isIpv4Public(long ip) {
+        final long first = ip >>> 24;
+        final long second = (ip >>> 16) & 0xFF;
+        return first != 10
+                && !(first == 172 && (second & 0xF0) == 16)
+                && !(first == 192 && second == 168)
+                && !(first == 169 && second == 254)
+                && ip != 0
+                && first != 127
+                && (first & 0xF0) != 224
+                && ip != 0xFFFFFFFFL;
+    }
 }
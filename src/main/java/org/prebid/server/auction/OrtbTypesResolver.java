@@ -1,11 +1,26 @@
 package org.prebid.server.auction;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerModifier;
+import com.fasterxml.jackson.databind.deser.std.DelegatingDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.JsonNodeType;
+import com.fasterxml.jackson.databind.node.NullNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.databind.node.TextNode;
+import com.iab.openrtb.request.App;
+import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.request.Site;
+import com.iab.openrtb.request.User;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 import org.apache.commons.collections4.CollectionUtils;
@@ -13,7 +28,10 @@ import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.exception.InvalidRequestException;
 import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.json.JsonMerger;
+import org.prebid.server.proto.openrtb.ext.request.ExtBidderConfigFpd;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -42,6 +60,8 @@ public class OrtbTypesResolver {
     private static final String UNKNOWN_REFERER = "unknown referer";
     private static final String DATA = "data";
     private static final String EXT = "ext";
+    private static final String BIDDER_CONFIG_PREFIX = "bidrequest.ext.prebid.bidderconfig";
+    private static final String WARNINGS_ATTRIBUTE = OrtbTypesResolver.class.getName() + ".warnings";
 
     private static final Map<String, Set<String>> FIRST_ARRAY_ELEMENT_STANDARD_FIELDS;
     private static final Map<String, Set<String>> FIRST_ARRAY_ELEMENT_REQUEST_FIELDS;
@@ -70,10 +90,35 @@ public class OrtbTypesResolver {
 
     private final JacksonMapper jacksonMapper;
     private final JsonMerger jsonMerger;
+    private final ObjectReader bidRequestReader;
 
     public OrtbTypesResolver(JacksonMapper jacksonMapper, JsonMerger jsonMerger) {
         this.jacksonMapper = Objects.requireNonNull(jacksonMapper);
         this.jsonMerger = Objects.requireNonNull(jsonMerger);
+
+        // separate mapper, so normalization is never applied outside of incoming request parsing
+        bidRequestReader = jacksonMapper.mapper().copy()
+                .registerModule(new SimpleModule().setDeserializerModifier(new NormalizingDeserializerModifier()))
+                .readerFor(BidRequest.class);
+    }
+
+    /**
+     * Deserializes {@link BidRequest} straight from the {@param inputStream} resolving fields types inconsistency
+     * to ortb2 protocol on the fly, the same way {@link #normalizeBidRequest(JsonNode, List, String)} does.
+     * <p>
+     * Only user, app, site and bidderconfig fpd objects are read into intermediate tree to be normalized,
+     * everything else is bound directly. The {@param rawBidRequest} is only used for occasional warnings logging.
+     * Mutates {@param warnings}.
+     */
+    BidRequest parseBidRequest(InputStream inputStream, Supplier<String> rawBidRequest, List<String> warnings,
+                               String referer) throws IOException {
+
+        final List<String> resolverWarnings = new ArrayList<>();
+        final BidRequest bidRequest = bidRequestReader
+                .withAttribute(WARNINGS_ATTRIBUTE, resolverWarnings)
+                .readValue(inputStream);
+        processWarnings(resolverWarnings, warnings, rawBidRequest, referer, BIDREQUEST);
+        return bidRequest;
     }
 
     /**
@@ -90,11 +135,11 @@ public class OrtbTypesResolver {
             for (JsonNode bidderConfig : bidderConfigs) {
                 final JsonNode config = bidderConfig.path("config").path("fpd");
                 if (!config.isMissingNode()) {
-                    normalizeStandardFpdFields(config, resolverWarnings, "bidrequest.ext.prebid.bidderconfig");
+                    normalizeStandardFpdFields(config, resolverWarnings, BIDDER_CONFIG_PREFIX);
                 }
             }
         }
-        processWarnings(resolverWarnings, warnings, rowOriginBidRequest, referer, BIDREQUEST);
+        processWarnings(resolverWarnings, warnings, () -> rowOriginBidRequest, referer, BIDREQUEST);
     }
 
     private String getOriginalRowContainerNode(JsonNode bidRequest) {
@@ -114,7 +159,7 @@ public class OrtbTypesResolver {
         final List<String> resolverWarnings = new ArrayList<>();
         final String rowOriginTargeting = getOriginalRowContainerNode(targeting);
         normalizeStandardFpdFields(targeting, resolverWarnings, TARGETING);
-        processWarnings(resolverWarnings, warnings, rowOriginTargeting, referer, TARGETING);
+        processWarnings(resolverWarnings, warnings, () -> rowOriginTargeting, referer, TARGETING);
     }
 
     /**
@@ -288,7 +333,7 @@ public class OrtbTypesResolver {
         return StreamSupport.stream(arrayNode.spliterator(), false).allMatch(JsonNode::isTextual);
     }
 
-    private void processWarnings(List<String> resolverWarning, List<String> warnings, String containerValue,
+    private void processWarnings(List<String> resolverWarning, List<String> warnings, Supplier<String> containerValue,
                                  String referer, String containerName) {
         if (CollectionUtils.isNotEmpty(resolverWarning)) {
             warnings.addAll(updateWithWarningPrefix(resolverWarning));
@@ -297,7 +342,7 @@ public class OrtbTypesResolver {
                 logger.info(String.format("WARNINGS: %s. \n Referer = %s and %s = %s",
                         String.join("\n", resolverWarning),
                         StringUtils.isNotBlank(referer) ? referer : UNKNOWN_REFERER,
-                        containerName, containerValue));
+                        containerName, containerValue.get()));
             }
         }
     }
@@ -305,4 +350,86 @@ public class OrtbTypesResolver {
     private List<String> updateWithWarningPrefix(List<String> resolverWarning) {
         return resolverWarning.stream().map(warning -> "WARNING: " + warning).collect(Collectors.toList());
     }
+
+    /**
+     * Wraps deserializers of the objects subject to ortb2 types normalization.
+     */
+    private class NormalizingDeserializerModifier extends BeanDeserializerModifier {
+
+        @Override
+        public JsonDeserializer<?> modifyDeserializer(DeserializationConfig config, BeanDescription beanDesc,
+                                                      JsonDeserializer<?> deserializer) {
+            final Class<?> beanClass = beanDesc.getBeanClass();
+            if (beanClass == User.class) {
+                return new NormalizingDeserializer(deserializer, USER);
+            } else if (beanClass == App.class) {
+                return new NormalizingDeserializer(deserializer, APP);
+            } else if (beanClass == Site.class) {
+                return new NormalizingDeserializer(deserializer, SITE);
+            } else if (beanClass == ExtBidderConfigFpd.class) {
+                return new NormalizingDeserializer(deserializer, null);
+            }
+            return deserializer;
+        }
+    }
+
+    /**
+     * Reads the object into tree, normalizes it and passes the result to the original deserializer.
+     * <p>
+     * Container name defines request level user, app or site object, absent name means bidderconfig fpd object.
+     */
+    private class NormalizingDeserializer extends DelegatingDeserializer {
+
+        private final String containerName;
+
+        NormalizingDeserializer(JsonDeserializer<?> delegatee, String containerName) {
+            super(delegatee);
+            this.containerName = containerName;
+        }
+
+        @Override
+        protected JsonDeserializer<?> newDelegatingInstance(JsonDeserializer<?> newDelegatee) {
+            return new NormalizingDeserializer(newDelegatee, containerName);
+        }
+
+        @Override
+        public Object deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            final JsonNode normalizedNode = normalize(parser.readValueAsTree(), context);
+            if (normalizedNode == null) {
+                return null;
+            }
+
+            final JsonParser nodeParser = parser.getCodec().treeAsTokens(normalizedNode);
+            nodeParser.nextToken();
+            return _delegatee.deserialize(nodeParser, context);
+        }
+
+        /**
+         * Explicit null container is removed with warning as well as any other non-object value.
+         */
+        @Override
+        public Object getNullValue(DeserializationContext context) {
+            final JsonParser parser = context.getParser();
+            if (containerName != null && parser != null && parser.hasToken(JsonToken.VALUE_NULL)) {
+                normalize(NullNode.getInstance(), context);
+            }
+            return null;
+        }
+
+        private JsonNode normalize(JsonNode node, DeserializationContext context) {
+            final List<String> warnings = warnings(context);
+            if (containerName == null) {
+                normalizeStandardFpdFields(node, warnings, BIDDER_CONFIG_PREFIX);
+                return node;
+            }
+            return normalizeNode(node, containerName, FIRST_ARRAY_ELEMENT_REQUEST_FIELDS,
+                    COMMA_SEPARATED_ELEMENT_FIELDS, BIDREQUEST + ".", warnings);
+        }
+
+        @SuppressWarnings("unchecked")
+        private List<String> warnings(DeserializationContext context) {
+            final Object warnings = context.getAttribute(WARNINGS_ATTRIBUTE);
+            return warnings != null ? (List<String>) warnings : new ArrayList<>();
+        }
+    }
 }
@@ -40,12 +40,14 @@ import java.text.DecimalFormatSymbols;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -88,6 +90,14 @@ public class PrivacyEnforcementService {
     Future<PrivacyContext> contextFromBidRequest(
             BidRequest bidRequest, Account account, MetricName requestType, Timeout timeout, List<String> errors) {
 
+        final long startTime = System.nanoTime();
+        return resolvePrivacyContext(bidRequest, account, requestType, timeout, errors)
+                .map(privacyContext -> updateStageTimeMetric(privacyContext, MetricName.privacy_context, startTime));
+    }
+
+    private Future<PrivacyContext> resolvePrivacyContext(
+            BidRequest bidRequest, Account account, MetricName requestType, Timeout timeout, List<String> errors) {
+
         final Privacy privacy = privacyExtractor.validPrivacyFrom(bidRequest, errors);
 
         final Device device = bidRequest.getDevice();
@@ -170,6 +180,21 @@ public class PrivacyEnforcementService {
                                            List<String> bidders,
                                            BidderAliases aliases) {
 
+        final long startTime = System.nanoTime();
+        return maskUsers(auctionContext, bidderToUser, bidders, aliases)
+                .map(results -> updateStageTimeMetric(results, MetricName.privacy_enforcement, startTime));
+    }
+
+    private <T> T updateStageTimeMetric(T result, MetricName stage, long startTime) {
+        metrics.updateAuctionStageTimeMetric(stage, System.nanoTime() - startTime);
+        return result;
+    }
+
+    private Future<List<BidderPrivacyResult>> maskUsers(AuctionContext auctionContext,
+                                                        Map<String, User> bidderToUser,
+                                                        List<String> bidders,
+                                                        BidderAliases aliases) {
+
         final BidRequest bidRequest = auctionContext.getBidRequest();
         final Account account = auctionContext.getAccount();
         final MetricName requestType = auctionContext.getRequestTypeMetric();
@@ -222,12 +247,16 @@ public class PrivacyEnforcementService {
     private Map<String, BidderPrivacyResult> maskCcpa(
             Set<String> biddersToMask, Device device, Map<String, User> bidderToUser) {
 
+        // bidders share the same masked objects
+        final Device maskedDevice = maskCcpaDevice(device);
+        final Map<User, User> maskedUsers = new IdentityHashMap<>();
+
         return biddersToMask.stream()
                 .collect(Collectors.toMap(Function.identity(),
                         bidder -> BidderPrivacyResult.builder()
                                 .requestBidder(bidder)
-                                .user(maskCcpaUser(bidderToUser.get(bidder)))
-                                .device(maskCcpaDevice(device))
+                                .user(maskedUsers.computeIfAbsent(bidderToUser.get(bidder), this::maskCcpaUser))
+                                .device(maskedDevice)
                                 .build()));
     }
 
@@ -264,11 +293,15 @@ public class PrivacyEnforcementService {
     private List<BidderPrivacyResult> maskCoppa(Map<String, User> bidderToUser, Device device) {
         metrics.updatePrivacyCoppaMetric();
 
+        // bidders share the same masked objects
+        final Device maskedDevice = maskCoppaDevice(device);
+        final Map<User, User> maskedUsers = new IdentityHashMap<>();
+
         return bidderToUser.entrySet().stream()
                 .map(bidderAndUser -> BidderPrivacyResult.builder()
                         .requestBidder(bidderAndUser.getKey())
-                        .user(maskCoppaUser(bidderAndUser.getValue()))
-                        .device(maskCoppaDevice(device))
+                        .user(maskedUsers.computeIfAbsent(bidderAndUser.getValue(), this::maskCoppaUser))
+                        .device(maskedDevice)
                         .build())
                 .collect(Collectors.toList());
     }
@@ -431,6 +464,7 @@ public class PrivacyEnforcementService {
             Device device) {
 
         final boolean isLmtEnabled = lmtEnforce && isLmtEnabled(device);
+        final MaskedObjects maskedObjects = new MaskedObjects();
         return bidderToUser.entrySet().stream()
                 .filter(entry -> bidders.contains(entry.getKey()))
                 .map(bidderUserEntry -> createBidderPrivacyResult(
@@ -438,7 +472,8 @@ public class PrivacyEnforcementService {
                         device,
                         bidderUserEntry.getKey(),
                         isLmtEnabled,
-                        bidderToEnforcement))
+                        bidderToEnforcement,
+                        maskedObjects))
                 .collect(Collectors.toList());
     }
 
@@ -450,7 +485,8 @@ public class PrivacyEnforcementService {
             Device device,
             String bidder,
             boolean isLmtEnabled,
-            Map<String, PrivacyEnforcementAction> bidderToEnforcement) {
+            Map<String, PrivacyEnforcementAction> bidderToEnforcement,
+            MaskedObjects maskedObjects) {
 
         final PrivacyEnforcementAction privacyEnforcementAction = bidderToEnforcement.get(bidder);
         final boolean blockBidderRequest = privacyEnforcementAction.isBlockBidderRequest();
@@ -465,11 +501,13 @@ public class PrivacyEnforcementService {
 
         final boolean maskGeo = privacyEnforcementAction.isMaskGeo() || isLmtEnabled;
         final boolean maskUserIds = privacyEnforcementAction.isRemoveUserIds() || isLmtEnabled;
-        final User maskedUser = maskTcfUser(user, maskUserIds, maskGeo);
+        final User maskedUser = maskedObjects.user(user, MaskedObjects.flags(maskUserIds, maskGeo, false),
+                () -> maskTcfUser(user, maskUserIds, maskGeo));
 
         final boolean maskIp = privacyEnforcementAction.isMaskDeviceIp() || isLmtEnabled;
         final boolean maskInfo = privacyEnforcementAction.isMaskDeviceInfo() || isLmtEnabled;
-        final Device maskedDevice = maskTcfDevice(device, maskIp, maskGeo, maskInfo);
+        final Device maskedDevice = maskedObjects.device(MaskedObjects.flags(maskIp, maskGeo, maskInfo),
+                () -> maskTcfDevice(device, maskIp, maskGeo, maskInfo));
 
         return BidderPrivacyResult.builder()
                 .requestBidder(bidder)
@@ -583,4 +621,35 @@ public class PrivacyEnforcementService {
         result.addAll(gdprResult);
         return result;
     }
+
+    /**
+     * Memoizes {@link User}s and {@link Device} masked for TCF within single auction by masking flags, so bidders
+     * with the same enforcement actions share the same immutable masked objects instead of equal copies.
+     */
+    private static class MaskedObjects {
+
+        private static final int COMBINATIONS = 8;
+
+        private final Map<User, User[]> users = new IdentityHashMap<>();
+        private final Device[] devices = new Device[COMBINATIONS];
+
+        static int flags(boolean first, boolean second, boolean third) {
+            return (first ? 1 : 0) | (second ? 2 : 0) | (third ? 4 : 0);
+        }
+
+        User user(User user, int flags, Supplier<User> masker) {
+            final User[] maskedUsers = users.computeIfAbsent(user, ignored -> new User[COMBINATIONS]);
+            if (maskedUsers[flags] == null) {
+                maskedUsers[flags] = masker.get();
+            }
+            return maskedUsers[flags];
+        }
+
+        Device device(int flags, Supplier<Device> masker) {
+            if (devices[flags] == null) {
+                devices[flags] = masker.get();
+            }
+            return devices[flags];
+        }
+    }
 }
@@ -13,6 +13,7 @@ import org.prebid.server.execution.Timeout;
 import org.prebid.server.execution.TimeoutFactory;
 import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.json.JsonMerger;
+import org.prebid.server.metric.MetricName;
 import org.prebid.server.metric.Metrics;
 import org.prebid.server.proto.openrtb.ext.request.ExtImp;
 import org.prebid.server.proto.openrtb.ext.request.ExtImpPrebid;
@@ -46,6 +47,7 @@ public class StoredRequestProcessor {
     private final Metrics metrics;
     private final JacksonMapper mapper;
     private final JsonMerger jsonMerger;
+    private final AmpRequestTemplateCache ampRequestTemplateCache;
 
     private StoredRequestProcessor(long defaultTimeout,
                                    BidRequest defaultBidRequest,
@@ -53,7 +55,8 @@ public class StoredRequestProcessor {
                                    Metrics metrics,
                                    TimeoutFactory timeoutFactory,
                                    JacksonMapper mapper,
-                                   JsonMerger jsonMerger) {
+                                   JsonMerger jsonMerger,
+                                   AmpRequestTemplateCache ampRequestTemplateCache) {
 
         this.defaultTimeout = defaultTimeout;
         this.defaultBidRequest = defaultBidRequest;
@@ -62,6 +65,7 @@ public class StoredRequestProcessor {
         this.metrics = metrics;
         this.mapper = mapper;
         this.jsonMerger = jsonMerger;
+        this.ampRequestTemplateCache = ampRequestTemplateCache;
     }
 
     public static StoredRequestProcessor create(long defaultTimeout,
@@ -71,7 +75,8 @@ public class StoredRequestProcessor {
                                                 Metrics metrics,
                                                 TimeoutFactory timeoutFactory,
                                                 JacksonMapper mapper,
-                                                JsonMerger jsonMerger) {
+                                                JsonMerger jsonMerger,
+                                                AmpRequestTemplateCache ampRequestTemplateCache) {
 
         return new StoredRequestProcessor(
                 defaultTimeout,
@@ -81,7 +86,8 @@ public class StoredRequestProcessor {
                 Objects.requireNonNull(metrics),
                 Objects.requireNonNull(timeoutFactory),
                 Objects.requireNonNull(mapper),
-                Objects.requireNonNull(jsonMerger));
+                Objects.requireNonNull(jsonMerger),
+                ampRequestTemplateCache);
     }
 
     /**
@@ -109,16 +115,24 @@ public class StoredRequestProcessor {
             return Future.succeededFuture(bidRequest);
         }
 
+        final long startTime = System.nanoTime();
         final Future<StoredDataResult> storedDataFuture =
                 applicationSettings.getStoredData(accountId, requestIds, impIds, timeout(bidRequest))
                         .compose(storedDataResult -> updateMetrics(storedDataResult, requestIds, impIds));
 
         return storedRequestsToBidRequest(
-                storedDataFuture, bidRequest, bidRequestToStoredRequestId.get(bidRequest), impToStoredRequestId);
+                storedDataFuture, bidRequest, bidRequestToStoredRequestId.get(bidRequest), impToStoredRequestId)
+                .map(resolvedBidRequest -> updateStageTimeMetric(resolvedBidRequest, startTime));
+    }
+
+    private <T> T updateStageTimeMetric(T result, long startTime) {
+        metrics.updateAuctionStageTimeMetric(MetricName.stored_requests, System.nanoTime() - startTime);
+        return result;
     }
 
     /**
-     * Fetches AMP request from the source.
+     * Fetches AMP request from the source. Merged request is taken from {@link AmpRequestTemplateCache} if it is
+     * enabled and stored request was not changed since the last merge.
      */
     Future<BidRequest> processAmpRequest(String accountId, String ampRequestId) {
         final BidRequest bidRequest = defaultBidRequest != null ? defaultBidRequest : BidRequest.builder().build();
@@ -128,7 +142,28 @@ public class StoredRequestProcessor {
                         .compose(storedDataResult -> updateMetrics(
                                 storedDataResult, Collections.singleton(ampRequestId), Collections.emptySet()));
 
-        return storedRequestsToBidRequest(ampStoredDataFuture, bidRequest, ampRequestId, Collections.emptyMap());
+        return validateStoredDataResult(ampStoredDataFuture)
+                .map(result -> mergeAmpRequest(accountId, ampRequestId, bidRequest, result));
+    }
+
+    private BidRequest mergeAmpRequest(String accountId, String ampRequestId, BidRequest bidRequest,
+                                       StoredDataResult storedDataResult) {
+
+        if (ampRequestTemplateCache == null) {
+            return mergeBidRequestAndImps(bidRequest, ampRequestId, Collections.emptyMap(), storedDataResult);
+        }
+
+        final String storedRequest = storedDataResult.getStoredIdToRequest().get(ampRequestId);
+        final BidRequest cachedBidRequest =
+                ampRequestTemplateCache.getMergedRequest(accountId, ampRequestId, storedRequest);
+        if (cachedBidRequest != null) {
+            return cachedBidRequest;
+        }
+
+        final BidRequest mergedBidRequest =
+                mergeBidRequestAndImps(bidRequest, ampRequestId, Collections.emptyMap(), storedDataResult);
+        ampRequestTemplateCache.putMergedRequest(accountId, ampRequestId, storedRequest, mergedBidRequest);
+        return mergedBidRequest;
     }
 
     /**
@@ -208,14 +243,18 @@ public class StoredRequestProcessor {
                                                           String storedBidRequestId,
                                                           Map<Imp, String> impsToStoredRequestId) {
 
+        return validateStoredDataResult(storedDataFuture)
+                .map(result -> mergeBidRequestAndImps(bidRequest, storedBidRequestId,
+                        impsToStoredRequestId, result));
+    }
+
+    private static Future<StoredDataResult> validateStoredDataResult(Future<StoredDataResult> storedDataFuture) {
         return storedDataFuture
                 .recover(exception -> Future.failedFuture(new InvalidRequestException(
                         String.format("Stored request fetching failed: %s", exception.getMessage()))))
                 .compose(result -> !result.getErrors().isEmpty()
                         ? Future.failedFuture(new InvalidRequestException(result.getErrors()))
-                        : Future.succeededFuture(result))
-                .map(result -> mergeBidRequestAndImps(bidRequest, storedBidRequestId,
-                        impsToStoredRequestId, result));
+                        : Future.succeededFuture(result));
     }
 
     /**
@@ -1,6 +1,7 @@
 package org.prebid.server.auction;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.iab.openrtb.request.App;
 import com.iab.openrtb.request.BidRequest;
 import com.iab.openrtb.request.Content;
@@ -19,6 +20,8 @@ import io.vertx.core.Future;
 import io.vertx.core.file.FileSystem;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
+import lombok.AllArgsConstructor;
+import lombok.Value;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.MapUtils;
 import org.apache.commons.lang3.BooleanUtils;
@@ -71,6 +74,7 @@ public class VideoStoredRequestProcessor {
     private final TimeoutFactory timeoutFactory;
     private final JacksonMapper mapper;
     private final JsonMerger jsonMerger;
+    private final Map<PodImpsKey, WithPodErrors<List<Imp>>> podImpsCache;
 
     private VideoStoredRequestProcessor(boolean enforceStoredRequest,
                                         List<String> blacklistedAccounts,
@@ -83,7 +87,8 @@ public class VideoStoredRequestProcessor {
                                         TimeoutFactory timeoutFactory,
                                         TimeoutResolver timeoutResolver,
                                         JacksonMapper mapper,
-                                        JsonMerger jsonMerger) {
+                                        JsonMerger jsonMerger,
+                                        int podImpsCacheSize) {
 
         this.enforceStoredRequest = enforceStoredRequest;
         this.blacklistedAccounts = blacklistedAccounts;
@@ -97,6 +102,7 @@ public class VideoStoredRequestProcessor {
         this.timeoutResolver = timeoutResolver;
         this.mapper = mapper;
         this.jsonMerger = jsonMerger;
+        this.podImpsCache = podImpsCacheSize > 0 ? createPodImpsCache(podImpsCacheSize) : null;
     }
 
     public static VideoStoredRequestProcessor create(boolean enforceStoredRequest,
@@ -111,7 +117,8 @@ public class VideoStoredRequestProcessor {
                                                      TimeoutFactory timeoutFactory,
                                                      TimeoutResolver timeoutResolver,
                                                      JacksonMapper mapper,
-                                                     JsonMerger jsonMerger) {
+                                                     JsonMerger jsonMerger,
+                                                     int podImpsCacheSize) {
 
         return new VideoStoredRequestProcessor(
                 enforceStoredRequest,
@@ -126,7 +133,8 @@ public class VideoStoredRequestProcessor {
                 Objects.requireNonNull(timeoutFactory),
                 Objects.requireNonNull(timeoutResolver),
                 Objects.requireNonNull(mapper),
-                Objects.requireNonNull(jsonMerger));
+                Objects.requireNonNull(jsonMerger),
+                podImpsCacheSize);
     }
 
     /**
@@ -147,6 +155,13 @@ public class VideoStoredRequestProcessor {
                         String.format("Stored request fetching failed: %s", exception.getMessage()))));
     }
 
+    private static Map<PodImpsKey, WithPodErrors<List<Imp>>> createPodImpsCache(int size) {
+        return Caffeine.newBuilder()
+                .maximumSize(size)
+                .<PodImpsKey, WithPodErrors<List<Imp>>>build()
+                .asMap();
+    }
+
     private static BidRequest readBidRequest(
             String defaultBidRequestPath, FileSystem fileSystem, JacksonMapper mapper) {
 
@@ -174,7 +189,7 @@ public class VideoStoredRequestProcessor {
         final Podconfig podconfig = mergedStoredRequest.getPodconfig();
         final Video video = mergedStoredRequest.getVideo();
         final Map<String, String> storedIdToImp = storedResult.getStoredIdToImp();
-        final WithPodErrors<List<Imp>> impsToPodErrors = mergeStoredImps(podconfig, video, storedIdToImp);
+        final WithPodErrors<List<Imp>> impsToPodErrors = podImps(podconfig, video, storedIdToImp);
 
         final BidRequest bidRequest = mergeWithDefaultBidRequest(mergedStoredRequest, impsToPodErrors.getData());
 
@@ -193,6 +208,22 @@ public class VideoStoredRequestProcessor {
                 : originalRequest;
     }
 
+    /**
+     * Expands pods into imps. Expansion is determined by pod configuration, video and stored imps only, so it is
+     * cached if enabled and shared between requests, which makes cached imps list unmodifiable.
+     */
+    private WithPodErrors<List<Imp>> podImps(Podconfig podconfig, Video video, Map<String, String> storedIdToImp) {
+        if (podImpsCache == null) {
+            return mergeStoredImps(podconfig, video, storedIdToImp);
+        }
+
+        return podImpsCache.computeIfAbsent(PodImpsKey.of(podconfig, video, storedIdToImp), key -> {
+            final WithPodErrors<List<Imp>> impsToPodErrors = mergeStoredImps(podconfig, video, storedIdToImp);
+            return WithPodErrors.of(
+                    Collections.unmodifiableList(impsToPodErrors.getData()), impsToPodErrors.getPodErrors());
+        });
+    }
+
     private WithPodErrors<List<Imp>> mergeStoredImps(Podconfig podconfig, Video video,
                                                      Map<String, String> storedImpIdToJsonImp) {
         final Map<String, Imp> storedImpIdToImp = storedIdToStoredImp(storedImpIdToJsonImp);
@@ -405,4 +436,15 @@ public class VideoStoredRequestProcessor {
 
         return ExtRequest.of(extRequestPrebid);
     }
+
+    @AllArgsConstructor(staticName = "of")
+    @Value
+    private static class PodImpsKey {
+
+        Podconfig podconfig;
+
+        Video video;
+
+        Map<String, String> storedIdToImp;
+    }
 }
@@ -1,5 +1,6 @@
 package org.prebid.server.bidder;
 
+import org.prebid.server.bidder.model.RequestCompression;
 import org.prebid.server.proto.response.BidderInfo;
 
 import java.util.HashMap;
@@ -186,6 +187,32 @@ public class BidderCatalog {
         return bidderDeps != null ? bidderDeps.getBidder() : null;
     }
 
+    /**
+     * Returns {@link RequestCompression} of the bidder registered by the given name or null if requests to this
+     * bidder should not be compressed.
+     */
+    public RequestCompression requestCompressionByName(String name) {
+        final BidderDeps bidderDeps = bidderDepsMap.get(name);
+        return bidderDeps != null ? bidderDeps.getRequestCompression() : null;
+    }
+
+    /**
+     * Returns endpoint of the bidder registered by the given name or null if there is none or bidder is disabled.
+     */
+    public String endpointByName(String name) {
+        final BidderDeps bidderDeps = bidderDepsMap.get(name);
+        return bidderDeps != null ? bidderDeps.getEndpoint() : null;
+    }
+
+    /**
+     * Returns maximum size of response body in bytes of the bidder registered by the given name or null if it is
+     * not limited.
+     */
+    public Long maxResponseSizeByName(String name) {
+        final BidderDeps bidderDeps = bidderDepsMap.get(name);
+        return bidderDeps != null ? bidderDeps.getMaxResponseSize() : null;
+    }
+
     /**
      * Returns an {@link Adapter} registered by the given name or null if there is none.
      * <p>
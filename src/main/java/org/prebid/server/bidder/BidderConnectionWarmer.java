@@ -0,0 +1,160 @@
+package org.prebid.server.bidder;
+
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.impl.VertxInternal;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+import org.apache.commons.lang3.StringUtils;
+import org.prebid.server.vertx.Initializable;
+import org.prebid.server.vertx.http.HttpClient;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Prepares outgoing connections to endpoints of enabled bidders, so first auctions after start don't pay for
+ * DNS lookups and connection handshakes.
+ * <p>
+ * Bidder hosts are periodically resolved through Vert.x address resolver which is shared with HTTP clients and caches
+ * addresses according to TTL of DNS records, so expired entries are refreshed off the request path.
+ * <p>
+ * Connections are opened by {@link #warmUp()} which should be called on each context serving incoming requests before
+ * it starts accepting traffic, since HTTP client and its connection pool are kept per event loop thread. Connections
+ * are considered warmed up when it is done on all of given number of contexts.
+ */
+public class BidderConnectionWarmer implements Initializable {
+
+    private static final Logger logger = LoggerFactory.getLogger(BidderConnectionWarmer.class);
+
+    private final VertxInternal vertx;
+    private final HttpClient httpClient;
+    private final int connectionsPerHost;
+    private final long timeoutMs;
+    private final long dnsRefreshPeriodMs;
+
+    private final Set<String> origins;
+    private final Set<String> hosts;
+    private final Set<String> unresolvedHosts = ConcurrentHashMap.newKeySet();
+
+    private final AtomicInteger contextsToWarmUp;
+    private volatile boolean warmedUp;
+
+    public BidderConnectionWarmer(BidderCatalog bidderCatalog, Vertx vertx, HttpClient httpClient, int contexts,
+                                  int connectionsPerHost, long timeoutMs, long dnsRefreshPeriodMs) {
+        this.vertx = (VertxInternal) Objects.requireNonNull(vertx);
+        this.httpClient = Objects.requireNonNull(httpClient);
+        this.contextsToWarmUp = new AtomicInteger(validatePositive(contexts, "contexts number"));
+        this.connectionsPerHost = validatePositive(connectionsPerHost, "connections per host");
+        this.timeoutMs = validatePositive(timeoutMs, "timeout");
+        this.dnsRefreshPeriodMs = validatePositive(dnsRefreshPeriodMs, "DNS refresh period");
+
+        origins = new TreeSet<>();
+        hosts = new TreeSet<>();
+        for (final String bidderName : Objects.requireNonNull(bidderCatalog).names()) {
+            final URL url = parseEndpoint(bidderCatalog.endpointByName(bidderName));
+            if (url != null) {
+                origins.add(url.getPort() != -1
+                        ? String.format("%s://%s:%d/", url.getProtocol(), url.getHost(), url.getPort())
+                        : String.format("%s://%s/", url.getProtocol(), url.getHost()));
+                hosts.add(url.getHost());
+            }
+        }
+    }
+
+    private static <T extends Number> T validatePositive(T value, String name) {
+        if (value.longValue() < 1) {
+            throw new IllegalArgumentException(String.format("Bidder connections warm-up %s must be positive", name));
+        }
+        return value;
+    }
+
+    /**
+     * Returns parsed endpoint or null if it is not an HTTP URL with static host, for example contains macros.
+     */
+    private static URL parseEndpoint(String endpoint) {
+        if (StringUtils.isBlank(endpoint)) {
+            return null;
+        }
+
+        final URL url;
+        try {
+            url = new URL(endpoint);
+        } catch (MalformedURLException e) {
+            return null;
+        }
+
+        final String host = url.getHost();
+        return StringUtils.equalsAny(url.getProtocol(), "http", "https")
+                && StringUtils.isNotBlank(host) && !StringUtils.containsAny(host, '{', '}', '%')
+                ? url
+                : null;
+    }
+
+    /**
+     * Resolves bidder hosts and sets timer for periodic refresh of resolved addresses.
+     * <p>
+     * Must be called on Vertx event loop thread.
+     */
+    @Override
+    public void initialize() {
+        resolveHosts();
+        vertx.setPeriodic(dnsRefreshPeriodMs, ignored -> resolveHosts());
+    }
+
+    private void resolveHosts() {
+        for (final String host : hosts) {
+            vertx.resolveAddress(host, result -> {
+                if (result.succeeded()) {
+                    unresolvedHosts.remove(host);
+                } else if (unresolvedHosts.add(host)) {
+                    logger.warn("Cannot resolve address of bidder host {0}: {1}", host, result.cause().getMessage());
+                }
+            });
+        }
+    }
+
+    /**
+     * Opens configured number of connections to each bidder host by sending concurrent HEAD requests with
+     * HTTP client of the current context.
+     * <p>
+     * Returned future never fails and completes when all requests are done or timed out.
+     */
+    public Future<Void> warmUp() {
+        final List<Future> requests = new ArrayList<>(origins.size() * connectionsPerHost);
+        for (final String origin : origins) {
+            for (int i = 0; i < connectionsPerHost; i++) {
+                requests.add(httpClient.request(HttpMethod.HEAD, origin, null, null, timeoutMs)
+                        .map(response -> true)
+                        .otherwise(false));
+            }
+        }
+
+        return CompositeFuture.all(requests).map(result -> {
+            final long opened = result.<Boolean>list().stream().filter(Boolean::booleanValue).count();
+            logger.info("Warmed up {0} of {1} connections to {2} bidder hosts", opened, requests.size(),
+                    origins.size());
+            if (contextsToWarmUp.decrementAndGet() == 0) {
+                warmedUp = true;
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Returns true if connections were warmed up on all contexts and addresses of all bidder hosts were resolved on
+     * last refresh.
+     */
+    public boolean isReady() {
+        return warmedUp && unresolvedHosts.isEmpty();
+    }
+}
@@ -2,6 +2,7 @@ package org.prebid.server.bidder;
 
 import lombok.Builder;
 import lombok.Value;
+import org.prebid.server.bidder.model.RequestCompression;
 import org.prebid.server.proto.response.BidderInfo;
 
 import java.util.List;
@@ -56,4 +57,19 @@ public class BidderDeps {
      * Bidder's adapter is used in legacy auction handling.
      */
     Adapter<?, ?> adapter;
+
+    /**
+     * Compression of HTTP request bodies sent to bidder, null if requests are sent uncompressed.
+     */
+    RequestCompression requestCompression;
+
+    /**
+     * Endpoint requests are sent to, null if bidder is disabled.
+     */
+    String endpoint;
+
+    /**
+     * Maximum size of bidder response body in bytes, null if not limited.
+     */
+    Long maxResponseSize;
 }
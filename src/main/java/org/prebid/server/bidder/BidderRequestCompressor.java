@@ -0,0 +1,134 @@
+package org.prebid.server.bidder;
+
+import org.prebid.server.bidder.model.RequestCompression;
+import org.prebid.server.metric.Metrics;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * Compresses HTTP request bodies sent to bidders with gzip if it is enabled for the bidder by its
+ * {@link RequestCompression} settings.
+ * <p>
+ * Deflaters allocate considerable amount of native memory, so they are not created per request but kept by each
+ * thread (event loop or worker) compressing bodies and reused. Time spent compressing and bytes saved are reported
+ * to {@link Metrics} per bidder.
+ */
+public class BidderRequestCompressor {
+
+    private static final byte[] GZIP_HEADER = {0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff};
+    private static final int GZIP_TRAILER_SIZE = 8;
+    private static final int INITIAL_BUFFER_SIZE = 16 * 1024;
+
+    private final Metrics metrics;
+
+    private final Map<Bidder<?>, BidderCompression> bidderCompressions;
+    private final ThreadLocal<GzipState> gzipStates = ThreadLocal.withInitial(GzipState::new);
+
+    public BidderRequestCompressor(BidderCatalog bidderCatalog, Metrics metrics) {
+        this.metrics = Objects.requireNonNull(metrics);
+
+        // bidder aliases share the same instance, so settings and metrics of the core bidder are used
+        bidderCompressions = new IdentityHashMap<>();
+        for (final String bidderName : Objects.requireNonNull(bidderCatalog).names()) {
+            final Bidder<?> bidder = bidderCatalog.bidderByName(bidderName);
+            final RequestCompression requestCompression = bidderCatalog.requestCompressionByName(bidderName);
+            if (bidder != null && requestCompression != null) {
+                bidderCompressions.putIfAbsent(bidder, new BidderCompression(bidderName, requestCompression));
+            }
+        }
+    }
+
+    /**
+     * Returns body compressed with gzip if compression is enabled for the given bidder, body is not smaller than
+     * configured minimum size and compression actually makes it smaller, otherwise returns null meaning
+     * body should be sent as is.
+     */
+    public byte[] compress(Bidder<?> bidder, String body) {
+        final BidderCompression compression = body != null ? bidderCompressions.get(bidder) : null;
+        if (compression == null) {
+            return null;
+        }
+
+        final byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length < compression.settings.getMinSize()) {
+            return null;
+        }
+
+        final long start = System.nanoTime();
+        final byte[] compressed = gzipStates.get().gzip(bytes, compression.settings.getLevel());
+        final long nanos = System.nanoTime() - start;
+
+        final boolean smaller = compressed.length < bytes.length;
+        metrics.updateAdapterRequestCompressionMetrics(compression.bidderName, nanos,
+                smaller ? bytes.length - compressed.length : 0);
+
+        return smaller ? compressed : null;
+    }
+
+    private static class BidderCompression {
+
+        final String bidderName;
+        final RequestCompression settings;
+
+        BidderCompression(String bidderName, RequestCompression settings) {
+            this.bidderName = bidderName;
+            this.settings = settings;
+        }
+    }
+
+    /**
+     * Per thread state of gzip compression: deflaters by compression level, checksum and output buffer.
+     */
+    private static class GzipState {
+
+        private final Deflater[] deflaters = new Deflater[Deflater.BEST_COMPRESSION + 1];
+        private final CRC32 crc = new CRC32();
+        private byte[] buffer = new byte[INITIAL_BUFFER_SIZE];
+
+        byte[] gzip(byte[] input, int level) {
+            final Deflater deflater = deflater(level);
+            deflater.setInput(input);
+            deflater.finish();
+
+            System.arraycopy(GZIP_HEADER, 0, buffer, 0, GZIP_HEADER.length);
+            int size = GZIP_HEADER.length;
+            while (!deflater.finished()) {
+                if (size == buffer.length) {
+                    buffer = Arrays.copyOf(buffer, buffer.length * 2);
+                }
+                size += deflater.deflate(buffer, size, buffer.length - size);
+            }
+            deflater.reset();
+
+            crc.reset();
+            crc.update(input, 0, input.length);
+
+            final byte[] result = Arrays.copyOf(buffer, size + GZIP_TRAILER_SIZE);
+            writeIntLittleEndian(result, size, (int) crc.getValue());
+            writeIntLittleEndian(result, size + 4, input.length);
+            return result;
+        }
+
+        private Deflater deflater(int level) {
+            Deflater deflater = deflaters[level];
+            if (deflater == null) {
+                deflater = new Deflater(level, true);
+                deflaters[level] = deflater;
+            }
+            return deflater;
+        }
+
+        private static void writeIntLittleEndian(byte[] bytes, int offset, int value) {
+            bytes[offset] = (byte) value;
+            bytes[offset + 1] = (byte) (value >> 8);
+            bytes[offset + 2] = (byte) (value >> 16);
+            bytes[offset + 3] = (byte) (value >> 24);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package org.prebid.server.bidder;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.WorkerExecutor;
+import org.prebid.server.metric.Metrics;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Runs CPU-heavy {@link Bidder} stages (request building and response parsing) on a bounded worker pool
+ * instead of the event-loop thread which owns the auction.
+ * <p>
+ * Results are delivered back on the calling Vert.x context, so callers may keep accumulating them without
+ * additional synchronization.
+ */
+public class BidderStageExecutor {
+
+    private final WorkerExecutor workerExecutor;
+    private final int minBidders;
+    private final Metrics metrics;
+
+    public BidderStageExecutor(WorkerExecutor workerExecutor, int minBidders, Metrics metrics) {
+        this.workerExecutor = Objects.requireNonNull(workerExecutor);
+        this.minBidders = minBidders;
+        this.metrics = Objects.requireNonNull(metrics);
+    }
+
+    /**
+     * Tells if auction with given number of bidders is large enough to spread its bidder stages across cores.
+     */
+    public boolean isApplicable(int biddersCount) {
+        return biddersCount >= minBidders;
+    }
+
+    /**
+     * Executes given stage on the worker pool.
+     */
+    public <T> Future<T> execute(Supplier<T> stage) {
+        final long submitTime = System.nanoTime();
+        final Promise<T> promise = Promise.promise();
+
+        workerExecutor.<T>executeBlocking(blockingPromise -> {
+            metrics.updateBidderStageQueueTimeMetric(
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - submitTime));
+            blockingPromise.complete(stage.get());
+        }, false, promise);
+
+        return promise.future();
+    }
+}
@@ -0,0 +1,150 @@
+package org.prebid.server.bidder;
+
+import com.sun.management.ThreadMXBean;
+import org.prebid.server.bidder.model.BidderCost;
+import org.prebid.server.metric.Metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Measures CPU cost of {@link Bidder} stages: request building ({@link Bidder#makeHttpRequests}) and response
+ * parsing ({@link Bidder#makeBids}).
+ * <p>
+ * Only sampled bidder requests are profiled. Time spent and bytes allocated by the executing thread are reported
+ * to {@link Metrics} and accumulated per bidder to rank bidders by their cost. Allocated bytes are measured only
+ * if JVM supports thread allocation accounting.
+ */
+public class BidderStageProfiler {
+
+    private static final ThreadMXBean THREAD_MX_BEAN = allocationAccountingMXBean();
+
+    private final double samplingRate;
+    private final Metrics metrics;
+
+    private final Map<Bidder<?>, String> bidderNames;
+    private final Map<String, StageCosts> bidderCosts = new ConcurrentHashMap<>();
+
+    public BidderStageProfiler(BidderCatalog bidderCatalog, double samplingRate, Metrics metrics) {
+        this.samplingRate = samplingRate;
+        this.metrics = Objects.requireNonNull(metrics);
+
+        // bidder aliases share the same instance, so costs are attributed to the core bidder
+        bidderNames = new IdentityHashMap<>();
+        for (final String bidderName : Objects.requireNonNull(bidderCatalog).names()) {
+            final Bidder<?> bidder = bidderCatalog.bidderByName(bidderName);
+            if (bidder != null) {
+                bidderNames.putIfAbsent(bidder, bidderName);
+            }
+        }
+    }
+
+    /**
+     * Tells if the next bidder request should be profiled.
+     */
+    public boolean shouldSample() {
+        return samplingRate >= 1.0d || ThreadLocalRandom.current().nextDouble() < samplingRate;
+    }
+
+    /**
+     * Executes given stage of the given bidder measuring its cost.
+     */
+    public <R> R profile(Bidder<?> bidder, Stage stage, Supplier<R> stageSupplier) {
+        final long threadId = Thread.currentThread().getId();
+        final long startAllocatedBytes = allocatedBytes(threadId);
+        final long startTime = System.nanoTime();
+        try {
+            return stageSupplier.get();
+        } finally {
+            final long nanos = System.nanoTime() - startTime;
+            final long allocatedBytes = startAllocatedBytes >= 0
+                    ? allocatedBytes(threadId) - startAllocatedBytes
+                    : -1;
+            record(bidderName(bidder), stage, nanos, allocatedBytes);
+        }
+    }
+
+    /**
+     * Returns average costs per bidder request ordered from the most expensive bidder to the cheapest one.
+     */
+    public List<BidderCost> bidderCosts() {
+        return bidderCosts.entrySet().stream()
+                .map(entry -> entry.getValue().toBidderCost(entry.getKey()))
+                .filter(Objects::nonNull)
+                .sorted(Comparator.comparingLong(BidderCost::getTotalNanos).reversed())
+                .collect(Collectors.toList());
+    }
+
+    private String bidderName(Bidder<?> bidder) {
+        final String bidderName = bidderNames.get(bidder);
+        return bidderName != null ? bidderName : bidder.getClass().getSimpleName();
+    }
+
+    private void record(String bidderName, Stage stage, long nanos, long allocatedBytes) {
+        final StageCosts costs = bidderCosts.computeIfAbsent(bidderName, ignored -> new StageCosts());
+
+        if (stage == Stage.request_building) {
+            costs.sampledRequests.increment();
+            costs.requestBuildingNanos.add(nanos);
+            metrics.updateAdapterRequestBuildingMetrics(bidderName, nanos, allocatedBytes);
+        } else {
+            costs.responseParsingNanos.add(nanos);
+            metrics.updateAdapterResponseParsingMetrics(bidderName, nanos, allocatedBytes);
+        }
+
+        if (allocatedBytes >= 0) {
+            costs.allocatedBytes.add(allocatedBytes);
+        }
+    }
+
+    private static long allocatedBytes(long threadId) {
+        return THREAD_MX_BEAN != null ? THREAD_MX_BEAN.getThreadAllocatedBytes(threadId) : -1;
+    }
+
+    private static ThreadMXBean allocationAccountingMXBean() {
+        final java.lang.management.ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        if (threadMXBean instanceof ThreadMXBean) {
+            final ThreadMXBean allocationMXBean = (ThreadMXBean) threadMXBean;
+            if (allocationMXBean.isThreadAllocatedMemorySupported()
+                    && allocationMXBean.isThreadAllocatedMemoryEnabled()) {
+                return allocationMXBean;
+            }
+        }
+        return null;
+    }
+
+    public enum Stage {
+        request_building, response_parsing
+    }
+
+    private static class StageCosts {
+
+        final LongAdder sampledRequests = new LongAdder();
+        final LongAdder requestBuildingNanos = new LongAdder();
+        final LongAdder responseParsingNanos = new LongAdder();
+        final LongAdder allocatedBytes = new LongAdder();
+
+        BidderCost toBidderCost(String bidderName) {
+            final long requests = sampledRequests.sum();
+            if (requests == 0) {
+                return null;
+            }
+
+            final long requestBuilding = requestBuildingNanos.sum() / requests;
+            final long responseParsing = responseParsingNanos.sum() / requests;
+
+            return BidderCost.of(bidderName, requests, requestBuilding, responseParsing,
+                    requestBuilding + responseParsing,
+                    THREAD_MX_BEAN != null ? allocatedBytes.sum() / requests : null);
+        }
+    }
+}
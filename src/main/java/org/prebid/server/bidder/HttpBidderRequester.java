@@ -2,9 +2,11 @@ package org.prebid.server.bidder;
 
 import com.iab.openrtb.request.BidRequest;
 import io.netty.channel.ConnectTimeoutException;
+import io.netty.handler.codec.http.HttpHeaderValues;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
+import io.vertx.core.MultiMap;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 import org.apache.commons.collections4.CollectionUtils;
@@ -16,18 +18,22 @@ import org.prebid.server.bidder.model.HttpCall;
 import org.prebid.server.bidder.model.HttpRequest;
 import org.prebid.server.bidder.model.HttpResponse;
 import org.prebid.server.bidder.model.Result;
+import org.prebid.server.exception.ResponseTooLargeException;
 import org.prebid.server.execution.Timeout;
 import org.prebid.server.proto.openrtb.ext.response.ExtHttpCall;
+import org.prebid.server.util.HttpUtil;
 import org.prebid.server.vertx.http.HttpClient;
 import org.prebid.server.vertx.http.model.HttpClientResponse;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -47,14 +53,50 @@ public class HttpBidderRequester {
     private final HttpClient httpClient;
     private final BidderRequestCompletionTrackerFactory completionTrackerFactory;
     private final BidderErrorNotifier bidderErrorNotifier;
+    private final BidderStageExecutor stageExecutor;
+    private final BidderStageProfiler stageProfiler;
+    private final BidderRequestCompressor requestCompressor;
+
+    private final Map<Bidder<?>, Long> maxResponseSizes;
 
     public HttpBidderRequester(HttpClient httpClient,
                                BidderRequestCompletionTrackerFactory completionTrackerFactory,
-                               BidderErrorNotifier bidderErrorNotifier) {
+                               BidderErrorNotifier bidderErrorNotifier,
+                               BidderStageExecutor stageExecutor,
+                               BidderStageProfiler stageProfiler,
+                               BidderRequestCompressor requestCompressor,
+                               BidderCatalog bidderCatalog) {
 
         this.httpClient = Objects.requireNonNull(httpClient);
         this.completionTrackerFactory = completionTrackerFactoryOrFallback(completionTrackerFactory);
         this.bidderErrorNotifier = Objects.requireNonNull(bidderErrorNotifier);
+        this.stageExecutor = stageExecutor;
+        this.stageProfiler = stageProfiler;
+        this.requestCompressor = requestCompressor;
+
+        maxResponseSizes = maxResponseSizes(Objects.requireNonNull(bidderCatalog));
+    }
+
+    /**
+     * Collects response size limits by bidder instance, since bidder name is not known when requesting bids.
+     */
+    private static Map<Bidder<?>, Long> maxResponseSizes(BidderCatalog bidderCatalog) {
+        final Map<Bidder<?>, Long> maxResponseSizes = new IdentityHashMap<>();
+        for (final String bidderName : bidderCatalog.names()) {
+            final Bidder<?> bidder = bidderCatalog.bidderByName(bidderName);
+            final Long maxResponseSize = bidderCatalog.maxResponseSizeByName(bidderName);
+            if (bidder != null && maxResponseSize != null) {
+                maxResponseSizes.putIfAbsent(bidder, maxResponseSize);
+            }
+        }
+        return maxResponseSizes;
+    }
+
+    /**
+     * Tells if bidder stages of auction with given number of bidders should be executed on worker pool.
+     */
+    public boolean shouldOffloadStages(int biddersCount) {
+        return stageExecutor != null && stageExecutor.isApplicable(biddersCount);
     }
 
     /**
@@ -63,7 +105,37 @@ public class HttpBidderRequester {
     public <T> Future<BidderSeatBid> requestBids(
             Bidder<T> bidder, BidRequest bidRequest, Timeout timeout, boolean debugEnabled) {
 
-        final Result<List<HttpRequest<T>>> httpRequestsWithErrors = bidder.makeHttpRequests(bidRequest);
+        return requestBids(bidder, bidRequest, timeout, debugEnabled, false);
+    }
+
+    /**
+     * Executes given request to a given bidder.
+     * <p>
+     * If stages offloading is requested, {@link Bidder#makeHttpRequests} and {@link Bidder#makeBids} are executed
+     * on {@link BidderStageExecutor} worker pool, while HTTP calls and results accumulation stay on the calling
+     * context.
+     * <p>
+     * If request is sampled by {@link BidderStageProfiler}, cost of bidder stages is measured.
+     */
+    public <T> Future<BidderSeatBid> requestBids(
+            Bidder<T> bidder, BidRequest bidRequest, Timeout timeout, boolean debugEnabled, boolean offloadStages) {
+
+        final boolean offload = offloadStages && stageExecutor != null;
+        final boolean profile = stageProfiler != null && stageProfiler.shouldSample();
+
+        return executeStage(bidder, BidderStageProfiler.Stage.request_building,
+                () -> bidder.makeHttpRequests(bidRequest), offload, profile)
+                .compose(httpRequestsWithErrors -> doRequests(
+                        bidder, bidRequest, httpRequestsWithErrors, timeout, debugEnabled, offload, profile));
+    }
+
+    private <T> Future<BidderSeatBid> doRequests(Bidder<T> bidder,
+                                                 BidRequest bidRequest,
+                                                 Result<List<HttpRequest<T>>> httpRequestsWithErrors,
+                                                 Timeout timeout,
+                                                 boolean debugEnabled,
+                                                 boolean offload,
+                                                 boolean profile) {
 
         final List<BidderError> bidderErrors = httpRequestsWithErrors.getErrors();
         final List<HttpRequest<T>> httpRequests = httpRequestsWithErrors.getValue();
@@ -77,10 +149,11 @@ public class HttpBidderRequester {
         final ResultBuilder<T> resultBuilder = new ResultBuilder<>(httpRequests, bidderErrors, completionTracker);
 
         final List<Future<Void>> httpRequestFutures = httpRequests.stream()
-                .map(httpRequest -> doRequest(httpRequest, timeout))
+                .map(httpRequest -> doRequest(bidder, httpRequest, timeout))
                 .map(httpCallFuture -> httpCallFuture
                         .map(httpCall -> bidderErrorNotifier.processTimeout(httpCall, bidder))
-                        .map(httpCall -> processHttpCall(bidder, bidRequest, resultBuilder, httpCall)))
+                        .compose(httpCall -> processHttpCall(
+                                bidder, bidRequest, resultBuilder, httpCall, offload, profile)))
                 .collect(Collectors.toList());
 
         final CompositeFuture completionFuture = CompositeFuture.any(
@@ -107,18 +180,50 @@ public class HttpBidderRequester {
     /**
      * Makes an HTTP request and returns {@link Future} that will be eventually completed with success or error result.
      */
-    private <T> Future<HttpCall<T>> doRequest(HttpRequest<T> httpRequest, Timeout timeout) {
+    private <T> Future<HttpCall<T>> doRequest(Bidder<T> bidder, HttpRequest<T> httpRequest, Timeout timeout) {
         final long remainingTimeout = timeout.remaining();
         if (remainingTimeout <= 0) {
             return failResponse(new TimeoutException("Timeout has been exceeded"), httpRequest);
         }
 
-        return httpClient.request(httpRequest.getMethod(), httpRequest.getUri(), httpRequest.getHeaders(),
-                httpRequest.getBody(), remainingTimeout)
+        return send(bidder, httpRequest, remainingTimeout)
                 .compose(response -> processResponse(response, httpRequest))
                 .recover(exception -> failResponse(exception, httpRequest));
     }
 
+    /**
+     * Sends request body compressed with gzip if compression is enabled for the bidder and pays off, or as is
+     * otherwise. Original body is kept in {@link HttpRequest} for debug purposes.
+     * <p>
+     * Response body size is limited if maximum is configured for the bidder.
+     */
+    private <T> Future<HttpClientResponse> send(Bidder<T> bidder, HttpRequest<T> httpRequest, long timeout) {
+        final byte[] compressedBody = requestCompressor != null
+                ? requestCompressor.compress(bidder, httpRequest.getBody())
+                : null;
+        final Long maxResponseSize = maxResponseSizes.get(bidder);
+
+        if (compressedBody == null) {
+            return maxResponseSize != null
+                    ? httpClient.request(httpRequest.getMethod(), httpRequest.getUri(), httpRequest.getHeaders(),
+                    httpRequest.getBody(), timeout, maxResponseSize)
+                    : httpClient.request(httpRequest.getMethod(), httpRequest.getUri(), httpRequest.getHeaders(),
+                    httpRequest.getBody(), timeout);
+        }
+
+        final MultiMap headers = MultiMap.caseInsensitiveMultiMap();
+        if (httpRequest.getHeaders() != null) {
+            headers.addAll(httpRequest.getHeaders());
+        }
+        headers.set(HttpUtil.CONTENT_ENCODING_HEADER, HttpHeaderValues.GZIP);
+
+        return maxResponseSize != null
+                ? httpClient.requestBinary(httpRequest.getMethod(), httpRequest.getUri(), headers, compressedBody,
+                timeout, maxResponseSize)
+                : httpClient.requestBinary(httpRequest.getMethod(), httpRequest.getUri(), headers, compressedBody,
+                timeout);
+    }
+
     /**
      * Produces {@link Future} with {@link HttpCall} containing request and error description.
      */
@@ -127,13 +232,17 @@ public class HttpBidderRequester {
                 httpRequest.getUri(), exception.getMessage());
         logger.debug("Error occurred while sending HTTP request to a bidder url: {0}", exception, httpRequest.getUri());
 
-        final BidderError.Type errorType =
-                exception instanceof TimeoutException || exception instanceof ConnectTimeoutException
-                        ? BidderError.Type.timeout
-                        : BidderError.Type.generic;
+        final String message = exception.getMessage();
+        final BidderError error;
+        if (exception instanceof TimeoutException || exception instanceof ConnectTimeoutException) {
+            error = BidderError.timeout(message);
+        } else if (exception instanceof ResponseTooLargeException) {
+            error = BidderError.responseTooLarge(message);
+        } else {
+            error = BidderError.generic(message);
+        }
 
-        return Future.succeededFuture(
-                HttpCall.failure(httpRequest, BidderError.create(exception.getMessage(), errorType)));
+        return Future.succeededFuture(HttpCall.failure(httpRequest, error));
     }
 
     /**
@@ -160,13 +269,35 @@ public class HttpBidderRequester {
         return null;
     }
 
-    private <T> Void processHttpCall(Bidder<T> bidder,
-                                     BidRequest bidRequest,
-                                     ResultBuilder<T> seatBidBuilder,
-                                     HttpCall<T> httpCall) {
+    private <T> Future<Void> processHttpCall(Bidder<T> bidder,
+                                             BidRequest bidRequest,
+                                             ResultBuilder<T> seatBidBuilder,
+                                             HttpCall<T> httpCall,
+                                             boolean offload,
+                                             boolean profile) {
+
+        // no need to go to worker pool or profile if there is nothing to parse
+        final boolean hasResponse = httpCall.getError() == null;
+
+        return executeStage(bidder, BidderStageProfiler.Stage.response_parsing,
+                () -> makeBids(bidder, httpCall, bidRequest), offload && hasResponse, profile && hasResponse)
+                .map(bidsResult -> {
+                    seatBidBuilder.addHttpCall(httpCall, bidsResult);
+                    return null;
+                });
+    }
 
-        seatBidBuilder.addHttpCall(httpCall, makeBids(bidder, httpCall, bidRequest));
-        return null;
+    /**
+     * Executes given bidder stage on {@link BidderStageExecutor} if offloading is requested or in place otherwise.
+     */
+    private <R> Future<R> executeStage(Bidder<?> bidder,
+                                       BidderStageProfiler.Stage stageType,
+                                       Supplier<R> stage,
+                                       boolean offload,
+                                       boolean profile) {
+
+        final Supplier<R> executedStage = profile ? () -> stageProfiler.profile(bidder, stageType, stage) : stage;
+        return offload ? stageExecutor.execute(executedStage) : Future.succeededFuture(executedStage.get());
     }
 
     private static <T> Result<List<BidderBid>> makeBids(Bidder<T> bidder, HttpCall<T> httpCall, BidRequest bidRequest) {
@@ -68,13 +68,20 @@ public class UsersyncInfoAssembler {
     }
 
     public UsersyncInfo assemble() {
-        redirectUrl = StringUtils.countMatches(redirectUrl, '?') > 1
-                ? resolveQueryParams(redirectUrl)
-                : HttpUtil.encodeUrl(redirectUrl);
+        redirectUrl = encodeRedirectUrl(redirectUrl);
 
         return UsersyncInfo.of(usersyncUrl + redirectUrl, type, supportCORS);
     }
 
+    /**
+     * Encodes redirect url to be appended to usersync url. Query parameters of the nested redirect are kept as is.
+     */
+    static String encodeRedirectUrl(String redirectUrl) {
+        return StringUtils.countMatches(redirectUrl, '?') > 1
+                ? resolveQueryParams(redirectUrl)
+                : HttpUtil.encodeUrl(redirectUrl);
+    }
+
     private static String resolveQueryParams(String redirectUrl) {
         final int queryParamsIndex = redirectUrl.lastIndexOf('?');
         final String queryParams = redirectUrl.substring(queryParamsIndex);
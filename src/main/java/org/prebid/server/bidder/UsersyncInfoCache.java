@@ -0,0 +1,92 @@
+package org.prebid.server.bidder;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.Value;
+import org.apache.commons.lang3.ObjectUtils;
+import org.prebid.server.privacy.model.Privacy;
+import org.prebid.server.proto.response.UsersyncInfo;
+import org.prebid.server.util.HttpUtil;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Creates {@link UsersyncInfo} for {@link Usersyncer} and privacy values.
+ * <p>
+ * Usersync and redirect urls of each {@link Usersyncer} are compiled into {@link UsersyncUrlTemplate}s once
+ * and fully assembled {@link UsersyncInfo}s are kept in a bounded cache keyed by usersyncer and privacy values,
+ * since most of requests share the same small set of privacy values.
+ * <p>
+ * Produces exactly the same result as {@link UsersyncInfoAssembler} with privacy applied.
+ */
+public class UsersyncInfoCache {
+
+    private final Map<Usersyncer, CompiledUsersyncer> compiledUsersyncers;
+    private final Cache<CacheKey, UsersyncInfo> cache;
+
+    public UsersyncInfoCache(int maxSize) {
+        compiledUsersyncers = new ConcurrentHashMap<>();
+        cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .build();
+    }
+
+    /**
+     * Returns {@link UsersyncInfo} with usersync url updated according to the given {@link Privacy}.
+     */
+    public UsersyncInfo usersyncInfoFor(Usersyncer usersyncer, Privacy privacy) {
+        final CompiledUsersyncer compiledUsersyncer = compiledUsersyncers.computeIfAbsent(
+                Objects.requireNonNull(usersyncer), CompiledUsersyncer::compile);
+
+        final String gdpr = ObjectUtils.defaultIfNull(privacy.getGdpr(), "");
+        final String consent = ObjectUtils.defaultIfNull(privacy.getConsentString(), "");
+        final String usPrivacy = ObjectUtils.defaultIfNull(privacy.getCcpa().getUsPrivacy(), "");
+
+        return cache.get(CacheKey.of(compiledUsersyncer, gdpr, consent, usPrivacy),
+                key -> compiledUsersyncer.assemble(gdpr, consent, usPrivacy));
+    }
+
+    private static class CompiledUsersyncer {
+
+        private final UsersyncUrlTemplate usersyncUrl;
+        private final UsersyncUrlTemplate redirectUrl;
+        private final String type;
+        private final Boolean supportCORS;
+
+        private CompiledUsersyncer(Usersyncer usersyncer) {
+            usersyncUrl = UsersyncUrlTemplate.compile(usersyncer.getUsersyncUrl());
+            redirectUrl = UsersyncUrlTemplate.compile(ObjectUtils.defaultIfNull(usersyncer.getRedirectUrl(), ""));
+            type = usersyncer.getType();
+            supportCORS = usersyncer.isSupportCORS();
+        }
+
+        static CompiledUsersyncer compile(Usersyncer usersyncer) {
+            return new CompiledUsersyncer(usersyncer);
+        }
+
+        UsersyncInfo assemble(String gdpr, String consent, String usPrivacy) {
+            final String renderedUsersyncUrl = usersyncUrl.render(
+                    HttpUtil.encodeUrl(gdpr), HttpUtil.encodeUrl(consent), HttpUtil.encodeUrl(usPrivacy));
+            final String renderedRedirectUrl = redirectUrl.render(gdpr, consent, usPrivacy);
+
+            return UsersyncInfo.of(
+                    renderedUsersyncUrl + UsersyncInfoAssembler.encodeRedirectUrl(renderedRedirectUrl),
+                    type,
+                    supportCORS);
+        }
+    }
+
+    @Value(staticConstructor = "of")
+    private static class CacheKey {
+
+        CompiledUsersyncer usersyncer;
+
+        String gdpr;
+
+        String consent;
+
+        String usPrivacy;
+    }
+}
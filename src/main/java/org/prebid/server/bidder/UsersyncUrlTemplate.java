@@ -0,0 +1,99 @@
+package org.prebid.server.bidder;
+
+import org.prebid.server.proto.response.UsersyncInfo;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Usersync url split into static segments and privacy placeholders once, so it can be rendered
+ * for the given privacy values without scanning the whole url for each placeholder.
+ */
+class UsersyncUrlTemplate {
+
+    private static final String[] PLACEHOLDERS = {
+            UsersyncInfo.GDPR_PLACEHOLDER,
+            UsersyncInfo.GDPR_CONSENT_PLACEHOLDER,
+            UsersyncInfo.US_PRIVACY_PLACEHOLDER};
+
+    private static final int GDPR = 0;
+    private static final int GDPR_CONSENT = 1;
+    private static final int US_PRIVACY = 2;
+
+    private final String[] segments;
+    private final int[] placeholders;
+    private final int staticLength;
+
+    private UsersyncUrlTemplate(String[] segments, int[] placeholders) {
+        this.segments = segments;
+        this.placeholders = placeholders;
+
+        int length = 0;
+        for (final String segment : segments) {
+            length += segment.length();
+        }
+        staticLength = length;
+    }
+
+    static UsersyncUrlTemplate compile(String url) {
+        final List<String> segments = new ArrayList<>();
+        final List<Integer> placeholders = new ArrayList<>();
+
+        int position = 0;
+        while (true) {
+            int nextIndex = -1;
+            int nextPlaceholder = -1;
+            for (int i = 0; i < PLACEHOLDERS.length; i++) {
+                final int index = url.indexOf(PLACEHOLDERS[i], position);
+                if (index != -1 && (nextIndex == -1 || index < nextIndex)) {
+                    nextIndex = index;
+                    nextPlaceholder = i;
+                }
+            }
+
+            if (nextIndex == -1) {
+                segments.add(url.substring(position));
+                break;
+            }
+
+            segments.add(url.substring(position, nextIndex));
+            placeholders.add(nextPlaceholder);
+            position = nextIndex + PLACEHOLDERS[nextPlaceholder].length();
+        }
+
+        return new UsersyncUrlTemplate(
+                segments.toArray(new String[0]),
+                placeholders.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    /**
+     * Returns url with placeholders substituted by given values.
+     */
+    String render(String gdpr, String gdprConsent, String usPrivacy) {
+        if (placeholders.length == 0) {
+            return segments[0];
+        }
+
+        final StringBuilder result = new StringBuilder(staticLength
+                + placeholders.length * Math.max(gdprConsent.length(), Math.max(gdpr.length(), usPrivacy.length())));
+
+        for (int i = 0; i < placeholders.length; i++) {
+            result.append(segments[i]);
+            switch (placeholders[i]) {
+                case GDPR:
+                    result.append(gdpr);
+                    break;
+                case GDPR_CONSENT:
+                    result.append(gdprConsent);
+                    break;
+                case US_PRIVACY:
+                    result.append(usPrivacy);
+                    break;
+                default:
+                    throw new IllegalStateException("Unknown usersync url placeholder");
+            }
+        }
+
+        return result.append(segments[segments.length - 1]).toString();
+    }
+}
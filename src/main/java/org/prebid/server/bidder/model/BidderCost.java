@@ -0,0 +1,33 @@
+package org.prebid.server.bidder.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+/**
+ * Average CPU cost of {@link org.prebid.server.bidder.Bidder} stages per single bidder request made in auction.
+ */
+@AllArgsConstructor(staticName = "of")
+@Value
+public class BidderCost {
+
+    String bidder;
+
+    /**
+     * Number of profiled bidder requests the averages are calculated from.
+     */
+    long sampledRequests;
+
+    long requestBuildingNanos;
+
+    long responseParsingNanos;
+
+    /**
+     * Sum of request building and response parsing time.
+     */
+    long totalNanos;
+
+    /**
+     * Null if allocation accounting is not supported by JVM.
+     */
+    Long allocatedBytes;
+}
@@ -38,6 +38,10 @@ public class BidderError {
         return BidderError.of(message, Type.timeout);
     }
 
+    public static BidderError responseTooLarge(String message) {
+        return BidderError.of(message, Type.response_too_large);
+    }
+
     public enum Type {
         /**
          * Should be used when returning errors which are caused by bad input.
@@ -69,6 +73,12 @@ public class BidderError {
          */
         failed_to_request_bids(4),
 
+        /**
+         * Should be used when the external server responded with body exceeding maximum size configured for the
+         * bidder, so response was not read completely.
+         */
+        response_too_large(5),
+
         timeout(1),
         generic(999);
 
@@ -0,0 +1,22 @@
+package org.prebid.server.bidder.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+/**
+ * Settings of gzip compression of HTTP request bodies sent to bidder.
+ */
+@AllArgsConstructor(staticName = "of")
+@Value
+public class RequestCompression {
+
+    /**
+     * Bodies smaller than this number of bytes are sent uncompressed.
+     */
+    int minSize;
+
+    /**
+     * Deflate compression level from 1 (fastest) to 9 (best compression).
+     */
+    int level;
+}
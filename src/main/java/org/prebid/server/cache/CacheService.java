@@ -31,6 +31,7 @@ import org.prebid.server.exception.PreBidException;
 import org.prebid.server.execution.Timeout;
 import org.prebid.server.json.DecodeException;
 import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.metric.MetricName;
 import org.prebid.server.metric.Metrics;
 import org.prebid.server.proto.response.Bid;
 import org.prebid.server.proto.response.MediaType;
@@ -45,6 +46,7 @@ import java.time.Clock;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -71,6 +73,7 @@ public class CacheService {
     private final URL endpointUrl;
     private final String cachedAssetUrlTemplate;
     private final EventsService eventsService;
+    private final VastXmlProcessor vastXmlProcessor;
     private final Metrics metrics;
     private final Clock clock;
     private final JacksonMapper mapper;
@@ -80,6 +83,7 @@ public class CacheService {
                         URL endpointUrl,
                         String cachedAssetUrlTemplate,
                         EventsService eventsService,
+                        VastXmlProcessor vastXmlProcessor,
                         Metrics metrics,
                         Clock clock,
                         JacksonMapper mapper) {
@@ -89,6 +93,7 @@ public class CacheService {
         this.endpointUrl = Objects.requireNonNull(endpointUrl);
         this.cachedAssetUrlTemplate = Objects.requireNonNull(cachedAssetUrlTemplate);
         this.eventsService = Objects.requireNonNull(eventsService);
+        this.vastXmlProcessor = Objects.requireNonNull(vastXmlProcessor);
         this.metrics = Objects.requireNonNull(metrics);
         this.clock = Objects.requireNonNull(clock);
         this.mapper = Objects.requireNonNull(mapper);
@@ -223,7 +228,7 @@ public class CacheService {
                         accountId,
                         putObject.getTimestamp(),
                         integration);
-                final String updatedVastXml = appendTrackingUrlToVastXml(value.asText(), eventUrl);
+                final String updatedVastXml = vastXmlProcessor.appendImpressionUrl(value.asText(), eventUrl);
                 builder.value(new TextNode(updatedVastXml)).build();
             }
 
@@ -247,6 +252,7 @@ public class CacheService {
             return Future.succeededFuture(CacheServiceResult.empty());
         }
 
+        final long startTime = System.nanoTime();
         final List<Imp> imps = auctionContext.getBidRequest().getImp();
 
         final Map<String, Integer> impIdToTtl = new HashMap<>(imps.size());
@@ -276,7 +282,11 @@ public class CacheService {
                 auctionContext,
                 cacheContext.getBidderToVideoBidIdsToModify(),
                 cacheContext.getBidderToBidIds(),
-                eventsContext);
+                eventsContext)
+                .map(cacheServiceResult -> {
+                    metrics.updateAuctionStageTimeMetric(MetricName.cache_write, System.nanoTime() - startTime);
+                    return cacheServiceResult;
+                });
     }
 
     /**
@@ -363,11 +373,14 @@ public class CacheService {
 
         final Account account = auctionContext.getAccount();
 
+        final Map<String, String> bidIdToBidder = toBidIdToBidder(biddersToCacheBidIds);
+        final Map<String, String> videoBidIdToBidder = toBidIdToBidder(bidderToVideoBidIdsToModify);
+
         final List<CachedCreative> cachedCreatives = Stream.concat(
                 bids.stream().map(cacheBid -> createJsonPutObjectOpenrtb(
-                        cacheBid, biddersToCacheBidIds, account, eventsContext)),
+                        cacheBid, bidIdToBidder, account, eventsContext)),
                 videoBids.stream().map(cacheBid -> createXmlPutObjectOpenrtb(
-                        cacheBid, bidderToVideoBidIdsToModify, account, eventsContext)))
+                        cacheBid, videoBidIdToBidder, account, eventsContext)))
                 .collect(Collectors.toList());
 
         if (cachedCreatives.isEmpty()) {
@@ -488,14 +501,14 @@ public class CacheService {
      * Used for OpenRTB auction request. Also, adds win url to result object if events are enabled.
      */
     private CachedCreative createJsonPutObjectOpenrtb(CacheBid cacheBid,
-                                                      Map<String, List<String>> biddersToCacheBidIds,
+                                                      Map<String, String> bidIdToBidder,
                                                       Account account,
                                                       EventsContext eventsContext) {
 
         final com.iab.openrtb.response.Bid bid = cacheBid.getBid();
         final ObjectNode bidObjectNode = mapper.mapper().valueToTree(bid);
 
-        final String eventUrl = generateWinUrl(biddersToCacheBidIds, bid, account, eventsContext);
+        final String eventUrl = generateWinUrl(bidIdToBidder, bid, account, eventsContext);
         if (eventUrl != null) {
             bidObjectNode.put(BID_WURL_ATTRIBUTE, eventUrl);
         }
@@ -513,15 +526,17 @@ public class CacheService {
      * Makes XML type {@link PutObject} from {@link com.iab.openrtb.response.Bid}. Used for OpenRTB auction request.
      */
     private CachedCreative createXmlPutObjectOpenrtb(CacheBid cacheBid,
-                                                     Map<String, List<String>> bidderToVideoBidIdsToModify,
+                                                     Map<String, String> videoBidIdToBidder,
                                                      Account account,
                                                      EventsContext eventsContext) {
 
         final com.iab.openrtb.response.Bid bid = cacheBid.getBid();
         final String vastXml = resolveVastXmlFrom(bid);
 
-        final String eventUrl = generateVastUrlTracking(bidderToVideoBidIdsToModify, bid, account, eventsContext);
-        final String effectiveVastXml = eventUrl != null ? appendTrackingUrlToVastXml(vastXml, eventUrl) : vastXml;
+        final String eventUrl = generateVastUrlTracking(videoBidIdToBidder, bid, account, eventsContext);
+        final String effectiveVastXml = eventUrl != null
+                ? vastXmlProcessor.appendImpressionUrl(vastXml, eventUrl)
+                : vastXml;
 
         final PutObject payload = PutObject.builder()
                 .type("xml")
@@ -532,26 +547,19 @@ public class CacheService {
         return CachedCreative.of(payload, creativeSizeFromTextNode(payload.getValue()));
     }
 
-    private static String resolveVastXmlFrom(com.iab.openrtb.response.Bid bid) {
-        if (bid.getAdm() == null) {
-            return "<VAST version=\"3.0\"><Ad><Wrapper>"
-                    + "<AdSystem>prebid.org wrapper</AdSystem>"
-                    + "<VASTAdTagURI><![CDATA[" + bid.getNurl() + "]]></VASTAdTagURI>"
-                    + "<Impression></Impression><Creatives></Creatives>"
-                    + "</Wrapper></Ad></VAST>";
-        }
-
-        return bid.getAdm();
+    private String resolveVastXmlFrom(com.iab.openrtb.response.Bid bid) {
+        final String adm = bid.getAdm();
+        return adm != null ? adm : vastXmlProcessor.createWrapper(bid.getNurl());
     }
 
-    private String generateWinUrl(Map<String, List<String>> biddersToCacheBidIds,
+    private String generateWinUrl(Map<String, String> bidIdToBidder,
                                   com.iab.openrtb.response.Bid bid,
                                   Account account,
                                   EventsContext eventsContext) {
 
         if (eventsContext.isEnabledForAccount() && eventsContext.isEnabledForRequest()) {
             final String bidId = bid.getId();
-            return findBidderForBidId(biddersToCacheBidIds, bidId)
+            return Optional.ofNullable(bidIdToBidder.get(bidId))
                     .map(bidder -> eventsService.winUrl(
                             bidId,
                             bidder,
@@ -564,14 +572,14 @@ public class CacheService {
         return null;
     }
 
-    private String generateVastUrlTracking(Map<String, List<String>> bidderToVideoBidIdsToModify,
+    private String generateVastUrlTracking(Map<String, String> videoBidIdToBidder,
                                            com.iab.openrtb.response.Bid bid,
                                            Account account,
                                            EventsContext eventsContext) {
 
         if (eventsContext.isEnabledForAccount()) {
             final String bidId = bid.getId();
-            return findBidderForBidId(bidderToVideoBidIdsToModify, bidId)
+            return Optional.ofNullable(videoBidIdToBidder.get(bidId))
                     .map(bidder -> eventsService.vastUrlTracking(
                             bidId,
                             bidder,
@@ -584,31 +592,27 @@ public class CacheService {
         return null;
     }
 
-    private static Optional<String> findBidderForBidId(Map<String, List<String>> biddersToCacheBidIds, String bidId) {
-        return biddersToCacheBidIds.entrySet().stream()
-                .filter(biddersAndBidIds -> biddersAndBidIds.getValue().contains(bidId))
-                .findFirst()
-                .map(Map.Entry::getKey);
-    }
-
-    private String appendTrackingUrlToVastXml(String vastXml, String vastUrlTracking) {
-        final String closeTag = "</Impression>";
-        final int closeTagIndex = vastXml.indexOf(closeTag);
-
-        // no impression tag - pass it as it is
-        if (closeTagIndex == -1) {
-            return vastXml;
+    /**
+     * Inverts bidder to bid IDs mapping, so bidder can be found for each bid without scanning all bid ID lists.
+     * <p>
+     * If the same bid ID belongs to several bidders the first one wins.
+     */
+    private static Map<String, String> toBidIdToBidder(Map<String, List<String>> bidderToBidIds) {
+        if (bidderToBidIds == null || bidderToBidIds.isEmpty()) {
+            return Collections.emptyMap();
         }
 
-        final String impressionUrl = "<![CDATA[" + vastUrlTracking + "]]>";
-        final String openTag = "<Impression>";
-
-        // empty impression tag - just insert the link
-        if (closeTagIndex - vastXml.indexOf(openTag) == openTag.length()) {
-            return vastXml.replaceFirst(openTag, openTag + impressionUrl);
+        final Map<String, String> bidIdToBidder = new HashMap<>();
+        for (final Map.Entry<String, List<String>> bidderAndBidIds : bidderToBidIds.entrySet()) {
+            final String bidder = bidderAndBidIds.getKey();
+            final List<String> bidIds = bidderAndBidIds.getValue();
+            if (bidIds != null) {
+                for (final String bidId : bidIds) {
+                    bidIdToBidder.putIfAbsent(bidId, bidder);
+                }
+            }
         }
-
-        return vastXml.replaceFirst(closeTag, closeTag + openTag + impressionUrl + closeTag);
+        return bidIdToBidder;
     }
 
     private static <T> List<CachedCreative> bidsToCachedCreatives(
@@ -668,19 +672,21 @@ public class CacheService {
     }
 
     /**
-     * Creates a map with bids as a key and {@link CacheInfo} as a value from obtained UUIDs.
+     * Creates an identity-based map with bids as a key and {@link CacheInfo} as a value from obtained UUIDs.
      */
     private static Map<com.iab.openrtb.response.Bid, CacheInfo> toResultMap(List<CacheBid> cacheBids,
                                                                             List<CacheBid> cacheVideoBids,
                                                                             List<String> uuids) {
-        final Map<com.iab.openrtb.response.Bid, CacheInfo> result = new HashMap<>(uuids.size());
+        final Map<com.iab.openrtb.response.Bid, CacheInfo> result = new IdentityHashMap<>(uuids.size());
 
         // here we assume "videoBids" is a sublist of "bids"
         // so, no need for a separate loop on "videoBids" if "bids" is not empty
         if (!cacheBids.isEmpty()) {
-            final List<com.iab.openrtb.response.Bid> videoBids = cacheVideoBids.stream()
-                    .map(CacheBid::getBid)
-                    .collect(Collectors.toList());
+            final Map<com.iab.openrtb.response.Bid, Integer> videoBidToIndex =
+                    new IdentityHashMap<>(cacheVideoBids.size());
+            for (int i = 0; i < cacheVideoBids.size(); i++) {
+                videoBidToIndex.put(cacheVideoBids.get(i).getBid(), i);
+            }
 
             final int bidsSize = cacheBids.size();
             for (int i = 0; i < bidsSize; i++) {
@@ -689,9 +695,9 @@ public class CacheService {
                 final Integer ttl = cacheBid.getTtl();
 
                 // determine uuid for video bid
-                final int indexOfVideoBid = videoBids.indexOf(bid);
-                final String videoBidUuid = indexOfVideoBid != -1 ? uuids.get(bidsSize + indexOfVideoBid) : null;
-                final Integer videoTtl = indexOfVideoBid != -1 ? cacheVideoBids.get(indexOfVideoBid).getTtl() : null;
+                final Integer indexOfVideoBid = videoBidToIndex.get(bid);
+                final String videoBidUuid = indexOfVideoBid != null ? uuids.get(bidsSize + indexOfVideoBid) : null;
+                final Integer videoTtl = indexOfVideoBid != null ? cacheVideoBids.get(indexOfVideoBid).getTtl() : null;
 
                 result.put(bid, CacheInfo.of(uuids.get(i), videoBidUuid, ttl, videoTtl));
             }
@@ -0,0 +1,106 @@
+package org.prebid.server.cache;
+
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Performs modifications of VAST XML documents before they are stored in Prebid Cache.
+ * <p>
+ * All insertions are done in a single pass over the document without regular expressions:
+ * the insertion point is located with plain index lookups and the result is written into one pre-sized buffer,
+ * so the document is copied exactly once regardless of its size.
+ */
+public class VastXmlProcessor {
+
+    private static final String IMPRESSION_TAG = "Impression";
+    private static final String ERROR_TAG = "Error";
+
+    private static final String CDATA_START = "<![CDATA[";
+    private static final String CDATA_END = "]]>";
+
+    private static final String WRAPPER_START = "<VAST version=\"3.0\"><Ad><Wrapper>"
+            + "<AdSystem>prebid.org wrapper</AdSystem>"
+            + "<VASTAdTagURI>" + CDATA_START;
+    private static final String WRAPPER_END = CDATA_END + "</VASTAdTagURI>"
+            + "<Impression></Impression><Creatives></Creatives>"
+            + "</Wrapper></Ad></VAST>";
+
+    /**
+     * Returns VAST wrapper document pointing to the given ad tag url.
+     */
+    public String createWrapper(String vastAdTagUri) {
+        final String uri = String.valueOf(vastAdTagUri);
+        return new StringBuilder(WRAPPER_START.length() + uri.length() + WRAPPER_END.length())
+                .append(WRAPPER_START)
+                .append(uri)
+                .append(WRAPPER_END)
+                .toString();
+    }
+
+    /**
+     * Adds impression tracking url to the given VAST XML.
+     * <p>
+     * See {@link #appendTrackingUrl(String, String, String)} for details.
+     */
+    public String appendImpressionUrl(String vastXml, String url) {
+        return appendTrackingUrl(vastXml, IMPRESSION_TAG, url);
+    }
+
+    /**
+     * Adds error tracking url to the given VAST XML.
+     * <p>
+     * See {@link #appendTrackingUrl(String, String, String)} for details.
+     */
+    public String appendErrorUrl(String vastXml, String url) {
+        return appendTrackingUrl(vastXml, ERROR_TAG, url);
+    }
+
+    /**
+     * Adds tracking url wrapped in CDATA section to the given VAST XML.
+     * <p>
+     * If the first occurrence of the tag is empty the url is inserted into it, otherwise new tag with the url
+     * is added right after the first occurrence. VAST XML without such tag is returned as it is.
+     */
+    public String appendTrackingUrl(String vastXml, String tagName, String url) {
+        if (StringUtils.isEmpty(vastXml) || url == null) {
+            return vastXml;
+        }
+
+        final String closeTag = "</" + tagName + ">";
+        final int closeTagIndex = vastXml.indexOf(closeTag);
+
+        // no such tag - pass it as it is
+        if (closeTagIndex == -1) {
+            return vastXml;
+        }
+
+        final String openTag = "<" + tagName + ">";
+        final int openTagIndex = vastXml.lastIndexOf(openTag, closeTagIndex);
+
+        // empty tag - just insert the link
+        if (openTagIndex != -1 && closeTagIndex - openTagIndex == openTag.length()) {
+            return insert(vastXml, closeTagIndex, null, url, null);
+        }
+
+        return insert(vastXml, closeTagIndex + closeTag.length(), openTag, url, closeTag);
+    }
+
+    /**
+     * Copies the given VAST XML into a buffer of exact size inserting url (optionally surrounded by tags)
+     * at the given position.
+     */
+    private static String insert(String vastXml, int position, String openTag, String url, String closeTag) {
+        final int tagsLength = openTag != null ? openTag.length() + closeTag.length() : 0;
+        final int length = vastXml.length() + tagsLength + CDATA_START.length() + url.length() + CDATA_END.length();
+
+        final StringBuilder result = new StringBuilder(length)
+                .append(vastXml, 0, position);
+        if (openTag != null) {
+            result.append(openTag);
+        }
+        result.append(CDATA_START).append(url).append(CDATA_END);
+        if (closeTag != null) {
+            result.append(closeTag);
+        }
+        return result.append(vastXml, position, vastXml.length()).toString();
+    }
+}
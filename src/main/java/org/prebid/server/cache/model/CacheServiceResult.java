@@ -20,6 +20,9 @@ public class CacheServiceResult {
 
     Throwable error;
 
+    /**
+     * Bids are compared by reference, so the map is expected to be identity-based.
+     */
     Map<Bid, CacheInfo> cacheBids;
 
     public static CacheServiceResult empty() {
@@ -0,0 +1,367 @@
+package org.prebid.server.cookie;
+
+import org.apache.commons.collections4.MapUtils;
+import org.prebid.server.cookie.model.UidWithExpiry;
+import org.prebid.server.cookie.proto.Uids;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Compact binary representation of {@link Uids} used as an alternative to JSON in 'uids' cookie.
+ * <p>
+ * Layout (all numbers are unsigned LEB128 varints unless stated otherwise):
+ * <pre>
+ * version byte | flags byte | [bday epoch seconds] | reference epoch seconds | uids count |
+ * uids: family id | [family name length | family name] | uid length | uid | expiry delta |
+ * [legacy uids count | legacy uids: family id | [family name length | family name] | uid length | uid]
+ * </pre>
+ * Family id is the position of cookie family name in {@link #FAMILY_REGISTRY} plus one, so it does not depend on
+ * bidders configured in particular deployment. Zero id means the family name is written inline, which is used for
+ * families missing in the registry. Expiry delta is zig-zag encoded difference (in seconds) between uid expiration
+ * and reference time, incremented by one, zero means no expiration.
+ */
+public class CompactUidsFormat {
+
+    public static final byte VERSION = 1;
+
+    private static final int OPTOUT_PRESENT_FLAG = 1;
+    private static final int OPTOUT_VALUE_FLAG = 1 << 1;
+    private static final int BDAY_PRESENT_FLAG = 1 << 2;
+    private static final int LEGACY_PRESENT_FLAG = 1 << 3;
+
+    private static final int INLINE_FAMILY_ID = 0;
+
+    /**
+     * Cookie family names identified by their position in this list. New families must only be appended, existing
+     * ones must never be removed or reordered, otherwise uids in cookies written before will be assigned to wrong
+     * families.
+     */
+    private static final List<String> FAMILY_REGISTRY = Collections.unmodifiableList(Arrays.asList(
+            "33across", "acuityads", "adform", "adgeneration", "adhese", "adkernel", "adkernelAdn", "adman",
+            "admixer", "adnxs", "adocean", "adoppler", "adpone", "adprime", "adtarget", "adtelligent", "advangelists",
+            "aja", "amx", "applogy", "audienceNetwork", "avocet", "beachfront", "beintoo", "between", "brightroll",
+            "colossus", "connectad", "consumable", "conversant", "cpmstar", "datablocks", "deepintent", "dmx",
+            "emx_digital", "engagebdr", "eplanning", "gamma", "gamoshi", "grid", "gumgum", "improvedigital",
+            "inmobi", "invibes", "ix", "kidoz", "krushmedia", "kubient", "lifestreet", "lockerdome", "logicad",
+            "lunamedia", "marsmedia", "mgid", "mobilefuse", "nanointeractive", "ninthdecimal", "nobid", "openx",
+            "orbidder", "pubmatic", "pubnative", "pulsepoint", "rhythmone", "rtbhouse", "rubicon", "sharethrough",
+            "silvermob", "smaato", "smartadserver", "smartrtb", "smartyads", "somoaudience", "sonobi", "sovrn",
+            "synacormedia", "tappx", "telaria", "triplelift", "triplelift_native", "ucfunnel", "unruly",
+            "valueimpression", "verizonmedia", "visx", "vrtcal", "yeahmobi", "yieldlab", "yieldmo", "yieldone",
+            "zeroclickfraud"));
+
+    private static final Map<String, Integer> FAMILY_TO_ID;
+
+    static {
+        final Map<String, Integer> familyToId = new HashMap<>();
+        for (int i = 0; i < FAMILY_REGISTRY.size(); i++) {
+            familyToId.put(FAMILY_REGISTRY.get(i), i + 1);
+        }
+        FAMILY_TO_ID = Collections.unmodifiableMap(familyToId);
+    }
+
+    private final Clock clock;
+
+    public CompactUidsFormat(Clock clock) {
+        this.clock = Objects.requireNonNull(clock);
+    }
+
+    /**
+     * Tells if given bytes are in compact format.
+     */
+    public static boolean isCompact(byte[] bytes) {
+        return bytes.length > 0 && bytes[0] == VERSION;
+    }
+
+    /**
+     * Tells if given cookie family has its own id, otherwise its name is written inline.
+     */
+    static boolean isRegisteredFamily(String familyName) {
+        return FAMILY_TO_ID.containsKey(familyName);
+    }
+
+    /**
+     * Encodes {@link Uids} into compact binary form.
+     */
+    public byte[] encode(Uids uids) {
+        final Map<String, UidWithExpiry> uidsMap = uids.getUids() != null ? uids.getUids() : Collections.emptyMap();
+        final long referenceSeconds = clock.instant().getEpochSecond();
+
+        final ByteArrayOutputStream output = new ByteArrayOutputStream(
+                calculateHeaderSize(uids, referenceSeconds, uidsMap.size()) + uidsMap.size() * 32);
+
+        writeHeader(output, uids, referenceSeconds, uidsMap.size());
+        for (final Map.Entry<String, UidWithExpiry> entry : uidsMap.entrySet()) {
+            writeEntry(output, entry.getKey(), entry.getValue(), referenceSeconds);
+        }
+        writeLegacyUids(output, uids.getUidsLegacy());
+
+        return output.toByteArray();
+    }
+
+    /**
+     * Decodes {@link Uids} from compact binary form.
+     *
+     * @throws IllegalArgumentException if bytes are not valid compact representation.
+     */
+    public Uids decode(byte[] bytes) {
+        if (!isCompact(bytes)) {
+            throw new IllegalArgumentException("Unsupported compact uids format version");
+        }
+
+        final Reader reader = new Reader(bytes, 1);
+        final int flags = reader.readByte();
+        final Boolean optout = (flags & OPTOUT_PRESENT_FLAG) != 0 ? (flags & OPTOUT_VALUE_FLAG) != 0 : null;
+        final ZonedDateTime bday = (flags & BDAY_PRESENT_FLAG) != 0 ? toDateTime(reader.readVarLong()) : null;
+        final long referenceSeconds = reader.readVarLong();
+
+        final long count = reader.readVarLong();
+        // each uid takes at least three bytes, so do not trust count for initial capacity
+        final Map<String, UidWithExpiry> uidsMap = new LinkedHashMap<>((int) Math.min(count, bytes.length / 3));
+        for (long i = 0; i < count; i++) {
+            final String familyName = readFamily(reader);
+            final String uid = reader.readString();
+            final long expiry = reader.readVarLong();
+
+            // family is not known - skip it to re-sync later
+            if (familyName != null) {
+                final ZonedDateTime expires = expiry != 0
+                        ? toDateTime(referenceSeconds + zigZagDecode(expiry - 1))
+                        : null;
+                uidsMap.put(familyName, new UidWithExpiry(uid, expires));
+            }
+        }
+
+        final Map<String, String> legacyUidsMap = (flags & LEGACY_PRESENT_FLAG) != 0
+                ? readLegacyUids(reader, bytes.length)
+                : Collections.emptyMap();
+
+        if (reader.hasRemaining()) {
+            throw new IllegalArgumentException("Unexpected trailing bytes in compact uids");
+        }
+
+        return Uids.builder()
+                .uidsLegacy(legacyUidsMap)
+                .uids(uidsMap)
+                .optout(optout)
+                .bday(bday)
+                .build();
+    }
+
+    private static Map<String, String> readLegacyUids(Reader reader, int bytesLength) {
+        final long count = reader.readVarLong();
+        // each legacy uid takes at least two bytes, so do not trust count for initial capacity
+        final Map<String, String> legacyUidsMap = new LinkedHashMap<>((int) Math.min(count, bytesLength / 2));
+        for (long i = 0; i < count; i++) {
+            final String familyName = readFamily(reader);
+            final String uid = reader.readString();
+            if (familyName != null) {
+                legacyUidsMap.put(familyName, uid);
+            }
+        }
+        return legacyUidsMap;
+    }
+
+    /**
+     * Returns family name or null if family id is not known, e.g. it was registered by newer version.
+     */
+    private static String readFamily(Reader reader) {
+        final long familyId = reader.readVarLong();
+        if (familyId == INLINE_FAMILY_ID) {
+            return reader.readString();
+        }
+        if (familyId < 0) {
+            throw new IllegalArgumentException("Malformed family id in compact uids");
+        }
+        return familyId <= FAMILY_REGISTRY.size() ? FAMILY_REGISTRY.get((int) familyId - 1) : null;
+    }
+
+    /**
+     * Returns the number of bytes needed for all data except uids themselves.
+     */
+    int headerSize(Uids uids, int uidsCount) {
+        return calculateHeaderSize(uids, clock.instant().getEpochSecond(), uidsCount);
+    }
+
+    /**
+     * Returns the number of bytes the given uid entry occupies in compact form.
+     */
+    int entrySize(String familyName, UidWithExpiry uidWithExpiry) {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream(32);
+        writeEntry(output, familyName, uidWithExpiry, clock.instant().getEpochSecond());
+        return output.size();
+    }
+
+    /**
+     * Legacy uids are counted in header size, as they are never removed to fit cookie size.
+     */
+    private static int calculateHeaderSize(Uids uids, long referenceSeconds, int uidsCount) {
+        final ZonedDateTime bday = uids.getBday();
+        return 2 + (bday != null ? varLongSize(bday.toEpochSecond()) : 0)
+                + varLongSize(referenceSeconds)
+                + varLongSize(uidsCount)
+                + legacyUidsSize(uids.getUidsLegacy());
+    }
+
+    private static int legacyUidsSize(Map<String, String> legacyUids) {
+        if (MapUtils.isEmpty(legacyUids)) {
+            return 0;
+        }
+
+        final ByteArrayOutputStream output = new ByteArrayOutputStream(legacyUids.size() * 32);
+        writeLegacyUids(output, legacyUids);
+        return output.size();
+    }
+
+    private static void writeHeader(ByteArrayOutputStream output, Uids uids, long referenceSeconds, int uidsCount) {
+        final Boolean optout = uids.getOptout();
+        final ZonedDateTime bday = uids.getBday();
+
+        int flags = 0;
+        if (optout != null) {
+            flags |= OPTOUT_PRESENT_FLAG;
+            if (optout) {
+                flags |= OPTOUT_VALUE_FLAG;
+            }
+        }
+        if (bday != null) {
+            flags |= BDAY_PRESENT_FLAG;
+        }
+        if (MapUtils.isNotEmpty(uids.getUidsLegacy())) {
+            flags |= LEGACY_PRESENT_FLAG;
+        }
+
+        output.write(VERSION);
+        output.write(flags);
+        if (bday != null) {
+            writeVarLong(output, bday.toEpochSecond());
+        }
+        writeVarLong(output, referenceSeconds);
+        writeVarLong(output, uidsCount);
+    }
+
+    private static void writeEntry(ByteArrayOutputStream output, String familyName, UidWithExpiry uidWithExpiry,
+                                   long referenceSeconds) {
+
+        writeFamily(output, familyName);
+        writeString(output, uidWithExpiry.getUid());
+
+        final ZonedDateTime expires = uidWithExpiry.getExpires();
+        writeVarLong(output, expires != null ? zigZagEncode(expires.toEpochSecond() - referenceSeconds) + 1 : 0);
+    }
+
+    private static void writeLegacyUids(ByteArrayOutputStream output, Map<String, String> legacyUids) {
+        if (MapUtils.isEmpty(legacyUids)) {
+            return;
+        }
+
+        writeVarLong(output, legacyUids.size());
+        for (final Map.Entry<String, String> entry : legacyUids.entrySet()) {
+            writeFamily(output, entry.getKey());
+            writeString(output, entry.getValue());
+        }
+    }
+
+    private static void writeFamily(ByteArrayOutputStream output, String familyName) {
+        final Integer familyId = FAMILY_TO_ID.get(familyName);
+        if (familyId != null) {
+            writeVarLong(output, familyId);
+        } else {
+            writeVarLong(output, INLINE_FAMILY_ID);
+            writeString(output, familyName);
+        }
+    }
+
+    private static ZonedDateTime toDateTime(long epochSeconds) {
+        return ZonedDateTime.ofInstant(Instant.ofEpochSecond(epochSeconds), ZoneOffset.UTC);
+    }
+
+    private static void writeString(ByteArrayOutputStream output, String value) {
+        final byte[] bytes = value != null ? value.getBytes(StandardCharsets.UTF_8) : new byte[0];
+        writeVarLong(output, bytes.length);
+        output.write(bytes, 0, bytes.length);
+    }
+
+    private static void writeVarLong(ByteArrayOutputStream output, long value) {
+        long remaining = value;
+        while ((remaining & ~0x7FL) != 0) {
+            output.write((int) ((remaining & 0x7F) | 0x80));
+            remaining >>>= 7;
+        }
+        output.write((int) remaining);
+    }
+
+    private static int varLongSize(long value) {
+        int size = 1;
+        long remaining = value;
+        while ((remaining & ~0x7FL) != 0) {
+            size++;
+            remaining >>>= 7;
+        }
+        return size;
+    }
+
+    private static long zigZagEncode(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long zigZagDecode(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static class Reader {
+
+        private final byte[] bytes;
+        private int position;
+
+        Reader(byte[] bytes, int position) {
+            this.bytes = bytes;
+            this.position = position;
+        }
+
+        int readByte() {
+            if (position >= bytes.length) {
+                throw new IllegalArgumentException("Unexpected end of compact uids");
+            }
+            return bytes[position++] & 0xFF;
+        }
+
+        long readVarLong() {
+            long result = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                final int current = readByte();
+                result |= (long) (current & 0x7F) << shift;
+                if ((current & 0x80) == 0) {
+                    return result;
+                }
+            }
+            throw new IllegalArgumentException("Malformed varint in compact uids");
+        }
+
+        String readString() {
+            final long length = readVarLong();
+            if (length < 0 || length > bytes.length - position) {
+                throw new IllegalArgumentException("Malformed string length in compact uids");
+            }
+            final String value = new String(bytes, position, (int) length, StandardCharsets.UTF_8);
+            position += (int) length;
+            return value;
+        }
+
+        boolean hasRemaining() {
+            return position < bytes.length;
+        }
+    }
+}
@@ -13,12 +13,16 @@ import org.prebid.server.json.DecodeException;
 import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.util.HttpUtil;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Clock;
 import java.time.Duration;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.Base64;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
@@ -39,6 +43,8 @@ public class UidsCookieService {
     private final String hostCookieDomain;
     private final long ttlSeconds;
     private final int maxCookieSizeBytes;
+    private final CompactUidsFormat compactUidsFormat;
+    private final boolean writeCompactFormat;
     private final JacksonMapper mapper;
 
     public UidsCookieService(String optOutCookieName,
@@ -48,6 +54,8 @@ public class UidsCookieService {
                              String hostCookieDomain,
                              int ttlDays,
                              int maxCookieSizeBytes,
+                             CompactUidsFormat compactUidsFormat,
+                             boolean writeCompactFormat,
                              JacksonMapper mapper) {
 
         if (maxCookieSizeBytes != 0 && maxCookieSizeBytes < MIN_COOKIE_SIZE_BYTES) {
@@ -62,6 +70,8 @@ public class UidsCookieService {
         this.hostCookieDomain = hostCookieDomain;
         this.ttlSeconds = Duration.ofDays(ttlDays).getSeconds();
         this.maxCookieSizeBytes = maxCookieSizeBytes;
+        this.compactUidsFormat = Objects.requireNonNull(compactUidsFormat);
+        this.writeCompactFormat = writeCompactFormat;
         this.mapper = Objects.requireNonNull(mapper);
     }
 
@@ -111,12 +121,17 @@ public class UidsCookieService {
 
     /**
      * Parses cookies {@link Map} and composes {@link Uids} model.
+     * <p>
+     * Both JSON and compact binary cookie formats are supported.
      */
     public Uids parseUids(Map<String, String> cookies) {
         if (cookies.containsKey(COOKIE_NAME)) {
             final String cookieValue = cookies.get(COOKIE_NAME);
             try {
-                return mapper.decodeValue(Buffer.buffer(Base64.getUrlDecoder().decode(cookieValue)), Uids.class);
+                final byte[] cookieBytes = Base64.getUrlDecoder().decode(cookieValue);
+                return CompactUidsFormat.isCompact(cookieBytes)
+                        ? compactUidsFormat.decode(cookieBytes)
+                        : mapper.decodeValue(Buffer.buffer(cookieBytes), Uids.class);
             } catch (IllegalArgumentException | DecodeException e) {
                 logger.debug("Could not decode or parse {0} cookie value {1}", e, COOKIE_NAME, cookieValue);
             }
@@ -125,24 +140,18 @@ public class UidsCookieService {
     }
 
     /**
-     * Creates a {@link Cookie} with 'uids' as a name and encoded JSON string representing supplied {@link UidsCookie}
+     * Creates a {@link Cookie} with 'uids' as a name and encoded representation of supplied {@link UidsCookie}
      * as a value.
+     * <p>
+     * If encoded value exceeds configured max size, UIDs with the closest expiration are removed until it fits.
      */
     public Cookie toCookie(UidsCookie uidsCookie) {
-        UidsCookie modifiedUids = uidsCookie;
-        byte[] cookieBytes = uidsCookie.toJson().getBytes();
-
-        while (maxCookieSizeBytes > 0 && cookieBytes.length > maxCookieSizeBytes) {
-            final String familyName = modifiedUids.getCookieUids().getUids().entrySet().stream()
-                    .reduce(UidsCookieService::getClosestExpiration)
-                    .map(Map.Entry::getKey)
-                    .orElse(null);
-            modifiedUids = modifiedUids.deleteUid(familyName);
-            cookieBytes = modifiedUids.toJson().getBytes();
-        }
+        final Uids uids = maxCookieSizeBytes > 0
+                ? shrinkToFit(uidsCookie.getCookieUids())
+                : uidsCookie.getCookieUids();
 
         final Cookie cookie = Cookie
-                .cookie(COOKIE_NAME, Base64.getUrlEncoder().encodeToString(cookieBytes))
+                .cookie(COOKIE_NAME, Base64.getUrlEncoder().encodeToString(encode(uids)))
                 .setPath("/")
                 .setMaxAge(ttlSeconds);
 
@@ -153,12 +162,69 @@ public class UidsCookieService {
         return cookie;
     }
 
+    private byte[] encode(Uids uids) {
+        return writeCompactFormat
+                ? compactUidsFormat.encode(uids)
+                : mapper.encode(uids).getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Removes UIDs with the closest expiration from the given {@link Uids} so its encoded size fits the limit.
+     * <p>
+     * Size of each UID is calculated once, so eviction set is determined in one pass over UIDs sorted by expiration.
+     */
+    private Uids shrinkToFit(Uids uids) {
+        final Map<String, UidWithExpiry> uidsMap = uids.getUids();
+        final Map<String, Integer> uidSizes = new HashMap<>(uidsMap.size());
+        int size = writeCompactFormat
+                ? compactUidsFormat.headerSize(uids, uidsMap.size())
+                // UIDs are separated by comma, so there is one separator less than UIDs
+                : mapper.encode(uids.toBuilder().uids(Collections.emptyMap()).build()).length() - 1;
+        for (final Map.Entry<String, UidWithExpiry> entry : uidsMap.entrySet()) {
+            final int uidSize = uidSize(entry.getKey(), entry.getValue());
+            uidSizes.put(entry.getKey(), uidSize);
+            size += uidSize;
+        }
+
+        if (size <= maxCookieSizeBytes) {
+            return uids;
+        }
+
+        final List<Map.Entry<String, UidWithExpiry>> uidsByExpiration = new ArrayList<>(uidsMap.entrySet());
+        uidsByExpiration.sort(Comparator.comparing(entry -> entry.getValue().getExpires(),
+                Comparator.nullsFirst(Comparator.naturalOrder())));
+
+        final Map<String, UidWithExpiry> remainingUids = new HashMap<>(uidsMap);
+        int evicted = 0;
+        while (evicted < uidsByExpiration.size() && size > maxCookieSizeBytes) {
+            final String familyName = uidsByExpiration.get(evicted++).getKey();
+            remainingUids.remove(familyName);
+            size -= uidSizes.get(familyName);
+        }
+
+        Uids result = uids.toBuilder().uids(remainingUids).build();
+
+        // calculated size is an estimation (e.g. separators in JSON), so make sure the result really fits
+        while (evicted < uidsByExpiration.size() && encode(result).length > maxCookieSizeBytes) {
+            remainingUids.remove(uidsByExpiration.get(evicted++).getKey());
+            result = uids.toBuilder().uids(remainingUids).build();
+        }
+
+        return result;
+    }
+
     /**
-     * Returns the Uid with the closest expiration date, e.i. the one that will expire sooner.
+     * Returns the number of bytes the given UID takes in encoded cookie.
      */
-    private static Map.Entry<String, UidWithExpiry> getClosestExpiration(Map.Entry<String, UidWithExpiry> first,
-                                                                         Map.Entry<String, UidWithExpiry> second) {
-        return first.getValue().getExpires().isBefore(second.getValue().getExpires()) ? first : second;
+    private int uidSize(String familyName, UidWithExpiry uidWithExpiry) {
+        if (writeCompactFormat) {
+            return compactUidsFormat.entrySize(familyName, uidWithExpiry);
+        }
+
+        // "family":{...} and comma separator
+        return mapper.encode(familyName).getBytes(StandardCharsets.UTF_8).length
+                + mapper.encode(uidWithExpiry).getBytes(StandardCharsets.UTF_8).length
+                + 2;
     }
 
     /**
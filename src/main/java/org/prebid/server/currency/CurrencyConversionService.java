@@ -1,12 +1,12 @@
 package org.prebid.server.currency;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 import org.apache.commons.collections4.MapUtils;
 import org.apache.commons.lang3.BooleanUtils;
-import org.apache.commons.lang3.ObjectUtils;
 import org.prebid.server.currency.proto.CurrencyConversionRates;
 import org.prebid.server.exception.PreBidException;
 import org.prebid.server.json.JacksonMapper;
@@ -21,8 +21,6 @@ import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.Duration;
 import java.time.ZonedDateTime;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
@@ -36,13 +34,22 @@ public class CurrencyConversionService implements Initializable {
     private static final String DEFAULT_BID_CURRENCY = "USD";
     // This number is chosen because of PriceGranularities default precision value of 2 + 1 for better accuracy
     private static final int DEFAULT_PRICE_PRECISION = 3;
+    private static final int REQUEST_RATES_MATRICES_CACHE_SIZE = 10_000;
 
     private final String currencyServerUrl;
     private final ExternalConversionProperties externalConversionProperties;
     private final JacksonMapper mapper;
 
-    private Map<String, Map<String, BigDecimal>> externalCurrencyRates;
-    private ZonedDateTime lastUpdated;
+    // request rates are the same instance for all bids of the auction, so matrices are cached by identity
+    private final Map<Map<String, Map<String, BigDecimal>>, CurrencyRatesMatrix> requestRatesMatrices =
+            Caffeine.newBuilder()
+                    .weakKeys()
+                    .maximumSize(REQUEST_RATES_MATRICES_CACHE_SIZE)
+                    .<Map<String, Map<String, BigDecimal>>, CurrencyRatesMatrix>build()
+                    .asMap();
+
+    private volatile CurrencyRatesMatrix externalCurrencyRates;
+    private volatile ZonedDateTime lastUpdated;
 
     public CurrencyConversionService(ExternalConversionProperties externalConversionProperties) {
         this.externalConversionProperties = externalConversionProperties;
@@ -109,7 +116,7 @@ public class CurrencyConversionService implements Initializable {
     private Void updateCurrencyRates(CurrencyConversionRates currencyConversionRates) {
         final Map<String, Map<String, BigDecimal>> receivedCurrencyRates = currencyConversionRates.getConversions();
         if (receivedCurrencyRates != null) {
-            externalCurrencyRates = receivedCurrencyRates;
+            externalCurrencyRates = CurrencyRatesMatrix.of(receivedCurrencyRates);
             lastUpdated = now();
         }
 
@@ -156,7 +163,8 @@ public class CurrencyConversionService implements Initializable {
     }
 
     public Map<String, Map<String, BigDecimal>> getExternalCurrencyRates() {
-        return externalCurrencyRates;
+        final CurrencyRatesMatrix currentRates = externalCurrencyRates;
+        return currentRates != null ? currentRates.getRates() : null;
     }
 
     /**
@@ -175,20 +183,19 @@ public class CurrencyConversionService implements Initializable {
             return price;
         }
 
-        final Map<String, Map<String, BigDecimal>> firstPriorityRates;
-        final Map<String, Map<String, BigDecimal>> secondPriorityRates;
-
-        if (BooleanUtils.isFalse(usepbsrates)) {
-            firstPriorityRates = requestCurrencyRates;
-            secondPriorityRates = externalCurrencyRates;
-        } else {
-            firstPriorityRates = externalCurrencyRates;
-            secondPriorityRates = requestCurrencyRates;
+        final boolean useRequestRatesFirst = BooleanUtils.isFalse(usepbsrates);
+        final CurrencyRatesMatrix firstPriorityRates = useRequestRatesFirst
+                ? requestRatesMatrix(requestCurrencyRates)
+                : externalCurrencyRates;
+        BigDecimal conversionRate = conversionRate(firstPriorityRates, adServerCurrency, effectiveBidCurrency);
+        if (conversionRate == null) {
+            // request rates are compiled only if needed
+            final CurrencyRatesMatrix secondPriorityRates = useRequestRatesFirst
+                    ? externalCurrencyRates
+                    : requestRatesMatrix(requestCurrencyRates);
+            conversionRate = conversionRate(secondPriorityRates, adServerCurrency, effectiveBidCurrency);
         }
 
-        final BigDecimal conversionRate = getConversionRateByPriority(firstPriorityRates, secondPriorityRates,
-                adServerCurrency, effectiveBidCurrency);
-
         if (conversionRate == null) {
             throw new PreBidException(
                     String.format("Unable to convert bid currency %s to desired ad server currency %s",
@@ -199,87 +206,17 @@ public class CurrencyConversionService implements Initializable {
     }
 
     /**
-     * Returns conversion rate from the given currency rates according to priority.
+     * Returns compiled matrix of currency rates passed in request.
      */
-    private static BigDecimal getConversionRateByPriority(Map<String, Map<String, BigDecimal>> firstPriorityRates,
-                                                          Map<String, Map<String, BigDecimal>> secondPriorityRates,
-                                                          String adServerCurrency,
-                                                          String effectiveBidCurrency) {
-
-        return ObjectUtils.defaultIfNull(
-                getConversionRate(firstPriorityRates, adServerCurrency, effectiveBidCurrency),
-                getConversionRate(secondPriorityRates, adServerCurrency, effectiveBidCurrency));
-    }
-
-    /**
-     * Looking for rates for adServerCurrency - bidCurrency pair, using such approaches as straight, reverse and
-     * intermediate rates.
-     */
-    private static BigDecimal getConversionRate(Map<String, Map<String, BigDecimal>> currencyConversionRates,
-                                                String adServerCurrency, String bidCurrency) {
-        if (MapUtils.isEmpty(currencyConversionRates)) {
-            return null;
-        }
-
-        BigDecimal conversionRate;
-        final Map<String, BigDecimal> serverCurrencyRates = currencyConversionRates.get(adServerCurrency);
-
-        conversionRate = serverCurrencyRates != null ? serverCurrencyRates.get(bidCurrency) : null;
-        if (conversionRate != null) {
-            return conversionRate;
-        }
-
-        final Map<String, BigDecimal> bidCurrencyRates = currencyConversionRates.get(bidCurrency);
-        conversionRate = findReverseConversionRate(bidCurrencyRates, adServerCurrency);
-        if (conversionRate != null) {
-            return conversionRate;
-        }
-
-        return findIntermediateConversionRate(serverCurrencyRates, bidCurrencyRates);
-    }
-
-    /**
-     * Finds reverse conversion rate.
-     * If pair USD : EUR - 1.2 is present and EUR to USD conversion is needed, will return 1/1.2 conversion rate.
-     */
-    private static BigDecimal findReverseConversionRate(Map<String, BigDecimal> bidCurrencyRates,
-                                                        String adServerCurrency) {
-        final BigDecimal reverseConversionRate = bidCurrencyRates != null
-                ? bidCurrencyRates.get(adServerCurrency)
-                : null;
-
-        return reverseConversionRate != null
-                ? BigDecimal.ONE.divide(reverseConversionRate, reverseConversionRate.precision(),
-                RoundingMode.HALF_EVEN)
+    private CurrencyRatesMatrix requestRatesMatrix(Map<String, Map<String, BigDecimal>> requestCurrencyRates) {
+        return MapUtils.isNotEmpty(requestCurrencyRates)
+                ? requestRatesMatrices.computeIfAbsent(requestCurrencyRates, CurrencyRatesMatrix::of)
                 : null;
     }
 
-    /**
-     * Finds intermediate conversion rate.
-     * If pairs USD : AUD - 1.2 and EUR : AUD - 1.5 are present, and EUR to USD conversion is needed, will return
-     * (1/1.5) * 1.2 conversion rate.
-     */
-    private static BigDecimal findIntermediateConversionRate(Map<String, BigDecimal> adServerCurrencyRates,
-                                                             Map<String, BigDecimal> bidCurrencyRates) {
-        BigDecimal conversionRate = null;
-        if (MapUtils.isNotEmpty(adServerCurrencyRates) && MapUtils.isNotEmpty(bidCurrencyRates)) {
-            final List<String> sharedCurrencies = new ArrayList<>(adServerCurrencyRates.keySet());
-            sharedCurrencies.retainAll(bidCurrencyRates.keySet());
-
-            if (!sharedCurrencies.isEmpty()) {
-                // pick any found shared currency
-                final String sharedCurrency = sharedCurrencies.get(0);
-                final BigDecimal adServerCurrencyRateIntermediate = adServerCurrencyRates.get(sharedCurrency);
-                final BigDecimal bidCurrencyRateIntermediate = bidCurrencyRates.get(sharedCurrency);
-                conversionRate = adServerCurrencyRateIntermediate.divide(bidCurrencyRateIntermediate,
-                        // chose largest precision among intermediate rates
-                        bidCurrencyRateIntermediate.compareTo(adServerCurrencyRateIntermediate) > 0
-                                ? bidCurrencyRateIntermediate.precision()
-                                : adServerCurrencyRateIntermediate.precision(),
-                        RoundingMode.HALF_EVEN);
-            }
-        }
-        return conversionRate;
+    private static BigDecimal conversionRate(CurrencyRatesMatrix currencyRatesMatrix, String adServerCurrency,
+                                             String bidCurrency) {
+        return currencyRatesMatrix != null ? currencyRatesMatrix.conversionRate(adServerCurrency, bidCurrency) : null;
     }
 
     private boolean isRatesStale() {
@@ -0,0 +1,153 @@
+package org.prebid.server.currency;
+
+import org.apache.commons.collections4.MapUtils;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable snapshot of currency rates compiled into dense matrix of conversion rates between every pair of known
+ * currencies.
+ * <p>
+ * Direct, reverse and intermediate rates are resolved once when matrix is built, so looking up the rate is just
+ * two array accesses by currency ordinals and does not allocate.
+ */
+public class CurrencyRatesMatrix {
+
+    private static final CurrencyRatesMatrix EMPTY = new CurrencyRatesMatrix(Collections.emptyMap());
+
+    private final Map<String, Map<String, BigDecimal>> rates;
+    private final Map<String, Integer> ordinals;
+    private final BigDecimal[][] conversionRates;
+
+    private CurrencyRatesMatrix(Map<String, Map<String, BigDecimal>> rates) {
+        this.rates = rates;
+
+        final List<String> currencies = new ArrayList<>();
+        final Map<String, Integer> currencyOrdinals = new HashMap<>();
+        rates.forEach((currency, currencyRates) -> {
+            addCurrency(currency, currencies, currencyOrdinals);
+            if (currencyRates != null) {
+                currencyRates.keySet().forEach(rateCurrency -> addCurrency(rateCurrency, currencies, currencyOrdinals));
+            }
+        });
+        ordinals = Collections.unmodifiableMap(currencyOrdinals);
+
+        final int size = currencies.size();
+        conversionRates = new BigDecimal[size][size];
+        for (int from = 0; from < size; from++) {
+            for (int to = 0; to < size; to++) {
+                if (from != to) {
+                    conversionRates[from][to] = resolveConversionRate(rates, currencies.get(from), currencies.get(to));
+                }
+            }
+        }
+    }
+
+    /**
+     * Compiles given currency rates into matrix. Rates map must not be modified afterwards.
+     */
+    public static CurrencyRatesMatrix of(Map<String, Map<String, BigDecimal>> rates) {
+        return MapUtils.isEmpty(rates) ? EMPTY : new CurrencyRatesMatrix(rates);
+    }
+
+    /**
+     * Returns currency rates the matrix was compiled from.
+     */
+    public Map<String, Map<String, BigDecimal>> getRates() {
+        return rates;
+    }
+
+    /**
+     * Returns rate to convert price in bid currency to ad server currency by dividing on it, or null if there is
+     * no such rate.
+     */
+    public BigDecimal conversionRate(String adServerCurrency, String bidCurrency) {
+        final Integer from = ordinals.get(adServerCurrency);
+        final Integer to = from != null ? ordinals.get(bidCurrency) : null;
+        return to != null ? conversionRates[from][to] : null;
+    }
+
+    private static void addCurrency(String currency, List<String> currencies, Map<String, Integer> ordinals) {
+        if (currency != null && !ordinals.containsKey(currency)) {
+            ordinals.put(currency, currencies.size());
+            currencies.add(currency);
+        }
+    }
+
+    /**
+     * Looking for rates for adServerCurrency - bidCurrency pair, using such approaches as straight, reverse and
+     * intermediate rates.
+     * <p>
+     * Unusable rates, e.g. zero ones, are treated as absent.
+     */
+    private static BigDecimal resolveConversionRate(Map<String, Map<String, BigDecimal>> currencyConversionRates,
+                                                    String adServerCurrency, String bidCurrency) {
+        final Map<String, BigDecimal> serverCurrencyRates = currencyConversionRates.get(adServerCurrency);
+        final BigDecimal conversionRate = serverCurrencyRates != null ? serverCurrencyRates.get(bidCurrency) : null;
+        if (conversionRate != null) {
+            return conversionRate.signum() != 0 ? conversionRate : null;
+        }
+
+        try {
+            final Map<String, BigDecimal> bidCurrencyRates = currencyConversionRates.get(bidCurrency);
+            final BigDecimal reverseConversionRate = findReverseConversionRate(bidCurrencyRates, adServerCurrency);
+            return reverseConversionRate != null
+                    ? reverseConversionRate
+                    : findIntermediateConversionRate(serverCurrencyRates, bidCurrencyRates);
+        } catch (ArithmeticException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Finds reverse conversion rate.
+     * If pair USD : EUR - 1.2 is present and EUR to USD conversion is needed, will return 1/1.2 conversion rate.
+     */
+    private static BigDecimal findReverseConversionRate(Map<String, BigDecimal> bidCurrencyRates,
+                                                        String adServerCurrency) {
+        final BigDecimal reverseConversionRate = bidCurrencyRates != null
+                ? bidCurrencyRates.get(adServerCurrency)
+                : null;
+
+        return reverseConversionRate != null
+                ? BigDecimal.ONE.divide(reverseConversionRate, reverseConversionRate.precision(),
+                RoundingMode.HALF_EVEN)
+                : null;
+    }
+
+    /**
+     * Finds intermediate conversion rate.
+     * If pairs USD : AUD - 1.2 and EUR : AUD - 1.5 are present, and EUR to USD conversion is needed, will return
+     * (1/1.5) * 1.2 conversion rate.
+     */
+    private static BigDecimal findIntermediateConversionRate(Map<String, BigDecimal> adServerCurrencyRates,
+                                                             Map<String, BigDecimal> bidCurrencyRates) {
+        BigDecimal conversionRate = null;
+        if (MapUtils.isNotEmpty(adServerCurrencyRates) && MapUtils.isNotEmpty(bidCurrencyRates)) {
+            final List<String> sharedCurrencies = new ArrayList<>(adServerCurrencyRates.keySet());
+            sharedCurrencies.retainAll(bidCurrencyRates.keySet());
+
+            if (!sharedCurrencies.isEmpty()) {
+                // pick any found shared currency
+                final String sharedCurrency = sharedCurrencies.get(0);
+                final BigDecimal adServerCurrencyRateIntermediate = adServerCurrencyRates.get(sharedCurrency);
+                final BigDecimal bidCurrencyRateIntermediate = bidCurrencyRates.get(sharedCurrency);
+                if (adServerCurrencyRateIntermediate != null && bidCurrencyRateIntermediate != null) {
+                    conversionRate = adServerCurrencyRateIntermediate.divide(bidCurrencyRateIntermediate,
+                            // chose largest precision among intermediate rates
+                            bidCurrencyRateIntermediate.compareTo(adServerCurrencyRateIntermediate) > 0
+                                    ? bidCurrencyRateIntermediate.precision()
+                                    : adServerCurrencyRateIntermediate.precision(),
+                            RoundingMode.HALF_EVEN);
+                }
+            }
+        }
+        return conversionRate != null && conversionRate.signum() != 0 ? conversionRate : null;
+    }
+}
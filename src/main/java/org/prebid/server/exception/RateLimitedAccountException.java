@@ -0,0 +1,15 @@
+package org.prebid.server.exception;
+
+import lombok.Getter;
+
+@SuppressWarnings("serial")
+public class RateLimitedAccountException extends RuntimeException {
+
+    @Getter
+    private final String accountId;
+
+    public RateLimitedAccountException(String message, String accountId) {
+        super(message);
+        this.accountId = accountId;
+    }
+}
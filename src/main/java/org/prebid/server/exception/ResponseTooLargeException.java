@@ -0,0 +1,12 @@
+package org.prebid.server.exception;
+
+/**
+ * Thrown when HTTP response body exceeds maximum allowed size, so it is not read completely.
+ */
+@SuppressWarnings("serial")
+public class ResponseTooLargeException extends RuntimeException {
+
+    public ResponseTooLargeException(String message) {
+        super(message);
+    }
+}
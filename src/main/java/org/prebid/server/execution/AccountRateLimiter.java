@@ -0,0 +1,147 @@
+package org.prebid.server.execution;
+
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.settings.model.Account;
+import org.prebid.server.settings.model.AccountRateLimitConfig;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Enforces per-account limits configured by {@link AccountRateLimitConfig}: rate of requests and number of requests
+ * processed at the same time.
+ * <p>
+ * Rate is limited with token buckets striped per Vert.x context: each context serving requests owns its own bucket
+ * per account with the configured rate and burst divided by number of stripes, so buckets are accessed by a single
+ * thread and need no synchronization. Concurrent requests are counted per account across all contexts.
+ */
+public class AccountRateLimiter {
+
+    private static final String BUCKETS_CONTEXT_KEY = AccountRateLimiter.class.getName() + ".buckets";
+
+    private final int stripes;
+
+    // used for requests handled outside of Vert.x context, guarded by itself
+    private final Map<String, TokenBucket> fallbackBuckets = new HashMap<>();
+    private final Map<String, AtomicInteger> concurrentRequests = new ConcurrentHashMap<>();
+
+    public AccountRateLimiter(int stripes) {
+        if (stripes <= 0) {
+            throw new IllegalArgumentException("Number of rate limiter stripes must be positive");
+        }
+
+        this.stripes = stripes;
+    }
+
+    /**
+     * Returns the limit request of the given account exceeds or null if request is acquired. Acquired request
+     * must be released with {@link #release(Account)} once it is processed.
+     */
+    public MetricName tryAcquire(Account account) {
+        final AccountRateLimitConfig config = account.getRateLimits();
+        if (config == null) {
+            return null;
+        }
+
+        final AtomicInteger concurrent = isConcurrencyLimited(config)
+                ? concurrentRequests.computeIfAbsent(account.getId(), ignored -> new AtomicInteger())
+                : null;
+        if (concurrent != null && concurrent.incrementAndGet() > config.getMaxConcurrentRequests()) {
+            concurrent.decrementAndGet();
+            return MetricName.concurrency_limited;
+        }
+
+        final Integer requestsPerSecond = config.getRequestsPerSecond();
+        if (requestsPerSecond != null && requestsPerSecond > 0 && !tryConsumeToken(account.getId(), config)) {
+            if (concurrent != null) {
+                concurrent.decrementAndGet();
+            }
+            return MetricName.rate_limited;
+        }
+
+        return null;
+    }
+
+    /**
+     * Releases request acquired by {@link #tryAcquire(Account)}, the same account instance must be passed.
+     */
+    public void release(Account account) {
+        if (isConcurrencyLimited(account.getRateLimits())) {
+            concurrentRequests.get(account.getId()).decrementAndGet();
+        }
+    }
+
+    private static boolean isConcurrencyLimited(AccountRateLimitConfig config) {
+        final Integer maxConcurrentRequests = config != null ? config.getMaxConcurrentRequests() : null;
+        return maxConcurrentRequests != null && maxConcurrentRequests > 0;
+    }
+
+    private boolean tryConsumeToken(String accountId, AccountRateLimitConfig config) {
+        final Context context = Vertx.currentContext();
+        if (context == null) {
+            synchronized (fallbackBuckets) {
+                return bucket(fallbackBuckets, accountId, config).tryConsume(System.nanoTime());
+            }
+        }
+
+        Map<String, TokenBucket> buckets = context.get(BUCKETS_CONTEXT_KEY);
+        if (buckets == null) {
+            buckets = new HashMap<>();
+            context.put(BUCKETS_CONTEXT_KEY, buckets);
+        }
+        return bucket(buckets, accountId, config).tryConsume(System.nanoTime());
+    }
+
+    /**
+     * Returns bucket of the account, creates it if absent or account limits have changed since bucket creation.
+     */
+    private TokenBucket bucket(Map<String, TokenBucket> buckets, String accountId, AccountRateLimitConfig config) {
+        final TokenBucket bucket = buckets.get(accountId);
+        if (bucket != null && bucket.config.equals(config)) {
+            return bucket;
+        }
+
+        final TokenBucket newBucket = new TokenBucket(config, stripes);
+        buckets.put(accountId, newBucket);
+        return newBucket;
+    }
+
+    private static class TokenBucket {
+
+        private final AccountRateLimitConfig config;
+        private final double tokensPerNano;
+        private final double capacity;
+
+        private double tokens;
+        private long lastRefillTime;
+
+        TokenBucket(AccountRateLimitConfig config, int stripes) {
+            this.config = config;
+
+            final double requestsPerSecond = (double) config.getRequestsPerSecond() / stripes;
+            final Integer burst = config.getBurst();
+            tokensPerNano = requestsPerSecond / TimeUnit.SECONDS.toNanos(1);
+            // stripe should be able to pass at least one request
+            capacity = Math.max(burst != null && burst > 0 ? (double) burst / stripes : requestsPerSecond, 1.0);
+
+            tokens = capacity;
+            lastRefillTime = System.nanoTime();
+        }
+
+        boolean tryConsume(long now) {
+            tokens = Math.min(capacity, tokens + (now - lastRefillTime) * tokensPerNano);
+            lastRefillTime = now;
+
+            if (tokens < 1.0) {
+                return false;
+            }
+            tokens -= 1.0;
+            return true;
+        }
+    }
+}
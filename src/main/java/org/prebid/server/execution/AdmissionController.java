@@ -0,0 +1,123 @@
+package org.prebid.server.execution;
+
+import io.vertx.core.Vertx;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.vertx.EventLoopMonitor;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Decides whether incoming auction request should be processed or shed right away to keep the server responsive
+ * under overload.
+ * <p>
+ * Load is judged by three signals: lag of the event loop handling the request, number of auctions in flight and
+ * rate of bidder timeouts within the recent window. Request is shed as soon as any signal reaches its limit
+ * scaled by request {@link Priority}, so low priority traffic is shed first. Non-positive limit disables the signal.
+ */
+public class AdmissionController {
+
+    private final EventLoopMonitor eventLoopMonitor;
+    private final long maxEventLoopLagNanos;
+    private final int maxInFlight;
+    private final double maxBidderTimeoutRate;
+    private final long minBidderResponses;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder bidderResponses = new LongAdder();
+    private final LongAdder bidderTimeouts = new LongAdder();
+    private volatile double bidderTimeoutRate;
+
+    public AdmissionController(Vertx vertx,
+                               EventLoopMonitor eventLoopMonitor,
+                               long maxEventLoopLagMs,
+                               int maxInFlight,
+                               double maxBidderTimeoutRate,
+                               long bidderTimeoutRateWindowMs,
+                               long minBidderResponses) {
+
+        if (bidderTimeoutRateWindowMs <= 0) {
+            throw new IllegalArgumentException("Bidder timeout rate window must be positive");
+        }
+
+        this.eventLoopMonitor = eventLoopMonitor;
+        this.maxEventLoopLagNanos = TimeUnit.MILLISECONDS.toNanos(maxEventLoopLagMs);
+        this.maxInFlight = maxInFlight;
+        this.maxBidderTimeoutRate = maxBidderTimeoutRate;
+        this.minBidderResponses = minBidderResponses;
+
+        Objects.requireNonNull(vertx).setPeriodic(bidderTimeoutRateWindowMs, ignored -> updateBidderTimeoutRate());
+    }
+
+    /**
+     * Returns the signal request with the given priority should be shed because of, or null if it can be admitted.
+     */
+    public MetricName shedReason(Priority priority) {
+        final double threshold = priority.threshold;
+
+        if (maxEventLoopLagNanos > 0 && eventLoopMonitor != null
+                && eventLoopMonitor.currentEventLoopLagNanos() >= maxEventLoopLagNanos * threshold) {
+            return MetricName.event_loop_lag;
+        }
+        if (maxInFlight > 0 && inFlight.get() >= maxInFlight * threshold) {
+            return MetricName.in_flight;
+        }
+        if (maxBidderTimeoutRate > 0 && bidderTimeoutRate >= maxBidderTimeoutRate * threshold) {
+            return MetricName.bidder_timeout_rate;
+        }
+        return null;
+    }
+
+    /**
+     * Registers admitted request as being in flight, should be followed by {@link #release()} once it is done.
+     */
+    public void admit() {
+        inFlight.incrementAndGet();
+    }
+
+    public void release() {
+        inFlight.decrementAndGet();
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * Accounts response from bidder in the current bidder timeout rate window.
+     */
+    public void recordBidderResponse(boolean timedOut) {
+        bidderResponses.increment();
+        if (timedOut) {
+            bidderTimeouts.increment();
+        }
+    }
+
+    public double bidderTimeoutRate() {
+        return bidderTimeoutRate;
+    }
+
+    void updateBidderTimeoutRate() {
+        final long timeouts = bidderTimeouts.sumThenReset();
+        final long responses = bidderResponses.sumThenReset();
+
+        // too few responses to judge, e.g. when everything is shed
+        bidderTimeoutRate = responses > 0 && responses >= minBidderResponses ? (double) timeouts / responses : 0.0;
+    }
+
+    /**
+     * Priority of request defines the share of signal limits it is admitted within.
+     */
+    public enum Priority {
+
+        low(0.75), normal(0.9), high(1.0);
+
+        private final double threshold;
+
+        Priority(double threshold) {
+            this.threshold = threshold;
+        }
+    }
+}
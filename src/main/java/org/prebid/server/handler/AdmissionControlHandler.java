@@ -0,0 +1,70 @@
+package org.prebid.server.handler;
+
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.vertx.core.Handler;
+import io.vertx.ext.web.RoutingContext;
+import org.prebid.server.execution.AdmissionController;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.util.HttpUtil;
+
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Guards auction endpoint with {@link AdmissionController}: either passes request to the next handler keeping track
+ * of it while in flight or responds immediately with configured status if request is shed.
+ * <p>
+ * Request priority is taken from account priorities if account is passed in query string (as AMP requests do),
+ * otherwise the endpoint priority is used.
+ * <p>
+ * Intended to be registered before body handler, so body of shed request is not read. Admitted request is released
+ * once response is ended or connection is closed, with handler registered next to others tracking the same request
+ * (see {@link HttpUtil#addResponseEndHandler}).
+ */
+public class AdmissionControlHandler implements Handler<RoutingContext> {
+
+    private static final String ACCOUNT_PARAM = "account";
+
+    private final AdmissionController admissionController;
+    private final MetricName endpoint;
+    private final AdmissionController.Priority endpointPriority;
+    private final Map<String, AdmissionController.Priority> accountPriorities;
+    private final HttpResponseStatus shedStatus;
+    private final Metrics metrics;
+
+    public AdmissionControlHandler(AdmissionController admissionController,
+                                   MetricName endpoint,
+                                   AdmissionController.Priority endpointPriority,
+                                   Map<String, AdmissionController.Priority> accountPriorities,
+                                   HttpResponseStatus shedStatus,
+                                   Metrics metrics) {
+
+        this.admissionController = Objects.requireNonNull(admissionController);
+        this.endpoint = Objects.requireNonNull(endpoint);
+        this.endpointPriority = Objects.requireNonNull(endpointPriority);
+        this.accountPriorities = Objects.requireNonNull(accountPriorities);
+        this.shedStatus = Objects.requireNonNull(shedStatus);
+        this.metrics = Objects.requireNonNull(metrics);
+    }
+
+    @Override
+    public void handle(RoutingContext context) {
+        final MetricName shedReason = admissionController.shedReason(resolvePriority(context));
+        if (shedReason != null) {
+            metrics.updateAdmissionShedMetric(endpoint, shedReason);
+            context.response().setStatusCode(shedStatus.code()).end();
+            return;
+        }
+
+        admissionController.admit();
+        HttpUtil.addResponseEndHandler(context, ignored -> admissionController.release());
+        context.next();
+    }
+
+    private AdmissionController.Priority resolvePriority(RoutingContext context) {
+        final String account = accountPriorities.isEmpty() ? null : context.request().getParam(ACCOUNT_PARAM);
+        final AdmissionController.Priority accountPriority = account != null ? accountPriorities.get(account) : null;
+        return accountPriority != null ? accountPriority : endpointPriority;
+    }
+}
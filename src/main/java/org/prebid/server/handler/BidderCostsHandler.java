@@ -0,0 +1,41 @@
+package org.prebid.server.handler;
+
+import io.netty.handler.codec.http.HttpHeaderValues;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.vertx.core.Handler;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+import io.vertx.ext.web.RoutingContext;
+import org.prebid.server.bidder.BidderStageProfiler;
+import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.util.HttpUtil;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * Handles HTTP request for bidders ranking by CPU cost of request building and response parsing per auction.
+ */
+public class BidderCostsHandler implements Handler<RoutingContext> {
+
+    private static final Logger logger = LoggerFactory.getLogger(BidderCostsHandler.class);
+
+    private final BidderStageProfiler bidderStageProfiler;
+    private final JacksonMapper mapper;
+
+    public BidderCostsHandler(BidderStageProfiler bidderStageProfiler, JacksonMapper mapper) {
+        this.bidderStageProfiler = Objects.requireNonNull(bidderStageProfiler);
+        this.mapper = Objects.requireNonNull(mapper);
+    }
+
+    @Override
+    public void handle(RoutingContext context) {
+        try {
+            context.response().headers().add(HttpUtil.CONTENT_TYPE_HEADER, HttpHeaderValues.APPLICATION_JSON);
+            context.response().end(mapper.mapper().writeValueAsString(bidderStageProfiler.bidderCosts()));
+        } catch (IOException e) {
+            logger.error("Critical error when marshaling bidder costs response", e);
+            context.response().setStatusCode(HttpResponseStatus.INTERNAL_SERVER_ERROR.code()).end();
+        }
+    }
+}
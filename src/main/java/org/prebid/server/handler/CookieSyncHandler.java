@@ -9,7 +9,6 @@ import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 import io.vertx.ext.web.RoutingContext;
 import org.apache.commons.collections4.CollectionUtils;
-import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.analytics.AnalyticsReporter;
 import org.prebid.server.analytics.model.CookieSyncEvent;
@@ -17,6 +16,7 @@ import org.prebid.server.auction.PrivacyEnforcementService;
 import org.prebid.server.auction.model.Tuple2;
 import org.prebid.server.bidder.BidderCatalog;
 import org.prebid.server.bidder.UsersyncInfoAssembler;
+import org.prebid.server.bidder.UsersyncInfoCache;
 import org.prebid.server.bidder.Usersyncer;
 import org.prebid.server.cookie.UidsCookie;
 import org.prebid.server.cookie.UidsCookieService;
@@ -63,6 +63,7 @@ public class CookieSyncHandler implements Handler<RoutingContext> {
     private final UidsCookieService uidsCookieService;
     private final ApplicationSettings applicationSettings;
     private final BidderCatalog bidderCatalog;
+    private final UsersyncInfoCache usersyncInfoCache;
     private final Set<String> activeBidders;
     private final TcfDefinerService tcfDefinerService;
     private final PrivacyEnforcementService privacyEnforcementService;
@@ -79,6 +80,7 @@ public class CookieSyncHandler implements Handler<RoutingContext> {
                              UidsCookieService uidsCookieService,
                              ApplicationSettings applicationSettings,
                              BidderCatalog bidderCatalog,
+                             UsersyncInfoCache usersyncInfoCache,
                              TcfDefinerService tcfDefinerService,
                              PrivacyEnforcementService privacyEnforcementService,
                              Integer gdprHostVendorId,
@@ -94,6 +96,7 @@ public class CookieSyncHandler implements Handler<RoutingContext> {
         this.uidsCookieService = Objects.requireNonNull(uidsCookieService);
         this.applicationSettings = Objects.requireNonNull(applicationSettings);
         this.bidderCatalog = Objects.requireNonNull(bidderCatalog);
+        this.usersyncInfoCache = Objects.requireNonNull(usersyncInfoCache);
         this.activeBidders = activeBidders(bidderCatalog);
         this.tcfDefinerService = Objects.requireNonNull(tcfDefinerService);
         this.privacyEnforcementService = Objects.requireNonNull(privacyEnforcementService);
@@ -434,14 +437,21 @@ public class CookieSyncHandler implements Handler<RoutingContext> {
                 return null;
             }
 
+            final String cookieFamilyName = usersyncer.getCookieFamilyName();
+            final boolean hasLiveUid = uidsCookie.hasLiveUidFrom(cookieFamilyName);
+            if (hasLiveUid && !Objects.equals(cookieFamilyName, uidsCookieService.getHostCookieFamily())) {
+                // already synced, only host bidder uid may need to be updated from host cookie
+                return null;
+            }
+
             final UsersyncInfo hostBidderUsersyncInfo = hostBidderUsersyncInfo(context, privacy, usersyncer);
 
-            if (hostBidderUsersyncInfo != null || !uidsCookie.hasLiveUidFrom(usersyncer.getCookieFamilyName())) {
+            if (hostBidderUsersyncInfo != null || !hasLiveUid) {
                 return bidderStatusBuilder(bidder)
                         .noCookie(true)
-                        .usersync(ObjectUtils.defaultIfNull(
-                                hostBidderUsersyncInfo,
-                                UsersyncInfoAssembler.from(usersyncer).withPrivacy(privacy).assemble()))
+                        .usersync(hostBidderUsersyncInfo != null
+                                ? hostBidderUsersyncInfo
+                                : usersyncInfoCache.usersyncInfoFor(usersyncer, privacy))
                         .build();
             }
         }
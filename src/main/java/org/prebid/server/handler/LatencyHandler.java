@@ -0,0 +1,117 @@
+package org.prebid.server.handler;
+
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Snapshot;
+import com.codahale.metrics.Timer;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.vertx.core.Handler;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+import io.vertx.ext.web.RoutingContext;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.util.HttpUtil;
+import org.prebid.server.vertx.EventLoopMonitor;
+import org.prebid.server.vertx.model.BlockedTaskSample;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Handles HTTP request for auction latency breakdown: per-stage latency percentiles, event loop lag and
+ * the most recent stack traces of blocked event loop threads.
+ */
+public class LatencyHandler implements Handler<RoutingContext> {
+
+    private static final Logger logger = LoggerFactory.getLogger(LatencyHandler.class);
+
+    private static final String AUCTION_STAGE_PREFIX = "auction.stage.";
+    private static final String EVENT_LOOP_LAG = "event_loop.lag";
+
+    private static final double NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final MetricRegistry metricRegistry;
+    private final EventLoopMonitor eventLoopMonitor;
+    private final JacksonMapper mapper;
+
+    public LatencyHandler(MetricRegistry metricRegistry, EventLoopMonitor eventLoopMonitor, JacksonMapper mapper) {
+        this.metricRegistry = Objects.requireNonNull(metricRegistry);
+        this.eventLoopMonitor = eventLoopMonitor;
+        this.mapper = Objects.requireNonNull(mapper);
+    }
+
+    @Override
+    public void handle(RoutingContext context) {
+        final Map<String, Timer> timers = metricRegistry.getTimers();
+
+        final Map<String, LatencyStats> stages = new TreeMap<>();
+        timers.forEach((name, timer) -> {
+            if (name.startsWith(AUCTION_STAGE_PREFIX)) {
+                stages.put(name.substring(AUCTION_STAGE_PREFIX.length()), toLatencyStats(timer));
+            }
+        });
+
+        final Timer eventLoopLag = timers.get(EVENT_LOOP_LAG);
+        final List<BlockedTaskSample> blockedTasks = eventLoopMonitor != null
+                ? eventLoopMonitor.blockedTaskSamples()
+                : Collections.emptyList();
+
+        try {
+            context.response().headers().add(HttpUtil.CONTENT_TYPE_HEADER, HttpHeaderValues.APPLICATION_JSON);
+            context.response().end(mapper.mapper().writeValueAsString(Response.of(
+                    stages,
+                    eventLoopLag != null ? toLatencyStats(eventLoopLag) : null,
+                    blockedTasks)));
+        } catch (IOException e) {
+            logger.error("Critical error when marshaling latency response", e);
+            context.response().setStatusCode(HttpResponseStatus.INTERNAL_SERVER_ERROR.code()).end();
+        }
+    }
+
+    private static LatencyStats toLatencyStats(Timer timer) {
+        final Snapshot snapshot = timer.getSnapshot();
+        return LatencyStats.of(
+                timer.getCount(),
+                toMillis(snapshot.getMedian()),
+                toMillis(snapshot.get95thPercentile()),
+                toMillis(snapshot.get99thPercentile()),
+                toMillis(snapshot.getMax()));
+    }
+
+    private static double toMillis(double nanos) {
+        return Math.round(nanos / NANOS_PER_MILLI * 1000) / 1000.0;
+    }
+
+    @AllArgsConstructor(staticName = "of")
+    @Value
+    private static class Response {
+
+        Map<String, LatencyStats> stages;
+
+        LatencyStats eventLoopLag;
+
+        List<BlockedTaskSample> blockedTasks;
+    }
+
+    @AllArgsConstructor(staticName = "of")
+    @Value
+    private static class LatencyStats {
+
+        long count;
+
+        double p50Ms;
+
+        double p95Ms;
+
+        double p99Ms;
+
+        double maxMs;
+    }
+}
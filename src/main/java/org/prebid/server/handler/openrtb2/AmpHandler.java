@@ -34,6 +34,7 @@ import org.prebid.server.exception.BlacklistedAccountException;
 import org.prebid.server.exception.BlacklistedAppException;
 import org.prebid.server.exception.InvalidRequestException;
 import org.prebid.server.exception.PreBidException;
+import org.prebid.server.exception.RateLimitedAccountException;
 import org.prebid.server.exception.UnauthorizedAccountException;
 import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.log.ConditionalLogger;
@@ -325,6 +326,14 @@ public class AmpHandler implements Handler<RoutingContext> {
                 body = message;
                 String accountId = ((UnauthorizedAccountException) exception).getAccountId();
                 metrics.updateAccountRequestRejectedMetrics(accountId);
+            } else if (exception instanceof RateLimitedAccountException) {
+                metricRequestStatus = MetricName.rate_limited;
+                final String message = exception.getMessage();
+                logger.debug(message);
+
+                errorMessages = Collections.singletonList(message);
+                status = HttpResponseStatus.TOO_MANY_REQUESTS.code();
+                body = message;
             } else if (exception instanceof BlacklistedAppException
                     || exception instanceof BlacklistedAccountException) {
                 metricRequestStatus = exception instanceof BlacklistedAccountException
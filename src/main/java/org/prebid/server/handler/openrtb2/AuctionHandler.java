@@ -21,6 +21,7 @@ import org.prebid.server.cookie.UidsCookie;
 import org.prebid.server.exception.BlacklistedAccountException;
 import org.prebid.server.exception.BlacklistedAppException;
 import org.prebid.server.exception.InvalidRequestException;
+import org.prebid.server.exception.RateLimitedAccountException;
 import org.prebid.server.exception.UnauthorizedAccountException;
 import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.log.ConditionalLogger;
@@ -110,6 +111,7 @@ public class AuctionHandler implements Handler<RoutingContext> {
     private void handleResult(AsyncResult<Tuple2<BidResponse, AuctionContext>> responseResult,
                               AuctionEvent.AuctionEventBuilder auctionEventBuilder, RoutingContext routingContext,
                               long startTime) {
+        final long responseStartTime = System.nanoTime();
         final boolean responseSucceeded = responseResult.succeeded();
         final AuctionContext auctionContext = responseSucceeded ? responseResult.result().getRight() : null;
 
@@ -155,6 +157,14 @@ public class AuctionHandler implements Handler<RoutingContext> {
                 body = message;
                 final String accountId = ((UnauthorizedAccountException) exception).getAccountId();
                 metrics.updateAccountRequestRejectedMetrics(accountId);
+            } else if (exception instanceof RateLimitedAccountException) {
+                metricRequestStatus = MetricName.rate_limited;
+                final String message = exception.getMessage();
+                logger.debug(message);
+
+                errorMessages = Collections.singletonList(message);
+                status = HttpResponseStatus.TOO_MANY_REQUESTS.code();
+                body = message;
             } else if (exception instanceof BlacklistedAppException
                     || exception instanceof BlacklistedAccountException) {
                 metricRequestStatus = exception instanceof BlacklistedAccountException
@@ -178,13 +188,14 @@ public class AuctionHandler implements Handler<RoutingContext> {
         }
 
         final AuctionEvent auctionEvent = auctionEventBuilder.status(status).errors(errorMessages).build();
-        respondWith(routingContext, status, body, startTime, requestType, metricRequestStatus, auctionEvent);
+        respondWith(routingContext, status, body, startTime, responseStartTime, requestType, metricRequestStatus,
+                auctionEvent);
 
         httpInteractionLogger.maybeLogOpenrtb2Auction(auctionContext, routingContext, status, body);
     }
 
-    private void respondWith(RoutingContext context, int status, String body, long startTime, MetricName requestType,
-                             MetricName metricRequestStatus, AuctionEvent event) {
+    private void respondWith(RoutingContext context, int status, String body, long startTime, long responseStartTime,
+                             MetricName requestType, MetricName metricRequestStatus, AuctionEvent event) {
         // don't send the response if client has gone
         if (context.response().closed()) {
             logger.warn("The client already closed connection, response will be skipped");
@@ -195,6 +206,7 @@ public class AuctionHandler implements Handler<RoutingContext> {
                     .setStatusCode(status)
                     .end(body);
 
+            metrics.updateAuctionStageTimeMetric(MetricName.response_write, System.nanoTime() - responseStartTime);
             metrics.updateRequestTimeMetric(clock.millis() - startTime);
             metrics.updateRequestTypeMetric(requestType, metricRequestStatus);
             analyticsReporter.processEvent(event);
@@ -15,6 +15,7 @@ import org.prebid.server.auction.VideoRequestFactory;
 import org.prebid.server.auction.VideoResponseFactory;
 import org.prebid.server.auction.model.Tuple2;
 import org.prebid.server.exception.InvalidRequestException;
+import org.prebid.server.exception.RateLimitedAccountException;
 import org.prebid.server.exception.UnauthorizedAccountException;
 import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.metric.MetricName;
@@ -121,6 +122,14 @@ public class VideoHandler implements Handler<RoutingContext> {
 
                 status = HttpResponseStatus.UNAUTHORIZED.code();
                 body = String.format("Unauthorised: %s", errorMessage);
+            } else if (exception instanceof RateLimitedAccountException) {
+                metricRequestStatus = MetricName.rate_limited;
+                final String errorMessage = exception.getMessage();
+                logger.debug("Rate limited: {0}", errorMessage);
+
+                errorMessages = Collections.singletonList(errorMessage);
+                status = HttpResponseStatus.TOO_MANY_REQUESTS.code();
+                body = errorMessage;
             } else {
                 metricRequestStatus = MetricName.err;
                 logger.error("Critical error while running the auction", exception);
@@ -0,0 +1,47 @@
+package org.prebid.server.health;
+
+import io.vertx.core.Vertx;
+import org.prebid.server.bidder.BidderConnectionWarmer;
+import org.prebid.server.health.model.Status;
+import org.prebid.server.health.model.StatusResponse;
+
+import java.time.Clock;
+import java.time.ZonedDateTime;
+import java.util.Objects;
+
+public class BidderConnectionsHealthChecker extends PeriodicHealthChecker {
+
+    private static final String NAME = "bidder-connections";
+
+    private final BidderConnectionWarmer bidderConnectionWarmer;
+    private final Clock clock;
+
+    private StatusResponse status;
+
+    public BidderConnectionsHealthChecker(Vertx vertx,
+                                          long refreshPeriod,
+                                          BidderConnectionWarmer bidderConnectionWarmer,
+                                          Clock clock) {
+
+        super(vertx, refreshPeriod);
+        this.bidderConnectionWarmer = Objects.requireNonNull(bidderConnectionWarmer);
+        this.clock = Objects.requireNonNull(clock);
+    }
+
+    @Override
+    void updateStatus() {
+        status = StatusResponse.of(
+                bidderConnectionWarmer.isReady() ? Status.UP.name() : Status.DOWN.name(),
+                ZonedDateTime.now(clock));
+    }
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public StatusResponse status() {
+        return status;
+    }
+}
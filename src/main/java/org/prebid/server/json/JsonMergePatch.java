@@ -0,0 +1,77 @@
+package org.prebid.server.json;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * JSON Merge Patch (RFC 7386) applied directly to Jackson trees.
+ * <p>
+ * Arguments are never modified and are not copied either: merged objects are new nodes, while all the subtrees left
+ * untouched by the patch are shared between the result and the arguments. So nested nodes of the result should be
+ * treated as read-only, only the top-level object of the result is safe to modify.
+ */
+public final class JsonMergePatch {
+
+    private JsonMergePatch() {
+    }
+
+    /**
+     * Applies patch to the target and returns the result: members of patch override members of target, members
+     * of patch with null value remove them from target, non-object patch replaces target entirely.
+     */
+    public static JsonNode apply(JsonNode patch, JsonNode target) {
+        Objects.requireNonNull(patch);
+        Objects.requireNonNull(target);
+
+        return patch.isObject() ? applyObject((ObjectNode) patch, target) : patch;
+    }
+
+    private static ObjectNode applyObject(ObjectNode patch, JsonNode target) {
+        final ObjectNode result = JsonNodeFactory.instance.objectNode();
+        if (target.isObject()) {
+            result.setAll((ObjectNode) target);
+        }
+
+        final Iterator<Map.Entry<String, JsonNode>> fields = patch.fields();
+        while (fields.hasNext()) {
+            final Map.Entry<String, JsonNode> field = fields.next();
+            final String name = field.getKey();
+            final JsonNode value = field.getValue();
+
+            if (value.isNull()) {
+                result.remove(name);
+            } else if (value.isObject()) {
+                final JsonNode targetValue = result.get(name);
+                result.set(name, targetValue != null && targetValue.isObject()
+                        ? applyObject((ObjectNode) value, targetValue)
+                        : withoutNulls((ObjectNode) value));
+            } else {
+                result.set(name, value);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns result of applying patch to missing value: the same patch with null members removed at all levels.
+     * Patch itself is returned if there is nothing to remove, which is the common case.
+     */
+    private static ObjectNode withoutNulls(ObjectNode patch) {
+        return hasNulls(patch) ? applyObject(patch, JsonNodeFactory.instance.objectNode()) : patch;
+    }
+
+    private static boolean hasNulls(ObjectNode node) {
+        for (final JsonNode value : node) {
+            if (value.isNull() || (value.isObject() && hasNulls((ObjectNode) value))) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -2,8 +2,6 @@ package org.prebid.server.json;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
-import com.github.fge.jsonpatch.JsonPatchException;
-import com.github.fge.jsonpatch.mergepatch.JsonMergePatch;
 import org.apache.commons.lang3.ObjectUtils;
 import org.prebid.server.exception.InvalidRequestException;
 
@@ -13,17 +11,36 @@ import java.util.Objects;
 public class JsonMerger {
 
     private final JacksonMapper mapper;
+    private final TypedMergePatch typedMergePatch;
 
     public JsonMerger(JacksonMapper mapper) {
         this.mapper = Objects.requireNonNull(mapper);
+        typedMergePatch = new TypedMergePatch(mapper);
     }
 
     /**
      * Merges passed object with json retrieved from stored data map by id
      * and cast it to appropriate class. In case of any exception during merging, throws {@link InvalidRequestException}
      * with reason message.
+     * <p>
+     * Objects supported by {@link TypedMergePatch} are merged without converting them to JSON trees, unless stored
+     * data could not be decoded to the same class, then it is merged as JSON tree to not fail on stored fields
+     * overridden by passed object.
      */
     public <T> T merge(T originalObject, String storedData, String id, Class<T> classToCast) {
+        final T storedObject = originalObject != null && TypedMergePatch.supports(classToCast)
+                ? decodeStoredObject(storedData, classToCast)
+                : null;
+        if (storedObject != null) {
+            try {
+                // Http request fields have higher priority and will override fields from stored requests
+                // in case they have different values
+                return typedMergePatch.apply(originalObject, storedObject, classToCast);
+            } catch (JsonProcessingException e) {
+                // fall back to merging JSON trees which reports the error
+            }
+        }
+
         final JsonNode originJsonNode = mapper.mapper().valueToTree(originalObject);
         final JsonNode storedRequestJsonNode;
         try {
@@ -35,17 +52,20 @@ public class JsonMerger {
         try {
             // Http request fields have higher priority and will override fields from stored requests
             // in case they have different values
-            return mapper.mapper().treeToValue(JsonMergePatch.fromJson(originJsonNode).apply(storedRequestJsonNode),
+            return mapper.mapper().treeToValue(JsonMergePatch.apply(originJsonNode, storedRequestJsonNode),
                     classToCast);
-        } catch (JsonPatchException e) {
-            throw new InvalidRequestException(String.format(
-                    "Couldn't create merge patch from origin object node for id %s: %s", id, e.getMessage()));
         } catch (JsonProcessingException e) {
             throw new InvalidRequestException(
                     String.format("Can't convert merging result for id %s: %s", id, e.getMessage()));
         }
     }
 
+    /**
+     * Merges passed objects as JSON trees, values of the original object have higher priority.
+     * <p>
+     * Unlike stored data, merging object is usually shared between requests, so the result is always converted
+     * from JSON tree to not share any mutable nodes with it.
+     */
     public <T> T merge(T originalObject, T mergingObject, Class<T> classToCast) {
         if (!ObjectUtils.allNotNull(originalObject, mergingObject)) {
             return ObjectUtils.firstNonNull(originalObject, mergingObject);
@@ -54,22 +74,32 @@ public class JsonMerger {
         final JsonNode originJsonNode = mapper.mapper().valueToTree(originalObject);
         final JsonNode mergingObjectJsonNode = mapper.mapper().valueToTree(mergingObject);
         try {
-            final JsonNode mergedNode = JsonMergePatch.fromJson(originJsonNode).apply(mergingObjectJsonNode);
+            final JsonNode mergedNode = JsonMergePatch.apply(originJsonNode, mergingObjectJsonNode);
             return mapper.mapper().treeToValue(mergedNode, classToCast);
-        } catch (JsonPatchException e) {
-            throw new InvalidRequestException(String.format(
-                    "Couldn't create merge patch for objects with class %s", classToCast.getName()));
         } catch (JsonProcessingException e) {
             throw new InvalidRequestException(
                     String.format("Can't convert merging result class %s", classToCast.getName()));
         }
     }
 
+    /**
+     * Merges passed JSON trees, values of the original object have higher priority.
+     * <p>
+     * Result shares untouched nested nodes with the arguments, see {@link JsonMergePatch}.
+     */
     public JsonNode merge(JsonNode originalObject, JsonNode mergingObject) {
+        return JsonMergePatch.apply(originalObject, mergingObject);
+    }
+
+    private <T> T decodeStoredObject(String storedData, Class<T> classToCast) {
+        if (storedData == null) {
+            return null;
+        }
+
         try {
-            return JsonMergePatch.fromJson(originalObject).apply(mergingObject);
-        } catch (JsonPatchException e) {
-            throw new InvalidRequestException("Couldn't create merge patch for json nodes");
+            return mapper.mapper().readValue(storedData, classToCast);
+        } catch (IOException e) {
+            return null;
         }
     }
 }
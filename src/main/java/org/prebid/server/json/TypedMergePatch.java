@@ -0,0 +1,200 @@
+package org.prebid.server.json;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.iab.openrtb.request.App;
+import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.request.Imp;
+import com.iab.openrtb.request.Site;
+import com.iab.openrtb.request.User;
+
+import java.util.Objects;
+
+/**
+ * JSON Merge Patch (RFC 7386) applied to OpenRTB objects without converting them to JSON trees and back.
+ * <p>
+ * Since objects are serialized without null fields, merge patch of two objects comes down to taking non-null fields
+ * of the patch over fields of the target. Fields of {@link BidRequest}, {@link Imp}, {@link Site}, {@link App} and
+ * {@link User} are merged field by field, lists are replaced as merge patch defines for arrays, other nested objects
+ * present in both patch and target are merged as JSON trees, and if only one of them is present it is taken as is
+ * (so explicit nulls inside extensions of such object are kept, while merging via JSON trees would drop them).
+ * <p>
+ * Result shares nested objects with the arguments.
+ */
+class TypedMergePatch {
+
+    private final JacksonMapper mapper;
+
+    TypedMergePatch(JacksonMapper mapper) {
+        this.mapper = Objects.requireNonNull(mapper);
+    }
+
+    static boolean supports(Class<?> type) {
+        return type == BidRequest.class || type == Imp.class;
+    }
+
+    /**
+     * Applies patch to the target of one of supported types.
+     *
+     * @throws JsonProcessingException if some of nested objects could not be merged as JSON trees
+     */
+    @SuppressWarnings("unchecked")
+    <T> T apply(T patch, T target, Class<T> type) throws JsonProcessingException {
+        if (type == BidRequest.class) {
+            return (T) mergeBidRequest((BidRequest) patch, (BidRequest) target);
+        } else if (type == Imp.class) {
+            return (T) mergeImp((Imp) patch, (Imp) target);
+        }
+        throw new IllegalArgumentException(String.format("Merging of class %s is not supported", type.getName()));
+    }
+
+    private BidRequest mergeBidRequest(BidRequest patch, BidRequest target) throws JsonProcessingException {
+        if (patch == null || target == null) {
+            return patch != null ? patch : target;
+        }
+
+        return BidRequest.builder()
+                .id(pick(patch.getId(), target.getId()))
+                .imp(pick(patch.getImp(), target.getImp()))
+                .site(mergeSite(patch.getSite(), target.getSite()))
+                .app(mergeApp(patch.getApp(), target.getApp()))
+                .device(mergeTree(patch.getDevice(), target.getDevice()))
+                .user(mergeUser(patch.getUser(), target.getUser()))
+                .test(pick(patch.getTest(), target.getTest()))
+                .at(pick(patch.getAt(), target.getAt()))
+                .tmax(pick(patch.getTmax(), target.getTmax()))
+                .wseat(pick(patch.getWseat(), target.getWseat()))
+                .bseat(pick(patch.getBseat(), target.getBseat()))
+                .allimps(pick(patch.getAllimps(), target.getAllimps()))
+                .cur(pick(patch.getCur(), target.getCur()))
+                .wlang(pick(patch.getWlang(), target.getWlang()))
+                .bcat(pick(patch.getBcat(), target.getBcat()))
+                .badv(pick(patch.getBadv(), target.getBadv()))
+                .bapp(pick(patch.getBapp(), target.getBapp()))
+                .source(mergeTree(patch.getSource(), target.getSource()))
+                .regs(mergeTree(patch.getRegs(), target.getRegs()))
+                .ext(mergeTree(patch.getExt(), target.getExt()))
+                .build();
+    }
+
+    private Imp mergeImp(Imp patch, Imp target) throws JsonProcessingException {
+        if (patch == null || target == null) {
+            return patch != null ? patch : target;
+        }
+
+        return Imp.builder()
+                .id(pick(patch.getId(), target.getId()))
+                .banner(mergeTree(patch.getBanner(), target.getBanner()))
+                .metric(pick(patch.getMetric(), target.getMetric()))
+                .video(mergeTree(patch.getVideo(), target.getVideo()))
+                .audio(mergeTree(patch.getAudio(), target.getAudio()))
+                .xNative(mergeTree(patch.getXNative(), target.getXNative()))
+                .pmp(mergeTree(patch.getPmp(), target.getPmp()))
+                .displaymanager(pick(patch.getDisplaymanager(), target.getDisplaymanager()))
+                .displaymanagerver(pick(patch.getDisplaymanagerver(), target.getDisplaymanagerver()))
+                .instl(pick(patch.getInstl(), target.getInstl()))
+                .tagid(pick(patch.getTagid(), target.getTagid()))
+                .bidfloor(pick(patch.getBidfloor(), target.getBidfloor()))
+                .bidfloorcur(pick(patch.getBidfloorcur(), target.getBidfloorcur()))
+                .clickbrowser(pick(patch.getClickbrowser(), target.getClickbrowser()))
+                .secure(pick(patch.getSecure(), target.getSecure()))
+                .iframebuster(pick(patch.getIframebuster(), target.getIframebuster()))
+                .exp(pick(patch.getExp(), target.getExp()))
+                .ext(mergeObjectNode(patch.getExt(), target.getExt()))
+                .build();
+    }
+
+    private Site mergeSite(Site patch, Site target) throws JsonProcessingException {
+        if (patch == null || target == null) {
+            return patch != null ? patch : target;
+        }
+
+        return Site.builder()
+                .id(pick(patch.getId(), target.getId()))
+                .name(pick(patch.getName(), target.getName()))
+                .domain(pick(patch.getDomain(), target.getDomain()))
+                .cat(pick(patch.getCat(), target.getCat()))
+                .sectioncat(pick(patch.getSectioncat(), target.getSectioncat()))
+                .pagecat(pick(patch.getPagecat(), target.getPagecat()))
+                .page(pick(patch.getPage(), target.getPage()))
+                .ref(pick(patch.getRef(), target.getRef()))
+                .search(pick(patch.getSearch(), target.getSearch()))
+                .mobile(pick(patch.getMobile(), target.getMobile()))
+                .privacypolicy(pick(patch.getPrivacypolicy(), target.getPrivacypolicy()))
+                .publisher(mergeTree(patch.getPublisher(), target.getPublisher()))
+                .content(mergeTree(patch.getContent(), target.getContent()))
+                .keywords(pick(patch.getKeywords(), target.getKeywords()))
+                .ext(mergeTree(patch.getExt(), target.getExt()))
+                .build();
+    }
+
+    private App mergeApp(App patch, App target) throws JsonProcessingException {
+        if (patch == null || target == null) {
+            return patch != null ? patch : target;
+        }
+
+        return App.builder()
+                .id(pick(patch.getId(), target.getId()))
+                .name(pick(patch.getName(), target.getName()))
+                .bundle(pick(patch.getBundle(), target.getBundle()))
+                .domain(pick(patch.getDomain(), target.getDomain()))
+                .storeurl(pick(patch.getStoreurl(), target.getStoreurl()))
+                .cat(pick(patch.getCat(), target.getCat()))
+                .sectioncat(pick(patch.getSectioncat(), target.getSectioncat()))
+                .pagecat(pick(patch.getPagecat(), target.getPagecat()))
+                .ver(pick(patch.getVer(), target.getVer()))
+                .privacypolicy(pick(patch.getPrivacypolicy(), target.getPrivacypolicy()))
+                .paid(pick(patch.getPaid(), target.getPaid()))
+                .publisher(mergeTree(patch.getPublisher(), target.getPublisher()))
+                .content(mergeTree(patch.getContent(), target.getContent()))
+                .keywords(pick(patch.getKeywords(), target.getKeywords()))
+                .ext(mergeTree(patch.getExt(), target.getExt()))
+                .build();
+    }
+
+    private User mergeUser(User patch, User target) throws JsonProcessingException {
+        if (patch == null || target == null) {
+            return patch != null ? patch : target;
+        }
+
+        return User.builder()
+                .id(pick(patch.getId(), target.getId()))
+                .buyeruid(pick(patch.getBuyeruid(), target.getBuyeruid()))
+                .yob(pick(patch.getYob(), target.getYob()))
+                .gender(pick(patch.getGender(), target.getGender()))
+                .language(pick(patch.getLanguage(), target.getLanguage()))
+                .keywords(pick(patch.getKeywords(), target.getKeywords()))
+                .customdata(pick(patch.getCustomdata(), target.getCustomdata()))
+                .geo(mergeTree(patch.getGeo(), target.getGeo()))
+                .data(pick(patch.getData(), target.getData()))
+                .ext(mergeTree(patch.getExt(), target.getExt()))
+                .build();
+    }
+
+    private static ObjectNode mergeObjectNode(ObjectNode patch, ObjectNode target) {
+        return patch != null
+                ? (ObjectNode) JsonMergePatch.apply(patch, target != null ? target : NullNode.getInstance())
+                : target;
+    }
+
+    /**
+     * Merges objects with no dedicated merge logic as JSON trees. Such objects are rarely present in both patch
+     * and target, so the round trip is usually avoided.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T mergeTree(T patch, T target) throws JsonProcessingException {
+        if (patch == null || target == null) {
+            return pick(patch, target);
+        }
+
+        final JsonNode patchNode = mapper.mapper().valueToTree(patch);
+        final JsonNode targetNode = mapper.mapper().valueToTree(target);
+        return mapper.mapper().treeToValue(JsonMergePatch.apply(patchNode, targetNode), (Class<T>) target.getClass());
+    }
+
+    private static <T> T pick(T patchValue, T targetValue) {
+        return patchValue != null ? patchValue : targetValue;
+    }
+}
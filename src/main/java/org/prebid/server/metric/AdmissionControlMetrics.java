@@ -0,0 +1,21 @@
+package org.prebid.server.metric;
+
+import com.codahale.metrics.MetricRegistry;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Admission control metrics support.
+ */
+class AdmissionControlMetrics extends UpdatableMetrics {
+
+    AdmissionControlMetrics(MetricRegistry metricRegistry, CounterType counterType, MetricName endpoint) {
+        super(Objects.requireNonNull(metricRegistry), Objects.requireNonNull(counterType),
+                nameCreator(Objects.requireNonNull(endpoint)));
+    }
+
+    private static Function<MetricName, String> nameCreator(MetricName endpoint) {
+        return metricName -> String.format("admission.%s.shed.%s", endpoint.toString(), metricName.toString());
+    }
+}
@@ -0,0 +1,16 @@
+package org.prebid.server.metric;
+
+import com.codahale.metrics.MetricRegistry;
+
+import java.util.Objects;
+
+/**
+ * Analytics events metrics support.
+ */
+class AnalyticsMetrics extends UpdatableMetrics {
+
+    AnalyticsMetrics(MetricRegistry metricRegistry, CounterType counterType) {
+        super(Objects.requireNonNull(metricRegistry), Objects.requireNonNull(counterType),
+                metricName -> String.format("analytics.events.%s", metricName.toString()));
+    }
+}
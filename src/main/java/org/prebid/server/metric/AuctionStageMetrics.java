@@ -0,0 +1,16 @@
+package org.prebid.server.metric;
+
+import com.codahale.metrics.MetricRegistry;
+
+import java.util.Objects;
+
+/**
+ * Auction processing stages metrics support.
+ */
+class AuctionStageMetrics extends UpdatableMetrics {
+
+    AuctionStageMetrics(MetricRegistry metricRegistry, CounterType counterType) {
+        super(Objects.requireNonNull(metricRegistry), Objects.requireNonNull(counterType),
+                metricName -> String.format("auction.stage.%s", metricName.toString()));
+    }
+}
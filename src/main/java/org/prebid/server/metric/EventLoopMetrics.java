@@ -0,0 +1,16 @@
+package org.prebid.server.metric;
+
+import com.codahale.metrics.MetricRegistry;
+
+import java.util.Objects;
+
+/**
+ * Vert.x event loops metrics support.
+ */
+class EventLoopMetrics extends UpdatableMetrics {
+
+    EventLoopMetrics(MetricRegistry metricRegistry, CounterType counterType) {
+        super(Objects.requireNonNull(metricRegistry), Objects.requireNonNull(counterType),
+                metricName -> String.format("event_loop.%s", metricName.toString()));
+    }
+}
@@ -0,0 +1,35 @@
+package org.prebid.server.metric;
+
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+
+import java.time.Clock;
+import java.util.Objects;
+
+/**
+ * {@link MetricRegistry} creating timers and histograms backed by {@link HdrReservoir} instead of default
+ * exponentially decaying reservoir.
+ */
+public class HdrMetricRegistry extends MetricRegistry {
+
+    private final MetricSupplier<Timer> timerSupplier;
+    private final MetricSupplier<Histogram> histogramSupplier;
+
+    public HdrMetricRegistry(Clock clock, long windowMillis) {
+        Objects.requireNonNull(clock);
+
+        timerSupplier = () -> new Timer(new HdrReservoir(clock, windowMillis));
+        histogramSupplier = () -> new Histogram(new HdrReservoir(clock, windowMillis));
+    }
+
+    @Override
+    public Timer timer(String name) {
+        return timer(name, timerSupplier);
+    }
+
+    @Override
+    public Histogram histogram(String name) {
+        return histogram(name, histogramSupplier);
+    }
+}
@@ -0,0 +1,294 @@
+package org.prebid.server.metric;
+
+import com.codahale.metrics.Reservoir;
+import com.codahale.metrics.Snapshot;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramIterationValue;
+import org.HdrHistogram.Recorder;
+
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * {@link Reservoir} backed by HdrHistogram recorders.
+ * <p>
+ * Values are recorded without locks into one of striped recorders picked by the recording thread, so event loop
+ * threads practically never contend. Recorders are created lazily on first use of the stripe to not waste memory
+ * on metrics updated from few threads and are drained and merged when snapshot is taken. Snapshot covers values
+ * recorded within the current and the previous window, so it reflects at least the last window.
+ */
+public class HdrReservoir implements Reservoir {
+
+    private static final int SIGNIFICANT_VALUE_DIGITS = 2;
+    private static final int MAX_STRIPES = 8;
+
+    private final Clock clock;
+    private final long windowMillis;
+
+    private final AtomicReferenceArray<Recorder> recorders;
+    private final int stripeMask;
+
+    // guarded by this
+    private final Histogram intervalHistogram;
+    private final Histogram currentWindow;
+    private HdrSnapshot previousWindowSnapshot;
+    private long currentWindowStart;
+    private HdrSnapshot snapshot;
+
+    public HdrReservoir(Clock clock, long windowMillis) {
+        if (windowMillis <= 0) {
+            throw new IllegalArgumentException("Histogram window must be positive");
+        }
+
+        this.clock = Objects.requireNonNull(clock);
+        this.windowMillis = windowMillis;
+
+        final int stripes = stripes(Runtime.getRuntime().availableProcessors());
+        recorders = new AtomicReferenceArray<>(stripes);
+        stripeMask = stripes - 1;
+
+        intervalHistogram = new Histogram(SIGNIFICANT_VALUE_DIGITS);
+        currentWindow = new Histogram(SIGNIFICANT_VALUE_DIGITS);
+        currentWindowStart = clock.millis();
+    }
+
+    @Override
+    public int size() {
+        return getSnapshot().size();
+    }
+
+    @Override
+    public void update(long value) {
+        recorder((int) Thread.currentThread().getId() & stripeMask).recordValue(value > 0 ? value : 0);
+    }
+
+    private Recorder recorder(int stripe) {
+        final Recorder recorder = recorders.get(stripe);
+        if (recorder != null) {
+            return recorder;
+        }
+
+        final Recorder newRecorder = new Recorder(SIGNIFICANT_VALUE_DIGITS);
+        return recorders.compareAndSet(stripe, null, newRecorder) ? newRecorder : recorders.get(stripe);
+    }
+
+    @Override
+    public synchronized Snapshot getSnapshot() {
+        boolean changed = snapshot == null;
+        for (int i = 0; i < recorders.length(); i++) {
+            final Recorder recorder = recorders.get(i);
+            if (recorder != null) {
+                recorder.getIntervalHistogramInto(intervalHistogram);
+                if (intervalHistogram.getTotalCount() > 0) {
+                    currentWindow.add(intervalHistogram);
+                    changed = true;
+                }
+            }
+        }
+
+        final long now = clock.millis();
+        final long elapsed = now - currentWindowStart;
+        if (elapsed >= windowMillis) {
+            // values drained just now may have been recorded at any time since the last read, so they are
+            // reported as the previous window even if nothing was read for longer than a window
+            previousWindowSnapshot = HdrSnapshot.of(currentWindow);
+            currentWindow.reset();
+            currentWindowStart = now;
+            changed = true;
+        }
+
+        // snapshot is immutable, so it is reused while nothing is recorded, which is common for rarely updated metrics
+        if (changed) {
+            final HdrSnapshot currentWindowSnapshot = HdrSnapshot.of(currentWindow);
+            snapshot = previousWindowSnapshot != null
+                    ? HdrSnapshot.merge(previousWindowSnapshot, currentWindowSnapshot)
+                    : currentWindowSnapshot;
+        }
+        return snapshot;
+    }
+
+    private static int stripes(int processors) {
+        // power of two to pick stripe by mask
+        int stripes = 1;
+        while (stripes < processors && stripes < MAX_STRIPES) {
+            stripes <<= 1;
+        }
+        return stripes;
+    }
+
+    /**
+     * Immutable {@link Snapshot} keeping only recorded buckets of HdrHistogram, so it is compact and cheap to query.
+     */
+    static class HdrSnapshot extends Snapshot {
+
+        private static final HdrSnapshot EMPTY = new HdrSnapshot(new long[0], new long[0], 0, 0);
+
+        private final long[] values;
+        private final long[] cumulativeCounts;
+        private final double sum;
+        private final double sumOfSquares;
+
+        private HdrSnapshot(long[] values, long[] cumulativeCounts, double sum, double sumOfSquares) {
+            this.values = values;
+            this.cumulativeCounts = cumulativeCounts;
+            this.sum = sum;
+            this.sumOfSquares = sumOfSquares;
+        }
+
+        static HdrSnapshot of(Histogram histogram) {
+            if (histogram.getTotalCount() == 0) {
+                return EMPTY;
+            }
+
+            long[] values = new long[64];
+            long[] cumulativeCounts = new long[64];
+            double sum = 0;
+            double sumOfSquares = 0;
+            int size = 0;
+            for (final HistogramIterationValue value : histogram.recordedValues()) {
+                if (size == values.length) {
+                    values = Arrays.copyOf(values, size * 2);
+                    cumulativeCounts = Arrays.copyOf(cumulativeCounts, size * 2);
+                }
+
+                final long bucketValue = value.getValueIteratedTo();
+                final long count = value.getCountAtValueIteratedTo();
+                final double medianValue = histogram.medianEquivalentValue(bucketValue);
+                values[size] = histogram.highestEquivalentValue(bucketValue);
+                cumulativeCounts[size] = value.getTotalCountToThisValue();
+                sum += medianValue * count;
+                sumOfSquares += medianValue * medianValue * count;
+                size++;
+            }
+
+            return new HdrSnapshot(Arrays.copyOf(values, size), Arrays.copyOf(cumulativeCounts, size), sum,
+                    sumOfSquares);
+        }
+
+        /**
+         * Merges snapshots of histograms with the same precision, so their buckets are the same.
+         */
+        static HdrSnapshot merge(HdrSnapshot first, HdrSnapshot second) {
+            if (first.values.length == 0) {
+                return second;
+            }
+            if (second.values.length == 0) {
+                return first;
+            }
+
+            final long[] values = new long[first.values.length + second.values.length];
+            final long[] cumulativeCounts = new long[values.length];
+            int size = 0;
+            int i = 0;
+            int j = 0;
+            long total = 0;
+            while (i < first.values.length || j < second.values.length) {
+                final long firstValue = i < first.values.length ? first.values[i] : Long.MAX_VALUE;
+                final long secondValue = j < second.values.length ? second.values[j] : Long.MAX_VALUE;
+                final long value = Math.min(firstValue, secondValue);
+                if (firstValue == value) {
+                    total += first.countAt(i++);
+                }
+                if (secondValue == value) {
+                    total += second.countAt(j++);
+                }
+                values[size] = value;
+                cumulativeCounts[size] = total;
+                size++;
+            }
+
+            return new HdrSnapshot(Arrays.copyOf(values, size), Arrays.copyOf(cumulativeCounts, size),
+                    first.sum + second.sum, first.sumOfSquares + second.sumOfSquares);
+        }
+
+        /**
+         * Returns value at the given quantile the same way as {@link Histogram#getValueAtPercentile(double)} does.
+         */
+        @Override
+        public double getValue(double quantile) {
+            if (quantile < 0.0 || quantile > 1.0 || Double.isNaN(quantile)) {
+                throw new IllegalArgumentException(quantile + " is not in [0..1]");
+            }
+
+            final long total = totalCount();
+            if (total == 0) {
+                return 0.0;
+            }
+
+            final long countAtQuantile = Math.max((long) (quantile * total + 0.5), 1);
+            final int index = Arrays.binarySearch(cumulativeCounts, countAtQuantile);
+            return values[index >= 0 ? index : -index - 1];
+        }
+
+        /**
+         * Returns recorded values with precision of histogram buckets. Intended for debug purposes only
+         * since it allocates array of all recorded values.
+         */
+        @Override
+        public long[] getValues() {
+            final long[] result = new long[size()];
+            int start = 0;
+            for (int i = 0; i < values.length && start < result.length; i++) {
+                final int end = (int) Math.min(cumulativeCounts[i], result.length);
+                Arrays.fill(result, start, end, values[i]);
+                start = end;
+            }
+            return result;
+        }
+
+        @Override
+        public int size() {
+            return (int) Math.min(totalCount(), Integer.MAX_VALUE);
+        }
+
+        @Override
+        public long getMax() {
+            return values.length > 0 ? values[values.length - 1] : 0;
+        }
+
+        @Override
+        public double getMean() {
+            final long total = totalCount();
+            return total > 0 ? sum / total : 0;
+        }
+
+        @Override
+        public long getMin() {
+            return values.length > 0 ? values[0] : 0;
+        }
+
+        @Override
+        public double getStdDev() {
+            final long total = totalCount();
+            if (total == 0) {
+                return 0;
+            }
+
+            final double mean = sum / total;
+            return Math.sqrt(Math.max(sumOfSquares / total - mean * mean, 0));
+        }
+
+        @Override
+        public void dump(OutputStream output) {
+            try (PrintWriter writer = new PrintWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8))) {
+                for (final long value : getValues()) {
+                    writer.println(value);
+                }
+            }
+        }
+
+        private long countAt(int index) {
+            return index > 0 ? cumulativeCounts[index] - cumulativeCounts[index - 1] : cumulativeCounts[0];
+        }
+
+        private long totalCount() {
+            return cumulativeCounts.length > 0 ? cumulativeCounts[cumulativeCounts.length - 1] : 0;
+        }
+    }
+}
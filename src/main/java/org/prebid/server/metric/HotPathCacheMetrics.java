@@ -0,0 +1,21 @@
+package org.prebid.server.metric;
+
+import com.codahale.metrics.MetricRegistry;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Hot path cache metrics support.
+ */
+class HotPathCacheMetrics extends UpdatableMetrics {
+
+    HotPathCacheMetrics(MetricRegistry metricRegistry, CounterType counterType, MetricName type) {
+        super(Objects.requireNonNull(metricRegistry), Objects.requireNonNull(counterType),
+                nameCreator(Objects.requireNonNull(type)));
+    }
+
+    private static Function<MetricName, String> nameCreator(MetricName type) {
+        return metricName -> String.format("hot-path-cache.%s.%s", type.toString(), metricName.toString());
+    }
+}
@@ -56,6 +56,7 @@ public enum MetricName {
     badserverresponse,
     failedtorequestbids,
     timeout,
+    responsetoolarge,
     unknown_error,
     err,
     networkerr,
@@ -103,6 +104,8 @@ public enum MetricName {
 
     //account.*.requests.
     rejected,
+    rate_limited,
+    concurrency_limited,
 
     //currency rates
     stale,
@@ -114,7 +117,46 @@ public enum MetricName {
     initialize,
     update,
     hit,
-    miss;
+    miss,
+
+    // analytics
+    sampled_out,
+    dropped,
+
+    // bidder stages
+    bidder_stage_queue_time,
+    request_building_time,
+    request_building_allocated_bytes,
+    response_parsing_time,
+    response_parsing_allocated_bytes,
+
+    // bidder request compression
+    request_compression_time,
+    request_compression_saved_bytes,
+
+    // auction stages
+    parse_request,
+    stored_requests,
+    privacy_context,
+    privacy_enforcement,
+    bidder_requests,
+    bid_response_creation,
+    cache_write,
+    response_write,
+
+    // event loop
+    lag,
+
+    // admission control
+    auction,
+    event_loop_lag,
+    in_flight,
+    bidder_timeout_rate,
+
+    // hot path cache
+    registrable_domain("registrable-domain"),
+    ip_address("ip-address"),
+    anonymized_ipv6("anonymized-ipv6");
 
     private final String name;
 
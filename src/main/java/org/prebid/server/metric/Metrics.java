@@ -12,6 +12,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BooleanSupplier;
 import java.util.function.Function;
 import java.util.function.LongSupplier;
@@ -33,6 +34,8 @@ public class Metrics extends UpdatableMetrics {
     private final Function<Integer, BidderCardinalityMetrics> bidderCardinalityMetricsCreator;
     private final Function<MetricName, CircuitBreakerMetrics> circuitBreakerMetricsCreator;
     private final Function<MetricName, SettingsCacheMetrics> settingsCacheMetricsCreator;
+    private final Function<MetricName, AdmissionControlMetrics> admissionControlMetricsCreator;
+    private final Function<MetricName, HotPathCacheMetrics> hotPathCacheMetricsCreator;
     // not thread-safe maps are intentionally used here because it's harmless in this particular case - eventually
     // this all boils down to metrics lookup by underlying metric registry and that operation is guaranteed to be
     // thread-safe
@@ -47,7 +50,12 @@ public class Metrics extends UpdatableMetrics {
     private final CacheMetrics cacheMetrics;
     private final TimeoutNotificationMetrics timeoutNotificationMetrics;
     private final CurrencyRatesMetrics currencyRatesMetrics;
+    private final AnalyticsMetrics analyticsMetrics;
+    private final AuctionStageMetrics auctionStageMetrics;
+    private final EventLoopMetrics eventLoopMetrics;
     private final Map<MetricName, SettingsCacheMetrics> settingsCacheMetrics;
+    private final Map<MetricName, AdmissionControlMetrics> admissionControlMetrics;
+    private final Map<MetricName, HotPathCacheMetrics> hotPathCacheMetrics;
 
     public Metrics(MetricRegistry metricRegistry, CounterType counterType, AccountMetricsVerbosity
             accountMetricsVerbosity, BidderCatalog bidderCatalog) {
@@ -63,6 +71,8 @@ public class Metrics extends UpdatableMetrics {
                 metricRegistry, counterType, cardinality);
         circuitBreakerMetricsCreator = type -> new CircuitBreakerMetrics(metricRegistry, counterType, type);
         settingsCacheMetricsCreator = type -> new SettingsCacheMetrics(metricRegistry, counterType, type);
+        admissionControlMetricsCreator = endpoint -> new AdmissionControlMetrics(metricRegistry, counterType, endpoint);
+        hotPathCacheMetricsCreator = type -> new HotPathCacheMetrics(metricRegistry, counterType, type);
         requestMetrics = new EnumMap<>(MetricName.class);
         accountMetrics = new HashMap<>();
         adapterMetrics = new HashMap<>();
@@ -74,7 +84,12 @@ public class Metrics extends UpdatableMetrics {
         cacheMetrics = new CacheMetrics(metricRegistry, counterType);
         timeoutNotificationMetrics = new TimeoutNotificationMetrics(metricRegistry, counterType);
         currencyRatesMetrics = new CurrencyRatesMetrics(metricRegistry, counterType);
+        analyticsMetrics = new AnalyticsMetrics(metricRegistry, counterType);
+        auctionStageMetrics = new AuctionStageMetrics(metricRegistry, counterType);
+        eventLoopMetrics = new EventLoopMetrics(metricRegistry, counterType);
         settingsCacheMetrics = new HashMap<>();
+        admissionControlMetrics = new EnumMap<>(MetricName.class);
+        hotPathCacheMetrics = new EnumMap<>(MetricName.class);
     }
 
     RequestStatusMetrics forRequestType(MetricName requestType) {
@@ -117,10 +132,30 @@ public class Metrics extends UpdatableMetrics {
         return currencyRatesMetrics;
     }
 
+    AnalyticsMetrics analytics() {
+        return analyticsMetrics;
+    }
+
+    AuctionStageMetrics auctionStage() {
+        return auctionStageMetrics;
+    }
+
+    EventLoopMetrics eventLoop() {
+        return eventLoopMetrics;
+    }
+
     SettingsCacheMetrics forSettingsCacheType(MetricName type) {
         return settingsCacheMetrics.computeIfAbsent(type, settingsCacheMetricsCreator);
     }
 
+    AdmissionControlMetrics forAdmissionControlEndpoint(MetricName endpoint) {
+        return admissionControlMetrics.computeIfAbsent(endpoint, admissionControlMetricsCreator);
+    }
+
+    HotPathCacheMetrics forHotPathCacheType(MetricName type) {
+        return hotPathCacheMetrics.computeIfAbsent(type, hotPathCacheMetricsCreator);
+    }
+
     public void updateAppAndNoCookieAndImpsRequestedMetrics(boolean isApp, boolean liveUidsPresent, int numImps) {
         if (isApp) {
             incCounter(MetricName.app_requests);
@@ -185,6 +220,10 @@ public class Metrics extends UpdatableMetrics {
         updateTimer(MetricName.request_time, millis);
     }
 
+    public void updateBidderStageQueueTimeMetric(long millis) {
+        updateTimer(MetricName.bidder_stage_queue_time, millis);
+    }
+
     public void updateRequestTypeMetric(MetricName requestType, MetricName requestStatus) {
         forRequestType(requestType).incCounter(requestStatus);
     }
@@ -210,6 +249,10 @@ public class Metrics extends UpdatableMetrics {
         accountMetrics.requests().incCounter(MetricName.rejected);
     }
 
+    public void updateAccountRequestLimitedMetrics(String accountId, MetricName limit) {
+        forAccount(accountId).requests().incCounter(limit);
+    }
+
     public void updateAdapterRequestTypeAndNoCookieMetrics(String bidder, MetricName requestType, boolean noCookie) {
         final AdapterMetrics adapterMetrics = forAdapter(resolveMetricsBidderName(bidder));
 
@@ -266,6 +309,33 @@ public class Metrics extends UpdatableMetrics {
         forAdapter(resolveMetricsBidderName(bidder)).request().incCounter(errorMetric);
     }
 
+    public void updateAdapterRequestBuildingMetrics(String bidder, long nanos, long allocatedBytes) {
+        updateAdapterStageMetrics(bidder, MetricName.request_building_time,
+                MetricName.request_building_allocated_bytes, nanos, allocatedBytes);
+    }
+
+    public void updateAdapterResponseParsingMetrics(String bidder, long nanos, long allocatedBytes) {
+        updateAdapterStageMetrics(bidder, MetricName.response_parsing_time,
+                MetricName.response_parsing_allocated_bytes, nanos, allocatedBytes);
+    }
+
+    public void updateAdapterRequestCompressionMetrics(String bidder, long nanos, long savedBytes) {
+        final AdapterMetrics adapterMetrics = forAdapter(resolveMetricsBidderName(bidder));
+        adapterMetrics.updateTimer(MetricName.request_compression_time, nanos, TimeUnit.NANOSECONDS);
+        adapterMetrics.incCounter(MetricName.request_compression_saved_bytes, savedBytes);
+    }
+
+    private void updateAdapterStageMetrics(String bidder, MetricName timeMetric, MetricName allocatedBytesMetric,
+                                           long nanos, long allocatedBytes) {
+
+        final AdapterMetrics adapterMetrics = forAdapter(resolveMetricsBidderName(bidder));
+        adapterMetrics.updateTimer(timeMetric, nanos, TimeUnit.NANOSECONDS);
+        // negative value means allocation accounting is not supported by JVM
+        if (allocatedBytes >= 0) {
+            adapterMetrics.updateHistogram(allocatedBytesMetric, allocatedBytes);
+        }
+    }
+
     public void updateSizeValidationMetrics(String bidder, String accountId, MetricName type) {
         forAdapter(resolveMetricsBidderName(bidder)).response().validation().size().incCounter(type);
         forAccount(accountId).response().validation().size().incCounter(type);
@@ -489,6 +559,34 @@ public class Metrics extends UpdatableMetrics {
         forSettingsCacheType(cacheType).incCounter(event);
     }
 
+    public void updateAnalyticsEventSampledOutMetric() {
+        analytics().incCounter(MetricName.sampled_out);
+    }
+
+    public void updateAnalyticsEventDroppedMetric() {
+        analytics().incCounter(MetricName.dropped);
+    }
+
+    public void updateAuctionStageTimeMetric(MetricName stage, long nanos) {
+        auctionStage().updateTimer(stage, nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void updateEventLoopLagMetric(long nanos) {
+        eventLoop().updateTimer(MetricName.lag, nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void updateEventLoopBlockedMetric() {
+        eventLoop().incCounter(MetricName.blocked);
+    }
+
+    public void updateAdmissionShedMetric(MetricName endpoint, MetricName reason) {
+        forAdmissionControlEndpoint(endpoint).incCounter(reason);
+    }
+
+    public void updateHotPathCacheEventMetric(MetricName cacheType, MetricName event) {
+        forHotPathCacheType(cacheType).incCounter(event);
+    }
+
     private String resolveMetricsBidderName(String bidder) {
         return bidderCatalog.isValidName(bidder) ? bidder : METRICS_UNKNOWN_BIDDER;
     }
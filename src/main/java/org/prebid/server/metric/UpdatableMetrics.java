@@ -61,11 +61,18 @@ class UpdatableMetrics {
         metricRegistry.timer(name(metricName)).update(millis, TimeUnit.MILLISECONDS);
     }
 
+    /**
+     * Updates metric's timer with a given value in given time unit.
+     */
+    void updateTimer(MetricName metricName, long duration, TimeUnit unit) {
+        metricRegistry.timer(name(metricName)).update(duration, unit);
+    }
+
     /**
      * Updates metric's histogram with a given value.
      */
     void updateHistogram(MetricName metricName, long value) {
-        // by default histograms with exponentially decaying reservoir (size=1028, alpha=0.015) are created
+        // reservoir is defined by metric registry, by default exponentially decaying one (size=1028, alpha=0.015)
         metricRegistry.histogram(name(metricName)).update(value);
     }
 
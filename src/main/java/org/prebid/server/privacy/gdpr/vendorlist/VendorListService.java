@@ -21,14 +21,30 @@ import org.prebid.server.metric.Metrics;
 import org.prebid.server.vertx.http.HttpClient;
 import org.prebid.server.vertx.http.model.HttpClientResponse;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
 import java.io.File;
+import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 
 /**
@@ -39,21 +55,29 @@ import java.util.stream.Collectors;
  * - file system (persistent cache);
  * - remote web resource (original source);
  * <p>
- * So, on service creation we initialize in-memory cache from previously loaded vendor list on file system.
- * If request asks version that is absent in cache, we respond with failed result but start background process
+ * So, on service creation we initialize in-memory cache from most recent vendor lists previously loaded on file
+ * system. In-memory cache is bounded, older versions found on file system are loaded on demand.
+ * If request asks version that is absent on file system, we respond with failed result but start background process
  * to download new version and then put it to cache.
+ * <p>
+ * Each vendor list is stored on file system as original JSON and compact binary file with vendor ID and bitsets of
+ * purposes and features for each vendor, which is much faster to load. Binary file is recreated from JSON if it is
+ * missing or was written for different set of purposes and features.
  */
 public abstract class VendorListService<T, V> {
 
     private static final Logger logger = LoggerFactory.getLogger(VendorListService.class);
 
     private static final String JSON_SUFFIX = ".json";
+    private static final String BINARY_SUFFIX = ".bin";
+    private static final int BINARY_MAGIC = 0x47564c42;
     private static final String VERSION_PLACEHOLDER = "{VERSION}";
 
     private final String cacheDir;
     private final String endpointTemplate;
     private final int defaultTimeoutMs;
     private final long refreshMissingListPeriodMs;
+    private final int cacheSize;
     private final boolean deprecated;
     private final Vertx vertx;
     private final FileSystem fileSystem;
@@ -69,6 +93,12 @@ public abstract class VendorListService<T, V> {
      */
     private final Map<Integer, Map<Integer, V>> cache;
 
+    /**
+     * Versions saved on file system, which are not necessarily present in in-memory cache.
+     */
+    private final Set<Integer> storedVersions;
+    private final Map<Integer, Future<Map<Integer, V>>> loadingVersions;
+
     private final Map<Integer, V> fallbackVendorList;
     private final Set<Integer> versionsToFallback;
 
@@ -76,6 +106,7 @@ public abstract class VendorListService<T, V> {
                              String endpointTemplate,
                              int defaultTimeoutMs,
                              long refreshMissingListPeriodMs,
+                             int cacheSize,
                              boolean deprecated,
                              Integer gdprHostVendorId,
                              String fallbackVendorListPath,
@@ -90,6 +121,7 @@ public abstract class VendorListService<T, V> {
         this.endpointTemplate = Objects.requireNonNull(endpointTemplate);
         this.defaultTimeoutMs = defaultTimeoutMs;
         this.refreshMissingListPeriodMs = refreshMissingListPeriodMs;
+        this.cacheSize = cacheSize;
         this.deprecated = deprecated;
         this.vertx = Objects.requireNonNull(vertx);
         this.fileSystem = Objects.requireNonNull(fileSystem);
@@ -99,7 +131,13 @@ public abstract class VendorListService<T, V> {
 
         knownVendorIds = knownVendorIds(gdprHostVendorId, bidderCatalog);
 
+        if (cacheSize <= 0) {
+            throw new IllegalArgumentException("Vendor list cache size must be positive");
+        }
+
         createAndCheckWritePermissionsFor(fileSystem, cacheDir);
+        storedVersions = ConcurrentHashMap.newKeySet();
+        loadingVersions = new ConcurrentHashMap<>();
         cache = Objects.requireNonNull(createCache(fileSystem, cacheDir));
 
         fallbackVendorList = StringUtils.isNotBlank(fallbackVendorListPath)
@@ -131,6 +169,10 @@ public abstract class VendorListService<T, V> {
             return Future.succeededFuture(idToVendor);
         }
 
+        if (storedVersions.contains(version)) {
+            return loadStoredVersion(version);
+        }
+
         final int tcf = getTcfVersion();
 
         if (shouldFallback(version)) {
@@ -153,10 +195,15 @@ public abstract class VendorListService<T, V> {
      */
     protected abstract T toVendorList(String content);
 
+    /**
+     * Returns all vendors of given vendor list.
+     */
+    protected abstract Collection<V> vendors(T vendorList);
+
     /**
      * Returns a Map of vendor id to Vendors.
      */
-    protected abstract Map<Integer, V> filterVendorIdToVendors(T vendorList);
+    protected abstract Map<Integer, V> filterVendorIdToVendors(Collection<V> vendors);
 
     /**
      * Verifies all significant fields of given {@link T} object.
@@ -168,6 +215,54 @@ public abstract class VendorListService<T, V> {
      */
     protected abstract int getTcfVersion();
 
+    /**
+     * Returns identifier of binary vendor format, which should change whenever written data or its meaning changes.
+     */
+    protected abstract int binarySchema();
+
+    /**
+     * Writes vendor in compact binary format.
+     */
+    protected abstract void writeVendor(V vendor, DataOutput output) throws IOException;
+
+    /**
+     * Reads vendor written by {@link #writeVendor}.
+     */
+    protected abstract V readVendor(DataInput input) throws IOException;
+
+    /**
+     * Returns binary schema identifier derived from names of enums constants, which are written by their ordinals.
+     */
+    @SafeVarargs
+    protected static int enumsBinarySchema(Class<? extends Enum<?>>... enumClasses) {
+        final List<String> names = new ArrayList<>();
+        for (Class<? extends Enum<?>> enumClass : enumClasses) {
+            names.add(enumClass.getName());
+            for (Enum<?> constant : enumClass.getEnumConstants()) {
+                names.add(constant.name());
+            }
+        }
+        return names.hashCode();
+    }
+
+    protected static <E extends Enum<E>> int toBits(Set<E> values) {
+        int bits = 0;
+        for (E value : values) {
+            bits |= 1 << value.ordinal();
+        }
+        return bits;
+    }
+
+    protected static <E extends Enum<E>> EnumSet<E> fromBits(int bits, Class<E> enumClass) {
+        final EnumSet<E> values = EnumSet.noneOf(enumClass);
+        for (E value : enumClass.getEnumConstants()) {
+            if ((bits & (1 << value.ordinal())) != 0) {
+                values.add(value);
+            }
+        }
+        return values;
+    }
+
     private static Set<Integer> knownVendorIds(Integer gdprHostVendorId, BidderCatalog bidderCatalog) {
         final Set<Integer> knownVendorIds = bidderCatalog.knownVendorIds();
 
@@ -196,33 +291,155 @@ public abstract class VendorListService<T, V> {
     }
 
     /**
-     * Creates the cache from previously downloaded vendor lists.
+     * Creates the cache from most recent of previously downloaded vendor lists, which are loaded in parallel on
+     * dedicated threads stopped right after.
      */
     private Map<Integer, Map<Integer, V>> createCache(FileSystem fileSystem, String cacheDir) {
-        final Map<String, String> versionToFileContent = readFileSystemCache(fileSystem, cacheDir);
-
         final Map<Integer, Map<Integer, V>> cache = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
                 .<Integer, Map<Integer, V>>build()
                 .asMap();
 
-        for (Map.Entry<String, String> versionAndFileContent : versionToFileContent.entrySet()) {
-            final T vendorList = toVendorList(versionAndFileContent.getValue());
-            final Map<Integer, V> vendorIdToVendors = filterVendorIdToVendors(vendorList);
+        storedVersions.addAll(readFileSystemVersions(fileSystem, cacheDir));
+
+        final List<Integer> versionsToLoad = storedVersions.stream()
+                .sorted(Comparator.reverseOrder())
+                .limit(cacheSize)
+                .collect(Collectors.toList());
+        if (versionsToLoad.isEmpty()) {
+            return cache;
+        }
 
-            cache.put(Integer.valueOf(versionAndFileContent.getKey()), vendorIdToVendors);
+        final ExecutorService loadExecutor = Executors.newFixedThreadPool(
+                Math.min(versionsToLoad.size(), Runtime.getRuntime().availableProcessors()),
+                runnable -> {
+                    final Thread thread = new Thread(runnable, "tcf-" + getTcfVersion() + "-vendor-list-loader");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        try {
+            final List<CompletableFuture<Void>> loadFutures = versionsToLoad.stream()
+                    .map(version -> CompletableFuture.runAsync(
+                            () -> cache.put(version, loadVersion(version)), loadExecutor))
+                    .collect(Collectors.toList());
+
+            CompletableFuture.allOf(loadFutures.toArray(new CompletableFuture[0])).join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+        } finally {
+            loadExecutor.shutdownNow();
         }
+
         return cache;
     }
 
     /**
-     * Reads files with .json extension in configured directory and
-     * returns a {@link Map} where key is a file name without .json extension and value is file content.
+     * Returns versions of vendor lists saved as files with .json extension in configured directory.
      */
-    private Map<String, String> readFileSystemCache(FileSystem fileSystem, String dir) {
+    private static Set<Integer> readFileSystemVersions(FileSystem fileSystem, String dir) {
         return fileSystem.readDirBlocking(dir).stream()
                 .filter(filepath -> filepath.endsWith(JSON_SUFFIX))
-                .collect(Collectors.toMap(filepath -> StringUtils.removeEnd(new File(filepath).getName(), JSON_SUFFIX),
-                        filename -> fileSystem.readFileBlocking(filename).toString()));
+                .map(filepath -> Integer.valueOf(StringUtils.removeEnd(new File(filepath).getName(), JSON_SUFFIX)))
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * Loads vendor list saved on file system from binary file if possible, or from JSON file otherwise.
+     * <p>
+     * Blocks, so must not be called on event loop.
+     */
+    private Map<Integer, V> loadVersion(int version) {
+        final String binaryFilepath = filepath(version, BINARY_SUFFIX);
+        if (fileSystem.existsBlocking(binaryFilepath)) {
+            try {
+                return filterVendorIdToVendors(fromBinary(fileSystem.readFileBlocking(binaryFilepath)));
+            } catch (IOException | RuntimeException e) {
+                logger.warn("Cannot read TCF {0} vendor list binary file {1}, it will be recreated: {2}",
+                        getTcfVersion(), binaryFilepath, e.getMessage());
+            }
+        }
+
+        final T vendorList = toVendorList(fileSystem.readFileBlocking(filepath(version, JSON_SUFFIX)).toString());
+        final Collection<V> vendors = vendors(vendorList);
+        try {
+            fileSystem.writeFileBlocking(binaryFilepath, toBinary(vendors));
+        } catch (RuntimeException e) {
+            logger.warn("Cannot write TCF {0} vendor list binary file {1}: {2}",
+                    getTcfVersion(), binaryFilepath, e.getMessage());
+        }
+
+        return filterVendorIdToVendors(vendors);
+    }
+
+    /**
+     * Loads vendor list saved on file system but evicted from or not yet put to in-memory cache.
+     * <p>
+     * Concurrent requests for the same version share one loading, which is started only after it is registered,
+     * so its completion (probably synchronous) never runs within an update of the loading versions map.
+     */
+    private Future<Map<Integer, V>> loadStoredVersion(int version) {
+        final Promise<Map<Integer, V>> promise = Promise.promise();
+        final Future<Map<Integer, V>> future = promise.future();
+
+        final Future<Map<Integer, V>> loadingFuture = loadingVersions.putIfAbsent(version, future);
+        if (loadingFuture != null) {
+            return loadingFuture;
+        }
+
+        vertx.<Map<Integer, V>>executeBlocking(blockingPromise -> blockingPromise.complete(loadVersion(version)),
+                false, result -> {
+                    if (result.succeeded()) {
+                        cache.put(version, result.result());
+                        loadingVersions.remove(version, future);
+                        promise.complete(result.result());
+                    } else {
+                        // forget about broken files, so that vendor list will be downloaded again on next request
+                        storedVersions.remove(version);
+                        loadingVersions.remove(version, future);
+
+                        final int tcf = getTcfVersion();
+                        logger.warn("Cannot load TCF {0} vendor list for version {1}: {2}",
+                                tcf, version, result.cause().getMessage());
+                        promise.fail(String.format(
+                                "TCF %d vendor list for version %d could not be loaded, try again later.",
+                                tcf, version));
+                    }
+                });
+
+        return future;
+    }
+
+    private String filepath(int version, String suffix) {
+        return new File(cacheDir, version + suffix).getPath();
+    }
+
+    private Buffer toBinary(Collection<V> vendors) {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream output = new DataOutputStream(bytes)) {
+            output.writeInt(BINARY_MAGIC);
+            output.writeInt(binarySchema());
+            output.writeInt(vendors.size());
+            for (V vendor : vendors) {
+                writeVendor(vendor, output);
+            }
+        } catch (IOException e) {
+            throw new PreBidException(String.format("Cannot write vendor list binary: %s", e.getMessage()), e);
+        }
+        return Buffer.buffer(bytes.toByteArray());
+    }
+
+    private List<V> fromBinary(Buffer buffer) throws IOException {
+        final DataInputStream input = new DataInputStream(new ByteArrayInputStream(buffer.getBytes()));
+        if (input.readInt() != BINARY_MAGIC || input.readInt() != binarySchema()) {
+            throw new IOException("unknown binary format");
+        }
+
+        final int size = input.readInt();
+        final List<V> vendors = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            vendors.add(readVendor(input));
+        }
+        return vendors;
     }
 
     private Map<Integer, V> readFallbackVendorList(String fallbackVendorListPath) {
@@ -233,7 +450,7 @@ public abstract class VendorListService<T, V> {
                     "Fallback vendor list parsed but has invalid data: %s", vendorListContent));
         }
 
-        return filterVendorIdToVendors(vendorList);
+        return filterVendorIdToVendors(vendors(vendorList));
     }
 
     private boolean shouldFallback(int version) {
@@ -286,7 +503,7 @@ public abstract class VendorListService<T, V> {
     private Future<VendorListResult<T>> saveToFile(VendorListResult<T> vendorListResult) {
         final Promise<VendorListResult<T>> promise = Promise.promise();
         final int version = vendorListResult.getVersion();
-        final String filepath = new File(cacheDir, version + JSON_SUFFIX).getPath();
+        final String filepath = filepath(version, JSON_SUFFIX);
 
         fileSystem.writeFile(filepath, Buffer.buffer(vendorListResult.getVendorListAsString()), result -> {
             if (result.succeeded()) {
@@ -303,8 +520,11 @@ public abstract class VendorListService<T, V> {
 
     private Void updateCache(VendorListResult<T> vendorListResult) {
         final int version = vendorListResult.getVersion();
+        final Collection<V> vendors = vendors(vendorListResult.getVendorList());
 
-        cache.put(version, filterVendorIdToVendors(vendorListResult.getVendorList()));
+        cache.put(version, filterVendorIdToVendors(vendors));
+        storedVersions.add(version);
+        saveBinaryFile(version, vendors);
 
         final int tcf = getTcfVersion();
 
@@ -317,6 +537,20 @@ public abstract class VendorListService<T, V> {
         return null;
     }
 
+    /**
+     * Saves vendor list in binary format, which is only an optimization, so failures are just logged.
+     */
+    private void saveBinaryFile(int version, Collection<V> vendors) {
+        final String filepath = filepath(version, BINARY_SUFFIX);
+
+        fileSystem.writeFile(filepath, toBinary(vendors), result -> {
+            if (result.failed()) {
+                logger.warn("Could not create TCF {0} binary vendor list for version {1}, file {2}: {3}",
+                        getTcfVersion(), version, filepath, result.cause().getMessage());
+            }
+        });
+    }
+
     /**
      * Handles errors occurred while HTTP or File System processing.
      */
@@ -9,10 +9,13 @@ import org.prebid.server.bidder.BidderCatalog;
 import org.prebid.server.exception.PreBidException;
 import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.metric.Metrics;
+import org.prebid.server.privacy.gdpr.vendorlist.proto.Purpose;
 import org.prebid.server.privacy.gdpr.vendorlist.proto.VendorListV1;
 import org.prebid.server.privacy.gdpr.vendorlist.proto.VendorV1;
 import org.prebid.server.vertx.http.HttpClient;
 
+import java.io.DataInput;
+import java.io.DataOutput;
 import java.io.IOException;
 import java.util.Collection;
 import java.util.Map;
@@ -24,11 +27,13 @@ public class VendorListServiceV1 extends VendorListService<VendorListV1, VendorV
     private static final Logger logger = LoggerFactory.getLogger(VendorListServiceV1.class);
 
     private static final int TCF_VERSION = 1;
+    private static final int BINARY_SCHEMA = enumsBinarySchema(Purpose.class);
 
     public VendorListServiceV1(String cacheDir,
                                String endpointTemplate,
                                int defaultTimeoutMs,
                                long refreshMissingListPeriodMs,
+                               int cacheSize,
                                boolean deprecated,
                                Integer gdprHostVendorId,
                                String fallbackVendorListPath,
@@ -44,6 +49,7 @@ public class VendorListServiceV1 extends VendorListService<VendorListV1, VendorV
                 endpointTemplate,
                 defaultTimeoutMs,
                 refreshMissingListPeriodMs,
+                cacheSize,
                 deprecated,
                 gdprHostVendorId,
                 fallbackVendorListPath,
@@ -66,8 +72,12 @@ public class VendorListServiceV1 extends VendorListService<VendorListV1, VendorV
         }
     }
 
-    protected Map<Integer, VendorV1> filterVendorIdToVendors(VendorListV1 vendorList) {
-        return vendorList.getVendors().stream()
+    protected Collection<VendorV1> vendors(VendorListV1 vendorList) {
+        return vendorList.getVendors();
+    }
+
+    protected Map<Integer, VendorV1> filterVendorIdToVendors(Collection<VendorV1> vendors) {
+        return vendors.stream()
                 .filter(vendor -> knownVendorIds.contains(vendor.getId())) // optimize cache to use only known vendors
                 .collect(Collectors.toMap(VendorV1::getId, Function.identity()));
     }
@@ -84,6 +94,26 @@ public class VendorListServiceV1 extends VendorListService<VendorListV1, VendorV
         return TCF_VERSION;
     }
 
+    @Override
+    protected int binarySchema() {
+        return BINARY_SCHEMA;
+    }
+
+    @Override
+    protected void writeVendor(VendorV1 vendor, DataOutput output) throws IOException {
+        output.writeInt(vendor.getId());
+        output.writeInt(toBits(vendor.getPurposeIds()));
+        output.writeInt(toBits(vendor.getLegIntPurposeIds()));
+    }
+
+    @Override
+    protected VendorV1 readVendor(DataInput input) throws IOException {
+        return VendorV1.of(
+                input.readInt(),
+                fromBits(input.readInt(), Purpose.class),
+                fromBits(input.readInt(), Purpose.class));
+    }
+
     private static boolean isValidVendors(Collection<VendorV1> vendors) {
         return vendors.stream()
                 .allMatch(vendor -> vendor != null
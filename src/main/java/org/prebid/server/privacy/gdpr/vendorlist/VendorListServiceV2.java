@@ -9,13 +9,20 @@ import org.prebid.server.bidder.BidderCatalog;
 import org.prebid.server.exception.PreBidException;
 import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.metric.Metrics;
+import org.prebid.server.privacy.gdpr.vendorlist.proto.Feature;
+import org.prebid.server.privacy.gdpr.vendorlist.proto.Purpose;
+import org.prebid.server.privacy.gdpr.vendorlist.proto.SpecialFeature;
+import org.prebid.server.privacy.gdpr.vendorlist.proto.SpecialPurpose;
 import org.prebid.server.privacy.gdpr.vendorlist.proto.VendorListV2;
 import org.prebid.server.privacy.gdpr.vendorlist.proto.VendorV2;
 import org.prebid.server.vertx.http.HttpClient;
 
+import java.io.DataInput;
+import java.io.DataOutput;
 import java.io.IOException;
 import java.util.Collection;
 import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 public class VendorListServiceV2 extends VendorListService<VendorListV2, VendorV2> {
@@ -23,11 +30,14 @@ public class VendorListServiceV2 extends VendorListService<VendorListV2, VendorV
     private static final Logger logger = LoggerFactory.getLogger(VendorListServiceV2.class);
 
     private static final int TCF_VERSION = 2;
+    private static final int BINARY_SCHEMA =
+            enumsBinarySchema(Purpose.class, SpecialPurpose.class, Feature.class, SpecialFeature.class);
 
     public VendorListServiceV2(String cacheDir,
                                String endpointTemplate,
                                int defaultTimeoutMs,
                                long refreshMissingListPeriodMs,
+                               int cacheSize,
                                boolean deprecated,
                                Integer gdprHostVendorId,
                                String fallbackVendorListPath,
@@ -43,6 +53,7 @@ public class VendorListServiceV2 extends VendorListService<VendorListV2, VendorV
                 endpointTemplate,
                 defaultTimeoutMs,
                 refreshMissingListPeriodMs,
+                cacheSize,
                 deprecated,
                 gdprHostVendorId,
                 fallbackVendorListPath,
@@ -65,9 +76,13 @@ public class VendorListServiceV2 extends VendorListService<VendorListV2, VendorV
         }
     }
 
-    protected Map<Integer, VendorV2> filterVendorIdToVendors(VendorListV2 vendorList) {
-        return vendorList.getVendors().entrySet().stream()
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    protected Collection<VendorV2> vendors(VendorListV2 vendorList) {
+        return vendorList.getVendors().values();
+    }
+
+    protected Map<Integer, VendorV2> filterVendorIdToVendors(Collection<VendorV2> vendors) {
+        return vendors.stream()
+                .collect(Collectors.toMap(VendorV2::getId, Function.identity()));
     }
 
     protected boolean isValid(VendorListV2 vendorList) {
@@ -82,6 +97,35 @@ public class VendorListServiceV2 extends VendorListService<VendorListV2, VendorV
         return TCF_VERSION;
     }
 
+    @Override
+    protected int binarySchema() {
+        return BINARY_SCHEMA;
+    }
+
+    @Override
+    protected void writeVendor(VendorV2 vendor, DataOutput output) throws IOException {
+        output.writeInt(vendor.getId());
+        output.writeInt(toBits(vendor.getPurposes()));
+        output.writeInt(toBits(vendor.getLegIntPurposes()));
+        output.writeInt(toBits(vendor.getFlexiblePurposes()));
+        output.writeInt(toBits(vendor.getSpecialPurposes()));
+        output.writeInt(toBits(vendor.getFeatures()));
+        output.writeInt(toBits(vendor.getSpecialFeatures()));
+    }
+
+    @Override
+    protected VendorV2 readVendor(DataInput input) throws IOException {
+        return VendorV2.builder()
+                .id(input.readInt())
+                .purposes(fromBits(input.readInt(), Purpose.class))
+                .legIntPurposes(fromBits(input.readInt(), Purpose.class))
+                .flexiblePurposes(fromBits(input.readInt(), Purpose.class))
+                .specialPurposes(fromBits(input.readInt(), SpecialPurpose.class))
+                .features(fromBits(input.readInt(), Feature.class))
+                .specialFeatures(fromBits(input.readInt(), SpecialFeature.class))
+                .build();
+    }
+
     private static boolean isValidVendors(Collection<VendorV2> vendors) {
         return vendors.stream()
                 .allMatch(vendor -> vendor != null
@@ -15,6 +15,7 @@ import org.prebid.server.settings.model.Account;
 import org.prebid.server.settings.model.AccountAnalyticsConfig;
 import org.prebid.server.settings.model.AccountBidValidationConfig;
 import org.prebid.server.settings.model.AccountGdprConfig;
+import org.prebid.server.settings.model.AccountRateLimitConfig;
 import org.prebid.server.settings.model.StoredDataResult;
 import org.prebid.server.settings.model.StoredResponseDataResult;
 import org.prebid.server.vertx.jdbc.JdbcClient;
@@ -123,6 +124,8 @@ public class JdbcApplicationSettings implements ApplicationSettings {
                         .defaultIntegration(row.getString(9))
                         .analyticsConfig(toModel(row.getString(10), AccountAnalyticsConfig.class))
                         .bidValidations(toModel(row.getString(11), AccountBidValidationConfig.class))
+                        // column is optional to keep account queries written before it was added working
+                        .rateLimits(row.size() > 12 ? toModel(row.getString(12), AccountRateLimitConfig.class) : null)
                         .build()),
                 timeout)
                 .compose(result -> failedIfNull(result, accountId, "Account"));
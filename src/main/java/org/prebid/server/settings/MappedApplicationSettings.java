@@ -0,0 +1,126 @@
+package org.prebid.server.settings;
+
+import io.vertx.core.Future;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+import org.prebid.server.exception.PreBidException;
+import org.prebid.server.execution.Timeout;
+import org.prebid.server.settings.model.Account;
+import org.prebid.server.settings.model.StoredDataResult;
+import org.prebid.server.settings.model.StoredDataType;
+import org.prebid.server.settings.model.StoredResponseDataResult;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of {@link ApplicationSettings}.
+ * <p>
+ * Serves stored requests and imps from {@link MappedStoredDataCache}s populated by periodic refresh services. Should
+ * be placed in {@link CompositeApplicationSettings} ahead of database, so that only ids missing here are fetched
+ * from it. Refresh services do not tell stored data accounts, so values are looked up by id only. Accounts, ad unit
+ * configs and stored responses are not supported.
+ */
+public class MappedApplicationSettings implements ApplicationSettings {
+
+    private static final Logger logger = LoggerFactory.getLogger(MappedApplicationSettings.class);
+
+    private final MappedStoredDataCache cache;
+    private final MappedStoredDataCache ampCache;
+
+    public MappedApplicationSettings(MappedStoredDataCache cache, MappedStoredDataCache ampCache) {
+        this.cache = Objects.requireNonNull(cache);
+        this.ampCache = Objects.requireNonNull(ampCache);
+    }
+
+    /**
+     * Not supported and returns failed result.
+     */
+    @Override
+    public Future<Account> getAccountById(String accountId, Timeout timeout) {
+        return Future.failedFuture(new PreBidException("Not supported"));
+    }
+
+    /**
+     * Not supported and returns failed result.
+     */
+    @Override
+    public Future<String> getAdUnitConfigById(String adUnitConfigId, Timeout timeout) {
+        return Future.failedFuture(new PreBidException("Not supported"));
+    }
+
+    @Override
+    public Future<StoredDataResult> getStoredData(String accountId, Set<String> requestIds, Set<String> impIds,
+                                                  Timeout timeout) {
+        return Future.succeededFuture(storedDataResult(cache, requestIds, impIds));
+    }
+
+    @Override
+    public Future<StoredDataResult> getAmpStoredData(String accountId, Set<String> requestIds, Set<String> impIds,
+                                                     Timeout timeout) {
+        return Future.succeededFuture(storedDataResult(ampCache, requestIds, Collections.emptySet()));
+    }
+
+    /**
+     * Video stored requests and imps are the same as regular ones.
+     */
+    @Override
+    public Future<StoredDataResult> getVideoStoredData(String accountId, Set<String> requestIds, Set<String> impIds,
+                                                       Timeout timeout) {
+        return Future.succeededFuture(storedDataResult(cache, requestIds, impIds));
+    }
+
+    /**
+     * Not supported and returns result with errors for all ids, so that they are fetched from next source.
+     */
+    @Override
+    public Future<StoredResponseDataResult> getStoredResponses(Set<String> responseIds, Timeout timeout) {
+        return Future.succeededFuture(StoredResponseDataResult.of(Collections.emptyMap(),
+                responseIds.stream()
+                        .map(id -> String.format("No stored %s found for id: %s", StoredDataType.seatbid, id))
+                        .collect(Collectors.toList())));
+    }
+
+    private static StoredDataResult storedDataResult(MappedStoredDataCache cache, Set<String> requestIds,
+                                                     Set<String> impIds) {
+
+        final List<String> errors = new ArrayList<>();
+
+        final Map<String, String> storedIdToRequest = findStoredData(requestIds, StoredDataType.request,
+                cache::getRequest, errors);
+        final Map<String, String> storedIdToImp = findStoredData(impIds, StoredDataType.imp, cache::getImp, errors);
+
+        return StoredDataResult.of(storedIdToRequest, storedIdToImp, errors);
+    }
+
+    private static Map<String, String> findStoredData(Set<String> ids,
+                                                      StoredDataType type,
+                                                      Function<String, String> retriever,
+                                                      List<String> errors) {
+
+        final Map<String, String> idToStoredData = new HashMap<>(ids.size());
+        for (String id : ids) {
+            String storedData;
+            try {
+                storedData = retriever.apply(id);
+            } catch (IllegalStateException e) {
+                logger.warn("Cannot read stored {0} with id {1}", e, type, id);
+                storedData = null;
+            }
+
+            if (storedData != null) {
+                idToStoredData.put(id, storedData);
+            } else {
+                errors.add(String.format("No stored %s found for id: %s", type, id));
+            }
+        }
+        return idToStoredData;
+    }
+}
@@ -0,0 +1,276 @@
+package org.prebid.server.settings;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Promise;
+import io.vertx.core.WorkerExecutor;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+import lombok.Value;
+import org.apache.commons.collections4.MapUtils;
+import org.prebid.server.settings.model.StoredDataType;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Keeps stored requests and imps received from periodic refresh services in memory-mapped file outside of the heap,
+ * so that very large catalogs are neither evicted nor make garbage collection pauses longer.
+ * <p>
+ * Each save or invalidation writes new generation of file on dedicated worker, which copies records of current
+ * generation with changes applied, and then atomically replaces current one. Changes which came while generation
+ * was written are applied together with the next one. Readers keep using generation they started with, so they
+ * never see partially applied changes, and replaced generation is unmapped and deleted once they are done with it.
+ * Therefore disk space for up to two whole generations is needed.
+ * <p>
+ * If new generation cannot be written (e.g. disk is full), current one is kept and its changes are retried with
+ * the next update. Until then, ids changed by them are not served from this cache, so that they are fetched from
+ * next settings source instead of being outdated.
+ * <p>
+ * Registered listeners are notified about changed ids after new generation is published, so that values cached
+ * before can be dropped.
+ */
+public class MappedStoredDataCache implements CacheNotificationListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(MappedStoredDataCache.class);
+
+    private static final String FILE_SUFFIX = ".dat";
+
+    private final Path dir;
+    private final String name;
+    private final int segmentSize;
+    private final WorkerExecutor workerExecutor;
+    private final List<CacheNotificationListener> listeners = new CopyOnWriteArrayList<>();
+    private final Queue<Changes> queuedChanges = new ConcurrentLinkedQueue<>();
+
+    private volatile MappedStoredDataFile current;
+    private volatile Set<String> unpublishedRequests = Collections.emptySet();
+    private volatile Set<String> unpublishedImps = Collections.emptySet();
+    // accessed only by single worker thread
+    private long generation;
+    private Changes failedChanges;
+
+    public MappedStoredDataCache(String dir, String name, WorkerExecutor workerExecutor) {
+        this(dir, name, MappedStoredDataFile.DEFAULT_SEGMENT_SIZE, workerExecutor);
+    }
+
+    MappedStoredDataCache(String dir, String name, int segmentSize, WorkerExecutor workerExecutor) {
+        this.dir = Paths.get(Objects.requireNonNull(dir));
+        this.name = Objects.requireNonNull(name);
+        this.segmentSize = segmentSize;
+        this.workerExecutor = Objects.requireNonNull(workerExecutor);
+
+        deleteStaleFiles();
+    }
+
+    /**
+     * Removes files left by previous runs, as they are not updated by refresh services anymore.
+     */
+    private void deleteStaleFiles() {
+        try {
+            Files.createDirectories(dir);
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(dir, name + "-*" + FILE_SUFFIX)) {
+                for (Path file : files) {
+                    Files.delete(file);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(String.format("Cannot prepare stored data directory %s", dir), e);
+        }
+    }
+
+    /**
+     * Registers listener to be notified about stored requests and imps changed in this cache.
+     */
+    public void addListener(CacheNotificationListener listener) {
+        listeners.add(Objects.requireNonNull(listener));
+    }
+
+    /**
+     * Returns stored request with given id, or null if there is none.
+     */
+    String getRequest(String id) {
+        return unpublishedRequests.contains(id) ? null : get(StoredDataType.request, id);
+    }
+
+    /**
+     * Returns stored imp with given id, or null if there is none.
+     */
+    String getImp(String id) {
+        return unpublishedImps.contains(id) ? null : get(StoredDataType.imp, id);
+    }
+
+    private String get(StoredDataType type, String id) {
+        while (true) {
+            final MappedStoredDataFile file = current;
+            if (file == null) {
+                return null;
+            }
+            // generation was replaced and released meanwhile, so look at the current one again
+            if (file.acquire()) {
+                try {
+                    return file.get(type, id);
+                } finally {
+                    file.release();
+                }
+            }
+        }
+    }
+
+    @Override
+    public void save(Map<String, String> requests, Map<String, String> imps) {
+        update(new Changes(MapUtils.emptyIfNull(requests), MapUtils.emptyIfNull(imps), Collections.emptySet(),
+                Collections.emptySet()));
+    }
+
+    @Override
+    public void invalidate(List<String> requests, List<String> imps) {
+        update(new Changes(Collections.emptyMap(), Collections.emptyMap(), new HashSet<>(requests),
+                new HashSet<>(imps)));
+    }
+
+    private void update(Changes changes) {
+        // refresh services update periodically even without changes, which is used to retry failed ones
+        if (changes.isEmpty() && unpublishedRequests.isEmpty() && unpublishedImps.isEmpty()) {
+            return;
+        }
+
+        if (!changes.isEmpty()) {
+            queuedChanges.add(changes);
+        }
+
+        // single worker thread applies changes in order they came
+        workerExecutor.<Void>executeBlocking(
+                this::publishGeneration,
+                false,
+                result -> notifyListeners(result, changes));
+    }
+
+    private void publishGeneration(Promise<Void> promise) {
+        Changes allChanges = failedChanges;
+        for (Changes changes = queuedChanges.poll(); changes != null; changes = queuedChanges.poll()) {
+            allChanges = allChanges != null ? allChanges.merge(changes) : changes;
+        }
+        // changes were already applied by generation written for previous update
+        if (allChanges == null || allChanges.isEmpty()) {
+            promise.complete();
+            return;
+        }
+
+        final MappedStoredDataFile previous = current;
+        final Path path = dir.resolve(String.format("%s-%d%s", name, ++generation, FILE_SUFFIX));
+
+        try {
+            current = MappedStoredDataFile.write(path, segmentSize, previous, allChanges.getRequests(),
+                    allChanges.getImps(), allChanges.getInvalidatedRequests(), allChanges.getInvalidatedImps());
+            failedChanges = null;
+            unpublishedRequests = Collections.emptySet();
+            unpublishedImps = Collections.emptySet();
+            logger.info("Published {0} generation {1} with {2} records", name, generation, current.size());
+
+            if (previous != null) {
+                previous.release();
+            }
+        } catch (IOException | RuntimeException e) {
+            deleteFile(path);
+
+            // previous generation is kept, changed values are fetched from next settings source until retried
+            failedChanges = allChanges;
+            unpublishedRequests = allChanges.changedRequests();
+            unpublishedImps = allChanges.changedImps();
+            logger.error("Cannot write {0} generation {1}, keeping previous one and retrying {2} changed ids with "
+                    + "next update", e, name, generation, unpublishedRequests.size() + unpublishedImps.size());
+        }
+        promise.complete();
+    }
+
+    private static void deleteFile(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            logger.warn("Cannot delete stored data file {0}", e, path);
+        }
+    }
+
+    private void notifyListeners(AsyncResult<Void> result, Changes changes) {
+        if (result.failed()) {
+            logger.error("Cannot publish {0} generation", result.cause(), name);
+        }
+        if (listeners.isEmpty() || changes.isEmpty()) {
+            return;
+        }
+
+        final List<String> changedRequests = new ArrayList<>(changes.changedRequests());
+        final List<String> changedImps = new ArrayList<>(changes.changedImps());
+
+        listeners.forEach(listener -> listener.invalidate(changedRequests, changedImps));
+    }
+
+    /**
+     * Saved and invalidated stored requests and imps, where later change of the same id wins.
+     */
+    @Value
+    private static class Changes {
+
+        Map<String, String> requests;
+
+        Map<String, String> imps;
+
+        Set<String> invalidatedRequests;
+
+        Set<String> invalidatedImps;
+
+        boolean isEmpty() {
+            return requests.isEmpty() && imps.isEmpty() && invalidatedRequests.isEmpty() && invalidatedImps.isEmpty();
+        }
+
+        Set<String> changedRequests() {
+            return changedIds(requests, invalidatedRequests);
+        }
+
+        Set<String> changedImps() {
+            return changedIds(imps, invalidatedImps);
+        }
+
+        Changes merge(Changes later) {
+            final Map<String, String> mergedRequests = new HashMap<>(requests);
+            final Set<String> mergedInvalidatedRequests = new HashSet<>(invalidatedRequests);
+            mergeIds(mergedRequests, mergedInvalidatedRequests, later.requests, later.invalidatedRequests);
+
+            final Map<String, String> mergedImps = new HashMap<>(imps);
+            final Set<String> mergedInvalidatedImps = new HashSet<>(invalidatedImps);
+            mergeIds(mergedImps, mergedInvalidatedImps, later.imps, later.invalidatedImps);
+
+            return new Changes(mergedRequests, mergedImps, mergedInvalidatedRequests, mergedInvalidatedImps);
+        }
+
+        private static Set<String> changedIds(Map<String, String> saved, Set<String> invalidated) {
+            final Set<String> changedIds = new HashSet<>(saved.keySet());
+            changedIds.addAll(invalidated);
+            return changedIds;
+        }
+
+        private static void mergeIds(Map<String, String> saved, Set<String> invalidated,
+                                     Map<String, String> laterSaved, Set<String> laterInvalidated) {
+
+            invalidated.removeAll(laterSaved.keySet());
+            saved.putAll(laterSaved);
+            saved.keySet().removeAll(laterInvalidated);
+            invalidated.addAll(laterInvalidated);
+        }
+    }
+}
@@ -0,0 +1,520 @@
+package org.prebid.server.settings;
+
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+import org.prebid.server.settings.model.StoredDataType;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Immutable generation of stored requests and imps kept in memory-mapped file, so that it does not occupy heap.
+ * <p>
+ * File consists of header, records with deflated JSON values and open-addressing hash index, which slots point to
+ * records by (type, id). Periodic refresh services do not tell stored data accounts, so records have none.
+ * <p>
+ * Records never cross boundaries of mapped segments, so each of them is read from single {@link ByteBuffer}. All
+ * reads use absolute positions, so instance can be used by many threads at once.
+ * <p>
+ * Instance is reference counted: readers {@link #acquire} it for each lookup, and the owner releases its reference
+ * when generation is replaced. File is unmapped and deleted once the last reference is released, so that neither
+ * address space nor disk space of replaced generations is held until garbage collection.
+ */
+class MappedStoredDataFile {
+
+    private static final Logger logger = LoggerFactory.getLogger(MappedStoredDataFile.class);
+
+    static final int DEFAULT_SEGMENT_SIZE = 1 << 30;
+
+    private static final int MAGIC = 0x50425344;
+    private static final int FORMAT_VERSION = 2;
+    // magic, version, segment size, records count, slots count, reserved and index offset
+    private static final int HEADER_SIZE = 32;
+    // record hash and offset
+    private static final int SLOT_SIZE = 12;
+    private static final int MIN_SLOTS = 16;
+    private static final int MAX_SLOTS = Integer.MAX_VALUE / SLOT_SIZE;
+    private static final byte PADDING = 0;
+    private static final Consumer<ByteBuffer> UNMAPPER = unmapper();
+
+    private final Path path;
+    private final int segmentSize;
+    private final int size;
+    private final int slotsMask;
+    private final long indexOffset;
+    private final ByteBuffer[] segments;
+    private final ByteBuffer index;
+    // owner holds one reference until generation is replaced
+    private final AtomicInteger references = new AtomicInteger(1);
+
+    private MappedStoredDataFile(Path path, int segmentSize, int size, int slots, long indexOffset,
+                                 ByteBuffer[] segments, ByteBuffer index) {
+
+        this.path = path;
+        this.segmentSize = segmentSize;
+        this.size = size;
+        this.slotsMask = slots - 1;
+        this.indexOffset = indexOffset;
+        this.segments = segments;
+        this.index = index;
+    }
+
+    /**
+     * Writes new generation to given path from records of base generation (if present) and given changes, and maps
+     * it to memory.
+     * <p>
+     * Records of base generation with ids from saved or invalidated ones are skipped.
+     */
+    static MappedStoredDataFile write(Path path,
+                                      int segmentSize,
+                                      MappedStoredDataFile base,
+                                      Map<String, String> requests,
+                                      Map<String, String> imps,
+                                      Set<String> invalidatedRequests,
+                                      Set<String> invalidatedImps) throws IOException {
+
+        try (Writer writer = new Writer(path, segmentSize)) {
+            if (base != null) {
+                base.copyTo(writer, requests, imps, invalidatedRequests, invalidatedImps);
+            }
+            writer.writeAll(StoredDataType.request, requests);
+            writer.writeAll(StoredDataType.imp, imps);
+        }
+        return open(path);
+    }
+
+    /**
+     * Maps file written by {@link #write} to memory.
+     */
+    static MappedStoredDataFile open(Path path) throws IOException {
+        try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "r")) {
+            final FileChannel channel = file.getChannel();
+            final MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE);
+            final int magic = header.getInt(0);
+            final int version = header.getInt(4);
+            final int segmentSize = header.getInt(8);
+            final int size = header.getInt(12);
+            final int slots = header.getInt(16);
+            final long indexOffset = header.getLong(24);
+            unmap(header);
+
+            if (magic != MAGIC || version != FORMAT_VERSION) {
+                throw new IOException(String.format("Unknown format of stored data file %s", path));
+            }
+
+            final ByteBuffer[] segments = new ByteBuffer[(int) ((indexOffset + segmentSize - 1) / segmentSize)];
+            for (int i = 0; i < segments.length; i++) {
+                final long start = (long) i * segmentSize;
+                segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, start,
+                        Math.min(segmentSize, indexOffset - start));
+            }
+            final ByteBuffer index = channel.map(FileChannel.MapMode.READ_ONLY, indexOffset, (long) slots * SLOT_SIZE);
+
+            return new MappedStoredDataFile(path, segmentSize, size, slots, indexOffset, segments, index);
+        }
+    }
+
+    /**
+     * Returns number of records in this generation.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Takes reference to this generation, so that it is not unmapped while used. Returns false if generation was
+     * already released and must not be used.
+     */
+    boolean acquire() {
+        int count = references.get();
+        while (count > 0) {
+            if (references.compareAndSet(count, count + 1)) {
+                return true;
+            }
+            count = references.get();
+        }
+        return false;
+    }
+
+    /**
+     * Releases reference taken by {@link #acquire} or owner's one. The last release unmaps and deletes file.
+     */
+    void release() {
+        if (references.decrementAndGet() != 0) {
+            return;
+        }
+
+        for (ByteBuffer segment : segments) {
+            unmap(segment);
+        }
+        unmap(index);
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            logger.warn("Cannot delete stored data file {0}", e, path);
+        }
+    }
+
+    /**
+     * Returns value stored for given id, or null if there is none. Must be called with reference acquired.
+     */
+    String get(StoredDataType type, String id) {
+        final byte[] idBytes = id.getBytes(StandardCharsets.UTF_8);
+        final int hash = hash(type, idBytes);
+        for (int slot = hash & slotsMask; ; slot = (slot + 1) & slotsMask) {
+            final int slotPosition = slot * SLOT_SIZE;
+            final long offset = index.getLong(slotPosition + 4);
+            if (offset == 0) {
+                return null;
+            }
+            if (index.getInt(slotPosition) == hash) {
+                final Record record = new Record(segments[(int) (offset / segmentSize)], (int) (offset % segmentSize));
+                if (record.matches(type, idBytes)) {
+                    return record.value();
+                }
+            }
+        }
+    }
+
+    private void copyTo(Writer writer,
+                        Map<String, String> requests,
+                        Map<String, String> imps,
+                        Set<String> invalidatedRequests,
+                        Set<String> invalidatedImps) throws IOException {
+
+        long offset = HEADER_SIZE;
+        while (offset < indexOffset) {
+            final ByteBuffer segment = segments[(int) (offset / segmentSize)];
+            final int position = (int) (offset % segmentSize);
+            if (segment.get(position) == PADDING) {
+                offset += segmentSize - position;
+                continue;
+            }
+
+            final Record record = new Record(segment, position);
+            final String id = record.id();
+            final boolean replaced = record.type() == StoredDataType.request
+                    ? requests.containsKey(id) || invalidatedRequests.contains(id)
+                    : imps.containsKey(id) || invalidatedImps.contains(id);
+            if (!replaced) {
+                writer.write(record.hash(), record.bytes());
+            }
+            offset += record.length();
+        }
+    }
+
+    private static void unmap(ByteBuffer buffer) {
+        if (UNMAPPER != null) {
+            try {
+                UNMAPPER.accept(buffer);
+            } catch (RuntimeException e) {
+                logger.warn("Cannot unmap stored data file buffer", e);
+            }
+        }
+    }
+
+    /**
+     * Returns function releasing memory of mapped buffer right away, or null if JVM does not allow that and memory
+     * is released when buffer is garbage collected.
+     */
+    private static Consumer<ByteBuffer> unmapper() {
+        try {
+            // Java 9 and later
+            final Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            final Method invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+            final Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            final Object unsafe = theUnsafe.get(null);
+            return buffer -> invoke(invokeCleaner, unsafe, buffer);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // fall back to Java 8 cleaner
+        }
+
+        try {
+            final Method cleaner = Class.forName("sun.nio.ch.DirectBuffer").getMethod("cleaner");
+            final Method clean = Class.forName("sun.misc.Cleaner").getMethod("clean");
+            return buffer -> invoke(clean, invoke(cleaner, buffer));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            logger.warn("Stored data files cannot be unmapped explicitly, their memory is released by garbage "
+                    + "collector", e);
+            return null;
+        }
+    }
+
+    private static Object invoke(Method method, Object target, Object... args) {
+        try {
+            return method.invoke(target, args);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static int hash(StoredDataType type, byte[] id) {
+        int hash = 31 * type.ordinal() + Arrays.hashCode(id);
+
+        // spread bits, so that similar ids do not end up in adjacent slots
+        hash ^= hash >>> 16;
+        hash *= 0x85ebca6b;
+        hash ^= hash >>> 13;
+        hash *= 0xc2b2ae35;
+        hash ^= hash >>> 16;
+        return hash;
+    }
+
+    /**
+     * View of record at given position of segment:
+     * <pre>
+     * byte  type ordinal + 1 (0 is padding till the end of segment)
+     * int   id length, id bytes
+     * int   value length
+     * int   stored value length (equals to value length if value is not deflated), stored value bytes
+     * </pre>
+     */
+    private static class Record {
+
+        private final ByteBuffer segment;
+        private final int position;
+
+        private final int idPosition;
+        private final int idLength;
+        private final int valueLength;
+        private final int storedValuePosition;
+        private final int storedValueLength;
+
+        Record(ByteBuffer segment, int position) {
+            this.segment = segment;
+            this.position = position;
+
+            idLength = segment.getInt(position + 1);
+            idPosition = position + 5;
+            valueLength = segment.getInt(idPosition + idLength);
+            storedValueLength = segment.getInt(idPosition + idLength + 4);
+            storedValuePosition = idPosition + idLength + 8;
+        }
+
+        StoredDataType type() {
+            return StoredDataType.values()[segment.get(position) - 1];
+        }
+
+        int length() {
+            return storedValuePosition + storedValueLength - position;
+        }
+
+        String id() {
+            return new String(readBytes(idPosition, idLength), StandardCharsets.UTF_8);
+        }
+
+        int hash() {
+            return MappedStoredDataFile.hash(type(), readBytes(idPosition, idLength));
+        }
+
+        byte[] bytes() {
+            return readBytes(position, length());
+        }
+
+        boolean matches(StoredDataType type, byte[] id) {
+            return segment.get(position) == type.ordinal() + 1 && equalBytes(idPosition, idLength, id);
+        }
+
+        String value() {
+            final byte[] storedValue = readBytes(storedValuePosition, storedValueLength);
+            if (storedValueLength == valueLength) {
+                return new String(storedValue, StandardCharsets.UTF_8);
+            }
+
+            final Inflater inflater = new Inflater();
+            try {
+                inflater.setInput(storedValue);
+                final byte[] value = new byte[valueLength];
+                if (inflater.inflate(value) != valueLength) {
+                    throw new IllegalStateException("Stored data value is truncated");
+                }
+                return new String(value, StandardCharsets.UTF_8);
+            } catch (DataFormatException e) {
+                throw new IllegalStateException("Stored data value is corrupted", e);
+            } finally {
+                inflater.end();
+            }
+        }
+
+        private boolean equalBytes(int bytesPosition, int length, byte[] bytes) {
+            if (length != bytes.length) {
+                return false;
+            }
+            for (int i = 0; i < length; i++) {
+                if (segment.get(bytesPosition + i) != bytes[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private byte[] readBytes(int bytesPosition, int length) {
+            final byte[] bytes = new byte[length];
+            final ByteBuffer buffer = segment.duplicate();
+            buffer.position(bytesPosition);
+            buffer.get(bytes);
+            return bytes;
+        }
+    }
+
+    /**
+     * Writes records sequentially and builds index over them when closed.
+     */
+    private static class Writer implements AutoCloseable {
+
+        private final Path path;
+        private final int segmentSize;
+        private final DataOutputStream output;
+        private final Deflater deflater = new Deflater();
+        private final ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+        private final byte[] deflateBuffer = new byte[8192];
+
+        private long offset;
+        private int size;
+        private int[] hashes = new int[1024];
+        private long[] offsets = new long[1024];
+
+        Writer(Path path, int segmentSize) throws IOException {
+            if (segmentSize <= HEADER_SIZE) {
+                throw new IllegalArgumentException("Segment size must be greater than header size");
+            }
+            this.path = path;
+            this.segmentSize = segmentSize;
+
+            output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(path.toFile()), 1 << 16));
+            output.write(new byte[HEADER_SIZE]);
+            offset = HEADER_SIZE;
+        }
+
+        void writeAll(StoredDataType type, Map<String, String> idToValue) throws IOException {
+            for (Map.Entry<String, String> entry : idToValue.entrySet()) {
+                writeValue(type, entry.getKey(), entry.getValue());
+            }
+        }
+
+        private void writeValue(StoredDataType type, String id, String value) throws IOException {
+            final byte[] idBytes = id.getBytes(StandardCharsets.UTF_8);
+            final byte[] valueBytes = value.getBytes(StandardCharsets.UTF_8);
+            final byte[] deflatedValue = deflate(valueBytes);
+            final byte[] storedValue = deflatedValue.length < valueBytes.length ? deflatedValue : valueBytes;
+
+            recordBytes.reset();
+            final DataOutputStream record = new DataOutputStream(recordBytes);
+            record.writeByte(type.ordinal() + 1);
+            record.writeInt(idBytes.length);
+            record.write(idBytes);
+            record.writeInt(valueBytes.length);
+            record.writeInt(storedValue.length);
+            record.write(storedValue);
+
+            write(hash(type, idBytes), recordBytes.toByteArray());
+        }
+
+        private byte[] deflate(byte[] value) {
+            deflater.reset();
+            deflater.setInput(value);
+            deflater.finish();
+
+            final ByteArrayOutputStream deflated = new ByteArrayOutputStream(value.length / 2 + 16);
+            while (!deflater.finished()) {
+                deflated.write(deflateBuffer, 0, deflater.deflate(deflateBuffer));
+            }
+            return deflated.toByteArray();
+        }
+
+        void write(int hash, byte[] record) throws IOException {
+            if (record.length > segmentSize) {
+                throw new IOException(String.format("Stored data record of %d bytes exceeds segment size %d",
+                        record.length, segmentSize));
+            }
+
+            final int segmentRemaining = (int) (segmentSize - offset % segmentSize);
+            if (record.length > segmentRemaining) {
+                output.write(new byte[segmentRemaining]);
+                offset += segmentRemaining;
+            }
+
+            if (size == hashes.length) {
+                hashes = Arrays.copyOf(hashes, size * 2);
+                offsets = Arrays.copyOf(offsets, size * 2);
+            }
+            hashes[size] = hash;
+            offsets[size] = offset;
+            size++;
+
+            output.write(record);
+            offset += record.length;
+        }
+
+        @Override
+        public void close() throws IOException {
+            deflater.end();
+            output.close();
+
+            final int slots = slots(size);
+            try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+                final FileChannel channel = file.getChannel();
+                file.setLength(offset + (long) slots * SLOT_SIZE);
+
+                final MappedByteBuffer index =
+                        channel.map(FileChannel.MapMode.READ_WRITE, offset, (long) slots * SLOT_SIZE);
+                final int slotsMask = slots - 1;
+                for (int i = 0; i < size; i++) {
+                    int slot = hashes[i] & slotsMask;
+                    while (index.getLong(slot * SLOT_SIZE + 4) != 0) {
+                        slot = (slot + 1) & slotsMask;
+                    }
+                    index.putInt(slot * SLOT_SIZE, hashes[i]);
+                    index.putLong(slot * SLOT_SIZE + 4, offsets[i]);
+                }
+                unmap(index);
+
+                final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE)
+                        .putInt(MAGIC)
+                        .putInt(FORMAT_VERSION)
+                        .putInt(segmentSize)
+                        .putInt(size)
+                        .putInt(slots)
+                        .putInt(0)
+                        .putLong(offset);
+                header.flip();
+                channel.write(header, 0);
+            }
+        }
+
+        /**
+         * Returns power of two number of slots keeping index at most half full, so that probing stays short.
+         */
+        private static int slots(int size) {
+            int slots = MIN_SLOTS;
+            while (slots < size * 2L) {
+                slots <<= 1;
+                if (slots > MAX_SLOTS) {
+                    throw new IllegalStateException(String.format("Too many stored data records: %d", size));
+                }
+            }
+            return slots;
+        }
+    }
+}
@@ -9,7 +9,9 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -19,6 +21,7 @@ public class SettingsCache implements CacheNotificationListener {
 
     private final Map<String, Set<StoredItem>> requestCache;
     private final Map<String, Set<StoredItem>> impCache;
+    private final List<CacheNotificationListener> listeners = new CopyOnWriteArrayList<>();
 
     public SettingsCache(int ttl, int size) {
         if (ttl <= 0 || size <= 0) {
@@ -36,6 +39,13 @@ public class SettingsCache implements CacheNotificationListener {
                 .asMap();
     }
 
+    /**
+     * Registers listener to be notified about stored requests and imps saved to or invalidated in this cache.
+     */
+    public void addListener(CacheNotificationListener listener) {
+        listeners.add(Objects.requireNonNull(listener));
+    }
+
     Map<String, Set<StoredItem>> getRequestCache() {
         return requestCache;
     }
@@ -72,11 +82,14 @@ public class SettingsCache implements CacheNotificationListener {
         if (MapUtils.isNotEmpty(imps)) {
             imps.forEach((key, value) -> impCache.put(key, Collections.singleton(StoredItem.of(null, value))));
         }
+        listeners.forEach(listener -> listener.save(requests, imps));
     }
 
     @Override
     public void invalidate(List<String> requests, List<String> imps) {
-        requestCache.keySet().removeAll(requests);
-        impCache.keySet().removeAll(imps);
+        // lists may be long and lookups in them slow
+        requestCache.keySet().removeAll(new HashSet<>(requests));
+        impCache.keySet().removeAll(new HashSet<>(imps));
+        listeners.forEach(listener -> listener.invalidate(requests, imps));
     }
 }
@@ -31,6 +31,8 @@ public class Account {
 
     AccountBidValidationConfig bidValidations;
 
+    AccountRateLimitConfig rateLimits;
+
     public static Account empty(String id) {
         return Account.builder()
                 .id(id)
@@ -0,0 +1,16 @@
+package org.prebid.server.settings.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Value;
+
+@Value(staticConstructor = "of")
+public class AccountRateLimitConfig {
+
+    @JsonProperty("requests-per-second")
+    Integer requestsPerSecond;
+
+    Integer burst;
+
+    @JsonProperty("max-concurrent-requests")
+    Integer maxConcurrentRequests;
+}
@@ -1,13 +1,17 @@
 package org.prebid.server.spring.config;
 
+import com.codahale.metrics.MetricRegistry;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.apache.commons.lang3.ObjectUtils;
+import org.prebid.server.bidder.BidderStageProfiler;
 import org.prebid.server.currency.CurrencyConversionService;
 import org.prebid.server.handler.AccountCacheInvalidationHandler;
+import org.prebid.server.handler.BidderCostsHandler;
 import org.prebid.server.handler.CurrencyRatesHandler;
 import org.prebid.server.handler.CustomizedAdminEndpoint;
 import org.prebid.server.handler.HttpInteractionLogHandler;
+import org.prebid.server.handler.LatencyHandler;
 import org.prebid.server.handler.LoggerControlKnobHandler;
 import org.prebid.server.handler.SettingsCacheNotificationHandler;
 import org.prebid.server.handler.VersionHandler;
@@ -15,9 +19,12 @@ import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.log.HttpInteractionLogger;
 import org.prebid.server.log.LoggerControlKnob;
 import org.prebid.server.settings.CachingApplicationSettings;
+import org.prebid.server.settings.MappedStoredDataCache;
 import org.prebid.server.settings.SettingsCache;
 import org.prebid.server.util.VersionInfo;
+import org.prebid.server.vertx.EventLoopMonitor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -73,6 +80,7 @@ public class AdminEndpointsConfiguration {
             + " and ${admin-endpoints.storedrequest.enabled} == true")
     CustomizedAdminEndpoint cacheNotificationEndpoint(
             SettingsCache settingsCache,
+            @Autowired(required = false) @Qualifier("mappedSettingsCache") MappedStoredDataCache mappedCache,
             JacksonMapper mapper,
             @Value("${admin-endpoints.storedrequest.path}") String path,
             @Value("${admin-endpoints.storedrequest.on-application-port}") boolean isOnApplicationPort,
@@ -81,7 +89,7 @@ public class AdminEndpointsConfiguration {
 
         return new CustomizedAdminEndpoint(
                 path,
-                new SettingsCacheNotificationHandler(settingsCache, mapper),
+                new SettingsCacheNotificationHandler(ObjectUtils.defaultIfNull(mappedCache, settingsCache), mapper),
                 isOnApplicationPort,
                 isProtected)
                 .withCredentials(adminEndpointCredentials);
@@ -92,6 +100,7 @@ public class AdminEndpointsConfiguration {
             + " and ${admin-endpoints.storedrequest-amp.enabled} == true")
     CustomizedAdminEndpoint ampCacheNotificationEndpoint(
             SettingsCache ampSettingsCache,
+            @Autowired(required = false) @Qualifier("ampMappedSettingsCache") MappedStoredDataCache ampMappedCache,
             JacksonMapper mapper,
             @Value("${admin-endpoints.storedrequest-amp.path}") String path,
             @Value("${admin-endpoints.storedrequest-amp.on-application-port}") boolean isOnApplicationPort,
@@ -100,7 +109,8 @@ public class AdminEndpointsConfiguration {
 
         return new CustomizedAdminEndpoint(
                 path,
-                new SettingsCacheNotificationHandler(ampSettingsCache, mapper),
+                new SettingsCacheNotificationHandler(
+                        ObjectUtils.defaultIfNull(ampMappedCache, ampSettingsCache), mapper),
                 isOnApplicationPort,
                 isProtected)
                 .withCredentials(adminEndpointCredentials);
@@ -160,6 +170,44 @@ public class AdminEndpointsConfiguration {
                 .withCredentials(adminEndpointCredentials);
     }
 
+    @Bean
+    @ConditionalOnExpression("${auction.bidder-cost-profiling.enabled} == true"
+            + " and ${admin-endpoints.bidder-costs.enabled} == true")
+    CustomizedAdminEndpoint bidderCostsEndpoint(
+            BidderStageProfiler bidderStageProfiler,
+            JacksonMapper mapper,
+            @Value("${admin-endpoints.bidder-costs.path}") String path,
+            @Value("${admin-endpoints.bidder-costs.on-application-port}") boolean isOnApplicationPort,
+            @Value("${admin-endpoints.bidder-costs.protected}") boolean isProtected,
+            @Autowired(required = false) Map<String, String> adminEndpointCredentials) {
+
+        return new CustomizedAdminEndpoint(
+                path,
+                new BidderCostsHandler(bidderStageProfiler, mapper),
+                isOnApplicationPort,
+                isProtected)
+                .withCredentials(adminEndpointCredentials);
+    }
+
+    @Bean
+    @ConditionalOnExpression("${admin-endpoints.latency.enabled} == true")
+    CustomizedAdminEndpoint latencyEndpoint(
+            MetricRegistry metricRegistry,
+            @Autowired(required = false) EventLoopMonitor eventLoopMonitor,
+            JacksonMapper mapper,
+            @Value("${admin-endpoints.latency.path}") String path,
+            @Value("${admin-endpoints.latency.on-application-port}") boolean isOnApplicationPort,
+            @Value("${admin-endpoints.latency.protected}") boolean isProtected,
+            @Autowired(required = false) Map<String, String> adminEndpointCredentials) {
+
+        return new CustomizedAdminEndpoint(
+                path,
+                new LatencyHandler(metricRegistry, eventLoopMonitor, mapper),
+                isOnApplicationPort,
+                isProtected)
+                .withCredentials(adminEndpointCredentials);
+    }
+
     @Bean
     Map<String, String> adminEndpointCredentials(
             @Autowired(required = false) AdminEndpointCredentials adminEndpointCredentials) {
@@ -3,9 +3,12 @@ package org.prebid.server.spring.config;
 import io.vertx.core.Vertx;
 import org.prebid.server.analytics.AnalyticsReporter;
 import org.prebid.server.analytics.CompositeAnalyticsReporter;
+import org.prebid.server.analytics.FileAnalyticsReporter;
 import org.prebid.server.analytics.LogAnalyticsReporter;
 import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.metric.Metrics;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -18,9 +21,20 @@ public class AnalyticsConfiguration {
 
     @Bean
     CompositeAnalyticsReporter compositeAnalyticsReporter(
-            @Autowired(required = false) List<AnalyticsReporter> delegates, Vertx vertx) {
+            @Autowired(required = false) List<AnalyticsReporter> delegates,
+            Vertx vertx,
+            Metrics metrics,
+            @Value("${analytics.buffer.capacity}") int bufferCapacity,
+            @Value("${analytics.buffer.batch-size}") int batchSize,
+            @Value("${analytics.buffer.flush-period-ms}") long flushPeriodMs) {
 
-        return new CompositeAnalyticsReporter(delegates != null ? delegates : Collections.emptyList(), vertx);
+        return new CompositeAnalyticsReporter(
+                delegates != null ? delegates : Collections.emptyList(),
+                vertx,
+                metrics,
+                bufferCapacity,
+                batchSize,
+                flushPeriodMs);
     }
 
     @Bean
@@ -28,4 +42,13 @@ public class AnalyticsConfiguration {
     LogAnalyticsReporter logAnalyticsReporter(JacksonMapper mapper) {
         return new LogAnalyticsReporter(mapper);
     }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "analytics.file", name = "enabled", havingValue = "true")
+    FileAnalyticsReporter fileAnalyticsReporter(@Value("${analytics.file.path}") String path,
+                                                Vertx vertx,
+                                                JacksonMapper mapper) {
+
+        return new FileAnalyticsReporter(path, vertx, mapper);
+    }
 }
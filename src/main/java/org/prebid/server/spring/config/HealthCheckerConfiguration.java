@@ -2,9 +2,11 @@ package org.prebid.server.spring.config;
 
 import io.vertx.core.Vertx;
 import io.vertx.ext.jdbc.JDBCClient;
+import org.prebid.server.bidder.BidderConnectionWarmer;
 import org.prebid.server.execution.TimeoutFactory;
 import org.prebid.server.geolocation.GeoLocationService;
 import org.prebid.server.health.ApplicationChecker;
+import org.prebid.server.health.BidderConnectionsHealthChecker;
 import org.prebid.server.health.DatabaseHealthChecker;
 import org.prebid.server.health.GeoLocationHealthChecker;
 import org.prebid.server.health.HealthChecker;
@@ -41,6 +43,18 @@ public class HealthCheckerConfiguration {
         return new GeoLocationHealthChecker(vertx, refreshPeriod, geoLocationService, timeoutFactory, clock);
     }
 
+    @Bean
+    @ConditionalOnExpression("${health-check.bidder-connections.enabled} == true"
+            + " and ${bidder-connections-warmup.enabled} == true")
+    HealthChecker bidderConnectionsChecker(
+            Vertx vertx,
+            @Value("${health-check.bidder-connections.refresh-period-ms}") long refreshPeriod,
+            BidderConnectionWarmer bidderConnectionWarmer,
+            Clock clock) {
+
+        return new BidderConnectionsHealthChecker(vertx, refreshPeriod, bidderConnectionWarmer, clock);
+    }
+
     @Bean
     HealthChecker applicationChecker(@Value("${status-response}") String statusResponse) {
         return new ApplicationChecker(statusResponse);
@@ -25,10 +25,14 @@ import org.apache.commons.lang3.ObjectUtils;
 import org.prebid.server.bidder.BidderCatalog;
 import org.prebid.server.metric.AccountMetricsVerbosity;
 import org.prebid.server.metric.CounterType;
+import org.prebid.server.metric.HdrMetricRegistry;
+import org.prebid.server.metric.HistogramType;
 import org.prebid.server.metric.Metrics;
+import org.prebid.server.metric.PrometheusMetricsCollector;
 import org.prebid.server.metric.model.AccountMetricsVerbosityLevel;
 import org.prebid.server.vertx.CloseableAdapter;
 import org.prebid.server.vertx.ContextRunner;
+import org.prebid.server.vertx.EventLoopMonitor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -42,6 +46,7 @@ import javax.annotation.PostConstruct;
 import javax.validation.constraints.Min;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
+import java.time.Clock;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -114,8 +119,25 @@ public class MetricsConfiguration {
     }
 
     @Bean
-    MetricRegistry metricRegistry() {
+    @ConditionalOnProperty(prefix = "metrics.event-loop-monitor", name = "enabled", havingValue = "true")
+    EventLoopMonitor eventLoopMonitor(
+            @Value("${metrics.event-loop-monitor.probe-interval-ms}") long probeIntervalMs,
+            @Value("${metrics.event-loop-monitor.blocked-threshold-ms}") long blockedThresholdMs,
+            @Value("${metrics.event-loop-monitor.max-blocked-samples}") int maxBlockedSamples,
+            Metrics metrics,
+            Clock clock) {
+
+        return new EventLoopMonitor(vertx, metrics, clock, probeIntervalMs, blockedThresholdMs, maxBlockedSamples);
+    }
+
+    @Bean
+    MetricRegistry metricRegistry(@Value("${metrics.histogram-type}") HistogramType histogramType,
+                                  @Value("${metrics.hdr-histogram.window-ms}") long hdrHistogramWindowMs,
+                                  Clock clock) {
         final boolean alreadyExists = SharedMetricRegistries.names().contains(METRIC_REGISTRY_NAME);
+        if (!alreadyExists && histogramType == HistogramType.hdr) {
+            SharedMetricRegistries.add(METRIC_REGISTRY_NAME, new HdrMetricRegistry(clock, hdrHistogramWindowMs));
+        }
         final MetricRegistry metricRegistry = SharedMetricRegistries.getOrCreate(METRIC_REGISTRY_NAME);
 
         if (!alreadyExists) {
@@ -233,13 +255,18 @@ public class MetricsConfiguration {
         @Value("${metrics.prometheus.port}")
         private int prometheusPort;
 
+        @Value("${metrics.prometheus.native-collector}")
+        private boolean nativeCollector;
+
         @PostConstruct
         public void startPrometheusServer() {
             logger.info("Starting Prometheus Server on port {0,number,#}", prometheusPort);
             final Router router = Router.router(vertx);
             router.route("/metrics").handler(new MetricsHandler());
 
-            CollectorRegistry.defaultRegistry.register(new DropwizardExports(metricRegistry));
+            CollectorRegistry.defaultRegistry.register(nativeCollector
+                    ? new PrometheusMetricsCollector(metricRegistry)
+                    : new DropwizardExports(metricRegistry));
 
             contextRunner.<HttpServer>runOnServiceContext(promise ->
                     vertx.createHttpServer().requestHandler(router).listen(prometheusPort, promise));
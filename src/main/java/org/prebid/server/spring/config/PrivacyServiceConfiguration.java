@@ -55,6 +55,7 @@ public class PrivacyServiceConfiguration {
             @Value("${gdpr.vendorlist.v1.http-endpoint-template}") String endpointTemplate,
             @Value("${gdpr.vendorlist.default-timeout-ms}") int defaultTimeoutMs,
             @Value("${gdpr.vendorlist.v1.refresh-missing-list-period-ms}") int refreshMissingListPeriodMs,
+            @Value("${gdpr.vendorlist.cache-size}") int cacheSize,
             @Value("${gdpr.host-vendor-id:#{null}}") Integer hostVendorId,
             @Value("${gdpr.vendorlist.v1.fallback-vendor-list-path:#{null}}") String fallbackVendorListPath,
             @Value("${gdpr.vendorlist.v1.deprecated}") boolean deprecated,
@@ -70,6 +71,7 @@ public class PrivacyServiceConfiguration {
                 endpointTemplate,
                 defaultTimeoutMs,
                 refreshMissingListPeriodMs,
+                cacheSize,
                 deprecated,
                 hostVendorId,
                 fallbackVendorListPath,
@@ -87,6 +89,7 @@ public class PrivacyServiceConfiguration {
             @Value("${gdpr.vendorlist.v2.http-endpoint-template}") String endpointTemplate,
             @Value("${gdpr.vendorlist.default-timeout-ms}") int defaultTimeoutMs,
             @Value("${gdpr.vendorlist.v2.refresh-missing-list-period-ms}") int refreshMissingListPeriodMs,
+            @Value("${gdpr.vendorlist.cache-size}") int cacheSize,
             @Value("${gdpr.host-vendor-id:#{null}}") Integer hostVendorId,
             @Value("${gdpr.vendorlist.v2.fallback-vendor-list-path:#{null}}") String fallbackVendorListPath,
             @Value("${gdpr.vendorlist.v2.deprecated}") boolean deprecated,
@@ -102,6 +105,7 @@ public class PrivacyServiceConfiguration {
                 endpointTemplate,
                 defaultTimeoutMs,
                 refreshMissingListPeriodMs,
+                cacheSize,
                 deprecated,
                 hostVendorId,
                 fallbackVendorListPath,
@@ -7,6 +7,7 @@ import io.vertx.core.file.FileSystem;
 import io.vertx.core.http.HttpClientOptions;
 import io.vertx.core.net.JksOptions;
 import org.prebid.server.auction.AmpRequestFactory;
+import org.prebid.server.auction.AmpRequestTemplateCache;
 import org.prebid.server.auction.AmpResponsePostProcessor;
 import org.prebid.server.auction.AuctionRequestFactory;
 import org.prebid.server.auction.BidResponseCreator;
@@ -26,16 +27,24 @@ import org.prebid.server.auction.VideoRequestFactory;
 import org.prebid.server.auction.VideoResponseFactory;
 import org.prebid.server.auction.VideoStoredRequestProcessor;
 import org.prebid.server.bidder.BidderCatalog;
+import org.prebid.server.bidder.BidderConnectionWarmer;
 import org.prebid.server.bidder.BidderDeps;
 import org.prebid.server.bidder.BidderErrorNotifier;
 import org.prebid.server.bidder.BidderRequestCompletionTrackerFactory;
+import org.prebid.server.bidder.BidderRequestCompressor;
+import org.prebid.server.bidder.BidderStageExecutor;
+import org.prebid.server.bidder.BidderStageProfiler;
 import org.prebid.server.bidder.HttpAdapterConnector;
 import org.prebid.server.bidder.HttpBidderRequester;
 import org.prebid.server.cache.CacheService;
+import org.prebid.server.cache.VastXmlProcessor;
 import org.prebid.server.cache.model.CacheTtl;
+import org.prebid.server.cookie.CompactUidsFormat;
 import org.prebid.server.cookie.UidsCookieService;
 import org.prebid.server.currency.CurrencyConversionService;
 import org.prebid.server.events.EventsService;
+import org.prebid.server.execution.AccountRateLimiter;
+import org.prebid.server.execution.AdmissionController;
 import org.prebid.server.execution.TimeoutFactory;
 import org.prebid.server.identity.IdGenerator;
 import org.prebid.server.identity.IdGeneratorType;
@@ -50,6 +59,7 @@ import org.prebid.server.optout.GoogleRecaptchaVerifier;
 import org.prebid.server.privacy.PrivacyExtractor;
 import org.prebid.server.privacy.gdpr.TcfDefinerService;
 import org.prebid.server.settings.ApplicationSettings;
+import org.prebid.server.settings.SettingsCache;
 import org.prebid.server.settings.model.BidValidationEnforcement;
 import org.prebid.server.spring.config.model.CircuitBreakerProperties;
 import org.prebid.server.spring.config.model.ExternalConversionProperties;
@@ -69,6 +79,7 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.context.annotation.Scope;
 import org.springframework.context.annotation.ScopedProxyMode;
 
@@ -94,6 +105,7 @@ public class ServiceConfiguration {
             @Value("${cache.banner-ttl-seconds:#{null}}") Integer bannerCacheTtl,
             @Value("${cache.video-ttl-seconds:#{null}}") Integer videoCacheTtl,
             EventsService eventsService,
+            VastXmlProcessor vastXmlProcessor,
             HttpClient httpClient,
             Metrics metrics,
             Clock clock,
@@ -105,24 +117,37 @@ public class ServiceConfiguration {
                 CacheService.getCacheEndpointUrl(scheme, host, path),
                 CacheService.getCachedAssetUrlTemplate(scheme, host, path, query),
                 eventsService,
+                vastXmlProcessor,
                 metrics,
                 clock,
                 mapper);
     }
 
     @Bean
-    ImplicitParametersExtractor implicitParametersExtractor(PublicSuffixList psl) {
-        return new ImplicitParametersExtractor(psl);
+    VastXmlProcessor vastXmlProcessor() {
+        return new VastXmlProcessor();
+    }
+
+    @Bean
+    ImplicitParametersExtractor implicitParametersExtractor(
+            PublicSuffixList psl,
+            @Value("${hot-path-cache.max-size}") int hotPathCacheMaxSize,
+            Metrics metrics) {
+
+        return new ImplicitParametersExtractor(psl, hotPathCacheMaxSize, metrics);
     }
 
     @Bean
     IpAddressHelper ipAddressHelper(@Value("${ipv6.always-mask-right}") int ipv6AlwaysMaskBits,
                                     @Value("${ipv6.anon-left-mask-bits}") int ipv6AnonLeftMaskBits,
-                                    @Value("${ipv6.private-networks}") String ipv6PrivateNetworksAsString) {
+                                    @Value("${ipv6.private-networks}") String ipv6PrivateNetworksAsString,
+                                    @Value("${hot-path-cache.max-size}") int hotPathCacheMaxSize,
+                                    Metrics metrics) {
 
         final List<String> ipv6LocalNetworks = Arrays.asList(ipv6PrivateNetworksAsString.trim().split(","));
 
-        return new IpAddressHelper(ipv6AlwaysMaskBits, ipv6AnonLeftMaskBits, ipv6LocalNetworks);
+        return new IpAddressHelper(ipv6AlwaysMaskBits, ipv6AnonLeftMaskBits, ipv6LocalNetworks, hotPathCacheMaxSize,
+                metrics);
     }
 
     @Bean
@@ -182,9 +207,15 @@ public class ServiceConfiguration {
                 mapper);
     }
 
+    @Bean
+    AccountRateLimiter accountRateLimiter(@Value("${vertx.http-server-instances}") int httpServerInstances) {
+        return new AccountRateLimiter(httpServerInstances);
+    }
+
     @Bean
     AuctionRequestFactory auctionRequestFactory(
             @Value("${auction.max-request-size}") @Min(0) int maxRequestSize,
+            @Value("${auction.streaming-parse-enabled}") boolean streamingParseEnabled,
             @Value("${settings.enforce-valid-account}") boolean enforceValidAccount,
             @Value("${auction.cache.only-winning-bids}") boolean shouldCacheOnlyWinningBids,
             @Value("${auction.ad-server-currency}") String adServerCurrency,
@@ -202,13 +233,16 @@ public class ServiceConfiguration {
             ApplicationSettings applicationSettings,
             PrivacyEnforcementService privacyEnforcementService,
             IdGenerator idGenerator,
-            JacksonMapper mapper) {
+            JacksonMapper mapper,
+            Metrics metrics,
+            AccountRateLimiter accountRateLimiter) {
 
         final List<String> blacklistedApps = splitToList(blacklistedAppsString);
         final List<String> blacklistedAccounts = splitToList(blacklistedAccountsString);
 
         return new AuctionRequestFactory(
                 maxRequestSize,
+                streamingParseEnabled,
                 enforceValidAccount,
                 shouldCacheOnlyWinningBids,
                 adServerCurrency,
@@ -227,7 +261,9 @@ public class ServiceConfiguration {
                 applicationSettings,
                 idGenerator,
                 privacyEnforcementService,
-                mapper);
+                mapper,
+                metrics,
+                accountRateLimiter);
     }
 
     @Bean
@@ -244,7 +280,8 @@ public class ServiceConfiguration {
                                         ImplicitParametersExtractor implicitParametersExtractor,
                                         FpdResolver fpdResolver,
                                         TimeoutResolver timeoutResolver,
-                                        JacksonMapper mapper) {
+                                        JacksonMapper mapper,
+                                        @Autowired(required = false) AmpRequestTemplateCache ampRequestTemplateCache) {
 
         return new AmpRequestFactory(
                 storedRequestProcessor,
@@ -253,7 +290,21 @@ public class ServiceConfiguration {
                 implicitParametersExtractor,
                 fpdResolver,
                 timeoutResolver,
-                mapper);
+                mapper,
+                ampRequestTemplateCache);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "amp.template-cache", name = "enabled", havingValue = "true")
+    AmpRequestTemplateCache ampRequestTemplateCache(
+            @Value("${amp.template-cache.size}") int size,
+            @Autowired(required = false) @Qualifier("ampSettingsCache") SettingsCache ampSettingsCache) {
+
+        final AmpRequestTemplateCache ampRequestTemplateCache = new AmpRequestTemplateCache(size);
+        if (ampSettingsCache != null) {
+            ampSettingsCache.addListener(ampRequestTemplateCache);
+        }
+        return ampRequestTemplateCache;
     }
 
     @Bean
@@ -284,6 +335,8 @@ public class ServiceConfiguration {
             @Value("${video.stored-request-required}") boolean enforceStoredRequest,
             @Value("${auction.blacklisted-accounts}") String blacklistedAccountsString,
             @Value("${video.stored-requests-timeout-ms}") long defaultTimeoutMs,
+            @Value("${video.pod-imps-cache.enabled}") boolean podImpsCacheEnabled,
+            @Value("${video.pod-imps-cache.size}") int podImpsCacheSize,
             @Value("${auction.ad-server-currency:#{null}}") String adServerCurrency,
             @Value("${default-request.file.path:#{null}}") String defaultBidRequestPath,
             FileSystem fileSystem,
@@ -308,7 +361,8 @@ public class ServiceConfiguration {
                 timeoutFactory,
                 timeoutResolver,
                 mapper,
-                jsonMerger);
+                jsonMerger,
+                podImpsCacheEnabled ? podImpsCacheSize : 0);
     }
 
     @Bean
@@ -334,8 +388,6 @@ public class ServiceConfiguration {
 
     @Bean
     @Scope(scopeName = VertxContextScope.NAME, proxyMode = ScopedProxyMode.INTERFACES)
-    @ConditionalOnProperty(prefix = "http-client.circuit-breaker", name = "enabled", havingValue = "false",
-            matchIfMissing = true)
     BasicHttpClient basicHttpClient(Vertx vertx, HttpClientProperties httpClientProperties) {
         return createBasicHttpClient(vertx, httpClientProperties);
     }
@@ -348,17 +400,16 @@ public class ServiceConfiguration {
     }
 
     @Bean
+    @Primary
     @Scope(scopeName = VertxContextScope.NAME, proxyMode = ScopedProxyMode.INTERFACES)
     @ConditionalOnProperty(prefix = "http-client.circuit-breaker", name = "enabled", havingValue = "true")
     CircuitBreakerSecuredHttpClient circuitBreakerSecuredHttpClient(
             Vertx vertx,
             Metrics metrics,
-            HttpClientProperties httpClientProperties,
+            @Qualifier("basicHttpClient") HttpClient httpClient,
             @Qualifier("httpClientCircuitBreakerProperties") CircuitBreakerProperties circuitBreakerProperties,
             Clock clock) {
 
-        final HttpClient httpClient = createBasicHttpClient(vertx, httpClientProperties);
-
         return new CircuitBreakerSecuredHttpClient(vertx, httpClient, metrics,
                 circuitBreakerProperties.getOpeningThreshold(), circuitBreakerProperties.getOpeningIntervalMs(),
                 circuitBreakerProperties.getClosingIntervalMs(), clock);
@@ -398,6 +449,8 @@ public class ServiceConfiguration {
             @Value("${host-cookie.domain:#{null}}") String hostCookieDomain,
             @Value("${host-cookie.ttl-days}") Integer ttlDays,
             @Value("${host-cookie.max-cookie-size-bytes}") Integer maxCookieSizeBytes,
+            @Value("${host-cookie.compact-format-enabled}") boolean compactFormatEnabled,
+            Clock clock,
             JacksonMapper mapper) {
 
         return new UidsCookieService(
@@ -408,6 +461,8 @@ public class ServiceConfiguration {
                 hostCookieDomain,
                 ttlDays,
                 maxCookieSizeBytes,
+                new CompactUidsFormat(clock),
+                compactFormatEnabled,
                 mapper);
     }
 
@@ -425,9 +480,57 @@ public class ServiceConfiguration {
     HttpBidderRequester httpBidderRequester(
             HttpClient httpClient,
             @Autowired(required = false) BidderRequestCompletionTrackerFactory bidderRequestCompletionTrackerFactory,
-            BidderErrorNotifier bidderErrorNotifier) {
+            BidderErrorNotifier bidderErrorNotifier,
+            @Autowired(required = false) BidderStageExecutor bidderStageExecutor,
+            @Autowired(required = false) BidderStageProfiler bidderStageProfiler,
+            BidderRequestCompressor bidderRequestCompressor,
+            BidderCatalog bidderCatalog) {
+
+        return new HttpBidderRequester(httpClient, bidderRequestCompletionTrackerFactory, bidderErrorNotifier,
+                bidderStageExecutor, bidderStageProfiler, bidderRequestCompressor, bidderCatalog);
+    }
 
-        return new HttpBidderRequester(httpClient, bidderRequestCompletionTrackerFactory, bidderErrorNotifier);
+    @Bean
+    BidderRequestCompressor bidderRequestCompressor(BidderCatalog bidderCatalog, Metrics metrics) {
+        return new BidderRequestCompressor(bidderCatalog, metrics);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "bidder-connections-warmup", name = "enabled", havingValue = "true")
+    BidderConnectionWarmer bidderConnectionWarmer(
+            BidderCatalog bidderCatalog,
+            Vertx vertx,
+            @Qualifier("basicHttpClient") HttpClient httpClient,
+            @Value("${vertx.http-server-instances}") int httpServerNum,
+            @Value("${bidder-connections-warmup.connections-per-host}") int connectionsPerHost,
+            @Value("${bidder-connections-warmup.timeout-ms}") long timeoutMs,
+            @Value("${bidder-connections-warmup.dns-refresh-period-ms}") long dnsRefreshPeriodMs) {
+
+        // basic client shares connection pool with circuit breaker secured one, warm-up should not affect breakers
+        return new BidderConnectionWarmer(bidderCatalog, vertx, httpClient, httpServerNum, connectionsPerHost,
+                timeoutMs, dnsRefreshPeriodMs);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "auction.bidder-stages", name = "enabled", havingValue = "true")
+    BidderStageExecutor bidderStageExecutor(
+            @Value("${auction.bidder-stages.pool-size}") int poolSize,
+            @Value("${auction.bidder-stages.min-bidders}") int minBidders,
+            Vertx vertx,
+            Metrics metrics) {
+
+        return new BidderStageExecutor(
+                vertx.createSharedWorkerExecutor("bidder-stages", poolSize), minBidders, metrics);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "auction.bidder-cost-profiling", name = "enabled", havingValue = "true")
+    BidderStageProfiler bidderStageProfiler(
+            @Value("${auction.bidder-cost-profiling.sampling-rate}") double samplingRate,
+            BidderCatalog bidderCatalog,
+            Metrics metrics) {
+
+        return new BidderStageProfiler(bidderCatalog, samplingRate, metrics);
     }
 
     @Bean
@@ -484,7 +587,8 @@ public class ServiceConfiguration {
             BidResponsePostProcessor bidResponsePostProcessor,
             Metrics metrics,
             Clock clock,
-            JacksonMapper mapper) {
+            JacksonMapper mapper,
+            @Autowired(required = false) AdmissionController admissionController) {
 
         return new ExchangeService(
                 expectedCacheTimeMs,
@@ -499,7 +603,8 @@ public class ServiceConfiguration {
                 bidResponsePostProcessor,
                 metrics,
                 clock,
-                mapper);
+                mapper,
+                admissionController);
     }
 
     @Bean
@@ -511,7 +616,8 @@ public class ServiceConfiguration {
             Metrics metrics,
             TimeoutFactory timeoutFactory,
             JacksonMapper mapper,
-            JsonMerger jsonMerger) {
+            JsonMerger jsonMerger,
+            @Autowired(required = false) AmpRequestTemplateCache ampRequestTemplateCache) {
 
         return StoredRequestProcessor.create(
                 defaultTimeoutMs,
@@ -521,7 +627,8 @@ public class ServiceConfiguration {
                 metrics,
                 timeoutFactory,
                 mapper,
-                jsonMerger);
+                jsonMerger,
+                ampRequestTemplateCache);
     }
 
     @Bean
@@ -18,6 +18,8 @@ import org.prebid.server.settings.CompositeApplicationSettings;
 import org.prebid.server.settings.FileApplicationSettings;
 import org.prebid.server.settings.HttpApplicationSettings;
 import org.prebid.server.settings.JdbcApplicationSettings;
+import org.prebid.server.settings.MappedApplicationSettings;
+import org.prebid.server.settings.MappedStoredDataCache;
 import org.prebid.server.settings.SettingsCache;
 import org.prebid.server.settings.service.HttpPeriodicRefreshService;
 import org.prebid.server.settings.service.JdbcPeriodicRefreshService;
@@ -217,21 +219,23 @@ public class SettingsConfiguration {
         @Bean
         public HttpPeriodicRefreshService httpPeriodicRefreshService(
                 @Value("${settings.in-memory-cache.http-update.endpoint}") String endpoint,
-                SettingsCache settingsCache,
+                @Autowired(required = false) @Qualifier("settingsCache") SettingsCache settingsCache,
+                @Autowired(required = false) @Qualifier("mappedSettingsCache") MappedStoredDataCache mappedCache,
                 JacksonMapper mapper) {
 
-            return new HttpPeriodicRefreshService(
-                    endpoint, refreshPeriod, timeout, settingsCache, vertx, httpClient, mapper);
+            return new HttpPeriodicRefreshService(endpoint, refreshPeriod, timeout,
+                    ObjectUtils.defaultIfNull(mappedCache, settingsCache), vertx, httpClient, mapper);
         }
 
         @Bean
         public HttpPeriodicRefreshService ampHttpPeriodicRefreshService(
                 @Value("${settings.in-memory-cache.http-update.amp-endpoint}") String ampEndpoint,
-                SettingsCache ampSettingsCache,
+                @Autowired(required = false) @Qualifier("ampSettingsCache") SettingsCache ampSettingsCache,
+                @Autowired(required = false) @Qualifier("ampMappedSettingsCache") MappedStoredDataCache ampMappedCache,
                 JacksonMapper mapper) {
 
-            return new HttpPeriodicRefreshService(
-                    ampEndpoint, refreshPeriod, timeout, ampSettingsCache, vertx, httpClient, mapper);
+            return new HttpPeriodicRefreshService(ampEndpoint, refreshPeriod, timeout,
+                    ObjectUtils.defaultIfNull(ampMappedCache, ampSettingsCache), vertx, httpClient, mapper);
         }
     }
 
@@ -264,7 +268,8 @@ public class SettingsConfiguration {
 
         @Bean
         public JdbcPeriodicRefreshService jdbcPeriodicRefreshService(
-                @Qualifier("settingsCache") SettingsCache settingsCache,
+                @Autowired(required = false) @Qualifier("settingsCache") SettingsCache settingsCache,
+                @Autowired(required = false) @Qualifier("mappedSettingsCache") MappedStoredDataCache mappedCache,
                 @Value("${settings.in-memory-cache.jdbc-update.init-query}") String initQuery,
                 @Value("${settings.in-memory-cache.jdbc-update.update-query}") String updateQuery) {
 
@@ -274,7 +279,7 @@ public class SettingsConfiguration {
                     refreshPeriod,
                     timeout,
                     MetricName.stored_request,
-                    settingsCache,
+                    ObjectUtils.defaultIfNull(mappedCache, settingsCache),
                     vertx,
                     jdbcClient,
                     timeoutFactory,
@@ -284,7 +289,8 @@ public class SettingsConfiguration {
 
         @Bean
         public JdbcPeriodicRefreshService ampJdbcPeriodicRefreshService(
-                @Qualifier("ampSettingsCache") SettingsCache ampSettingsCache,
+                @Autowired(required = false) @Qualifier("ampSettingsCache") SettingsCache ampSettingsCache,
+                @Autowired(required = false) @Qualifier("ampMappedSettingsCache") MappedStoredDataCache ampMappedCache,
                 @Value("${settings.in-memory-cache.jdbc-update.amp-init-query}") String ampInitQuery,
                 @Value("${settings.in-memory-cache.jdbc-update.amp-update-query}") String ampUpdateQuery) {
 
@@ -294,7 +300,7 @@ public class SettingsConfiguration {
                     refreshPeriod,
                     timeout,
                     MetricName.amp_stored_request,
-                    ampSettingsCache,
+                    ObjectUtils.defaultIfNull(ampMappedCache, ampSettingsCache),
                     vertx,
                     jdbcClient,
                     timeoutFactory,
@@ -303,6 +309,55 @@ public class SettingsConfiguration {
         }
     }
 
+    /**
+     * Keeps stored requests and imps received by periodic refresh services in memory-mapped files instead of
+     * {@link SettingsCache}s, which are only notified to drop changed values.
+     */
+    @Configuration
+    @ConditionalOnProperty(prefix = "settings.in-memory-cache.mapped", name = "enabled", havingValue = "true")
+    static class MappedSettingsConfiguration {
+
+        @Value("${settings.in-memory-cache.mapped.dir}")
+        String dir;
+
+        @Autowired
+        Vertx vertx;
+
+        @Bean
+        @Qualifier("mappedSettingsCache")
+        MappedStoredDataCache mappedSettingsCache(
+                @Autowired(required = false) @Qualifier("settingsCache") SettingsCache settingsCache) {
+
+            return createMappedCache("stored-data", settingsCache);
+        }
+
+        @Bean
+        @Qualifier("ampMappedSettingsCache")
+        MappedStoredDataCache ampMappedSettingsCache(
+                @Autowired(required = false) @Qualifier("ampSettingsCache") SettingsCache ampSettingsCache) {
+
+            return createMappedCache("amp-stored-data", ampSettingsCache);
+        }
+
+        @Bean
+        MappedApplicationSettings mappedApplicationSettings(
+                @Qualifier("mappedSettingsCache") MappedStoredDataCache mappedSettingsCache,
+                @Qualifier("ampMappedSettingsCache") MappedStoredDataCache ampMappedSettingsCache) {
+
+            return new MappedApplicationSettings(mappedSettingsCache, ampMappedSettingsCache);
+        }
+
+        private MappedStoredDataCache createMappedCache(String name, SettingsCache settingsCache) {
+            // single thread keeps generations in order of changes
+            final MappedStoredDataCache mappedCache = new MappedStoredDataCache(dir, name,
+                    vertx.createSharedWorkerExecutor("mapped-" + name, 1));
+            if (settingsCache != null) {
+                mappedCache.addListener(settingsCache);
+            }
+            return mappedCache;
+        }
+    }
+
     /**
      * This configuration defines a collection of application settings fetchers and its ordering.
      */
@@ -312,11 +367,13 @@ public class SettingsConfiguration {
         @Bean
         CompositeApplicationSettings compositeApplicationSettings(
                 @Autowired(required = false) FileApplicationSettings fileApplicationSettings,
+                @Autowired(required = false) MappedApplicationSettings mappedApplicationSettings,
                 @Autowired(required = false) JdbcApplicationSettings jdbcApplicationSettings,
                 @Autowired(required = false) HttpApplicationSettings httpApplicationSettings) {
 
             final List<ApplicationSettings> applicationSettingsList =
                     Stream.of(fileApplicationSettings,
+                            mappedApplicationSettings,
                             jdbcApplicationSettings,
                             httpApplicationSettings)
                             .filter(Objects::nonNull)
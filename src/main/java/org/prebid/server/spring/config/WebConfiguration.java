@@ -1,5 +1,7 @@
 package org.prebid.server.spring.config;
 
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.http.HttpServer;
@@ -23,10 +25,14 @@ import org.prebid.server.auction.PrivacyEnforcementService;
 import org.prebid.server.auction.VideoRequestFactory;
 import org.prebid.server.auction.VideoResponseFactory;
 import org.prebid.server.bidder.BidderCatalog;
+import org.prebid.server.bidder.BidderConnectionWarmer;
 import org.prebid.server.bidder.HttpAdapterConnector;
+import org.prebid.server.bidder.UsersyncInfoCache;
 import org.prebid.server.cache.CacheService;
 import org.prebid.server.cookie.UidsCookieService;
+import org.prebid.server.execution.AdmissionController;
 import org.prebid.server.execution.TimeoutFactory;
+import org.prebid.server.handler.AdmissionControlHandler;
 import org.prebid.server.handler.AuctionHandler;
 import org.prebid.server.handler.BidderParamHandler;
 import org.prebid.server.handler.CookieSyncHandler;
@@ -47,6 +53,7 @@ import org.prebid.server.health.HealthChecker;
 import org.prebid.server.health.PeriodicHealthChecker;
 import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.log.HttpInteractionLogger;
+import org.prebid.server.metric.MetricName;
 import org.prebid.server.metric.Metrics;
 import org.prebid.server.optout.GoogleRecaptchaVerifier;
 import org.prebid.server.privacy.gdpr.TcfDefinerService;
@@ -54,9 +61,11 @@ import org.prebid.server.settings.ApplicationSettings;
 import org.prebid.server.util.HttpUtil;
 import org.prebid.server.validation.BidderParamValidator;
 import org.prebid.server.vertx.ContextRunner;
+import org.prebid.server.vertx.EventLoopMonitor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -67,8 +76,10 @@ import java.time.Clock;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 @Configuration
@@ -98,20 +109,29 @@ public class WebConfiguration {
     @Value("${http.port}")
     private int httpPort;
 
+    @Autowired(required = false)
+    private BidderConnectionWarmer bidderConnectionWarmer;
+
     @PostConstruct
     public void startHttpServer() {
         logger.info("Starting {0} instances of Http Server to serve requests on port {1,number,#}", httpServerNum,
                 httpPort);
 
+        // connections are pooled per event loop, so they are warmed up on each server context before listening
         contextRunner.<HttpServer>runOnNewContext(httpServerNum, promise ->
-                vertx.createHttpServer(httpServerOptions)
-                        .exceptionHandler(exceptionHandler)
-                        .requestHandler(router)
-                        .listen(httpPort, promise));
+                warmUpBidderConnections().setHandler(ignored ->
+                        vertx.createHttpServer(httpServerOptions)
+                                .exceptionHandler(exceptionHandler)
+                                .requestHandler(router)
+                                .listen(httpPort, promise)));
 
         logger.info("Successfully started {0} instances of Http Server", httpServerNum);
     }
 
+    private Future<Void> warmUpBidderConnections() {
+        return bidderConnectionWarmer != null ? bidderConnectionWarmer.warmUp() : Future.succeededFuture();
+    }
+
     @Bean
     HttpServerOptions httpServerOptions(@Value("${http.max-headers-size}") int maxHeaderSize,
                                         @Value("${http.ssl}") boolean ssl,
@@ -160,12 +180,32 @@ public class WebConfiguration {
                   BidderDetailsHandler bidderDetailsHandler,
                   NotificationEventHandler notificationEventHandler,
                   List<CustomizedAdminEndpoint> customizedAdminEndpoints,
-                  StaticHandler staticHandler) {
+                  StaticHandler staticHandler,
+                  @Autowired(required = false) AdmissionController admissionController,
+                  AdmissionControlProperties admissionControlProperties,
+                  Metrics metrics) {
 
         final Router router = Router.router(vertx);
-        router.route().handler(bodyHandler);
         router.route().handler(noCacheHandler);
         router.route().handler(corsHandler);
+
+        // shed requests are rejected before their body is read
+        if (admissionController != null) {
+            final Map<String, AdmissionController.Priority> accountPriorities =
+                    admissionControlProperties.getAccountPriorities();
+            router.post("/openrtb2/auction").handler(new AdmissionControlHandler(admissionController,
+                    MetricName.auction, admissionControlProperties.getAuctionPriority(), accountPriorities,
+                    HttpResponseStatus.SERVICE_UNAVAILABLE, metrics));
+            // AMP runtime treats no content as no bids
+            router.get("/openrtb2/amp").handler(new AdmissionControlHandler(admissionController,
+                    MetricName.amp, admissionControlProperties.getAmpPriority(), accountPriorities,
+                    HttpResponseStatus.NO_CONTENT, metrics));
+            router.post("/openrtb2/video").handler(new AdmissionControlHandler(admissionController,
+                    MetricName.video, admissionControlProperties.getVideoPriority(), accountPriorities,
+                    HttpResponseStatus.SERVICE_UNAVAILABLE, metrics));
+        }
+
+        router.route().handler(bodyHandler);
         router.post("/auction").handler(auctionHandler);
         router.post("/openrtb2/auction").handler(openrtbAuctionHandler);
         router.get("/openrtb2/amp").handler(openrtbAmpHandler);
@@ -192,6 +232,22 @@ public class WebConfiguration {
         return router;
     }
 
+    @Bean
+    @ConditionalOnProperty(prefix = "auction.admission-control", name = "enabled", havingValue = "true")
+    AdmissionController admissionController(
+            @Autowired(required = false) EventLoopMonitor eventLoopMonitor,
+            AdmissionControlProperties admissionControlProperties) {
+
+        return new AdmissionController(
+                vertx,
+                eventLoopMonitor,
+                admissionControlProperties.getMaxEventLoopLagMs(),
+                admissionControlProperties.getMaxInFlight(),
+                admissionControlProperties.getMaxBidderTimeoutRate(),
+                admissionControlProperties.getBidderTimeoutRateWindowMs(),
+                admissionControlProperties.getMinBidderResponses());
+    }
+
     @Bean
     NoCacheHandler noCacheHandler() {
         return NoCacheHandler.create();
@@ -320,12 +376,14 @@ public class WebConfiguration {
             PrivacyEnforcementService privacyEnforcementService,
             @Value("${gdpr.host-vendor-id:#{null}}") Integer hostVendorId,
             @Value("${cookie-sync.coop-sync.default}") boolean defaultCoopSync,
+            @Value("${cookie-sync.usersync-info-cache-size}") int usersyncInfoCacheSize,
             CompositeAnalyticsReporter analyticsReporter,
             Metrics metrics,
             TimeoutFactory timeoutFactory,
             JacksonMapper mapper) {
         return new CookieSyncHandler(externalUrl, defaultTimeoutMs, uidsCookieService, applicationSettings,
-                bidderCatalog, tcfDefinerService, privacyEnforcementService, hostVendorId,
+                bidderCatalog, new UsersyncInfoCache(usersyncInfoCacheSize), tcfDefinerService,
+                privacyEnforcementService, hostVendorId,
                 defaultCoopSync, coopSyncPriorities.getPri(), analyticsReporter, metrics, timeoutFactory, mapper);
     }
 
@@ -436,6 +494,31 @@ public class WebConfiguration {
         }
     }
 
+    @Component
+    @ConfigurationProperties(prefix = "auction.admission-control")
+    @Data
+    @NoArgsConstructor
+    private static class AdmissionControlProperties {
+
+        private long maxEventLoopLagMs;
+
+        private int maxInFlight;
+
+        private double maxBidderTimeoutRate;
+
+        private long bidderTimeoutRateWindowMs;
+
+        private long minBidderResponses;
+
+        private AdmissionController.Priority auctionPriority = AdmissionController.Priority.normal;
+
+        private AdmissionController.Priority ampPriority = AdmissionController.Priority.normal;
+
+        private AdmissionController.Priority videoPriority = AdmissionController.Priority.normal;
+
+        private Map<String, AdmissionController.Priority> accountPriorities = new HashMap<>();
+    }
+
     @Component
     @ConfigurationProperties(prefix = "cookie-sync.coop-sync")
     @Data
@@ -4,6 +4,8 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.validation.annotation.Validated;
 
+import javax.validation.Valid;
+import javax.validation.constraints.Min;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
 import java.util.List;
@@ -42,4 +44,10 @@ public class BidderConfigurationProperties {
     private UsersyncConfigurationProperties usersync;
 
     private Map<String, String> extraInfo;
+
+    @Valid
+    private RequestCompressionConfigurationProperties requestCompression;
+
+    @Min(1)
+    private Long maxResponseSize;
 }
@@ -0,0 +1,27 @@
+package org.prebid.server.spring.config.bidder.model;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+
+@Validated
+@Data
+@NoArgsConstructor
+public class RequestCompressionConfigurationProperties {
+
+    @NotNull
+    private Boolean enabled;
+
+    @NotNull
+    @Min(0)
+    private Integer minSize = 1024;
+
+    @NotNull
+    @Min(1)
+    @Max(9)
+    private Integer level = 6;
+}
@@ -6,8 +6,10 @@ import org.prebid.server.bidder.BidderDeps;
 import org.prebid.server.bidder.DisabledAdapter;
 import org.prebid.server.bidder.DisabledBidder;
 import org.prebid.server.bidder.Usersyncer;
+import org.prebid.server.bidder.model.RequestCompression;
 import org.prebid.server.proto.response.BidderInfo;
 import org.prebid.server.spring.config.bidder.model.BidderConfigurationProperties;
+import org.prebid.server.spring.config.bidder.model.RequestCompressionConfigurationProperties;
 
 import java.util.List;
 import java.util.function.Supplier;
@@ -26,6 +28,9 @@ public class BidderDepsAssembler {
     private Supplier<Usersyncer> usersyncerCreator;
     private Supplier<Bidder<?>> bidderCreator;
     private Supplier<Adapter<?, ?>> adapterCreator;
+    private RequestCompression requestCompression;
+    private String endpoint;
+    private Long maxResponseSize;
 
     private BidderDepsAssembler() {
         enabled = false;
@@ -61,9 +66,18 @@ public class BidderDepsAssembler {
         enabled = configProperties.getEnabled();
         deprecatedNames = configProperties.getDeprecatedNames();
         aliases = configProperties.getAliases();
+        requestCompression = toRequestCompression(configProperties.getRequestCompression());
+        endpoint = configProperties.getEndpoint();
+        maxResponseSize = configProperties.getMaxResponseSize();
         return this;
     }
 
+    private static RequestCompression toRequestCompression(RequestCompressionConfigurationProperties properties) {
+        return properties != null && Boolean.TRUE.equals(properties.getEnabled())
+                ? RequestCompression.of(properties.getMinSize(), properties.getLevel())
+                : null;
+    }
+
     public BidderDeps assemble() {
         final Usersyncer usersyncer = enabled ? usersyncerCreator.get() : null;
 
@@ -81,6 +95,9 @@ public class BidderDepsAssembler {
                 .usersyncer(usersyncer)
                 .bidder(bidder)
                 .adapter(adapter)
+                .requestCompression(enabled ? requestCompression : null)
+                .endpoint(enabled ? endpoint : null)
+                .maxResponseSize(enabled ? maxResponseSize : null)
                 .build();
     }
 }
@@ -2,6 +2,7 @@ package org.prebid.server.util;
 
 import io.netty.handler.codec.http.HttpHeaderValues;
 import io.netty.handler.codec.http.HttpResponseStatus;
+import io.vertx.core.Handler;
 import io.vertx.core.MultiMap;
 import io.vertx.core.http.Cookie;
 import io.vertx.core.http.HttpHeaders;
@@ -16,6 +17,8 @@ import java.net.URL;
 import java.net.URLDecoder;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
@@ -48,8 +51,11 @@ public final class HttpUtil {
     public static final CharSequence LOCATION_HEADER = HttpHeaders.createOptimized("Location");
     public static final CharSequence CONNECTION_HEADER = HttpHeaders.createOptimized("Connection");
     public static final CharSequence ACCEPT_ENCODING_HEADER = HttpHeaders.createOptimized("Accept-Encoding");
+    public static final CharSequence CONTENT_ENCODING_HEADER = HttpHeaders.createOptimized("Content-Encoding");
     public static final CharSequence X_OPENRTB_VERSION_HEADER = HttpHeaders.createOptimized("x-openrtb-version");
 
+    private static final String RESPONSE_END_HANDLERS_KEY = HttpUtil.class.getName() + ".responseEndHandlers";
+
     private HttpUtil() {
     }
 
@@ -146,6 +152,31 @@ public final class HttpUtil {
         return String.join("; ", cookie.encode(), "SameSite=None; Secure");
     }
 
+    /**
+     * Registers handler to be called once response is ended or connection is closed before that.
+     * <p>
+     * Unlike {@link HttpServerResponse#endHandler(Handler)} any number of handlers can be registered. Handler is
+     * called immediately if response is already ended or closed.
+     */
+    public static void addResponseEndHandler(RoutingContext context, Handler<Void> handler) {
+        final HttpServerResponse response = context.response();
+        if (response.ended() || response.closed()) {
+            handler.handle(null);
+            return;
+        }
+
+        final List<Handler<Void>> existingHandlers = context.get(RESPONSE_END_HANDLERS_KEY);
+        if (existingHandlers != null) {
+            existingHandlers.add(handler);
+            return;
+        }
+
+        final List<Handler<Void>> handlers = new ArrayList<>(2);
+        handlers.add(handler);
+        context.put(RESPONSE_END_HANDLERS_KEY, handlers);
+        response.endHandler(ignored -> handlers.forEach(endHandler -> endHandler.handle(null)));
+    }
+
     /**
      * Sends HTTP response according to the given status and body
      */
@@ -0,0 +1,195 @@
+package org.prebid.server.vertx;
+
+import io.netty.util.concurrent.EventExecutor;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.vertx.model.BlockedTaskSample;
+
+import java.time.Clock;
+import java.time.ZonedDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Monitors responsiveness of Vert.x event loops.
+ * <p>
+ * A probe task is scheduled on every event loop with fixed delay and the drift between expected and actual time
+ * of its execution is reported as event loop lag. A separate watchdog thread checks that probes run in time: if
+ * an event loop has not run its probe for longer than blocked threshold, stack trace of the event loop thread is
+ * captured to reveal the task blocking it. The most recent captured stack traces are kept in memory.
+ */
+public class EventLoopMonitor implements Initializable {
+
+    private static final Logger logger = LoggerFactory.getLogger(EventLoopMonitor.class);
+
+    private final Vertx vertx;
+    private final Metrics metrics;
+    private final Clock clock;
+    private final long probeIntervalNanos;
+    private final long blockedThresholdNanos;
+    private final int maxBlockedTaskSamples;
+
+    private final List<EventLoopProbe> probes = new CopyOnWriteArrayList<>();
+    // guarded by itself
+    private final Deque<BlockedTaskSample> blockedTaskSamples = new ArrayDeque<>();
+
+    public EventLoopMonitor(Vertx vertx,
+                            Metrics metrics,
+                            Clock clock,
+                            long probeIntervalMs,
+                            long blockedThresholdMs,
+                            int maxBlockedTaskSamples) {
+
+        if (probeIntervalMs <= 0 || blockedThresholdMs <= 0) {
+            throw new IllegalArgumentException("Event loop probe interval and blocked threshold must be positive");
+        }
+
+        this.vertx = Objects.requireNonNull(vertx);
+        this.metrics = Objects.requireNonNull(metrics);
+        this.clock = Objects.requireNonNull(clock);
+        this.probeIntervalNanos = TimeUnit.MILLISECONDS.toNanos(probeIntervalMs);
+        this.blockedThresholdNanos = TimeUnit.MILLISECONDS.toNanos(blockedThresholdMs);
+        this.maxBlockedTaskSamples = maxBlockedTaskSamples;
+    }
+
+    @Override
+    public void initialize() {
+        for (final EventExecutor eventLoop : vertx.nettyEventLoopGroup()) {
+            final EventLoopProbe probe = new EventLoopProbe(eventLoop);
+            probes.add(probe);
+            probe.schedule();
+        }
+
+        final ScheduledExecutorService watchdog = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "event-loop-monitor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        watchdog.scheduleWithFixedDelay(
+                this::checkBlockedEventLoops, probeIntervalNanos, probeIntervalNanos, TimeUnit.NANOSECONDS);
+
+        vertx.getOrCreateContext().addCloseHook(completionHandler -> {
+            watchdog.shutdownNow();
+            completionHandler.handle(Future.succeededFuture());
+        });
+    }
+
+    /**
+     * Returns the most recent stack traces of blocked event loop threads, the latest first.
+     */
+    public List<BlockedTaskSample> blockedTaskSamples() {
+        synchronized (blockedTaskSamples) {
+            final List<BlockedTaskSample> result = new ArrayList<>(blockedTaskSamples);
+            Collections.reverse(result);
+            return result;
+        }
+    }
+
+    /**
+     * Returns lag of the event loop the current thread belongs to, or the highest lag among all event loops
+     * if called outside of event loop.
+     */
+    public long currentEventLoopLagNanos() {
+        final Thread currentThread = Thread.currentThread();
+
+        long maxLagNanos = 0L;
+        for (final EventLoopProbe probe : probes) {
+            final long lagNanos = probe.lagNanos();
+            if (probe.thread == currentThread) {
+                return lagNanos;
+            }
+            maxLagNanos = Math.max(maxLagNanos, lagNanos);
+        }
+        return maxLagNanos;
+    }
+
+    private void checkBlockedEventLoops() {
+        for (final EventLoopProbe probe : probes) {
+            final long expectedRunTime = probe.expectedRunTime;
+            final long blockedNanos = System.nanoTime() - expectedRunTime;
+            final Thread thread = probe.thread;
+
+            // report each blocking only once
+            if (blockedNanos > blockedThresholdNanos && thread != null && probe.reportedRunTime != expectedRunTime) {
+                probe.reportedRunTime = expectedRunTime;
+                reportBlocked(thread, TimeUnit.NANOSECONDS.toMillis(blockedNanos));
+            }
+        }
+    }
+
+    private void reportBlocked(Thread thread, long blockedMs) {
+        metrics.updateEventLoopBlockedMetric();
+
+        final List<String> stackTrace = Arrays.stream(thread.getStackTrace())
+                .map(StackTraceElement::toString)
+                .collect(Collectors.toList());
+
+        logger.warn("Event loop thread {0} has been blocked for {1} ms, stack trace:\n\tat {2}",
+                thread.getName(), blockedMs, String.join("\n\tat ", stackTrace));
+
+        final BlockedTaskSample sample =
+                BlockedTaskSample.of(thread.getName(), ZonedDateTime.now(clock), blockedMs, stackTrace);
+        synchronized (blockedTaskSamples) {
+            if (blockedTaskSamples.size() >= maxBlockedTaskSamples) {
+                blockedTaskSamples.pollFirst();
+            }
+            if (maxBlockedTaskSamples > 0) {
+                blockedTaskSamples.addLast(sample);
+            }
+        }
+    }
+
+    private class EventLoopProbe implements Runnable {
+
+        private final EventExecutor eventLoop;
+
+        private volatile Thread thread;
+        private volatile long expectedRunTime;
+        private volatile long lastLagNanos;
+        // accessed by watchdog thread only
+        private long reportedRunTime;
+
+        EventLoopProbe(EventExecutor eventLoop) {
+            this.eventLoop = eventLoop;
+        }
+
+        void schedule() {
+            expectedRunTime = System.nanoTime() + probeIntervalNanos;
+            try {
+                eventLoop.schedule(this, probeIntervalNanos, TimeUnit.NANOSECONDS);
+            } catch (RejectedExecutionException e) {
+                // event loop is shutting down
+                probes.remove(this);
+            }
+        }
+
+        /**
+         * Returns the last measured lag, or the current delay of probe if it is overdue.
+         */
+        long lagNanos() {
+            return Math.max(lastLagNanos, System.nanoTime() - expectedRunTime);
+        }
+
+        @Override
+        public void run() {
+            thread = Thread.currentThread();
+            lastLagNanos = Math.max(System.nanoTime() - expectedRunTime, 0L);
+            metrics.updateEventLoopLagMetric(lastLagNanos);
+            schedule();
+        }
+    }
+}
@@ -4,18 +4,25 @@ import io.vertx.core.Future;
 import io.vertx.core.MultiMap;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpClientRequest;
+import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.HttpMethod;
+import org.apache.commons.lang3.math.NumberUtils;
+import org.prebid.server.exception.ResponseTooLargeException;
 import org.prebid.server.vertx.http.model.HttpClientResponse;
 
 import java.util.Objects;
 import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
 
 /**
  * Simple wrapper around {@link HttpClient} with general functionality.
  */
 public class BasicHttpClient implements HttpClient {
 
+    private static final long UNLIMITED_RESPONSE_SIZE = 0;
+
     private final Vertx vertx;
     private final io.vertx.core.http.HttpClient httpClient;
 
@@ -27,6 +34,31 @@ public class BasicHttpClient implements HttpClient {
     @Override
     public Future<HttpClientResponse> request(HttpMethod method, String url, MultiMap headers, String body,
                                               long timeoutMs) {
+        return request(method, url, headers, body, timeoutMs, UNLIMITED_RESPONSE_SIZE);
+    }
+
+    @Override
+    public Future<HttpClientResponse> request(HttpMethod method, String url, MultiMap headers, String body,
+                                              long timeoutMs, long maxResponseSize) {
+        return doRequest(method, url, headers, timeoutMs, maxResponseSize,
+                body != null ? request -> request.end(body) : HttpClientRequest::end);
+    }
+
+    @Override
+    public Future<HttpClientResponse> requestBinary(HttpMethod method, String url, MultiMap headers, byte[] body,
+                                                    long timeoutMs) {
+        return requestBinary(method, url, headers, body, timeoutMs, UNLIMITED_RESPONSE_SIZE);
+    }
+
+    @Override
+    public Future<HttpClientResponse> requestBinary(HttpMethod method, String url, MultiMap headers, byte[] body,
+                                                    long timeoutMs, long maxResponseSize) {
+        return doRequest(method, url, headers, timeoutMs, maxResponseSize,
+                body != null ? request -> request.end(Buffer.buffer(body)) : HttpClientRequest::end);
+    }
+
+    private Future<HttpClientResponse> doRequest(HttpMethod method, String url, MultiMap headers, long timeoutMs,
+                                                 long maxResponseSize, Consumer<HttpClientRequest> requestEnder) {
         final Promise<HttpClientResponse> promise = Promise.promise();
 
         if (timeoutMs <= 0) {
@@ -40,18 +72,15 @@ public class BasicHttpClient implements HttpClient {
 
             httpClientRequest
                     .setFollowRedirects(true)
-                    .handler(response -> handleResponse(response, promise, timerId))
+                    .handler(response -> handleResponse(
+                            response, promise, timerId, maxResponseSize, httpClientRequest))
                     .exceptionHandler(exception -> failResponse(exception, promise, timerId));
 
             if (headers != null) {
                 httpClientRequest.headers().addAll(headers);
             }
 
-            if (body != null) {
-                httpClientRequest.end(body);
-            } else {
-                httpClientRequest.end();
-            }
+            requestEnder.accept(httpClientRequest);
         }
 
         return promise.future();
@@ -71,12 +100,47 @@ public class BasicHttpClient implements HttpClient {
     }
 
     private void handleResponse(io.vertx.core.http.HttpClientResponse response,
-                                Promise<HttpClientResponse> promise, long timerId) {
+                                Promise<HttpClientResponse> promise, long timerId, long maxResponseSize,
+                                HttpClientRequest httpClientRequest) {
+
+        if (maxResponseSize <= UNLIMITED_RESPONSE_SIZE) {
+            response
+                    .bodyHandler(buffer -> successResponse(buffer.toString(), response, promise, timerId))
+                    .exceptionHandler(exception -> failResponse(exception, promise, timerId));
+            return;
+        }
+
+        if (NumberUtils.toLong(response.getHeader(HttpHeaders.CONTENT_LENGTH), 0) > maxResponseSize) {
+            failTooLargeResponse(promise, timerId, maxResponseSize, httpClientRequest);
+            return;
+        }
+
+        // body is accumulated by chunks to stop reading as soon as the limit is exceeded
+        final Buffer body = Buffer.buffer();
         response
-                .bodyHandler(buffer -> successResponse(buffer.toString(), response, promise, timerId))
+                .handler(chunk -> {
+                    if (body.length() + chunk.length() > maxResponseSize) {
+                        failTooLargeResponse(promise, timerId, maxResponseSize, httpClientRequest);
+                    } else if (!promise.future().isComplete()) {
+                        body.appendBuffer(chunk);
+                    }
+                })
+                .endHandler(ignored -> successResponse(body.toString(), response, promise, timerId))
                 .exceptionHandler(exception -> failResponse(exception, promise, timerId));
     }
 
+    private void failTooLargeResponse(Promise<HttpClientResponse> promise, long timerId, long maxResponseSize,
+                                      HttpClientRequest httpClientRequest) {
+
+        if (!promise.future().isComplete()) {
+            failResponse(new ResponseTooLargeException(
+                    String.format("Response exceeded maximum size of %d bytes", maxResponseSize)), promise, timerId);
+
+            // close connection to stop receiving the rest of response
+            httpClientRequest.reset();
+        }
+    }
+
     private void successResponse(String body, io.vertx.core.http.HttpClientResponse response,
                                  Promise<HttpClientResponse> promise, long timerId) {
         vertx.cancelTimer(timerId);
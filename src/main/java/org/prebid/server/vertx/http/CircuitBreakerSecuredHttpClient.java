@@ -71,6 +71,44 @@ public class CircuitBreakerSecuredHttpClient implements HttpClient {
                 .execute(promise -> httpClient.request(method, url, headers, body, timeoutMs).setHandler(promise));
     }
 
+    @Override
+    public Future<HttpClientResponse> request(HttpMethod method,
+                                              String url,
+                                              MultiMap headers,
+                                              String body,
+                                              long timeoutMs,
+                                              long maxResponseSize) {
+
+        return circuitBreakerByName.computeIfAbsent(nameFrom(url), circuitBreakerCreator)
+                .execute(promise -> httpClient.request(method, url, headers, body, timeoutMs, maxResponseSize)
+                        .setHandler(promise));
+    }
+
+    @Override
+    public Future<HttpClientResponse> requestBinary(HttpMethod method,
+                                                    String url,
+                                                    MultiMap headers,
+                                                    byte[] body,
+                                                    long timeoutMs) {
+
+        return circuitBreakerByName.computeIfAbsent(nameFrom(url), circuitBreakerCreator)
+                .execute(promise -> httpClient.requestBinary(method, url, headers, body, timeoutMs)
+                        .setHandler(promise));
+    }
+
+    @Override
+    public Future<HttpClientResponse> requestBinary(HttpMethod method,
+                                                    String url,
+                                                    MultiMap headers,
+                                                    byte[] body,
+                                                    long timeoutMs,
+                                                    long maxResponseSize) {
+
+        return circuitBreakerByName.computeIfAbsent(nameFrom(url), circuitBreakerCreator)
+                .execute(promise -> httpClient.requestBinary(method, url, headers, body, timeoutMs, maxResponseSize)
+                        .setHandler(promise));
+    }
+
     private CircuitBreaker createCircuitBreaker(String name,
                                                 Vertx vertx,
                                                 int openingThreshold,
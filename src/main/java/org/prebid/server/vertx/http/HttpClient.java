@@ -8,11 +8,30 @@ import org.prebid.server.vertx.http.model.HttpClientResponse;
 /**
  * Interface describes HTTP interactions.
  */
-@FunctionalInterface
 public interface HttpClient {
 
     Future<HttpClientResponse> request(HttpMethod method, String url, MultiMap headers, String body, long timeoutMs);
 
+    /**
+     * Makes request failing with {@link org.prebid.server.exception.ResponseTooLargeException} if response body
+     * exceeds given size in bytes.
+     */
+    Future<HttpClientResponse> request(HttpMethod method, String url, MultiMap headers, String body, long timeoutMs,
+                                       long maxResponseSize);
+
+    /**
+     * Makes request with body sent as is, for example already compressed one.
+     */
+    Future<HttpClientResponse> requestBinary(HttpMethod method, String url, MultiMap headers, byte[] body,
+                                             long timeoutMs);
+
+    /**
+     * Makes request with body sent as is failing with {@link org.prebid.server.exception.ResponseTooLargeException}
+     * if response body exceeds given size in bytes.
+     */
+    Future<HttpClientResponse> requestBinary(HttpMethod method, String url, MultiMap headers, byte[] body,
+                                             long timeoutMs, long maxResponseSize);
+
     default Future<HttpClientResponse> get(String url, MultiMap headers, long timeoutMs) {
         return request(HttpMethod.GET, url, headers, null, timeoutMs);
     }
@@ -0,0 +1,26 @@
+package org.prebid.server.vertx.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+/**
+ * Stack trace of event loop thread captured while it was blocked by a long-running task.
+ */
+@AllArgsConstructor(staticName = "of")
+@Value
+public class BlockedTaskSample {
+
+    String thread;
+
+    ZonedDateTime capturedAt;
+
+    /**
+     * How long the event loop had been blocked when stack trace was captured.
+     */
+    long blockedMs;
+
+    List<String> stackTrace;
+}
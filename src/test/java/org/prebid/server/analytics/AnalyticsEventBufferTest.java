@@ -0,0 +1,54 @@
+package org.prebid.server.analytics;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+public class AnalyticsEventBufferTest {
+
+    @Test
+    public void creationShouldFailOnNonPositiveCapacity() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new AnalyticsEventBuffer(0));
+    }
+
+    @Test
+    public void offerShouldRejectEventsWhenBufferIsFull() {
+        // given
+        final AnalyticsEventBuffer buffer = new AnalyticsEventBuffer(2);
+
+        // when and then
+        assertThat(buffer.offer("event1")).isTrue();
+        assertThat(buffer.offer("event2")).isTrue();
+        assertThat(buffer.offer("event3")).isFalse();
+        assertThat(buffer.size()).isEqualTo(2);
+    }
+
+    @Test
+    public void drainShouldReturnEventsInOrderAndFreeSpace() {
+        // given
+        final AnalyticsEventBuffer buffer = new AnalyticsEventBuffer(2);
+        buffer.offer("event1");
+        buffer.offer("event2");
+
+        // when and then
+        assertThat(buffer.drain()).containsExactly("event1", "event2");
+        assertThat(buffer.size()).isZero();
+
+        assertThat(buffer.offer("event3")).isTrue();
+        assertThat(buffer.drain()).containsExactly("event3");
+        assertThat(buffer.drain()).isEmpty();
+    }
+
+    @Test
+    public void markFlushScheduledShouldReturnTrueOnlyOnceUntilReset() {
+        // given
+        final AnalyticsEventBuffer buffer = new AnalyticsEventBuffer(1);
+
+        // when and then
+        assertThat(buffer.markFlushScheduled()).isTrue();
+        assertThat(buffer.markFlushScheduled()).isFalse();
+        buffer.resetFlushScheduled();
+        assertThat(buffer.markFlushScheduled()).isTrue();
+    }
+}
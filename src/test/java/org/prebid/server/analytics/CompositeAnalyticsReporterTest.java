@@ -10,14 +10,22 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
 import org.mockito.stubbing.Answer;
+import org.prebid.server.analytics.model.NotificationEvent;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.settings.model.Account;
+
+import java.util.List;
 
 import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.willAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
 
 public class CompositeAnalyticsReporterTest {
 
@@ -26,6 +34,8 @@ public class CompositeAnalyticsReporterTest {
 
     @Mock
     private Vertx vertx;
+    @Mock
+    private Metrics metrics;
 
     @Test
     public void shouldPassEventToAllDelegates() {
@@ -35,7 +45,7 @@ public class CompositeAnalyticsReporterTest {
         final AnalyticsReporter reporter1 = mock(AnalyticsReporter.class);
         final AnalyticsReporter reporter2 = mock(AnalyticsReporter.class);
         final CompositeAnalyticsReporter analyticsReporter =
-                new CompositeAnalyticsReporter(asList(reporter1, reporter2), vertx);
+                new CompositeAnalyticsReporter(asList(reporter1, reporter2), vertx, metrics, 0, 0, 0);
 
         willAnswer(withNullAndInvokeHandler()).given(vertx).runOnContext(any());
 
@@ -48,6 +58,48 @@ public class CompositeAnalyticsReporterTest {
         assertThat(captureEvent(reporter2)).isSameAs(event);
     }
 
+    @Test
+    public void shouldNotPassEventToDelegatesIfAccountSamplingFactorIsHuge() {
+        // given
+        final NotificationEvent event = NotificationEvent.builder()
+                .account(Account.builder().analyticsSamplingFactor(Integer.MAX_VALUE).build())
+                .build();
+
+        final AnalyticsReporter reporter = mock(AnalyticsReporter.class);
+        final CompositeAnalyticsReporter analyticsReporter =
+                new CompositeAnalyticsReporter(singletonList(reporter), vertx, metrics, 0, 0, 0);
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            analyticsReporter.processEvent(event);
+        }
+
+        // then
+        verify(metrics, times(10)).updateAnalyticsEventSampledOutMetric();
+        verifyZeroInteractions(reporter);
+    }
+
+    @Test
+    public void shouldPassBufferedEventsToDelegatesInBatchOnFlush() {
+        // given
+        final ArgumentCaptor<Handler<Long>> timerHandlerCaptor = ArgumentCaptor.forClass(Handler.class);
+
+        final AnalyticsReporter reporter = mock(AnalyticsReporter.class);
+        final CompositeAnalyticsReporter analyticsReporter =
+                new CompositeAnalyticsReporter(singletonList(reporter), vertx, metrics, 2, 10, 1000L);
+        verify(vertx).setPeriodic(anyLong(), timerHandlerCaptor.capture());
+
+        // when
+        analyticsReporter.processEvent("event1");
+        analyticsReporter.processEvent("event2");
+        analyticsReporter.processEvent("event3");
+        timerHandlerCaptor.getValue().handle(1L);
+
+        // then
+        verify(metrics).updateAnalyticsEventDroppedMetric();
+        assertThat(captureEvents(reporter)).containsExactly("event1", "event2");
+    }
+
     @SuppressWarnings("unchecked")
     private static Answer<Object> withNullAndInvokeHandler() {
         return invocation -> {
@@ -61,4 +113,11 @@ public class CompositeAnalyticsReporterTest {
         verify(reporter).processEvent(auctionEventCaptor.capture());
         return auctionEventCaptor.getValue();
     }
+
+    @SuppressWarnings("unchecked")
+    private static List<Object> captureEvents(AnalyticsReporter reporter) {
+        final ArgumentCaptor<List<Object>> eventsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(reporter).processEvents(eventsCaptor.capture());
+        return eventsCaptor.getValue();
+    }
 }
@@ -25,6 +25,7 @@ import org.mockito.stubbing.Answer;
 import org.prebid.server.VertxTest;
 import org.prebid.server.auction.model.AuctionContext;
 import org.prebid.server.exception.InvalidRequestException;
+import org.prebid.server.json.JsonMerger;
 import org.prebid.server.metric.MetricName;
 import org.prebid.server.proto.openrtb.ext.request.ExtGranularityRange;
 import org.prebid.server.proto.openrtb.ext.request.ExtPriceGranularity;
@@ -106,7 +107,7 @@ public class AmpRequestFactoryTest extends VertxTest {
                 .getArgument(0));
 
         factory = new AmpRequestFactory(storedRequestProcessor, auctionRequestFactory, ortbTypesResolver,
-                implicitParametersExtractor, fpdResolver, timeoutResolver, jacksonMapper);
+                implicitParametersExtractor, fpdResolver, timeoutResolver, jacksonMapper, null);
     }
 
     @Test
@@ -1286,6 +1287,32 @@ public class AmpRequestFactoryTest extends VertxTest {
                                 .put("attr2", "value2")))).build());
     }
 
+    @Test
+    public void shouldNotShareImpExtContextDataBetweenRequestsForSameCachedTemplate() {
+        // given
+        factory = new AmpRequestFactory(storedRequestProcessor, auctionRequestFactory, ortbTypesResolver,
+                implicitParametersExtractor, new FpdResolver(jacksonMapper, new JsonMerger(jacksonMapper)),
+                timeoutResolver, jacksonMapper, new AmpRequestTemplateCache(10));
+
+        given(httpRequest.getParam("targeting")).willReturn("{\"first\":\"value1\"}", "{\"second\":\"value2\"}");
+
+        givenBidRequest(
+                builder -> builder.ext(ExtRequest.empty()),
+                Imp.builder()
+                        .ext(mapper.createObjectNode().set("context", mapper.createObjectNode()
+                                .set("data", mapper.createObjectNode().put("origin", "value")))).build());
+
+        // when
+        final BidRequest firstRequest = factory.fromRequest(routingContext, 0L).result().getBidRequest();
+        final BidRequest secondRequest = factory.fromRequest(routingContext, 0L).result().getBidRequest();
+
+        // then
+        assertThat(firstRequest.getImp().get(0).getExt().at("/context/data")).isEqualTo(mapper.createObjectNode()
+                .put("first", "value1").put("origin", "value"));
+        assertThat(secondRequest.getImp().get(0).getExt().at("/context/data")).isEqualTo(mapper.createObjectNode()
+                .put("second", "value2").put("origin", "value"));
+    }
+
     @Test
     public void shouldThrowInvalidRequestExceptionWhenTargetingHasTypeOtherToObject() {
         // given
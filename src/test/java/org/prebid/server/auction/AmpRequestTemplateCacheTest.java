@@ -0,0 +1,122 @@
+package org.prebid.server.auction;
+
+import com.iab.openrtb.request.BidRequest;
+import org.junit.Before;
+import org.junit.Test;
+import org.prebid.server.exception.InvalidRequestException;
+
+import java.util.function.UnaryOperator;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class AmpRequestTemplateCacheTest {
+
+    private AmpRequestTemplateCache ampRequestTemplateCache;
+
+    @Before
+    public void setUp() {
+        ampRequestTemplateCache = new AmpRequestTemplateCache(10);
+    }
+
+    @Test
+    public void creationShouldFailOnNonPositiveSize() {
+        assertThatThrownBy(() -> new AmpRequestTemplateCache(0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("size must be positive");
+    }
+
+    @Test
+    public void getMergedRequestShouldReturnBidRequestMergedFromTheSameStoredRequest() {
+        // given
+        final BidRequest bidRequest = BidRequest.builder().id("id").build();
+        ampRequestTemplateCache.putMergedRequest("accountId", "tagId", "{\"id\":\"id\"}", bidRequest);
+
+        // when and then
+        assertThat(ampRequestTemplateCache.getMergedRequest("accountId", "tagId", "{\"id\":\"id\"}"))
+                .isSameAs(bidRequest);
+    }
+
+    @Test
+    public void getMergedRequestShouldReturnNullIfStoredRequestWasChanged() {
+        // given
+        ampRequestTemplateCache.putMergedRequest("accountId", "tagId", "{\"id\":\"id\"}", BidRequest.builder().build());
+
+        // when and then
+        assertThat(ampRequestTemplateCache.getMergedRequest("accountId", "tagId", "{\"id\":\"changed\"}")).isNull();
+    }
+
+    @Test
+    public void getMergedRequestShouldReturnNullForOtherAccount() {
+        // given
+        ampRequestTemplateCache.putMergedRequest("accountId", "tagId", "{}", BidRequest.builder().build());
+
+        // when and then
+        assertThat(ampRequestTemplateCache.getMergedRequest("otherAccountId", "tagId", "{}")).isNull();
+    }
+
+    @Test
+    public void invalidateShouldRemoveMergedRequestsOfAllAccounts() {
+        // given
+        ampRequestTemplateCache.putMergedRequest("accountId", "tagId", "{}", BidRequest.builder().build());
+        ampRequestTemplateCache.putMergedRequest(null, "tagId", "{}", BidRequest.builder().build());
+
+        // when
+        ampRequestTemplateCache.invalidate(singletonList("tagId"), emptyList());
+
+        // then
+        assertThat(ampRequestTemplateCache.getMergedRequest("accountId", "tagId", "{}")).isNull();
+        assertThat(ampRequestTemplateCache.getMergedRequest(null, "tagId", "{}")).isNull();
+    }
+
+    @Test
+    public void saveShouldRemoveMergedRequestsOfSavedStoredRequests() {
+        // given
+        ampRequestTemplateCache.putMergedRequest("accountId", "tagId", "{}", BidRequest.builder().build());
+
+        // when
+        ampRequestTemplateCache.save(singletonMap("tagId", "{}"), null);
+
+        // then
+        assertThat(ampRequestTemplateCache.getMergedRequest("accountId", "tagId", "{}")).isNull();
+    }
+
+    @Test
+    public void getTemplateShouldCreateTemplateOncePerMergedRequestInstance() {
+        // given
+        final BidRequest mergedRequest = BidRequest.builder().id("id").build();
+        final int[] created = {0};
+        final UnaryOperator<BidRequest> templateFactory = bidRequest -> {
+            created[0]++;
+            return bidRequest.toBuilder().test(1).build();
+        };
+
+        // when
+        final BidRequest template = ampRequestTemplateCache.getTemplate(mergedRequest, templateFactory);
+        final BidRequest sameTemplate = ampRequestTemplateCache.getTemplate(mergedRequest, templateFactory);
+        ampRequestTemplateCache.getTemplate(BidRequest.builder().id("id").build(), templateFactory);
+
+        // then
+        assertThat(template).isEqualTo(BidRequest.builder().id("id").test(1).build());
+        assertThat(sameTemplate).isSameAs(template);
+        assertThat(created[0]).isEqualTo(2);
+    }
+
+    @Test
+    public void getTemplateShouldNotCacheFailedTemplate() {
+        // given
+        final BidRequest mergedRequest = BidRequest.builder().build();
+
+        // when
+        assertThatThrownBy(() -> ampRequestTemplateCache.getTemplate(mergedRequest, bidRequest -> {
+            throw new InvalidRequestException("invalid");
+        })).isInstanceOf(InvalidRequestException.class);
+
+        // then
+        assertThat(ampRequestTemplateCache.getTemplate(mergedRequest, bidRequest -> bidRequest))
+                .isSameAs(mergedRequest);
+    }
+}
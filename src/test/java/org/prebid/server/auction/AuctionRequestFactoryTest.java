@@ -38,12 +38,15 @@ import org.prebid.server.exception.BlacklistedAccountException;
 import org.prebid.server.exception.BlacklistedAppException;
 import org.prebid.server.exception.InvalidRequestException;
 import org.prebid.server.exception.PreBidException;
+import org.prebid.server.exception.RateLimitedAccountException;
 import org.prebid.server.exception.UnauthorizedAccountException;
+import org.prebid.server.execution.AccountRateLimiter;
 import org.prebid.server.execution.Timeout;
 import org.prebid.server.execution.TimeoutFactory;
 import org.prebid.server.geolocation.model.GeoInfo;
 import org.prebid.server.identity.IdGenerator;
 import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.privacy.ccpa.Ccpa;
 import org.prebid.server.privacy.gdpr.model.TcfContext;
 import org.prebid.server.privacy.model.Privacy;
@@ -63,9 +66,11 @@ import org.prebid.server.proto.openrtb.ext.request.ExtRequestTargeting;
 import org.prebid.server.proto.openrtb.ext.request.ExtSite;
 import org.prebid.server.settings.ApplicationSettings;
 import org.prebid.server.settings.model.Account;
+import org.prebid.server.settings.model.AccountRateLimitConfig;
 import org.prebid.server.validation.RequestValidator;
 import org.prebid.server.validation.model.ValidationResult;
 
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.time.Clock;
 import java.time.Instant;
@@ -118,6 +123,10 @@ public class AuctionRequestFactoryTest extends VertxTest {
     private IdGenerator idGenerator;
     @Mock
     private PrivacyEnforcementService privacyEnforcementService;
+    @Mock
+    private Metrics metrics;
+    @Mock
+    private AccountRateLimiter accountRateLimiter;
 
     private AuctionRequestFactory factory;
     @Mock
@@ -151,6 +160,7 @@ public class AuctionRequestFactoryTest extends VertxTest {
                 Integer.MAX_VALUE,
                 false,
                 false,
+                false,
                 "USD",
                 BLACKLISTED_APPS,
                 BLACKLISTED_ACCOUNTS,
@@ -167,7 +177,9 @@ public class AuctionRequestFactoryTest extends VertxTest {
                 applicationSettings,
                 idGenerator,
                 privacyEnforcementService,
-                jacksonMapper);
+                jacksonMapper,
+                metrics,
+                accountRateLimiter);
     }
 
     @Test
@@ -190,6 +202,7 @@ public class AuctionRequestFactoryTest extends VertxTest {
         // given
         factory = new AuctionRequestFactory(
                 1000,
+                false,
                 true,
                 false,
                 "USD",
@@ -208,7 +221,9 @@ public class AuctionRequestFactoryTest extends VertxTest {
                 applicationSettings,
                 idGenerator,
                 privacyEnforcementService,
-                jacksonMapper);
+                jacksonMapper,
+                metrics,
+                accountRateLimiter);
 
         givenValidBidRequest();
 
@@ -229,6 +244,7 @@ public class AuctionRequestFactoryTest extends VertxTest {
         // given
         factory = new AuctionRequestFactory(
                 1000,
+                false,
                 true,
                 false,
                 "USD",
@@ -247,7 +263,9 @@ public class AuctionRequestFactoryTest extends VertxTest {
                 applicationSettings,
                 idGenerator,
                 privacyEnforcementService,
-                jacksonMapper);
+                jacksonMapper,
+                metrics,
+                accountRateLimiter);
 
         given(applicationSettings.getAccountById(any(), any()))
                 .willReturn(Future.failedFuture(new PreBidException("Not found")));
@@ -279,6 +297,7 @@ public class AuctionRequestFactoryTest extends VertxTest {
                 1,
                 false,
                 false,
+                false,
                 "USD",
                 BLACKLISTED_APPS,
                 BLACKLISTED_ACCOUNTS,
@@ -295,7 +314,9 @@ public class AuctionRequestFactoryTest extends VertxTest {
                 applicationSettings,
                 idGenerator,
                 privacyEnforcementService,
-                jacksonMapper);
+                jacksonMapper,
+                metrics,
+                accountRateLimiter);
 
         given(routingContext.getBody()).willReturn(Buffer.buffer("body"));
 
@@ -336,6 +357,46 @@ public class AuctionRequestFactoryTest extends VertxTest {
         verify(ortbTypesResolver).normalizeBidRequest(any(), any(), any());
     }
 
+    @Test
+    public void shouldParseRequestWithOrtbFieldsResolverIfStreamingParseEnabled() throws IOException {
+        // given
+        factory = new AuctionRequestFactory(
+                Integer.MAX_VALUE,
+                true,
+                false,
+                false,
+                "USD",
+                BLACKLISTED_APPS,
+                BLACKLISTED_ACCOUNTS,
+                storedRequestProcessor,
+                paramsExtractor,
+                ipAddressHelper,
+                uidsCookieService,
+                bidderCatalog,
+                requestValidator,
+                interstitialProcessor,
+                ortbTypesResolver,
+                timeoutResolver,
+                timeoutFactory,
+                applicationSettings,
+                idGenerator,
+                privacyEnforcementService,
+                jacksonMapper,
+                metrics,
+                accountRateLimiter);
+
+        givenValidBidRequest();
+        given(ortbTypesResolver.parseBidRequest(any(), any(), any(), any()))
+                .willReturn(BidRequest.builder().imp(emptyList()).build());
+
+        // when
+        factory.fromRequest(routingContext, 0L);
+
+        // then
+        verify(ortbTypesResolver).parseBidRequest(any(), any(), any(), any());
+        verify(ortbTypesResolver, never()).normalizeBidRequest(any(), any(), any());
+    }
+
     @Test
     public void shouldSetFieldsFromHeadersIfBodyFieldsEmptyForIpv4() {
         // given
@@ -924,6 +985,7 @@ public class AuctionRequestFactoryTest extends VertxTest {
         factory = new AuctionRequestFactory(
                 Integer.MAX_VALUE,
                 false,
+                false,
                 true,
                 "USD",
                 BLACKLISTED_APPS,
@@ -941,7 +1003,9 @@ public class AuctionRequestFactoryTest extends VertxTest {
                 applicationSettings,
                 idGenerator,
                 privacyEnforcementService,
-                jacksonMapper);
+                jacksonMapper,
+                metrics,
+                accountRateLimiter);
         givenBidRequest(BidRequest.builder()
                 .imp(singletonList(Imp.builder().ext(mapper.createObjectNode()).build()))
                 .ext(ExtRequest.of(ExtRequestPrebid.builder()
@@ -967,6 +1031,7 @@ public class AuctionRequestFactoryTest extends VertxTest {
         factory = new AuctionRequestFactory(
                 Integer.MAX_VALUE,
                 false,
+                false,
                 true,
                 "USD",
                 BLACKLISTED_APPS,
@@ -984,7 +1049,9 @@ public class AuctionRequestFactoryTest extends VertxTest {
                 applicationSettings,
                 idGenerator,
                 privacyEnforcementService,
-                jacksonMapper);
+                jacksonMapper,
+                metrics,
+                accountRateLimiter);
 
         givenBidRequest(BidRequest.builder()
                 .imp(singletonList(Imp.builder().ext(mapper.createObjectNode()).build()))
@@ -1009,6 +1076,7 @@ public class AuctionRequestFactoryTest extends VertxTest {
         factory = new AuctionRequestFactory(
                 Integer.MAX_VALUE,
                 false,
+                false,
                 true,
                 "USD",
                 BLACKLISTED_APPS,
@@ -1026,7 +1094,9 @@ public class AuctionRequestFactoryTest extends VertxTest {
                 applicationSettings,
                 idGenerator,
                 privacyEnforcementService,
-                jacksonMapper);
+                jacksonMapper,
+                metrics,
+                accountRateLimiter);
 
         givenBidRequest(BidRequest.builder()
                 .imp(singletonList(Imp.builder().ext(mapper.createObjectNode()).build()))
@@ -1051,6 +1121,7 @@ public class AuctionRequestFactoryTest extends VertxTest {
         factory = new AuctionRequestFactory(
                 Integer.MAX_VALUE,
                 false,
+                false,
                 true,
                 "USD",
                 BLACKLISTED_APPS,
@@ -1068,7 +1139,9 @@ public class AuctionRequestFactoryTest extends VertxTest {
                 applicationSettings,
                 idGenerator,
                 privacyEnforcementService,
-                jacksonMapper);
+                jacksonMapper,
+                metrics,
+                accountRateLimiter);
 
         givenBidRequest(BidRequest.builder()
                 .imp(singletonList(Imp.builder().ext(mapper.createObjectNode()).build()))
@@ -1119,6 +1192,7 @@ public class AuctionRequestFactoryTest extends VertxTest {
         factory = new AuctionRequestFactory(
                 Integer.MAX_VALUE,
                 false,
+                false,
                 true,
                 "USD",
                 BLACKLISTED_APPS,
@@ -1136,7 +1210,9 @@ public class AuctionRequestFactoryTest extends VertxTest {
                 applicationSettings,
                 idGenerator,
                 privacyEnforcementService,
-                jacksonMapper);
+                jacksonMapper,
+                metrics,
+                accountRateLimiter);
 
         givenBidRequest(BidRequest.builder()
                 .imp(singletonList(Imp.builder().ext(mapper.createObjectNode()).build()))
@@ -1164,6 +1240,7 @@ public class AuctionRequestFactoryTest extends VertxTest {
                 Integer.MAX_VALUE,
                 false,
                 false,
+                false,
                 "USD",
                 BLACKLISTED_APPS,
                 BLACKLISTED_ACCOUNTS,
@@ -1180,7 +1257,9 @@ public class AuctionRequestFactoryTest extends VertxTest {
                 applicationSettings,
                 idGenerator,
                 privacyEnforcementService,
-                jacksonMapper);
+                jacksonMapper,
+                metrics,
+                accountRateLimiter);
 
         final ExtRequest extBidRequest = ExtRequest.of(ExtRequestPrebid.builder()
                 .cache(ExtRequestPrebidCache.of(null, null, null))
@@ -1440,6 +1519,34 @@ public class AuctionRequestFactoryTest extends VertxTest {
                         + "server host.");
     }
 
+    @Test
+    public void shouldReturnFailedFutureWhenAccountRateLimitIsExceeded() {
+        // given
+        givenBidRequest(BidRequest.builder()
+                .site(Site.builder()
+                        .publisher(Publisher.builder().id("accountId").build()).build())
+                .build());
+
+        final Account account = Account.builder()
+                .id("accountId")
+                .rateLimits(AccountRateLimitConfig.of(10, null, null))
+                .build();
+        given(applicationSettings.getAccountById(any(), any())).willReturn(Future.succeededFuture(account));
+        given(accountRateLimiter.tryAcquire(any())).willReturn(MetricName.rate_limited);
+
+        // when
+        final Future<AuctionContext> result = factory.fromRequest(routingContext, 0);
+
+        // then
+        verify(metrics).updateAccountRequestLimitedMetrics("accountId", MetricName.rate_limited);
+        verifyZeroInteractions(privacyEnforcementService);
+
+        assertThat(result.failed()).isTrue();
+        assertThat(result.cause())
+                .isInstanceOf(RateLimitedAccountException.class)
+                .hasMessage("Too many requests for account id: accountId");
+    }
+
     @Test
     public void shouldReturnFailedFutureWhenAppIdIsBlacklisted() {
         // given
@@ -47,6 +47,7 @@ import org.prebid.server.cookie.UidsCookie;
 import org.prebid.server.currency.CurrencyConversionService;
 import org.prebid.server.exception.InvalidRequestException;
 import org.prebid.server.exception.PreBidException;
+import org.prebid.server.execution.AdmissionController;
 import org.prebid.server.execution.Timeout;
 import org.prebid.server.execution.TimeoutFactory;
 import org.prebid.server.metric.MetricName;
@@ -118,6 +119,7 @@ import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.anyInt;
 import static org.mockito.Mockito.anyList;
+import static org.mockito.Mockito.anyLong;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -154,6 +156,8 @@ public class ExchangeServiceTest extends VertxTest {
     @Mock
     private Metrics metrics;
     @Mock
+    private AdmissionController admissionController;
+    @Mock
     private UidsCookie uidsCookie;
 
     private Clock clock;
@@ -215,7 +219,8 @@ public class ExchangeServiceTest extends VertxTest {
                 bidResponsePostProcessor,
                 metrics,
                 clock,
-                jacksonMapper);
+                jacksonMapper,
+                admissionController);
     }
 
     @Test
@@ -234,7 +239,8 @@ public class ExchangeServiceTest extends VertxTest {
                         bidResponsePostProcessor,
                         metrics,
                         clock,
-                        jacksonMapper));
+                        jacksonMapper,
+                        admissionController));
     }
 
     @Test
@@ -1841,7 +1847,8 @@ public class ExchangeServiceTest extends VertxTest {
                 bidResponsePostProcessor,
                 metrics,
                 clock,
-                jacksonMapper);
+                jacksonMapper,
+                admissionController);
 
         final Bid bid = Bid.builder().id("bidId1").impid("impId1").price(BigDecimal.valueOf(5.67)).build();
         givenBidder(givenSeatBid(singletonList(givenBid(bid))));
@@ -2195,6 +2202,23 @@ public class ExchangeServiceTest extends VertxTest {
         verify(metrics).updateAdapterBidMetrics(eq("someBidder"), eq("accountId"), eq(10000L), eq(false), eq("banner"));
     }
 
+    @Test
+    public void shouldUpdateAuctionStageTimeMetrics() {
+        // given
+        given(httpBidderRequester.requestBids(any(), any(), any(), anyBoolean()))
+                .willReturn(Future.succeededFuture(givenSeatBid(singletonList(
+                        givenBid(Bid.builder().price(TEN).build())))));
+
+        final BidRequest bidRequest = givenBidRequest(givenSingleImp(singletonMap("someBidder", 1)));
+
+        // when
+        exchangeService.holdAuction(givenRequestContext(bidRequest));
+
+        // then
+        verify(metrics).updateAuctionStageTimeMetric(eq(MetricName.bidder_requests), anyLong());
+        verify(metrics).updateAuctionStageTimeMetric(eq(MetricName.bid_response_creation), anyLong());
+    }
+
     @Test
     public void shouldCallUpdateCookieMetricsWithExpectedValue() {
         // given
@@ -2272,6 +2296,27 @@ public class ExchangeServiceTest extends VertxTest {
         verify(metrics).updateAdapterRequestErrorMetric(eq("someBidder"), eq(MetricName.unknown_error));
     }
 
+    @Test
+    public void shouldRecordBidderResponsesInAdmissionController() {
+        // given
+        final Bidder<?> bidder1 = mock(Bidder.class);
+        final Bidder<?> bidder2 = mock(Bidder.class);
+        givenBidder("bidder1", bidder1, givenSeatBid(emptyList()));
+        givenBidder("bidder2", bidder2, BidderSeatBid.of(emptyList(), emptyList(),
+                singletonList(BidderError.timeout("timeout error"))));
+
+        final BidRequest bidRequest = givenBidRequest(asList(
+                givenImp(singletonMap("bidder1", 1), identity()),
+                givenImp(singletonMap("bidder2", 2), identity())));
+
+        // when
+        exchangeService.holdAuction(givenRequestContext(bidRequest));
+
+        // then
+        verify(admissionController).recordBidderResponse(false);
+        verify(admissionController).recordBidderResponse(true);
+    }
+
     @Test
     public void shouldPassResponseToPostProcessor() {
         // given
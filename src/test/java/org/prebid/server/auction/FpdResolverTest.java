@@ -424,6 +424,21 @@ public class FpdResolverTest extends VertxTest {
                         .put("originAttr", "originValue").put("fpdAttr", "fpdValue2"))));
     }
 
+    @Test
+    public void resolveImpExtShouldNotModifyPassedExtImp() {
+        // given
+        final ObjectNode extImp = mapper.createObjectNode().set("context", mapper.createObjectNode()
+                .set("data", mapper.createObjectNode().put("originAttr", "originValue")));
+        final ObjectNode targeting = mapper.createObjectNode().put("fpdAttr", "fpdValue");
+
+        // when
+        fpdResolver.resolveImpExt(extImp, targeting);
+
+        // then
+        assertThat(extImp).isEqualTo(mapper.createObjectNode().set("context", mapper.createObjectNode()
+                .set("data", mapper.createObjectNode().put("originAttr", "originValue"))));
+    }
+
     @Test
     public void resolveImpExtShouldCreateExtImpContextDataIfExtImpIsNull() {
         // given
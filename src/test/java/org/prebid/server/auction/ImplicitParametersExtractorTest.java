@@ -12,6 +12,8 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
 import org.prebid.server.exception.PreBidException;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.util.HttpUtil;
 
 import java.net.MalformedURLException;
@@ -19,6 +21,7 @@ import java.net.MalformedURLException;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
 
 public class ImplicitParametersExtractorTest {
 
@@ -30,13 +33,15 @@ public class ImplicitParametersExtractorTest {
     private ImplicitParametersExtractor extractor;
     @Mock
     private HttpServerRequest httpRequest;
+    @Mock
+    private Metrics metrics;
 
     @Before
     public void setUp() {
         // minimal request
         given(httpRequest.headers()).willReturn(new CaseInsensitiveHeaders());
 
-        extractor = new ImplicitParametersExtractor(psl);
+        extractor = new ImplicitParametersExtractor(psl, 100, metrics);
     }
 
     @Test
@@ -112,6 +117,30 @@ public class ImplicitParametersExtractorTest {
         assertThat(extractor.domainFrom("http://example.com")).isEqualTo("example.com");
     }
 
+    @Test
+    public void domainFromShouldReuseDomainDerivedForTheSameHost() {
+        // when
+        extractor.domainFrom("http://www.example.com/first");
+        final String domain = extractor.domainFrom("http://www.example.com/second");
+
+        // then
+        assertThat(domain).isEqualTo("example.com");
+        verify(metrics).updateHotPathCacheEventMetric(MetricName.registrable_domain, MetricName.miss);
+        verify(metrics).updateHotPathCacheEventMetric(MetricName.registrable_domain, MetricName.hit);
+    }
+
+    @Test
+    public void domainFromShouldFailIfDomainCouldNotBeDerivedFromCachedHost() {
+        // given
+        assertThatCode(() -> extractor.domainFrom("http://domain")).isInstanceOf(PreBidException.class);
+
+        // when and then
+        assertThatCode(() -> extractor.domainFrom("http://domain/path"))
+                .isInstanceOf(PreBidException.class)
+                .hasMessage("Invalid URL 'domain': cannot derive eTLD+1 for domain domain");
+        verify(metrics).updateHotPathCacheEventMetric(MetricName.registrable_domain, MetricName.hit);
+    }
+
     @Test
     public void ipFromShouldReturnIpFromHeadersAndRemoteAddress() {
         // given
@@ -1,51 +1,65 @@
 package org.prebid.server.auction;
 
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
 import org.prebid.server.auction.model.IpAddress;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
 
 public class IpAddressHelperTest {
 
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private Metrics metrics;
+
     private IpAddressHelper ipAddressHelper;
 
     @Before
     public void setUp() {
-        ipAddressHelper = new IpAddressHelper(64, 56, asList("::1/128", "fc00::/7", "fe80::/10"));
+        ipAddressHelper = new IpAddressHelper(64, 56, asList("::1/128", "fc00::/7", "fe80::/10"), 100, metrics);
     }
 
     @Test
     public void creationShouldFailIfIpv6AlwaysMaskBitsIsNotValid() {
         assertThatIllegalArgumentException()
-                .isThrownBy(() -> new IpAddressHelper(-1, 56, emptyList()))
+                .isThrownBy(() -> new IpAddressHelper(-1, 56, emptyList(), 0, metrics))
                 .withMessage("IPv6 always mask bits should be between 1 and 128 inclusive");
         assertThatIllegalArgumentException()
-                .isThrownBy(() -> new IpAddressHelper(129, 56, emptyList()))
+                .isThrownBy(() -> new IpAddressHelper(129, 56, emptyList(), 0, metrics))
                 .withMessage("IPv6 always mask bits should be between 1 and 128 inclusive");
     }
 
     @Test
     public void creationShouldFailIfIpv6AnonLeftMaskBitsIsNotValid() {
         assertThatIllegalArgumentException()
-                .isThrownBy(() -> new IpAddressHelper(64, -1, emptyList()))
+                .isThrownBy(() -> new IpAddressHelper(64, -1, emptyList(), 0, metrics))
                 .withMessage("IPv6 anonymize mask bits should be between 1 and 32 or 56 and 128 inclusive");
         assertThatIllegalArgumentException()
-                .isThrownBy(() -> new IpAddressHelper(64, 129, emptyList()))
+                .isThrownBy(() -> new IpAddressHelper(64, 129, emptyList(), 0, metrics))
                 .withMessage("IPv6 anonymize mask bits should be between 1 and 32 or 56 and 128 inclusive");
         assertThatIllegalArgumentException()
-                .isThrownBy(() -> new IpAddressHelper(64, 33, emptyList()))
+                .isThrownBy(() -> new IpAddressHelper(64, 33, emptyList(), 0, metrics))
                 .withMessage("IPv6 anonymize mask bits should be between 1 and 32 or 56 and 128 inclusive");
     }
 
     @Test
     public void creationShouldFailIfIpv6LocalNetworksIsNotValid() {
         assertThatIllegalArgumentException()
-                .isThrownBy(() -> new IpAddressHelper(64, 56, singletonList("abc")))
+                .isThrownBy(() -> new IpAddressHelper(64, 56, singletonList("abc"), 0, metrics))
                 .withMessage("Unable to process IPv6-related configuration");
     }
 
@@ -138,4 +152,47 @@ public class IpAddressHelperTest {
         assertThat(ipAddressHelper.toIpAddress("2001:1db8:85a3:a5b7:0000:8a2e:0370:7334"))
                 .isEqualTo(IpAddress.of("2001:1db8:85a3:a5b7::", IpAddress.IP.v6));
     }
+
+    @Test
+    public void toIpAddressShouldReturnNullIfIpIsV4AndInConfiguredLocalNetwork() {
+        // given
+        ipAddressHelper = new IpAddressHelper(64, 56, singletonList("203.0.113.0/24"), 100, metrics);
+
+        // when and then
+        assertThat(ipAddressHelper.toIpAddress("203.0.113.5")).isNull();
+        assertThat(ipAddressHelper.toIpAddress("12.34.56.78")).isEqualTo(IpAddress.of("12.34.56.78", IpAddress.IP.v4));
+    }
+
+    @Test
+    public void toIpAddressShouldNotCacheIpV4Address() {
+        // when
+        ipAddressHelper.toIpAddress("12.34.56.78");
+
+        // then
+        verifyZeroInteractions(metrics);
+    }
+
+    @Test
+    public void toIpAddressShouldCacheIpV6Address() {
+        // when
+        ipAddressHelper.toIpAddress("2001:1db8:85a3:a5b7:0000:8a2e:0370:7334");
+        final IpAddress result = ipAddressHelper.toIpAddress("2001:1db8:85a3:a5b7:0000:8a2e:0370:7334");
+
+        // then
+        assertThat(result).isEqualTo(IpAddress.of("2001:1db8:85a3:a5b7::", IpAddress.IP.v6));
+        verify(metrics).updateHotPathCacheEventMetric(MetricName.ip_address, MetricName.miss);
+        verify(metrics).updateHotPathCacheEventMetric(MetricName.ip_address, MetricName.hit);
+    }
+
+    @Test
+    public void anonymizeIpv6ShouldCacheAbsentResult() {
+        // when
+        ipAddressHelper.anonymizeIpv6("abc");
+        final String result = ipAddressHelper.anonymizeIpv6("abc");
+
+        // then
+        assertThat(result).isNull();
+        verify(metrics).updateHotPathCacheEventMetric(MetricName.anonymized_ipv6, MetricName.miss);
+        verify(metrics).updateHotPathCacheEventMetric(MetricName.anonymized_ipv6, MetricName.hit);
+    }
 }
@@ -3,14 +3,18 @@ package org.prebid.server.auction;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.IntNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.iab.openrtb.request.BidRequest;
 import org.junit.Test;
 import org.prebid.server.VertxTest;
 import org.prebid.server.json.JsonMerger;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 public class OrtbTypesResolverTest extends VertxTest {
 
@@ -391,6 +395,51 @@ public class OrtbTypesResolverTest extends VertxTest {
                 .isEqualTo(mapper.createObjectNode().put("gender", "gender1").put("keywords", "keyword1,keyword2"));
     }
 
+    @Test
+    public void parseBidRequestShouldReturnSameResultAsTreeNormalization() throws IOException {
+        // given
+        final String body = "{\"id\":\"id\",\"imp\":[{\"id\":\"impId\"}],"
+                + "\"user\":{\"gender\":[\"M\",\"F\"],\"keywords\":[\"k1\",\"k2\"],\"data\":{\"a\":1},"
+                + "\"ext\":{\"data\":{\"b\":2}}},\"site\":{\"name\":[1,\"a\"],\"page\":\"page\"},\"app\":\"app\","
+                + "\"ext\":{\"prebid\":{\"bidderconfig\":[{\"bidders\":[\"bidder\"],"
+                + "\"config\":{\"fpd\":{\"user\":{\"keywords\":[\"k1\",\"k2\"]}}}}]}}}";
+        final List<String> treeWarnings = new ArrayList<>();
+        final JsonNode requestNode = mapper.readTree(body);
+        ortbTypesResolver.normalizeBidRequest(requestNode, treeWarnings, "referer");
+        final List<String> warnings = new ArrayList<>();
+
+        // when
+        final BidRequest result = ortbTypesResolver.parseBidRequest(
+                new ByteArrayInputStream(body.getBytes()), () -> body, warnings, "referer");
+
+        // then
+        assertThat(result).isEqualTo(mapper.treeToValue(requestNode, BidRequest.class));
+        assertThat(warnings).hasSize(5).containsOnlyElementsOf(treeWarnings);
+    }
+
+    @Test
+    public void parseBidRequestShouldRemoveNullContainerAndWriteMessage() throws IOException {
+        // given
+        final String body = "{\"id\":\"id\",\"site\":null}";
+        final List<String> warnings = new ArrayList<>();
+
+        // when
+        final BidRequest result = ortbTypesResolver.parseBidRequest(
+                new ByteArrayInputStream(body.getBytes()), () -> body, warnings, "referer");
+
+        // then
+        assertThat(result).isEqualTo(BidRequest.builder().id("id").build());
+        assertThat(warnings).containsOnly(
+                "WARNING: bidrequest.site field ignored. Expected type is object, but was `NULL`.");
+    }
+
+    @Test
+    public void parseBidRequestShouldNotAffectSharedMapper() {
+        // when and then
+        assertThatThrownBy(() -> mapper.readValue("{\"user\":{\"gender\":[\"M\"]}}", BidRequest.class))
+                .isInstanceOf(IOException.class);
+    }
+
     private static ObjectNode obj(String fieldName, JsonNode value) {
         return (ObjectNode) mapper.createObjectNode().set(fieldName, value);
     }
@@ -1350,6 +1350,52 @@ public class PrivacyEnforcementServiceTest extends VertxTest {
         verify(tcfDefinerService).resultForBidderNames(eq(bidderNames), any(), any(), any());
     }
 
+    @Test
+    public void shouldShareMaskedUserAndDeviceBetweenBiddersWithSameEnforcementAction() {
+        // given
+        final String bidder1Name = "bidder1";
+        final String bidder2Name = "bidder2";
+
+        final Map<String, PrivacyEnforcementAction> vendorIdToTcfEnforcement = new HashMap<>();
+        vendorIdToTcfEnforcement.put(bidder1Name, restrictDeviceAndUser());
+        vendorIdToTcfEnforcement.put(bidder2Name, restrictDeviceAndUser());
+        given(tcfDefinerService.resultForBidderNames(any(), any(), any(), any()))
+                .willReturn(Future.succeededFuture(TcfResponse.of(true, vendorIdToTcfEnforcement, null)));
+
+        final User user = notMaskedUser();
+        final Device device = notMaskedDevice();
+        final Map<String, User> bidderToUser = new HashMap<>();
+        bidderToUser.put(bidder1Name, user);
+        bidderToUser.put(bidder2Name, user);
+        final List<String> bidders = asList(bidder1Name, bidder2Name);
+
+        final HashMap<String, Integer> bidderToId = new HashMap<>();
+        bidderToId.put(bidder1Name, 1);
+        bidderToId.put(bidder2Name, 2);
+        final BidRequest bidRequest = givenBidRequest(
+                givenSingleImp(bidderToId),
+                bidRequestBuilder -> bidRequestBuilder
+                        .user(user)
+                        .device(device));
+
+        final PrivacyContext privacyContext = givenPrivacyContext("1", Ccpa.EMPTY, 0);
+
+        final AuctionContext context = auctionContext(bidRequest, privacyContext);
+
+        // when
+        final List<BidderPrivacyResult> result = privacyEnforcementService
+                .mask(context, bidderToUser, bidders, aliases)
+                .result();
+
+        // then
+        assertThat(result).hasSize(2)
+                .extracting(BidderPrivacyResult::getUser)
+                .containsOnly(userTcfMasked());
+        assertThat(result.get(0).getUser()).isSameAs(result.get(1).getUser());
+        assertThat(result.get(0).getDevice()).isEqualTo(deviceTcfMasked())
+                .isSameAs(result.get(1).getDevice());
+    }
+
     @Test
     public void shouldIncrementCcpaAndAuctionTcfMetrics() {
         // given
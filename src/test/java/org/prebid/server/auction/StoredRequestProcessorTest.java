@@ -86,7 +86,8 @@ public class StoredRequestProcessorTest extends VertxTest {
                 metrics,
                 timeoutFactory,
                 jacksonMapper,
-                new JsonMerger(jacksonMapper));
+                new JsonMerger(jacksonMapper),
+                null);
     }
 
     @Test
@@ -182,7 +183,8 @@ public class StoredRequestProcessorTest extends VertxTest {
                 metrics,
                 timeoutFactory,
                 jacksonMapper,
-                new JsonMerger(jacksonMapper));
+                new JsonMerger(jacksonMapper),
+                null);
 
         final BidRequest bidRequest = givenBidRequest(builder -> builder
                 .ext(ExtRequest.of(ExtRequestPrebid.builder()
@@ -231,6 +233,47 @@ public class StoredRequestProcessorTest extends VertxTest {
                 .build());
     }
 
+    @Test
+    public void shouldReturnCachedAmpRequestIfStoredRequestWasNotChanged() throws IOException {
+        // given
+        givenStoredRequestProcessorWithAmpRequestTemplateCache();
+
+        final String storedRequest = mapper.writeValueAsString(BidRequest.builder().id("test-request-id").build());
+        given(applicationSettings.getAmpStoredData(any(), anySet(), anySet(), any()))
+                .willReturn(Future.succeededFuture(
+                        StoredDataResult.of(singletonMap("123", storedRequest), emptyMap(), emptyList())));
+
+        // when
+        final BidRequest firstBidRequest = storedRequestProcessor.processAmpRequest("accountId", "123").result();
+        final BidRequest secondBidRequest = storedRequestProcessor.processAmpRequest("accountId", "123").result();
+
+        // then
+        assertThat(firstBidRequest).isEqualTo(BidRequest.builder().id("test-request-id").build());
+        assertThat(secondBidRequest).isSameAs(firstBidRequest);
+    }
+
+    @Test
+    public void shouldMergeAmpRequestAgainIfStoredRequestWasChanged() throws IOException {
+        // given
+        givenStoredRequestProcessorWithAmpRequestTemplateCache();
+
+        given(applicationSettings.getAmpStoredData(any(), anySet(), anySet(), any()))
+                .willReturn(Future.succeededFuture(StoredDataResult.of(
+                        singletonMap("123", mapper.writeValueAsString(BidRequest.builder().id("id1").build())),
+                        emptyMap(), emptyList())))
+                .willReturn(Future.succeededFuture(StoredDataResult.of(
+                        singletonMap("123", mapper.writeValueAsString(BidRequest.builder().id("id2").build())),
+                        emptyMap(), emptyList())));
+
+        // when
+        final BidRequest firstBidRequest = storedRequestProcessor.processAmpRequest("accountId", "123").result();
+        final BidRequest secondBidRequest = storedRequestProcessor.processAmpRequest("accountId", "123").result();
+
+        // then
+        assertThat(firstBidRequest.getId()).isEqualTo("id1");
+        assertThat(secondBidRequest.getId()).isEqualTo("id2");
+    }
+
     @Test
     public void shouldReturnMergedDefaultAndAmpRequest() throws IOException {
         // given
@@ -246,7 +289,8 @@ public class StoredRequestProcessorTest extends VertxTest {
                 metrics,
                 timeoutFactory,
                 jacksonMapper,
-                new JsonMerger(jacksonMapper));
+                new JsonMerger(jacksonMapper),
+                null);
 
         given(applicationSettings.getAmpStoredData(any(), anySet(), anySet(), any()))
                 .willReturn(Future.succeededFuture(StoredDataResult.of(
@@ -764,4 +808,18 @@ public class StoredRequestProcessorTest extends VertxTest {
     private static Imp givenImp(Function<ImpBuilder, ImpBuilder> impBuilderCustomizer) {
         return impBuilderCustomizer.apply(Imp.builder()).build();
     }
+
+    private void givenStoredRequestProcessorWithAmpRequestTemplateCache() {
+        final TimeoutFactory timeoutFactory = new TimeoutFactory(Clock.fixed(Instant.now(), ZoneId.systemDefault()));
+        storedRequestProcessor = StoredRequestProcessor.create(
+                DEFAULT_TIMEOUT,
+                null,
+                fileSystem,
+                applicationSettings,
+                metrics,
+                timeoutFactory,
+                jacksonMapper,
+                new JsonMerger(jacksonMapper),
+                new AmpRequestTemplateCache(10));
+    }
 }
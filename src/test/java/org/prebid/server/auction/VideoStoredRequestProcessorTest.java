@@ -54,6 +54,7 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 public class VideoStoredRequestProcessorTest extends VertxTest {
@@ -96,7 +97,8 @@ public class VideoStoredRequestProcessorTest extends VertxTest {
                 timeoutFactory,
                 timeoutResolver,
                 jacksonMapper,
-                new JsonMerger(jacksonMapper));
+                new JsonMerger(jacksonMapper),
+                0);
     }
 
     @Test
@@ -197,6 +199,51 @@ public class VideoStoredRequestProcessorTest extends VertxTest {
         assertThat(result.result()).isEqualTo(WithPodErrors.of(expectedMergedRequest, emptyList()));
     }
 
+    @Test
+    public void processVideoRequestShouldExpandPodsOnceIfPodImpsCacheIsEnabled() {
+        // given
+        target = VideoStoredRequestProcessor.create(
+                false,
+                emptyList(),
+                2000L,
+                "USD",
+                "path/to/default/request.json",
+                fileSystem,
+                applicationSettings,
+                validator,
+                metrics,
+                timeoutFactory,
+                timeoutResolver,
+                jacksonMapper,
+                new JsonMerger(jacksonMapper),
+                10);
+
+        final BidRequestVideo requestVideo = givenValidDataResult(
+                UnaryOperator.identity(),
+                podconfigBuilder -> podconfigBuilder.pods(singletonList(Pod.of(123, 20, STORED_POD_ID))));
+
+        final StoredDataResult storedDataResult = StoredDataResult.of(
+                emptyMap(), singletonMap(STORED_POD_ID, "{}"), emptyList());
+
+        given(applicationSettings.getVideoStoredData(any(), anySet(), anySet(), any())).willReturn(
+                Future.succeededFuture(storedDataResult));
+        given(validator.validPods(any(), any())).willReturn(
+                WithPodErrors.of(singletonList(Pod.of(123, 20, STORED_POD_ID)), emptyList()));
+
+        // when
+        final BidRequest firstBidRequest = target.processVideoRequest(null, STORED_REQUEST_ID,
+                singleton(STORED_POD_ID), requestVideo).result().getData();
+        final BidRequest secondBidRequest = target.processVideoRequest(null, STORED_REQUEST_ID,
+                singleton(STORED_POD_ID), requestVideo).result().getData();
+
+        // then
+        verify(validator, times(2)).validateStoredBidRequest(any(), anyBoolean(), any());
+        verify(validator).validPods(any(), any());
+
+        assertThat(firstBidRequest.getImp()).extracting(Imp::getId).containsExactly("123_0", "123_1");
+        assertThat(secondBidRequest.getImp()).isSameAs(firstBidRequest.getImp());
+    }
+
     @Test
     public void processVideoRequestShouldFailWhenThereAreNoStoredImpsFound() {
         // given
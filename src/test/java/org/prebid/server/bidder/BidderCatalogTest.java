@@ -5,6 +5,7 @@ import org.junit.Test;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
+import org.prebid.server.bidder.model.RequestCompression;
 import org.prebid.server.proto.response.BidderInfo;
 
 import static java.util.Collections.emptyList;
@@ -51,6 +52,38 @@ public class BidderCatalogTest {
         assertThat(bidderCatalog.isValidName("unknown_bidder")).isFalse();
     }
 
+    @Test
+    public void requestCompressionByNameShouldReturnConfiguredCompression() {
+        // given
+        bidderDeps = BidderDeps.builder()
+                .name(BIDDER)
+                .deprecatedNames(emptyList())
+                .aliases(emptyList())
+                .requestCompression(RequestCompression.of(1024, 6))
+                .build();
+        bidderCatalog = new BidderCatalog(singletonList(bidderDeps));
+
+        // when and then
+        assertThat(bidderCatalog.requestCompressionByName(BIDDER)).isEqualTo(RequestCompression.of(1024, 6));
+        assertThat(bidderCatalog.requestCompressionByName("unknown_bidder")).isNull();
+    }
+
+    @Test
+    public void endpointByNameShouldReturnConfiguredEndpoint() {
+        // given
+        bidderDeps = BidderDeps.builder()
+                .name(BIDDER)
+                .deprecatedNames(emptyList())
+                .aliases(emptyList())
+                .endpoint("http://bidder.com/auction")
+                .build();
+        bidderCatalog = new BidderCatalog(singletonList(bidderDeps));
+
+        // when and then
+        assertThat(bidderCatalog.endpointByName(BIDDER)).isEqualTo("http://bidder.com/auction");
+        assertThat(bidderCatalog.endpointByName("unknown_bidder")).isNull();
+    }
+
     @Test
     public void isDeprecatedNameShouldReturnTrueForDeprecatedBidder() {
         // given
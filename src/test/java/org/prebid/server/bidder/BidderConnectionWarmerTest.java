@@ -0,0 +1,153 @@
+package org.prebid.server.bidder;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.impl.VertxInternal;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.prebid.server.vertx.http.HttpClient;
+import org.prebid.server.vertx.http.model.HttpClientResponse;
+
+import java.net.InetAddress;
+import java.util.LinkedHashSet;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.willAnswer;
+
+public class BidderConnectionWarmerTest {
+
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private BidderCatalog bidderCatalog;
+    @Mock
+    private VertxInternal vertx;
+    @Mock
+    private HttpClient httpClient;
+
+    private BidderConnectionWarmer bidderConnectionWarmer;
+
+    @Before
+    public void setUp() {
+        given(bidderCatalog.names()).willReturn(new LinkedHashSet<>(asList("rubicon", "appnexus", "macro", "alias")));
+        given(bidderCatalog.endpointByName("rubicon")).willReturn("http://rubicon.com:8080/auction?tk=1");
+        given(bidderCatalog.endpointByName("appnexus")).willReturn("https://appnexus.com/openrtb2");
+        given(bidderCatalog.endpointByName("macro")).willReturn("http://{{Host}}/auction");
+        given(bidderCatalog.endpointByName("alias")).willReturn("http://rubicon.com:8080/other");
+
+        given(httpClient.request(any(), anyString(), any(), any(), anyLong()))
+                .willReturn(Future.succeededFuture(HttpClientResponse.of(200, null, null)));
+
+        bidderConnectionWarmer = new BidderConnectionWarmer(bidderCatalog, vertx, httpClient, 1, 2, 1000L, 30000L);
+    }
+
+    @Test
+    public void creationShouldFailOnNonPositiveConnectionsPerHost() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new BidderConnectionWarmer(bidderCatalog, vertx, httpClient, 1, 0, 1000L, 30000L));
+    }
+
+    @Test
+    public void warmUpShouldSendHeadRequestsToEachBidderHostExceptOnesWithMacros() {
+        // when
+        final Future<Void> future = bidderConnectionWarmer.warmUp();
+
+        // then
+        assertThat(future.succeeded()).isTrue();
+        verify(httpClient, times(2))
+                .request(eq(HttpMethod.HEAD), eq("http://rubicon.com:8080/"), isNull(), isNull(), eq(1000L));
+        verify(httpClient, times(2))
+                .request(eq(HttpMethod.HEAD), eq("https://appnexus.com/"), isNull(), isNull(), eq(1000L));
+        verifyNoMoreInteractions(httpClient);
+    }
+
+    @Test
+    public void warmUpShouldSucceedIfRequestsFailed() {
+        // given
+        given(httpClient.request(any(), anyString(), any(), any(), anyLong()))
+                .willReturn(Future.failedFuture("Timeout"));
+
+        // when
+        final Future<Void> future = bidderConnectionWarmer.warmUp();
+
+        // then
+        assertThat(future.succeeded()).isTrue();
+        assertThat(bidderConnectionWarmer.isReady()).isTrue();
+    }
+
+    @Test
+    public void isReadyShouldReturnFalseIfConnectionsWereNotWarmedUp() {
+        assertThat(bidderConnectionWarmer.isReady()).isFalse();
+    }
+
+    @Test
+    public void isReadyShouldReturnFalseUntilConnectionsWereWarmedUpOnAllContexts() {
+        // given
+        bidderConnectionWarmer = new BidderConnectionWarmer(bidderCatalog, vertx, httpClient, 2, 2, 1000L, 30000L);
+        bidderConnectionWarmer.warmUp();
+        final boolean readyAfterFirstContext = bidderConnectionWarmer.isReady();
+
+        // when
+        bidderConnectionWarmer.warmUp();
+
+        // then
+        assertThat(readyAfterFirstContext).isFalse();
+        assertThat(bidderConnectionWarmer.isReady()).isTrue();
+    }
+
+    @Test
+    public void initializeShouldResolveBidderHostsAndScheduleRefresh() {
+        // given
+        givenResolvedAddress("rubicon.com", Future.succeededFuture(InetAddress.getLoopbackAddress()));
+        givenResolvedAddress("appnexus.com", Future.succeededFuture(InetAddress.getLoopbackAddress()));
+
+        // when
+        bidderConnectionWarmer.initialize();
+
+        // then
+        verify(vertx).resolveAddress(eq("rubicon.com"), any());
+        verify(vertx).resolveAddress(eq("appnexus.com"), any());
+        verify(vertx).setPeriodic(eq(30000L), any());
+        verifyNoMoreInteractions(vertx);
+    }
+
+    @Test
+    public void isReadyShouldReturnFalseIfBidderHostWasNotResolved() {
+        // given
+        givenResolvedAddress("rubicon.com", Future.succeededFuture(InetAddress.getLoopbackAddress()));
+        givenResolvedAddress("appnexus.com", Future.failedFuture("Unknown host"));
+
+        // when
+        bidderConnectionWarmer.initialize();
+        bidderConnectionWarmer.warmUp();
+
+        // then
+        assertThat(bidderConnectionWarmer.isReady()).isFalse();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenResolvedAddress(String host, AsyncResult<InetAddress> result) {
+        willAnswer(invocation -> {
+            ((Handler<AsyncResult<InetAddress>>) invocation.getArgument(1)).handle(result);
+            return null;
+        }).given(vertx).resolveAddress(eq(host), any());
+    }
+}
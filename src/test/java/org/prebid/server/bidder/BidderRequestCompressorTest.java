@@ -0,0 +1,134 @@
+package org.prebid.server.bidder;
+
+import org.apache.commons.lang3.StringUtils;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.prebid.server.bidder.model.RequestCompression;
+import org.prebid.server.metric.Metrics;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashSet;
+import java.util.zip.GZIPInputStream;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+
+public class BidderRequestCompressorTest {
+
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private BidderCatalog bidderCatalog;
+    @Mock
+    private Metrics metrics;
+
+    private Bidder<?> rubicon;
+    private Bidder<?> appnexus;
+
+    private BidderRequestCompressor bidderRequestCompressor;
+
+    @Before
+    public void setUp() {
+        rubicon = mock(Bidder.class);
+        appnexus = mock(Bidder.class);
+
+        given(bidderCatalog.names()).willReturn(new LinkedHashSet<>(asList("rubicon", "appnexus")));
+        given(bidderCatalog.bidderByName("rubicon")).willAnswer(invocation -> rubicon);
+        given(bidderCatalog.bidderByName("appnexus")).willAnswer(invocation -> appnexus);
+        given(bidderCatalog.requestCompressionByName("rubicon")).willReturn(RequestCompression.of(100, 6));
+
+        bidderRequestCompressor = new BidderRequestCompressor(bidderCatalog, metrics);
+    }
+
+    @Test
+    public void compressShouldReturnGzippedBodyAndUpdateMetrics() throws IOException {
+        // given
+        final String body = "{\"id\":\"" + StringUtils.repeat("évalue", 1000) + "\"}";
+
+        // when
+        final byte[] result = bidderRequestCompressor.compress(rubicon, body);
+
+        // then
+        assertThat(gunzip(result)).isEqualTo(body);
+        final long bodySize = body.getBytes(StandardCharsets.UTF_8).length;
+        verify(metrics).updateAdapterRequestCompressionMetrics(eq("rubicon"), anyLong(),
+                eq(bodySize - result.length));
+    }
+
+    @Test
+    public void compressShouldReuseStateBetweenCalls() throws IOException {
+        // given
+        final String firstBody = StringUtils.repeat("first", 1000);
+        final String secondBody = StringUtils.repeat("second", 100000);
+
+        // when
+        final byte[] firstResult = bidderRequestCompressor.compress(rubicon, firstBody);
+        final byte[] secondResult = bidderRequestCompressor.compress(rubicon, secondBody);
+
+        // then
+        assertThat(gunzip(firstResult)).isEqualTo(firstBody);
+        assertThat(gunzip(secondResult)).isEqualTo(secondBody);
+    }
+
+    @Test
+    public void compressShouldReturnNullIfCompressionIsNotEnabledForBidder() {
+        // when
+        final byte[] result = bidderRequestCompressor.compress(appnexus, StringUtils.repeat("value", 1000));
+
+        // then
+        assertThat(result).isNull();
+        verifyZeroInteractions(metrics);
+    }
+
+    @Test
+    public void compressShouldReturnNullIfBodyIsSmallerThanMinSize() {
+        // when
+        final byte[] result = bidderRequestCompressor.compress(rubicon, StringUtils.repeat("value", 10));
+
+        // then
+        assertThat(result).isNull();
+        verifyZeroInteractions(metrics);
+    }
+
+    @Test
+    public void compressShouldReturnNullIfCompressedBodyIsNotSmaller() {
+        // given
+        final StringBuilder body = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            body.append((char) ('!' + (i * 7919) % 90));
+        }
+
+        // when
+        final byte[] result = bidderRequestCompressor.compress(rubicon, body.toString());
+
+        // then
+        assertThat(result).isNull();
+        verify(metrics).updateAdapterRequestCompressionMetrics(eq("rubicon"), anyLong(), eq(0L));
+    }
+
+    private static String gunzip(byte[] bytes) throws IOException {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (GZIPInputStream input = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            final byte[] buffer = new byte[4096];
+            int read;
+            while ((read = input.read(buffer)) > 0) {
+                output.write(buffer, 0, read);
+            }
+        }
+        return new String(output.toByteArray(), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,106 @@
+package org.prebid.server.bidder;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.prebid.server.bidder.model.BidderCost;
+import org.prebid.server.metric.Metrics;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+public class BidderStageProfilerTest {
+
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private BidderCatalog bidderCatalog;
+    @Mock
+    private Metrics metrics;
+
+    private Bidder<?> rubicon;
+    private Bidder<?> appnexus;
+
+    private BidderStageProfiler bidderStageProfiler;
+
+    @Before
+    public void setUp() {
+        rubicon = mock(Bidder.class);
+        appnexus = mock(Bidder.class);
+
+        given(bidderCatalog.names()).willReturn(new LinkedHashSet<>(asList("rubicon", "appnexus")));
+        given(bidderCatalog.bidderByName("rubicon")).willAnswer(invocation -> rubicon);
+        given(bidderCatalog.bidderByName("appnexus")).willAnswer(invocation -> appnexus);
+
+        bidderStageProfiler = new BidderStageProfiler(bidderCatalog, 1.0, metrics);
+    }
+
+    @Test
+    public void shouldSampleShouldReturnFalseIfSamplingRateIsZero() {
+        // given
+        bidderStageProfiler = new BidderStageProfiler(bidderCatalog, 0.0, metrics);
+
+        // when and then
+        assertThat(bidderStageProfiler.shouldSample()).isFalse();
+    }
+
+    @Test
+    public void profileShouldReturnStageResultAndUpdateMetrics() {
+        // when
+        final String result = bidderStageProfiler.profile(
+                rubicon, BidderStageProfiler.Stage.request_building, () -> "result");
+        bidderStageProfiler.profile(appnexus, BidderStageProfiler.Stage.response_parsing, () -> null);
+
+        // then
+        assertThat(result).isEqualTo("result");
+        verify(metrics).updateAdapterRequestBuildingMetrics(eq("rubicon"), anyLong(), anyLong());
+        verify(metrics).updateAdapterResponseParsingMetrics(eq("appnexus"), anyLong(), anyLong());
+    }
+
+    @Test
+    public void bidderCostsShouldReturnBiddersOrderedByTotalCost() {
+        // given
+        bidderStageProfiler.profile(rubicon, BidderStageProfiler.Stage.request_building, () -> sleep(20));
+        bidderStageProfiler.profile(rubicon, BidderStageProfiler.Stage.response_parsing, () -> sleep(20));
+        bidderStageProfiler.profile(appnexus, BidderStageProfiler.Stage.request_building, () -> null);
+
+        // when
+        final List<BidderCost> result = bidderStageProfiler.bidderCosts();
+
+        // then
+        assertThat(result).extracting(BidderCost::getBidder).containsExactly("rubicon", "appnexus");
+        assertThat(result).extracting(BidderCost::getSampledRequests).containsExactly(1L, 1L);
+        assertThat(result.get(0).getTotalNanos())
+                .isEqualTo(result.get(0).getRequestBuildingNanos() + result.get(0).getResponseParsingNanos());
+    }
+
+    @Test
+    public void bidderCostsShouldNotReturnBiddersWithoutSampledRequests() {
+        // given
+        bidderStageProfiler.profile(rubicon, BidderStageProfiler.Stage.response_parsing, () -> null);
+
+        // when and then
+        assertThat(bidderStageProfiler.bidderCosts()).isEmpty();
+    }
+
+    private static Object sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return null;
+    }
+}
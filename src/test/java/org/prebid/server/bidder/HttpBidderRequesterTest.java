@@ -8,6 +8,7 @@ import io.vertx.core.http.HttpMethod;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.BDDMockito;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnit;
@@ -18,6 +19,7 @@ import org.prebid.server.bidder.model.BidderError;
 import org.prebid.server.bidder.model.BidderSeatBid;
 import org.prebid.server.bidder.model.HttpRequest;
 import org.prebid.server.bidder.model.Result;
+import org.prebid.server.exception.ResponseTooLargeException;
 import org.prebid.server.execution.Timeout;
 import org.prebid.server.execution.TimeoutFactory;
 import org.prebid.server.proto.openrtb.ext.response.ExtHttpCall;
@@ -28,13 +30,17 @@ import java.time.Clock;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
+import static java.util.Collections.singleton;
 import static java.util.Collections.singletonList;
 import static org.apache.commons.lang3.StringUtils.EMPTY;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.same;
@@ -58,6 +64,14 @@ public class HttpBidderRequesterTest extends VertxTest {
     private HttpClient httpClient;
     @Mock
     private BidderErrorNotifier bidderErrorNotifier;
+    @Mock
+    private BidderStageExecutor stageExecutor;
+    @Mock
+    private BidderStageProfiler stageProfiler;
+    @Mock
+    private BidderRequestCompressor requestCompressor;
+    @Mock
+    private BidderCatalog bidderCatalog;
 
     private HttpBidderRequester httpBidderRequester;
 
@@ -73,7 +87,8 @@ public class HttpBidderRequesterTest extends VertxTest {
         timeout = timeoutFactory.create(500L);
         expiredTimeout = timeoutFactory.create(clock.instant().minusMillis(1500L).toEpochMilli(), 1000L);
 
-        httpBidderRequester = new HttpBidderRequester(httpClient, null, bidderErrorNotifier);
+        httpBidderRequester = new HttpBidderRequester(
+                httpClient, null, bidderErrorNotifier, null, null, null, bidderCatalog);
     }
 
     @Test
@@ -205,6 +220,198 @@ public class HttpBidderRequesterTest extends VertxTest {
         assertThat(bidderSeatBid.getBids()).containsOnlyElementsOf(bids);
     }
 
+    @Test
+    public void shouldExecuteBidderStagesWithStageExecutorIfOffloadRequested() {
+        // given
+        httpBidderRequester =
+                new HttpBidderRequester(httpClient, null, bidderErrorNotifier, stageExecutor, null, null,
+                        bidderCatalog);
+        given(stageExecutor.execute(any()))
+                .willAnswer(invocation -> Future.succeededFuture(((Supplier<?>) invocation.getArgument(0)).get()));
+
+        given(bidder.makeHttpRequests(any())).willReturn(Result.of(singletonList(
+                HttpRequest.<BidRequest>builder()
+                        .method(HttpMethod.POST)
+                        .uri(EMPTY)
+                        .body(EMPTY)
+                        .headers(new CaseInsensitiveHeaders())
+                        .build()),
+                emptyList()));
+
+        givenHttpClientReturnsResponse(200, "responseBody");
+
+        final List<BidderBid> bids = singletonList(BidderBid.of(null, null, null));
+        given(bidder.makeBids(any(), any())).willReturn(Result.of(bids, emptyList()));
+
+        // when
+        final BidderSeatBid bidderSeatBid =
+                httpBidderRequester.requestBids(bidder, BidRequest.builder().build(), timeout, false, true).result();
+
+        // then
+        verify(stageExecutor, times(2)).execute(any());
+        assertThat(bidderSeatBid.getBids()).containsOnlyElementsOf(bids);
+    }
+
+    @Test
+    public void shouldNotUseStageExecutorIfOffloadNotRequested() {
+        // given
+        httpBidderRequester =
+                new HttpBidderRequester(httpClient, null, bidderErrorNotifier, stageExecutor, null, null,
+                        bidderCatalog);
+        given(bidder.makeHttpRequests(any())).willReturn(Result.of(emptyList(), emptyList()));
+
+        // when
+        httpBidderRequester.requestBids(bidder, BidRequest.builder().build(), timeout, false);
+
+        // then
+        verifyZeroInteractions(stageExecutor);
+    }
+
+    @Test
+    public void shouldProfileBidderStagesIfRequestIsSampled() {
+        // given
+        httpBidderRequester =
+                new HttpBidderRequester(httpClient, null, bidderErrorNotifier, null, stageProfiler, null,
+                        bidderCatalog);
+        given(stageProfiler.shouldSample()).willReturn(true);
+        given(stageProfiler.profile(any(), any(), any()))
+                .willAnswer(invocation -> ((Supplier<?>) invocation.getArgument(2)).get());
+
+        given(bidder.makeHttpRequests(any())).willReturn(Result.of(singletonList(
+                HttpRequest.<BidRequest>builder()
+                        .method(HttpMethod.POST)
+                        .uri(EMPTY)
+                        .body(EMPTY)
+                        .headers(new CaseInsensitiveHeaders())
+                        .build()),
+                emptyList()));
+
+        givenHttpClientReturnsResponse(200, "responseBody");
+
+        final List<BidderBid> bids = singletonList(BidderBid.of(null, null, null));
+        given(bidder.makeBids(any(), any())).willReturn(Result.of(bids, emptyList()));
+
+        // when
+        final BidderSeatBid bidderSeatBid =
+                httpBidderRequester.requestBids(bidder, BidRequest.builder().build(), timeout, false).result();
+
+        // then
+        verify(stageProfiler).profile(same(bidder), eq(BidderStageProfiler.Stage.request_building), any());
+        verify(stageProfiler).profile(same(bidder), eq(BidderStageProfiler.Stage.response_parsing), any());
+        assertThat(bidderSeatBid.getBids()).containsOnlyElementsOf(bids);
+    }
+
+    @Test
+    public void shouldNotProfileBidderStagesIfRequestIsNotSampled() {
+        // given
+        httpBidderRequester =
+                new HttpBidderRequester(httpClient, null, bidderErrorNotifier, null, stageProfiler, null,
+                        bidderCatalog);
+        given(stageProfiler.shouldSample()).willReturn(false);
+        given(bidder.makeHttpRequests(any())).willReturn(Result.of(emptyList(), emptyList()));
+
+        // when
+        httpBidderRequester.requestBids(bidder, BidRequest.builder().build(), timeout, false);
+
+        // then
+        verify(stageProfiler, never()).profile(any(), any(), any());
+    }
+
+    @Test
+    public void shouldSendCompressedBodyWithContentEncodingHeaderIfCompressorCompressesIt() {
+        // given
+        httpBidderRequester =
+                new HttpBidderRequester(httpClient, null, bidderErrorNotifier, null, null, requestCompressor,
+                        bidderCatalog);
+        final MultiMap headers = new CaseInsensitiveHeaders().add("header", "value");
+        given(bidder.makeHttpRequests(any())).willReturn(Result.of(singletonList(
+                HttpRequest.<BidRequest>builder()
+                        .method(HttpMethod.POST)
+                        .uri("uri")
+                        .body("requestBody")
+                        .headers(headers)
+                        .build()),
+                emptyList()));
+
+        final byte[] compressedBody = {1, 2, 3};
+        given(requestCompressor.compress(any(), any())).willReturn(compressedBody);
+        given(httpClient.requestBinary(any(), anyString(), any(), any(), anyLong()))
+                .willReturn(Future.succeededFuture(HttpClientResponse.of(200, null, "responseBody")));
+        given(bidder.makeBids(any(), any())).willReturn(Result.of(emptyList(), emptyList()));
+
+        // when
+        final BidderSeatBid bidderSeatBid =
+                httpBidderRequester.requestBids(bidder, BidRequest.builder().build(), timeout, true).result();
+
+        // then
+        verify(requestCompressor).compress(same(bidder), eq("requestBody"));
+        final ArgumentCaptor<MultiMap> headersCaptor = ArgumentCaptor.forClass(MultiMap.class);
+        verify(httpClient).requestBinary(eq(HttpMethod.POST), eq("uri"), headersCaptor.capture(),
+                same(compressedBody), anyLong());
+        verify(httpClient, never()).request(any(), anyString(), any(), any(), anyLong());
+        assertThat(headersCaptor.getValue().entries()).extracting(Map.Entry::getKey, Map.Entry::getValue)
+                .containsOnly(tuple("header", "value"), tuple("Content-Encoding", "gzip"));
+        assertThat(headers.contains("Content-Encoding")).isFalse();
+        assertThat(bidderSeatBid.getHttpCalls()).extracting(ExtHttpCall::getRequestbody)
+                .containsOnly("requestBody");
+    }
+
+    @Test
+    public void shouldSendBodyAsIsIfCompressorDoesNotCompressIt() {
+        // given
+        httpBidderRequester =
+                new HttpBidderRequester(httpClient, null, bidderErrorNotifier, null, null, requestCompressor,
+                        bidderCatalog);
+        given(bidder.makeHttpRequests(any())).willReturn(Result.of(singletonList(
+                HttpRequest.<BidRequest>builder()
+                        .method(HttpMethod.POST)
+                        .uri("uri")
+                        .body("requestBody")
+                        .headers(new CaseInsensitiveHeaders())
+                        .build()),
+                emptyList()));
+
+        givenHttpClientReturnsResponse(200, "responseBody");
+
+        // when
+        httpBidderRequester.requestBids(bidder, BidRequest.builder().build(), timeout, false);
+
+        // then
+        verify(httpClient).request(eq(HttpMethod.POST), eq("uri"), any(), eq("requestBody"), anyLong());
+        verify(httpClient, never()).requestBinary(any(), anyString(), any(), any(), anyLong());
+    }
+
+    @Test
+    public void shouldReturnResponseTooLargeErrorIfResponseExceedsMaxSizeConfiguredForBidder() {
+        // given
+        given(bidderCatalog.names()).willReturn(singleton("bidder"));
+        given(bidderCatalog.bidderByName("bidder")).willAnswer(invocation -> bidder);
+        given(bidderCatalog.maxResponseSizeByName("bidder")).willReturn(1024L);
+        httpBidderRequester = new HttpBidderRequester(
+                httpClient, null, bidderErrorNotifier, null, null, null, bidderCatalog);
+
+        given(bidder.makeHttpRequests(any())).willReturn(Result.of(singletonList(
+                HttpRequest.<BidRequest>builder()
+                        .method(HttpMethod.POST)
+                        .uri("uri")
+                        .body("requestBody")
+                        .headers(new CaseInsensitiveHeaders())
+                        .build()),
+                emptyList()));
+
+        given(httpClient.request(any(), anyString(), any(), any(String.class), anyLong(), anyLong()))
+                .willReturn(Future.failedFuture(new ResponseTooLargeException("Response is too large")));
+
+        // when
+        final BidderSeatBid bidderSeatBid =
+                httpBidderRequester.requestBids(bidder, BidRequest.builder().build(), timeout, false).result();
+
+        // then
+        verify(httpClient).request(eq(HttpMethod.POST), eq("uri"), any(), eq("requestBody"), anyLong(), eq(1024L));
+        assertThat(bidderSeatBid.getErrors())
+                .containsOnly(BidderError.responseTooLarge("Response is too large"));
+    }
+
     @Test
     public void shouldReturnFullDebugInfoIfDebugEnabled() {
         // given
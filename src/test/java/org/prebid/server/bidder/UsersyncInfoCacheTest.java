@@ -0,0 +1,83 @@
+package org.prebid.server.bidder;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.prebid.server.privacy.ccpa.Ccpa;
+import org.prebid.server.privacy.model.Privacy;
+import org.prebid.server.proto.response.UsersyncInfo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class UsersyncInfoCacheTest {
+
+    private UsersyncInfoCache usersyncInfoCache;
+
+    @Before
+    public void setUp() {
+        usersyncInfoCache = new UsersyncInfoCache(100);
+    }
+
+    @Test
+    public void usersyncInfoForShouldReturnSameResultAsAssembler() {
+        // given
+        final Usersyncer usersyncer = new Usersyncer("family",
+                "http://url?gdpr={{gdpr}}&gdpr_consent={{gdpr_consent}}&us_privacy={{us_privacy}}&redir=",
+                "/setuid?bidder=family&gdpr={{gdpr}}&gdpr_consent={{gdpr_consent}}&us_privacy={{us_privacy}}",
+                "http://localhost:8000", "redirect", true);
+        final Privacy privacy = Privacy.of("1", "consent$1/+", Ccpa.of("1YNN"), null);
+
+        // when
+        final UsersyncInfo result = usersyncInfoCache.usersyncInfoFor(usersyncer, privacy);
+
+        // then
+        assertThat(result).isEqualTo(UsersyncInfoAssembler.from(usersyncer).withPrivacy(privacy).assemble());
+    }
+
+    @Test
+    public void usersyncInfoForShouldKeepNotEncodedQueryParamsOfNestedRedirect() {
+        // given
+        final Usersyncer usersyncer = new Usersyncer(null, "http://url/redirect=",
+                "/setuid?gdpr={{gdpr}}?gdpr={{gdpr}}", "http://localhost:8000", null, false);
+        final Privacy privacy = Privacy.of("0", "", Ccpa.EMPTY, null);
+
+        // when
+        final UsersyncInfo result = usersyncInfoCache.usersyncInfoFor(usersyncer, privacy);
+
+        // then
+        assertThat(result.getUrl()).isEqualTo(
+                "http://url/redirect=http%3A%2F%2Flocalhost%3A8000%2Fsetuid%3Fgdpr%3D0?gdpr=0");
+    }
+
+    @Test
+    public void usersyncInfoForShouldReturnCachedInfoForSamePrivacyValues() {
+        // given
+        final Usersyncer usersyncer = new Usersyncer(null, "http://url?gdpr={{gdpr}}", null, null, null, false);
+
+        // when
+        final UsersyncInfo first = usersyncInfoCache.usersyncInfoFor(
+                usersyncer, Privacy.of("1", "consent", Ccpa.EMPTY, null));
+        final UsersyncInfo second = usersyncInfoCache.usersyncInfoFor(
+                usersyncer, Privacy.of("1", "consent", Ccpa.EMPTY, 1));
+        final UsersyncInfo third = usersyncInfoCache.usersyncInfoFor(
+                usersyncer, Privacy.of("0", "consent", Ccpa.EMPTY, null));
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(third.getUrl()).isEqualTo("http://url?gdpr=0");
+    }
+
+    @Test
+    public void usersyncInfoForShouldReplacePlaceholdersWithEmptyStringsIfPrivacyValuesAbsent() {
+        // given
+        final Usersyncer usersyncer = new Usersyncer(null,
+                "http://url?gdpr={{gdpr}}&gdpr_consent={{gdpr_consent}}&us_privacy={{us_privacy}}",
+                null, null, null, false);
+
+        // when
+        final UsersyncInfo result = usersyncInfoCache.usersyncInfoFor(
+                usersyncer, Privacy.of(null, null, Ccpa.EMPTY, null));
+
+        // then
+        assertThat(result.getUrl()).isEqualTo("http://url?gdpr=&gdpr_consent=&us_privacy=");
+    }
+}
@@ -47,6 +47,7 @@ import java.time.Instant;
 import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeoutException;
 import java.util.function.UnaryOperator;
 
@@ -104,6 +105,7 @@ public class CacheServiceTest extends VertxTest {
                 new URL("http://cache-service/cache"),
                 "http://cache-service-host/cache?uuid=",
                 eventsService,
+                new VastXmlProcessor(),
                 metrics,
                 clock,
                 jacksonMapper);
@@ -264,6 +266,7 @@ public class CacheServiceTest extends VertxTest {
                 new URL("https://cache-service-host:8888/cache"),
                 "https://cache-service-host:8080/cache?uuid=",
                 eventsService,
+                new VastXmlProcessor(),
                 metrics,
                 clock,
                 jacksonMapper);
@@ -703,6 +706,7 @@ public class CacheServiceTest extends VertxTest {
                 new URL("http://cache-service/cache"),
                 "http://cache-service-host/cache?uuid=",
                 eventsService,
+                new VastXmlProcessor(),
                 metrics,
                 clock,
                 jacksonMapper);
@@ -740,6 +744,7 @@ public class CacheServiceTest extends VertxTest {
                 new URL("http://cache-service/cache"),
                 "http://cache-service-host/cache?uuid=",
                 eventsService,
+                new VastXmlProcessor(),
                 metrics,
                 clock,
                 jacksonMapper);
@@ -775,6 +780,7 @@ public class CacheServiceTest extends VertxTest {
                 new URL("http://cache-service/cache"),
                 "http://cache-service-host/cache?uuid=",
                 eventsService,
+                new VastXmlProcessor(),
                 metrics,
                 clock,
                 jacksonMapper);
@@ -897,6 +903,33 @@ public class CacheServiceTest extends VertxTest {
                         entry(bid2, CacheInfo.of("uuid2", "videoUuid2", null, null)));
     }
 
+    @Test
+    public void cacheBidsOpenrtbShouldReturnSeparateCacheInfoForEqualBids() throws JsonProcessingException {
+        // given
+        givenHttpClientReturnsResponse(200, mapper.writeValueAsString(
+                BidCacheResponse.of(asList(CacheObject.of("uuid1"), CacheObject.of("uuid2")))));
+
+        final com.iab.openrtb.response.Bid bid1 = givenBidOpenrtb(builder -> builder.id("bidId").impid("impId"));
+        final com.iab.openrtb.response.Bid bid2 = givenBidOpenrtb(builder -> builder.id("bidId").impid("impId"));
+
+        // when
+        final Future<CacheServiceResult> future = cacheService.cacheBidsOpenrtb(
+                asList(bid1, bid2),
+                givenAuctionContext(bidRequestBuilder -> bidRequestBuilder
+                        .imp(singletonList(givenImp(builder -> builder.id("impId"))))),
+                CacheContext.builder()
+                        .shouldCacheBids(true)
+                        .bidderToBidIds(singletonMap("bidder", singletonList("bidId")))
+                        .build(),
+                eventsContext);
+
+        // then
+        final Map<com.iab.openrtb.response.Bid, CacheInfo> cacheBids = future.result().getCacheBids();
+        assertThat(cacheBids).hasSize(2);
+        assertThat(cacheBids.get(bid1)).isEqualTo(CacheInfo.of("uuid1", null, null, null));
+        assertThat(cacheBids.get(bid2)).isEqualTo(CacheInfo.of("uuid2", null, null, null));
+    }
+
     @Test
     public void cacheBidsOpenrtbShouldNotCacheVideoBidWithMissingImpId() {
         // given
@@ -0,0 +1,95 @@
+package org.prebid.server.cache;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class VastXmlProcessorTest {
+
+    private VastXmlProcessor vastXmlProcessor;
+
+    @Before
+    public void setUp() {
+        vastXmlProcessor = new VastXmlProcessor();
+    }
+
+    @Test
+    public void createWrapperShouldReturnVastWrapperWithGivenUri() {
+        // when
+        final String result = vastXmlProcessor.createWrapper("http://nurl");
+
+        // then
+        assertThat(result).isEqualTo("<VAST version=\"3.0\"><Ad><Wrapper><AdSystem>prebid.org wrapper</AdSystem>"
+                + "<VASTAdTagURI><![CDATA[http://nurl]]></VASTAdTagURI><Impression></Impression>"
+                + "<Creatives></Creatives></Wrapper></Ad></VAST>");
+    }
+
+    @Test
+    public void appendImpressionUrlShouldReturnSameXmlIfNoImpressionTag() {
+        // given
+        final String vastXml = "<VAST><Ad></Ad></VAST>";
+
+        // when
+        final String result = vastXmlProcessor.appendImpressionUrl(vastXml, "http://event");
+
+        // then
+        assertThat(result).isSameAs(vastXml);
+    }
+
+    @Test
+    public void appendImpressionUrlShouldReturnSameXmlIfUrlIsNull() {
+        // given
+        final String vastXml = "<Impression></Impression>";
+
+        // when
+        final String result = vastXmlProcessor.appendImpressionUrl(vastXml, null);
+
+        // then
+        assertThat(result).isSameAs(vastXml);
+    }
+
+    @Test
+    public void appendImpressionUrlShouldInsertUrlIntoEmptyImpressionTag() {
+        // when
+        final String result = vastXmlProcessor.appendImpressionUrl(
+                "<Wrapper><Impression></Impression><Creatives></Creatives></Wrapper>", "http://event");
+
+        // then
+        assertThat(result).isEqualTo(
+                "<Wrapper><Impression><![CDATA[http://event]]></Impression><Creatives></Creatives></Wrapper>");
+    }
+
+    @Test
+    public void appendImpressionUrlShouldAddNewImpressionTagAfterFirstNonEmptyOne() {
+        // when
+        final String result = vastXmlProcessor.appendImpressionUrl(
+                "<Impression>http://first</Impression><Impression>http://second</Impression>", "http://event");
+
+        // then
+        assertThat(result).isEqualTo("<Impression>http://first</Impression>"
+                + "<Impression><![CDATA[http://event]]></Impression>"
+                + "<Impression>http://second</Impression>");
+    }
+
+    @Test
+    public void appendImpressionUrlShouldNotTreatUrlAsRegexReplacement() {
+        // when
+        final String result = vastXmlProcessor.appendImpressionUrl(
+                "<Impression></Impression>", "http://event?price=$1&x=\\2");
+
+        // then
+        assertThat(result).isEqualTo("<Impression><![CDATA[http://event?price=$1&x=\\2]]></Impression>");
+    }
+
+    @Test
+    public void appendErrorUrlShouldAddNewErrorTagAfterExistingOne() {
+        // when
+        final String result = vastXmlProcessor.appendErrorUrl(
+                "<InLine><Error>http://error</Error></InLine>", "http://event");
+
+        // then
+        assertThat(result).isEqualTo(
+                "<InLine><Error>http://error</Error><Error><![CDATA[http://event]]></Error></InLine>");
+    }
+}
@@ -0,0 +1,156 @@
+package org.prebid.server.cookie;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import org.junit.Before;
+import org.junit.Test;
+import org.prebid.server.cookie.model.UidWithExpiry;
+import org.prebid.server.cookie.proto.Uids;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+public class CompactUidsFormatTest {
+
+    private static final ZonedDateTime NOW = ZonedDateTime.of(2020, 6, 1, 12, 0, 0, 0, ZoneOffset.UTC);
+
+    private CompactUidsFormat compactUidsFormat;
+
+    @Before
+    public void setUp() {
+        compactUidsFormat = new CompactUidsFormat(Clock.fixed(NOW.toInstant(), ZoneOffset.UTC));
+    }
+
+    @Test
+    public void decodeShouldReturnUidsEqualToEncoded() {
+        // given
+        final Map<String, UidWithExpiry> uidsMap = new HashMap<>();
+        uidsMap.put("rubicon", new UidWithExpiry("rubiconUid", NOW.plusDays(14)));
+        uidsMap.put("adnxs", new UidWithExpiry("adnxsUid", NOW.minusMinutes(5)));
+        uidsMap.put("unknown", new UidWithExpiry("unknownUid", null));
+
+        final Map<String, String> legacyUidsMap = new HashMap<>();
+        legacyUidsMap.put("rubicon", "legacyRubiconUid");
+        legacyUidsMap.put("unknown", "legacyUnknownUid");
+
+        final Uids uids = Uids.builder()
+                .uidsLegacy(legacyUidsMap)
+                .uids(uidsMap)
+                .optout(false)
+                .bday(NOW.minusDays(1))
+                .build();
+
+        // when
+        final Uids result = compactUidsFormat.decode(compactUidsFormat.encode(uids));
+
+        // then
+        assertThat(result.getUids()).isEqualTo(uidsMap);
+        assertThat(result.getUidsLegacy()).isEqualTo(legacyUidsMap);
+        assertThat(result.getOptout()).isFalse();
+        assertThat(result.getBday()).isEqualTo(NOW.minusDays(1));
+    }
+
+    @Test
+    public void encodeShouldUseFamilyIdsForRegisteredFamilies() {
+        // given
+        final Uids registeredFamilyUids = Uids.builder()
+                .uids(singletonMap("rubicon", new UidWithExpiry("uid", NOW)))
+                .build();
+        final Uids unknownFamilyUids = Uids.builder()
+                .uids(singletonMap("unknown", new UidWithExpiry("uid", NOW)))
+                .build();
+
+        // when
+        final byte[] registeredFamilyBytes = compactUidsFormat.encode(registeredFamilyUids);
+        final byte[] unknownFamilyBytes = compactUidsFormat.encode(unknownFamilyUids);
+
+        // then
+        assertThat(registeredFamilyBytes.length).isLessThan(unknownFamilyBytes.length);
+        assertThat(CompactUidsFormat.isCompact(registeredFamilyBytes)).isTrue();
+    }
+
+    @Test
+    public void familyRegistryShouldContainCookieFamiliesOfAllConfiguredBidders() throws IOException {
+        // when
+        final List<String> cookieFamilies = getCookieFamiliesFromConfigFiles();
+
+        // then
+        assertThat(cookieFamilies).isNotEmpty()
+                .allMatch(CompactUidsFormat::isRegisteredFamily, "registered in compact uids format");
+    }
+
+    @Test
+    public void decodeShouldSkipUidsOfUnknownFamilyIds() {
+        // given
+        // version, flags, reference time, uids count, family id 1000, uid "u", no expiration
+        final byte[] bytes = {1, 0, 0, 1, (byte) 0xE8, 0x07, 1, 'u', 0};
+
+        // when
+        final Uids result = compactUidsFormat.decode(bytes);
+
+        // then
+        assertThat(result.getUids()).isEmpty();
+    }
+
+    @Test
+    public void decodeShouldFailOnNegativeFamilyId() {
+        // given
+        // version, flags, reference time, uids count, family id with the highest bit set, uid "u", no expiration
+        final byte[] bytes = {1, 0, 0, 1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 1, 1, 'u', 0};
+
+        // when and then
+        assertThatIllegalArgumentException().isThrownBy(() -> compactUidsFormat.decode(bytes))
+                .withMessage("Malformed family id in compact uids");
+    }
+
+    @Test
+    public void decodeShouldFailOnTruncatedInput() {
+        // given
+        final Uids uids = Uids.builder()
+                .uids(singletonMap("rubicon", new UidWithExpiry("uid", Instant.EPOCH.atZone(ZoneOffset.UTC))))
+                .build();
+        final byte[] bytes = compactUidsFormat.encode(uids);
+        final byte[] truncated = new byte[bytes.length - 2];
+        System.arraycopy(bytes, 0, truncated, 0, truncated.length);
+
+        // when and then
+        assertThatIllegalArgumentException().isThrownBy(() -> compactUidsFormat.decode(truncated));
+    }
+
+    @Test
+    public void isCompactShouldReturnFalseForJson() {
+        assertThat(CompactUidsFormat.isCompact("{\"tempUIDs\":{}}".getBytes())).isFalse();
+    }
+
+    private static List<String> getCookieFamiliesFromConfigFiles() throws IOException {
+        final String folderPath = "src/main/resources/bidder-config";
+        final String[] files = new File(folderPath).list();
+        final List<String> cookieFamilies = new ArrayList<>();
+        if (files != null) {
+            final ObjectMapper mapper = new ObjectMapper(new YAMLFactory());
+            for (String fileName : files) {
+                final JsonNode configNode = mapper.readValue(new File(folderPath, fileName), JsonNode.class);
+                final JsonNode usersyncNode = configNode.get("adapters").fields().next().getValue().get("usersync");
+                final JsonNode cookieFamilyNode = usersyncNode != null ? usersyncNode.get("cookie-family-name") : null;
+
+                if (cookieFamilyNode != null && !cookieFamilyNode.isNull()) {
+                    cookieFamilies.add(cookieFamilyNode.textValue());
+                }
+            }
+        }
+        return cookieFamilies;
+    }
+}
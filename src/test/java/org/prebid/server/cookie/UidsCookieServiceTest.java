@@ -3,6 +3,7 @@ package org.prebid.server.cookie;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import io.vertx.core.http.Cookie;
 import io.vertx.ext.web.RoutingContext;
+import org.apache.commons.lang3.StringUtils;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -46,12 +47,16 @@ public class UidsCookieServiceTest extends VertxTest {
     @Mock
     private RoutingContext routingContext;
 
+    private CompactUidsFormat compactUidsFormat;
+
     private UidsCookieService uidsCookieService;
 
     @Before
     public void setUp() {
+        compactUidsFormat = new CompactUidsFormat(Clock.systemUTC());
         uidsCookieService = new UidsCookieService(
-                "trp_optout", "true", null, null, "cookie-domain", 90, MAX_COOKIE_SIZE_BYTES, jacksonMapper);
+                "trp_optout", "true", null, null, "cookie-domain", 90,
+                MAX_COOKIE_SIZE_BYTES, compactUidsFormat, false, jacksonMapper);
     }
 
     @Test
@@ -189,7 +194,8 @@ public class UidsCookieServiceTest extends VertxTest {
     public void shouldReturnUidsCookieWithOptoutFalseIfOptoutCookieNameNotSpecified() {
         // given
         uidsCookieService = new UidsCookieService(
-                null, "true", null, null, "cookie-domain", 90, MAX_COOKIE_SIZE_BYTES, jacksonMapper);
+                null, "true", null, null, "cookie-domain", 90,
+                MAX_COOKIE_SIZE_BYTES, compactUidsFormat, false, jacksonMapper);
         given(routingContext.cookieMap()).willReturn(
                 singletonMap(OPT_OUT_COOKIE_NAME, Cookie.cookie("trp_optout", "true")));
 
@@ -204,7 +210,8 @@ public class UidsCookieServiceTest extends VertxTest {
     public void shouldReturnUidsCookieWithOptoutFalseIfOptoutCookieValueNotSpecified() {
         // given
         uidsCookieService = new UidsCookieService(
-                "trp_optout", null, null, null, "cookie-domain", 90, MAX_COOKIE_SIZE_BYTES, jacksonMapper);
+                "trp_optout", null, null, null, "cookie-domain", 90,
+                MAX_COOKIE_SIZE_BYTES, compactUidsFormat, false, jacksonMapper);
         given(routingContext.cookieMap()).willReturn(
                 singletonMap(OPT_OUT_COOKIE_NAME, Cookie.cookie("trp_optout", "true")));
 
@@ -219,7 +226,8 @@ public class UidsCookieServiceTest extends VertxTest {
     public void shouldReturnRubiconCookieValueFromHostCookieWhenUidValueIsAbsent() {
         // given
         uidsCookieService = new UidsCookieService(
-                "trp_optout", "true", "rubicon", "khaos", "cookie-domain", 90, MAX_COOKIE_SIZE_BYTES, jacksonMapper);
+                "trp_optout", "true", "rubicon", "khaos", "cookie-domain", 90,
+                MAX_COOKIE_SIZE_BYTES, compactUidsFormat, false, jacksonMapper);
         given(routingContext.cookieMap()).willReturn(singletonMap("khaos", Cookie.cookie("khaos", "abc123")));
 
         // when
@@ -233,7 +241,8 @@ public class UidsCookieServiceTest extends VertxTest {
     public void shouldReturnRubiconCookieValueFromHostCookieWhenUidValueIsPresentButDiffers() {
         // given
         uidsCookieService = new UidsCookieService(
-                "trp_optout", "true", "rubicon", "khaos", "cookie-domain", 90, MAX_COOKIE_SIZE_BYTES, jacksonMapper);
+                "trp_optout", "true", "rubicon", "khaos", "cookie-domain", 90,
+                MAX_COOKIE_SIZE_BYTES, compactUidsFormat, false, jacksonMapper);
 
         final Map<String, Cookie> cookies = new HashMap<>();
         // this uids cookie value stands for {"uids":{"rubicon":"J5VLCWQP-26-CWFT","adnxs":"12345"}}
@@ -285,7 +294,7 @@ public class UidsCookieServiceTest extends VertxTest {
         // the size of uidsCookie above is 530, therefore it is expected to be modified.
         final int maxCookieSizeBytes = 500;
         uidsCookieService = new UidsCookieService(OPT_OUT_COOKIE_NAME, OPT_OUT_COOKIE_VALUE, null,
-                null, HOST_COOKIE_DOMAIN, 90, maxCookieSizeBytes, jacksonMapper);
+                null, HOST_COOKIE_DOMAIN, 90, maxCookieSizeBytes, compactUidsFormat, false, jacksonMapper);
 
         // when
         final Cookie cookie = uidsCookieService.toCookie(uidsCookie);
@@ -298,6 +307,57 @@ public class UidsCookieServiceTest extends VertxTest {
         assertThat(uids).hasSize(6);
     }
 
+    @Test
+    public void toCookieShouldWriteCompactFormatIfEnabledAndParseItBack() {
+        // given
+        uidsCookieService = new UidsCookieService(OPT_OUT_COOKIE_NAME, OPT_OUT_COOKIE_VALUE, null,
+                null, HOST_COOKIE_DOMAIN, 90, MAX_COOKIE_SIZE_BYTES, compactUidsFormat, true, jacksonMapper);
+
+        final UidsCookie uidsCookie = new UidsCookie(Uids.builder().uids(new HashMap<>()).build(), jacksonMapper)
+                .updateUid(RUBICON, "rubiconUid")
+                .updateUid("unknown", "unknownUid");
+
+        // when
+        final Cookie cookie = uidsCookieService.toCookie(uidsCookie);
+
+        // then
+        assertThat(Base64.getUrlDecoder().decode(cookie.getValue())[0]).isEqualTo(CompactUidsFormat.VERSION);
+
+        final UidsCookie parsedUidsCookie = uidsCookieService.parseFromCookies(singletonMap("uids", cookie.getValue()));
+        assertThat(parsedUidsCookie.uidFrom(RUBICON)).isEqualTo("rubiconUid");
+        assertThat(parsedUidsCookie.uidFrom("unknown")).isEqualTo("unknownUid");
+        assertThat(parsedUidsCookie.hasLiveUidFrom(RUBICON)).isTrue();
+    }
+
+    @Test
+    public void toCookieShouldEnforceMaxCookieSizeInCompactFormatAndRemoveUidsWithCloserExpirationDate() {
+        // given
+        final Map<String, UidWithExpiry> uids = new HashMap<>();
+        for (int i = 0; i < 30; i++) {
+            uids.put("bidder" + i, new UidWithExpiry(StringUtils.repeat('x', 20),
+                    ZonedDateTime.now(Clock.systemUTC()).plusDays(i)));
+        }
+        final UidsCookie uidsCookie = new UidsCookie(Uids.builder().uids(uids).build(), jacksonMapper);
+
+        uidsCookieService = new UidsCookieService(OPT_OUT_COOKIE_NAME, OPT_OUT_COOKIE_VALUE, null,
+                null, HOST_COOKIE_DOMAIN, 90, 500, compactUidsFormat, true, jacksonMapper);
+
+        // when
+        final Cookie cookie = uidsCookieService.toCookie(uidsCookie);
+
+        // then
+        final byte[] cookieBytes = Base64.getUrlDecoder().decode(cookie.getValue());
+        assertThat(cookieBytes.length).isLessThanOrEqualTo(500);
+
+        final Map<String, UidWithExpiry> resultUids = compactUidsFormat.decode(cookieBytes).getUids();
+        assertThat(resultUids).isNotEmpty().hasSizeLessThan(30).containsKey("bidder29");
+        // only UIDs with the closest expiration are removed
+        final int removed = 30 - resultUids.size();
+        for (int i = 0; i < removed; i++) {
+            assertThat(resultUids).doesNotContainKey("bidder" + i);
+        }
+    }
+
     @Test
     public void toCookieShouldReturnCookieWithExpectedValue() throws IOException {
         // given
@@ -366,7 +426,8 @@ public class UidsCookieServiceTest extends VertxTest {
     public void shouldParseHostCookie() {
         // given
         uidsCookieService = new UidsCookieService(
-                "trp_optout", "true", null, "khaos", "cookie-domain", 90, MAX_COOKIE_SIZE_BYTES, jacksonMapper);
+                "trp_optout", "true", null, "khaos", "cookie-domain", 90,
+                MAX_COOKIE_SIZE_BYTES, compactUidsFormat, false, jacksonMapper);
 
         // when
         final String hostCookie = uidsCookieService.parseHostCookie(singletonMap("khaos", "userId"));
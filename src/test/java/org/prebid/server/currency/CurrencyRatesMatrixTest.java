@@ -0,0 +1,76 @@
+package org.prebid.server.currency;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CurrencyRatesMatrixTest {
+
+    @Test
+    public void conversionRateShouldReturnDirectRate() {
+        // given
+        final CurrencyRatesMatrix matrix = CurrencyRatesMatrix.of(
+                singletonMap("USD", singletonMap("EUR", BigDecimal.valueOf(1.2))));
+
+        // when and then
+        assertThat(matrix.conversionRate("USD", "EUR")).isEqualByComparingTo(BigDecimal.valueOf(1.2));
+    }
+
+    @Test
+    public void conversionRateShouldReturnReverseRate() {
+        // given
+        final CurrencyRatesMatrix matrix = CurrencyRatesMatrix.of(
+                singletonMap("USD", singletonMap("EUR", BigDecimal.valueOf(1.25))));
+
+        // when and then
+        assertThat(matrix.conversionRate("EUR", "USD")).isEqualByComparingTo(BigDecimal.valueOf(0.800));
+    }
+
+    @Test
+    public void conversionRateShouldReturnIntermediateRate() {
+        // given
+        final Map<String, Map<String, BigDecimal>> rates = new HashMap<>();
+        rates.put("USD", singletonMap("AUD", BigDecimal.valueOf(1.2)));
+        rates.put("EUR", singletonMap("AUD", BigDecimal.valueOf(1.5)));
+        final CurrencyRatesMatrix matrix = CurrencyRatesMatrix.of(rates);
+
+        // when and then
+        assertThat(matrix.conversionRate("USD", "EUR")).isEqualByComparingTo(BigDecimal.valueOf(0.8));
+    }
+
+    @Test
+    public void conversionRateShouldReturnNullForUnknownCurrency() {
+        // given
+        final CurrencyRatesMatrix matrix = CurrencyRatesMatrix.of(
+                singletonMap("USD", singletonMap("EUR", BigDecimal.valueOf(1.2))));
+
+        // when and then
+        assertThat(matrix.conversionRate("USD", "GBP")).isNull();
+        assertThat(matrix.conversionRate("GBP", "USD")).isNull();
+        assertThat(matrix.conversionRate(null, "USD")).isNull();
+    }
+
+    @Test
+    public void conversionRateShouldReturnNullForZeroRate() {
+        // given
+        final CurrencyRatesMatrix matrix = CurrencyRatesMatrix.of(
+                singletonMap("USD", singletonMap("EUR", BigDecimal.ZERO)));
+
+        // when and then
+        assertThat(matrix.conversionRate("USD", "EUR")).isNull();
+        assertThat(matrix.conversionRate("EUR", "USD")).isNull();
+    }
+
+    @Test
+    public void ofShouldTolerateEmptyRates() {
+        // when and then
+        assertThat(CurrencyRatesMatrix.of(emptyMap()).conversionRate("USD", "EUR")).isNull();
+        assertThat(CurrencyRatesMatrix.of(null).conversionRate("USD", "EUR")).isNull();
+    }
+}
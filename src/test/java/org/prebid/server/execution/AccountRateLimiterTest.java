@@ -0,0 +1,119 @@
+package org.prebid.server.execution;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.settings.model.Account;
+import org.prebid.server.settings.model.AccountRateLimitConfig;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+public class AccountRateLimiterTest {
+
+    private AccountRateLimiter accountRateLimiter;
+
+    @Before
+    public void setUp() {
+        accountRateLimiter = new AccountRateLimiter(1);
+    }
+
+    @Test
+    public void creationShouldFailOnNonPositiveStripes() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new AccountRateLimiter(0));
+    }
+
+    @Test
+    public void tryAcquireShouldAcquireIfAccountHasNoLimits() {
+        // given
+        final Account account = Account.empty("accountId");
+
+        // when and then
+        assertThat(accountRateLimiter.tryAcquire(account)).isNull();
+    }
+
+    @Test
+    public void tryAcquireShouldRejectRequestsOverBurst() {
+        // given
+        final Account account = givenAccount(AccountRateLimitConfig.of(1, 2, null));
+
+        // when and then
+        assertThat(accountRateLimiter.tryAcquire(account)).isNull();
+        assertThat(accountRateLimiter.tryAcquire(account)).isNull();
+        assertThat(accountRateLimiter.tryAcquire(account)).isEqualTo(MetricName.rate_limited);
+    }
+
+    @Test
+    public void tryAcquireShouldUseRateAsBurstIfBurstIsNotDefined() {
+        // given
+        final Account account = givenAccount(AccountRateLimitConfig.of(1, null, null));
+
+        // when and then
+        assertThat(accountRateLimiter.tryAcquire(account)).isNull();
+        assertThat(accountRateLimiter.tryAcquire(account)).isEqualTo(MetricName.rate_limited);
+    }
+
+    @Test
+    public void tryAcquireShouldDivideBurstBetweenStripes() {
+        // given
+        accountRateLimiter = new AccountRateLimiter(2);
+        final Account account = givenAccount(AccountRateLimitConfig.of(1, 4, null));
+
+        // when and then
+        assertThat(accountRateLimiter.tryAcquire(account)).isNull();
+        assertThat(accountRateLimiter.tryAcquire(account)).isNull();
+        assertThat(accountRateLimiter.tryAcquire(account)).isEqualTo(MetricName.rate_limited);
+    }
+
+    @Test
+    public void tryAcquireShouldKeepBucketsOfDifferentAccountsSeparately() {
+        // given
+        final Account account1 = givenAccount(AccountRateLimitConfig.of(1, 1, null));
+        final Account account2 = Account.builder().id("otherAccountId").rateLimits(account1.getRateLimits()).build();
+
+        // when and then
+        assertThat(accountRateLimiter.tryAcquire(account1)).isNull();
+        assertThat(accountRateLimiter.tryAcquire(account2)).isNull();
+    }
+
+    @Test
+    public void tryAcquireShouldRecreateBucketIfLimitsChanged() {
+        // given
+        accountRateLimiter.tryAcquire(givenAccount(AccountRateLimitConfig.of(1, 1, null)));
+
+        // when and then
+        assertThat(accountRateLimiter.tryAcquire(givenAccount(AccountRateLimitConfig.of(2, 2, null)))).isNull();
+    }
+
+    @Test
+    public void tryAcquireShouldRejectRequestsOverMaxConcurrentRequestsUntilReleased() {
+        // given
+        final Account account = givenAccount(AccountRateLimitConfig.of(null, null, 1));
+
+        // when and then
+        assertThat(accountRateLimiter.tryAcquire(account)).isNull();
+        assertThat(accountRateLimiter.tryAcquire(account)).isEqualTo(MetricName.concurrency_limited);
+
+        accountRateLimiter.release(account);
+        assertThat(accountRateLimiter.tryAcquire(account)).isNull();
+    }
+
+    @Test
+    public void tryAcquireShouldNotHoldConcurrentRequestIfRateLimitIsExceeded() {
+        // given
+        final Account account = givenAccount(AccountRateLimitConfig.of(1, 1, 1));
+        accountRateLimiter.tryAcquire(account);
+        accountRateLimiter.release(account);
+
+        // when
+        final MetricName result = accountRateLimiter.tryAcquire(account);
+
+        // then
+        assertThat(result).isEqualTo(MetricName.rate_limited);
+        assertThat(accountRateLimiter.tryAcquire(givenAccount(AccountRateLimitConfig.of(null, null, 1)))).isNull();
+    }
+
+    private static Account givenAccount(AccountRateLimitConfig rateLimitConfig) {
+        return Account.builder().id("accountId").rateLimits(rateLimitConfig).build();
+    }
+}
@@ -0,0 +1,142 @@
+package org.prebid.server.execution;
+
+import io.vertx.core.Vertx;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.vertx.EventLoopMonitor;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+public class AdmissionControllerTest {
+
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private Vertx vertx;
+    @Mock
+    private EventLoopMonitor eventLoopMonitor;
+
+    private AdmissionController admissionController;
+
+    @Before
+    public void setUp() {
+        admissionController = new AdmissionController(vertx, eventLoopMonitor, 100, 10, 0.5, 1000, 10);
+    }
+
+    @Test
+    public void creationShouldFailOnNonPositiveBidderTimeoutRateWindow() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new AdmissionController(vertx, eventLoopMonitor, 100, 10, 0.5, 0, 10));
+    }
+
+    @Test
+    public void creationShouldScheduleBidderTimeoutRateUpdate() {
+        // then
+        verify(vertx).setPeriodic(eq(1000L), any());
+    }
+
+    @Test
+    public void shedReasonShouldReturnNullIfAllSignalsAreBelowLimits() {
+        // given
+        given(eventLoopMonitor.currentEventLoopLagNanos()).willReturn(TimeUnit.MILLISECONDS.toNanos(10));
+
+        // when and then
+        assertThat(admissionController.shedReason(AdmissionController.Priority.low)).isNull();
+    }
+
+    @Test
+    public void shedReasonShouldReturnEventLoopLagIfLagReachesLimit() {
+        // given
+        given(eventLoopMonitor.currentEventLoopLagNanos()).willReturn(TimeUnit.MILLISECONDS.toNanos(100));
+
+        // when and then
+        assertThat(admissionController.shedReason(AdmissionController.Priority.high))
+                .isEqualTo(MetricName.event_loop_lag);
+    }
+
+    @Test
+    public void shedReasonShouldIgnoreEventLoopLagIfMonitorIsAbsent() {
+        // given
+        admissionController = new AdmissionController(vertx, null, 100, 10, 0.5, 1000, 10);
+
+        // when and then
+        assertThat(admissionController.shedReason(AdmissionController.Priority.low)).isNull();
+    }
+
+    @Test
+    public void shedReasonShouldShedLowPriorityBeforeHighPriority() {
+        // given
+        for (int i = 0; i < 8; i++) {
+            admissionController.admit();
+        }
+
+        // when and then
+        assertThat(admissionController.shedReason(AdmissionController.Priority.low)).isEqualTo(MetricName.in_flight);
+        assertThat(admissionController.shedReason(AdmissionController.Priority.high)).isNull();
+    }
+
+    @Test
+    public void releaseShouldDecrementInFlightCount() {
+        // given
+        admissionController.admit();
+        admissionController.admit();
+
+        // when
+        admissionController.release();
+
+        // then
+        assertThat(admissionController.inFlight()).isEqualTo(1);
+    }
+
+    @Test
+    public void shedReasonShouldReturnBidderTimeoutRateIfRateReachesLimit() {
+        // given
+        for (int i = 0; i < 10; i++) {
+            admissionController.recordBidderResponse(i % 2 == 0);
+        }
+
+        // when
+        admissionController.updateBidderTimeoutRate();
+
+        // then
+        assertThat(admissionController.bidderTimeoutRate()).isEqualTo(0.5);
+        assertThat(admissionController.shedReason(AdmissionController.Priority.high))
+                .isEqualTo(MetricName.bidder_timeout_rate);
+    }
+
+    @Test
+    public void updateBidderTimeoutRateShouldResetRateIfTooFewResponses() {
+        // given
+        admissionController.recordBidderResponse(true);
+
+        // when
+        admissionController.updateBidderTimeoutRate();
+
+        // then
+        assertThat(admissionController.bidderTimeoutRate()).isZero();
+    }
+
+    @Test
+    public void shedReasonShouldIgnoreSignalsWithNonPositiveLimits() {
+        // given
+        admissionController = new AdmissionController(vertx, eventLoopMonitor, 0, 0, 0, 1000, 0);
+        given(eventLoopMonitor.currentEventLoopLagNanos()).willReturn(Long.MAX_VALUE);
+        admissionController.admit();
+
+        // when and then
+        assertThat(admissionController.shedReason(AdmissionController.Priority.low)).isNull();
+    }
+}
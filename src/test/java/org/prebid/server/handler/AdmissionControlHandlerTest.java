@@ -0,0 +1,152 @@
+package org.prebid.server.handler;
+
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.vertx.core.Handler;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.ext.web.RoutingContext;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.prebid.server.execution.AdmissionController;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+public class AdmissionControlHandlerTest {
+
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private AdmissionController admissionController;
+    @Mock
+    private Metrics metrics;
+
+    private AdmissionControlHandler admissionControlHandler;
+    @Mock
+    private RoutingContext routingContext;
+    @Mock
+    private HttpServerRequest httpRequest;
+    @Mock
+    private HttpServerResponse httpResponse;
+
+    @Before
+    public void setUp() {
+        given(routingContext.request()).willReturn(httpRequest);
+        given(routingContext.response()).willReturn(httpResponse);
+        given(httpResponse.setStatusCode(anyInt())).willReturn(httpResponse);
+
+        admissionControlHandler = new AdmissionControlHandler(admissionController, MetricName.amp,
+                AdmissionController.Priority.normal, emptyMap(), HttpResponseStatus.NO_CONTENT, metrics);
+    }
+
+    @Test
+    public void shouldPassAdmittedRequestToNextHandlerAndReleaseItOnResponseEnd() {
+        // when
+        admissionControlHandler.handle(routingContext);
+
+        // then
+        verify(admissionController).admit();
+        verify(routingContext).next();
+
+        @SuppressWarnings("unchecked")
+        final ArgumentCaptor<Handler<Void>> endHandlerCaptor = ArgumentCaptor.forClass(Handler.class);
+        verify(httpResponse).endHandler(endHandlerCaptor.capture());
+        endHandlerCaptor.getValue().handle(null);
+        verify(admissionController).release();
+    }
+
+    @Test
+    public void shouldReleaseAdmittedRequestImmediatelyIfConnectionIsAlreadyClosed() {
+        // given
+        given(httpResponse.closed()).willReturn(true);
+
+        // when
+        admissionControlHandler.handle(routingContext);
+
+        // then
+        verify(admissionController).admit();
+        verify(admissionController).release();
+        verify(httpResponse, never()).endHandler(any());
+    }
+
+    @Test
+    public void shouldReleaseAdmittedRequestAlongWithOtherResponseEndHandlers() {
+        // given
+        final List<Handler<Void>> endHandlers = new ArrayList<>();
+        endHandlers.add(ignored -> {
+        });
+        given(routingContext.get(any())).willReturn(endHandlers);
+
+        // when
+        admissionControlHandler.handle(routingContext);
+
+        // then
+        verify(httpResponse, never()).endHandler(any());
+        assertThat(endHandlers).hasSize(2);
+        endHandlers.forEach(handler -> handler.handle(null));
+        verify(admissionController).release();
+    }
+
+    @Test
+    public void shouldRespondWithShedStatusAndUpdateMetricIfRequestIsShed() {
+        // given
+        given(admissionController.shedReason(any())).willReturn(MetricName.in_flight);
+
+        // when
+        admissionControlHandler.handle(routingContext);
+
+        // then
+        verify(httpResponse).setStatusCode(204);
+        verify(httpResponse).end();
+        verify(metrics).updateAdmissionShedMetric(MetricName.amp, MetricName.in_flight);
+        verify(admissionController, never()).admit();
+        verify(routingContext, never()).next();
+    }
+
+    @Test
+    public void shouldUseAccountPriorityIfAccountIsPresentInQueryString() {
+        // given
+        admissionControlHandler = new AdmissionControlHandler(admissionController, MetricName.amp,
+                AdmissionController.Priority.normal, singletonMap("accountId", AdmissionController.Priority.high),
+                HttpResponseStatus.NO_CONTENT, metrics);
+        given(httpRequest.getParam("account")).willReturn("accountId");
+
+        // when
+        admissionControlHandler.handle(routingContext);
+
+        // then
+        verify(admissionController).shedReason(AdmissionController.Priority.high);
+    }
+
+    @Test
+    public void shouldUseEndpointPriorityIfAccountHasNoPriority() {
+        // given
+        admissionControlHandler = new AdmissionControlHandler(admissionController, MetricName.amp,
+                AdmissionController.Priority.low, singletonMap("accountId", AdmissionController.Priority.high),
+                HttpResponseStatus.NO_CONTENT, metrics);
+        given(httpRequest.getParam("account")).willReturn("otherAccountId");
+
+        // when
+        admissionControlHandler.handle(routingContext);
+
+        // then
+        verify(admissionController).shedReason(AdmissionController.Priority.low);
+    }
+}
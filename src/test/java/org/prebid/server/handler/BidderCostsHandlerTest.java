@@ -0,0 +1,64 @@
+package org.prebid.server.handler;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import io.vertx.core.http.CaseInsensitiveHeaders;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.ext.web.RoutingContext;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.prebid.server.VertxTest;
+import org.prebid.server.bidder.BidderStageProfiler;
+import org.prebid.server.bidder.model.BidderCost;
+
+import static java.util.Collections.singletonList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+public class BidderCostsHandlerTest extends VertxTest {
+
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private RoutingContext routingContext;
+    @Mock
+    private HttpServerResponse httpResponse;
+    @Mock
+    private BidderStageProfiler bidderStageProfiler;
+
+    private BidderCostsHandler bidderCostsHandler;
+
+    @Before
+    public void setUp() {
+        bidderCostsHandler = new BidderCostsHandler(bidderStageProfiler, jacksonMapper);
+
+        given(routingContext.response()).willReturn(httpResponse);
+        given(httpResponse.headers()).willReturn(new CaseInsensitiveHeaders());
+    }
+
+    @Test
+    public void handleShouldReturnBidderCosts() throws JsonProcessingException {
+        // given
+        given(bidderStageProfiler.bidderCosts())
+                .willReturn(singletonList(BidderCost.of("rubicon", 10L, 1000L, 2000L, 3000L, 4096L)));
+
+        // when
+        bidderCostsHandler.handle(routingContext);
+
+        // then
+        final String expectedResponse = mapper.writeValueAsString(singletonList(
+                mapper.createObjectNode()
+                        .put("bidder", "rubicon")
+                        .put("sampled_requests", 10L)
+                        .put("request_building_nanos", 1000L)
+                        .put("response_parsing_nanos", 2000L)
+                        .put("total_nanos", 3000L)
+                        .put("allocated_bytes", 4096L)));
+        verify(httpResponse).end(eq(expectedResponse));
+    }
+}
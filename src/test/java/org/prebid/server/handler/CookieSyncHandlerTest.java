@@ -18,6 +18,7 @@ import org.prebid.server.analytics.AnalyticsReporter;
 import org.prebid.server.analytics.model.CookieSyncEvent;
 import org.prebid.server.auction.PrivacyEnforcementService;
 import org.prebid.server.bidder.BidderCatalog;
+import org.prebid.server.bidder.UsersyncInfoCache;
 import org.prebid.server.bidder.Usersyncer;
 import org.prebid.server.cookie.UidsCookie;
 import org.prebid.server.cookie.UidsCookieService;
@@ -132,6 +133,7 @@ public class CookieSyncHandlerTest extends VertxTest {
                 uidsCookieService,
                 applicationSettings,
                 bidderCatalog,
+                new UsersyncInfoCache(100),
                 tcfDefinerService,
                 privacyEnforcementService,
                 1,
@@ -335,7 +337,8 @@ public class CookieSyncHandlerTest extends VertxTest {
         given(bidderCatalog.isActive(disabledBidder)).willReturn(false);
 
         cookieSyncHandler = new CookieSyncHandler("http://external-url", 2000, uidsCookieService, applicationSettings,
-                bidderCatalog, tcfDefinerService, privacyEnforcementService, 1, false, emptyList(),
+                bidderCatalog, new UsersyncInfoCache(100), tcfDefinerService,
+                privacyEnforcementService, 1, false, emptyList(),
                 analyticsReporter, metrics, timeoutFactory, jacksonMapper);
 
         given(routingContext.getBody()).willReturn(givenRequestBody(
@@ -371,7 +374,8 @@ public class CookieSyncHandlerTest extends VertxTest {
         final List<Collection<String>> coopBidders = asList(singletonList(RUBICON), singletonList(disabledBidder));
 
         cookieSyncHandler = new CookieSyncHandler("http://external-url", 2000, uidsCookieService, applicationSettings,
-                bidderCatalog, tcfDefinerService, privacyEnforcementService, 1, false, coopBidders,
+                bidderCatalog, new UsersyncInfoCache(100), tcfDefinerService,
+                privacyEnforcementService, 1, false, coopBidders,
                 analyticsReporter, metrics, timeoutFactory, jacksonMapper);
 
         given(routingContext.getBody()).willReturn(givenRequestBody(
@@ -407,7 +411,8 @@ public class CookieSyncHandlerTest extends VertxTest {
                 asList("bidder1", "bidder2"), singletonList("spam"));
 
         cookieSyncHandler = new CookieSyncHandler("http://external-url", 2000, uidsCookieService, applicationSettings,
-                bidderCatalog, tcfDefinerService, privacyEnforcementService, 1, true, priorityBidders,
+                bidderCatalog, new UsersyncInfoCache(100), tcfDefinerService,
+                privacyEnforcementService, 1, true, priorityBidders,
                 analyticsReporter, metrics, timeoutFactory, jacksonMapper);
 
         given(routingContext.getBody()).willReturn(givenRequestBody(
@@ -446,7 +451,8 @@ public class CookieSyncHandlerTest extends VertxTest {
         given(bidderCatalog.names()).willReturn(new HashSet<>(asList(APPNEXUS, RUBICON, disabledBidder)));
 
         cookieSyncHandler = new CookieSyncHandler("http://external-url", 2000, uidsCookieService, applicationSettings,
-                bidderCatalog, tcfDefinerService, privacyEnforcementService, 1, false, emptyList(),
+                bidderCatalog, new UsersyncInfoCache(100), tcfDefinerService,
+                privacyEnforcementService, 1, false, emptyList(),
                 analyticsReporter, metrics, timeoutFactory, jacksonMapper);
 
         appnexusUsersyncer = new Usersyncer(APPNEXUS_COOKIE, "http://adnxsexample.com", null, null, "redirect", false);
@@ -629,7 +635,8 @@ public class CookieSyncHandlerTest extends VertxTest {
     public void shouldSkipVendorHostCheckAndContinueWithBiddersCheckWhenHostVendorIdIsMissing() throws IOException {
         // given
         cookieSyncHandler = new CookieSyncHandler("http://external-url", 2000, uidsCookieService, applicationSettings,
-                bidderCatalog, tcfDefinerService, privacyEnforcementService, null, false, emptyList(),
+                bidderCatalog, new UsersyncInfoCache(100), tcfDefinerService,
+                privacyEnforcementService, null, false, emptyList(),
                 analyticsReporter, metrics, timeoutFactory, jacksonMapper);
         given(uidsCookieService.parseFromRequest(any())).willReturn(new UidsCookie(
                 Uids.builder().uids(singletonMap(RUBICON, UidWithExpiry.live("J5VLCWQP-26-CWFT"))).build(),
@@ -725,7 +732,8 @@ public class CookieSyncHandlerTest extends VertxTest {
     public void shouldRespondWithNoCookieStatusIfHostVendorRejectedByTcf() throws IOException {
         // given
         cookieSyncHandler = new CookieSyncHandler("http://external-url", 2000, uidsCookieService, applicationSettings,
-                bidderCatalog, tcfDefinerService, privacyEnforcementService, 1, false, emptyList(),
+                bidderCatalog, new UsersyncInfoCache(100), tcfDefinerService,
+                privacyEnforcementService, 1, false, emptyList(),
                 analyticsReporter, metrics, timeoutFactory, jacksonMapper);
 
         given(uidsCookieService.parseFromRequest(any()))
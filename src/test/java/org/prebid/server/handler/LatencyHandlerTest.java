@@ -0,0 +1,94 @@
+package org.prebid.server.handler;
+
+import com.codahale.metrics.MetricRegistry;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.vertx.core.http.CaseInsensitiveHeaders;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.ext.web.RoutingContext;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.prebid.server.VertxTest;
+import org.prebid.server.vertx.EventLoopMonitor;
+import org.prebid.server.vertx.model.BlockedTaskSample;
+
+import java.io.IOException;
+import java.time.ZonedDateTime;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+public class LatencyHandlerTest extends VertxTest {
+
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private RoutingContext routingContext;
+    @Mock
+    private HttpServerResponse httpResponse;
+    @Mock
+    private EventLoopMonitor eventLoopMonitor;
+
+    private MetricRegistry metricRegistry;
+
+    private LatencyHandler latencyHandler;
+
+    @Before
+    public void setUp() {
+        metricRegistry = new MetricRegistry();
+        latencyHandler = new LatencyHandler(metricRegistry, eventLoopMonitor, jacksonMapper);
+
+        given(routingContext.response()).willReturn(httpResponse);
+        given(httpResponse.headers()).willReturn(new CaseInsensitiveHeaders());
+    }
+
+    @Test
+    public void handleShouldReturnStagesLatencyEventLoopLagAndBlockedTasks() throws IOException {
+        // given
+        metricRegistry.timer("auction.stage.parse_request").update(1500, TimeUnit.MICROSECONDS);
+        metricRegistry.timer("event_loop.lag").update(2, TimeUnit.MILLISECONDS);
+        metricRegistry.timer("request_time").update(100, TimeUnit.MILLISECONDS);
+
+        given(eventLoopMonitor.blockedTaskSamples()).willReturn(singletonList(BlockedTaskSample.of(
+                "vert.x-eventloop-thread-0", ZonedDateTime.parse("2020-01-01T00:00:00Z"), 250L,
+                singletonList("java.lang.Thread.sleep(Native Method)"))));
+
+        // when
+        latencyHandler.handle(routingContext);
+
+        // then
+        final ArgumentCaptor<String> responseCaptor = ArgumentCaptor.forClass(String.class);
+        verify(httpResponse).end(responseCaptor.capture());
+
+        final JsonNode response = mapper.readTree(responseCaptor.getValue());
+        assertThat(response.path("stages").size()).isOne();
+        assertThat(response.path("stages").path("parse_request").path("count").asLong()).isOne();
+        assertThat(response.path("stages").path("parse_request").path("p99_ms").asDouble()).isEqualTo(1.5);
+        assertThat(response.path("event_loop_lag").path("max_ms").asDouble()).isEqualTo(2.0);
+        assertThat(response.path("blocked_tasks").get(0).path("blocked_ms").asLong()).isEqualTo(250L);
+    }
+
+    @Test
+    public void handleShouldReturnEmptyBlockedTasksIfEventLoopMonitorIsAbsent() throws IOException {
+        // given
+        latencyHandler = new LatencyHandler(metricRegistry, null, jacksonMapper);
+
+        // when
+        latencyHandler.handle(routingContext);
+
+        // then
+        final ArgumentCaptor<String> responseCaptor = ArgumentCaptor.forClass(String.class);
+        verify(httpResponse).end(responseCaptor.capture());
+
+        final JsonNode response = mapper.readTree(responseCaptor.getValue());
+        assertThat(response.path("blocked_tasks").size()).isZero();
+    }
+}
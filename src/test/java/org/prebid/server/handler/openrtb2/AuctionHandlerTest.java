@@ -29,6 +29,7 @@ import org.prebid.server.cookie.UidsCookie;
 import org.prebid.server.exception.BlacklistedAccountException;
 import org.prebid.server.exception.BlacklistedAppException;
 import org.prebid.server.exception.InvalidRequestException;
+import org.prebid.server.exception.RateLimitedAccountException;
 import org.prebid.server.exception.UnauthorizedAccountException;
 import org.prebid.server.execution.Timeout;
 import org.prebid.server.execution.TimeoutFactory;
@@ -191,6 +192,22 @@ public class AuctionHandlerTest extends VertxTest {
         verify(metrics).updateRequestTypeMetric(eq(MetricName.openrtb2web), eq(MetricName.blacklisted_account));
     }
 
+    @Test
+    public void shouldRespondWithTooManyRequestsIfAccountIsRateLimited() {
+        // given
+        given(auctionRequestFactory.fromRequest(any(), anyLong()))
+                .willReturn(Future.failedFuture(new RateLimitedAccountException("Too many requests", "accountId")));
+
+        // when
+        auctionHandler.handle(routingContext);
+
+        // then
+        verify(httpResponse).setStatusCode(eq(429));
+        verify(httpResponse).end(eq("Too many requests"));
+
+        verify(metrics).updateRequestTypeMetric(eq(MetricName.openrtb2web), eq(MetricName.rate_limited));
+    }
+
     @Test
     public void shouldRespondWithServiceUnavailableIfBidRequestHasAppBlacklisted() {
         // given
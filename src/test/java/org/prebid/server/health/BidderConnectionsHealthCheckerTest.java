@@ -0,0 +1,72 @@
+package org.prebid.server.health;
+
+import io.vertx.core.Vertx;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.prebid.server.bidder.BidderConnectionWarmer;
+import org.prebid.server.health.model.StatusResponse;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+public class BidderConnectionsHealthCheckerTest {
+
+    private static final String NAME = "bidder-connections";
+
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private Vertx vertx;
+    @Mock
+    private BidderConnectionWarmer bidderConnectionWarmer;
+    private Clock clock;
+
+    private BidderConnectionsHealthChecker bidderConnectionsHealthChecker;
+
+    @Before
+    public void setUp() {
+        clock = Clock.fixed(Instant.now(), ZoneId.systemDefault());
+        bidderConnectionsHealthChecker = new BidderConnectionsHealthChecker(vertx, 1L, bidderConnectionWarmer, clock);
+    }
+
+    @Test
+    public void getCheckNameShouldReturnExpectedResult() {
+        assertThat(bidderConnectionsHealthChecker.name()).isEqualTo(NAME);
+    }
+
+    @Test
+    public void getLastStatusShouldReturnStatusUpIfWarmerIsReady() {
+        // given
+        given(bidderConnectionWarmer.isReady()).willReturn(true);
+
+        // when
+        bidderConnectionsHealthChecker.updateStatus();
+
+        // then
+        final StatusResponse status = bidderConnectionsHealthChecker.status();
+        assertThat(status.getStatus()).isEqualTo("UP");
+        assertThat(status.getLastUpdated()).isEqualTo(ZonedDateTime.now(clock));
+    }
+
+    @Test
+    public void getLastStatusShouldReturnStatusDownIfWarmerIsNotReady() {
+        // given
+        given(bidderConnectionWarmer.isReady()).willReturn(false);
+
+        // when
+        bidderConnectionsHealthChecker.updateStatus();
+
+        // then
+        assertThat(bidderConnectionsHealthChecker.status().getStatus()).isEqualTo("DOWN");
+    }
+}
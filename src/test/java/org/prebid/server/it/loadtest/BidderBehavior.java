@@ -0,0 +1,40 @@
+package org.prebid.server.it.loadtest;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Defines how simulated bidder responds to bid requests.
+ */
+@Builder
+@Value
+public class BidderBehavior {
+
+    /**
+     * Time to wait before responding.
+     */
+    @Builder.Default
+    LatencyDistribution latency = LatencyDistribution.fixed(0);
+
+    /**
+     * Probability of bidding on each impression, bidder responds with 204 No Content if there are no bids.
+     */
+    @Builder.Default
+    double bidRate = 1.0;
+
+    /**
+     * Size of creative markup in each bid, drives response size.
+     */
+    @Builder.Default
+    int admSize = 1024;
+
+    /**
+     * Probability of responding with 500 Internal Server Error.
+     */
+    double errorRate;
+
+    /**
+     * Probability of not responding at all, so that request is timed out by Prebid Server.
+     */
+    double timeoutRate;
+}
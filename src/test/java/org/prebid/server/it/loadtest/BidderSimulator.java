@@ -0,0 +1,230 @@
+package org.prebid.server.it.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.request.Format;
+import com.iab.openrtb.request.Imp;
+import com.iab.openrtb.response.Bid;
+import com.iab.openrtb.response.BidResponse;
+import com.iab.openrtb.response.SeatBid;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServer;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.prebid.server.cache.proto.request.BidCacheRequest;
+import org.prebid.server.cache.proto.response.BidCacheResponse;
+import org.prebid.server.cache.proto.response.CacheObject;
+import org.prebid.server.util.HttpUtil;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+/**
+ * Embedded mock bidder server speaking OpenRTB on any path, so it can stand for every bidder configured with
+ * endpoint pointing to it.
+ * <p>
+ * Bid requests are answered according to {@link BidderBehavior}, which can be defined per path. Besides that
+ * simulator acts as Prebid Cache on "/cache" path and serves static bodies registered for GET paths, so that
+ * Prebid Server doesn't need any other external services.
+ * <p>
+ * All randomness comes from single seeded {@link Random}, so runs with the same traffic are reproducible.
+ */
+public class BidderSimulator {
+
+    private static final String CACHE_PATH = "/cache";
+
+    private final Vertx vertx;
+    private final ObjectMapper mapper;
+    private final BidderBehavior defaultBehavior;
+    private final Map<String, BidderBehavior> behaviorsByPath = new HashMap<>();
+    private final Map<String, String> staticBodiesByPath = new HashMap<>();
+    private final Random random;
+
+    private HttpServer server;
+
+    public BidderSimulator(Vertx vertx, ObjectMapper mapper, BidderBehavior defaultBehavior, long seed) {
+        this.vertx = Objects.requireNonNull(vertx);
+        this.mapper = Objects.requireNonNull(mapper);
+        this.defaultBehavior = Objects.requireNonNull(defaultBehavior);
+        this.random = new Random(seed);
+    }
+
+    /**
+     * Overrides behavior for requests to the given path, for example of particular bidder.
+     */
+    public BidderSimulator behavior(String path, BidderBehavior behavior) {
+        behaviorsByPath.put(path, behavior);
+        return this;
+    }
+
+    /**
+     * Registers body returned for GET requests to the given path.
+     */
+    public BidderSimulator staticBody(String path, String body) {
+        staticBodiesByPath.put(path, body);
+        return this;
+    }
+
+    public Future<Void> start(int port) {
+        final Promise<HttpServer> promise = Promise.promise();
+        vertx.createHttpServer()
+                .requestHandler(request -> request.bodyHandler(body -> handle(request, body)))
+                .listen(port, promise);
+        return promise.future().map(httpServer -> {
+            server = httpServer;
+            return null;
+        });
+    }
+
+    public Future<Void> stop() {
+        final Promise<Void> promise = Promise.promise();
+        if (server != null) {
+            server.close(promise);
+        } else {
+            promise.complete();
+        }
+        return promise.future();
+    }
+
+    private void handle(HttpServerRequest request, Buffer body) {
+        final String path = request.path();
+        if (request.method() == HttpMethod.GET) {
+            final String staticBody = staticBodiesByPath.get(path);
+            if (staticBody != null) {
+                respond(request.response(), HttpResponseStatus.OK, staticBody);
+            } else {
+                respond(request.response(), HttpResponseStatus.NOT_FOUND, null);
+            }
+        } else if (CACHE_PATH.equals(path)) {
+            respond(request.response(), HttpResponseStatus.OK, cacheResponse(body));
+        } else {
+            handleBidRequest(request.response(), behaviorsByPath.getOrDefault(path, defaultBehavior), body);
+        }
+    }
+
+    private void handleBidRequest(HttpServerResponse response, BidderBehavior behavior, Buffer body) {
+        final double outcome = random.nextDouble();
+        if (outcome < behavior.getTimeoutRate()) {
+            return;
+        }
+
+        final HttpResponseStatus status;
+        final String responseBody;
+        if (outcome < behavior.getTimeoutRate() + behavior.getErrorRate()) {
+            status = HttpResponseStatus.INTERNAL_SERVER_ERROR;
+            responseBody = null;
+        } else {
+            final BidResponse bidResponse = bidResponse(parseBidRequest(body), behavior);
+            status = bidResponse != null ? HttpResponseStatus.OK : HttpResponseStatus.NO_CONTENT;
+            responseBody = bidResponse != null ? encode(bidResponse) : null;
+        }
+
+        final long latency = Math.max(behavior.getLatency().nextMillis(random), 0);
+        if (latency > 0) {
+            vertx.setTimer(latency, ignored -> respond(response, status, responseBody));
+        } else {
+            respond(response, status, responseBody);
+        }
+    }
+
+    /**
+     * Returns parsed bid request or null if body is not an OpenRTB request, for example of bidder with custom
+     * protocol, in which case simulator doesn't bid.
+     */
+    private BidRequest parseBidRequest(Buffer body) {
+        try {
+            return mapper.readValue(body.getBytes(), BidRequest.class);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private BidResponse bidResponse(BidRequest bidRequest, BidderBehavior behavior) {
+        if (bidRequest == null || CollectionUtils.isEmpty(bidRequest.getImp())) {
+            return null;
+        }
+
+        final List<Bid> bids = new ArrayList<>();
+        for (final Imp imp : bidRequest.getImp()) {
+            if (random.nextDouble() < behavior.getBidRate()) {
+                bids.add(bid(imp, behavior.getAdmSize()));
+            }
+        }
+
+        return bids.isEmpty() ? null : BidResponse.builder()
+                .id(bidRequest.getId())
+                .seatbid(Collections.singletonList(SeatBid.builder().bid(bids).build()))
+                .cur("USD")
+                .build();
+    }
+
+    private Bid bid(Imp imp, int admSize) {
+        final Format format = imp.getBanner() != null && CollectionUtils.isNotEmpty(imp.getBanner().getFormat())
+                ? imp.getBanner().getFormat().get(0)
+                : null;
+
+        return Bid.builder()
+                .id(nextId())
+                .impid(imp.getId())
+                .price(BigDecimal.valueOf(1 + random.nextInt(500), 2))
+                .adm(StringUtils.rightPad("<div>", admSize - 6, 'x') + "</div>")
+                .adid("simulated-ad")
+                .crid("simulated-creative")
+                .w(format != null ? format.getW() : 300)
+                .h(format != null ? format.getH() : 250)
+                .build();
+    }
+
+    private String cacheResponse(Buffer body) {
+        final BidCacheRequest cacheRequest;
+        try {
+            cacheRequest = mapper.readValue(body.getBytes(), BidCacheRequest.class);
+        } catch (IOException e) {
+            return encode(BidCacheResponse.of(null));
+        }
+
+        return encode(BidCacheResponse.of(cacheRequest.getPuts().stream()
+                .map(put -> CacheObject.of(nextId()))
+                .collect(Collectors.toList())));
+    }
+
+    private String nextId() {
+        return Long.toHexString(random.nextLong());
+    }
+
+    private String encode(Object value) {
+        try {
+            return mapper.writeValueAsString(value);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void respond(HttpServerResponse response, HttpResponseStatus status, String body) {
+        if (response.closed()) {
+            return;
+        }
+
+        response.setStatusCode(status.code());
+        if (body != null) {
+            response.putHeader(HttpUtil.CONTENT_TYPE_HEADER, HttpUtil.APPLICATION_JSON_CONTENT_TYPE).end(body);
+        } else {
+            response.end();
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package org.prebid.server.it.loadtest;
+
+import java.util.Random;
+
+/**
+ * Distribution of simulated bidder response latency in milliseconds.
+ */
+@FunctionalInterface
+public interface LatencyDistribution {
+
+    long nextMillis(Random random);
+
+    static LatencyDistribution fixed(long millis) {
+        return random -> millis;
+    }
+
+    static LatencyDistribution uniform(long minMillis, long maxMillis) {
+        return random -> minMillis + (long) (random.nextDouble() * (maxMillis - minMillis));
+    }
+
+    /**
+     * Log-normal distribution with long right tail typical for real bidders: half of responses are faster than
+     * median, sigma defines how heavy the tail is.
+     */
+    static LatencyDistribution logNormal(long medianMillis, double sigma) {
+        final double mu = Math.log(medianMillis);
+        return random -> Math.round(Math.exp(mu + sigma * random.nextGaussian()));
+    }
+
+    /**
+     * Parses distribution from its specification, one of "fixed:ms", "uniform:min:max" or "lognormal:median:sigma".
+     */
+    static LatencyDistribution parse(String spec) {
+        final String[] parts = spec.split(":");
+        switch (parts[0]) {
+            case "fixed":
+                return fixed(Long.parseLong(parts[1]));
+            case "uniform":
+                return uniform(Long.parseLong(parts[1]), Long.parseLong(parts[2]));
+            case "lognormal":
+                return logNormal(Long.parseLong(parts[1]), Double.parseDouble(parts[2]));
+            default:
+                throw new IllegalArgumentException(String.format("Unknown latency distribution: %s", spec));
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package org.prebid.server.it.loadtest;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpClientRequest;
+import org.HdrHistogram.Histogram;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Replays requests against Prebid Server at target rate and collects latency, throughput, GC and allocation stats.
+ * <p>
+ * Load is open-loop: requests are sent on schedule regardless of responses, taking requests from traffic in round
+ * robin fashion, so runs with the same traffic and rate send the same requests.
+ */
+public class LoadGenerator {
+
+    private static final long TICK_MS = 1;
+    private static final int MAX_CONNECTIONS = 1000;
+    private static final long HIGHEST_TRACKABLE_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(10);
+
+    private final Vertx vertx;
+    private final List<ReplayRequest> traffic;
+    private final long timeoutMs;
+
+    private final HttpClient httpClient;
+
+    public LoadGenerator(Vertx vertx, String host, int port, List<ReplayRequest> traffic, long timeoutMs) {
+        this.vertx = Objects.requireNonNull(vertx);
+        this.traffic = Objects.requireNonNull(traffic);
+        this.timeoutMs = timeoutMs;
+
+        if (traffic.isEmpty()) {
+            throw new IllegalArgumentException("Traffic to replay is empty");
+        }
+
+        httpClient = vertx.createHttpClient(new HttpClientOptions()
+                .setDefaultHost(host)
+                .setDefaultPort(port)
+                .setMaxPoolSize(MAX_CONNECTIONS));
+    }
+
+    /**
+     * Sends requests at given rate during given time and completes when all responses are received or timed out.
+     */
+    public Future<LoadReport> run(long qps, long durationMs) {
+        final Promise<LoadReport> promise = Promise.promise();
+        vertx.runOnContext(ignored -> new Run(qps, qps * durationMs / 1000, promise).start());
+        return promise.future();
+    }
+
+    public void close() {
+        httpClient.close();
+    }
+
+    /**
+     * State of single run, accessed only from the event loop thread it was started on.
+     */
+    private class Run {
+
+        private final long qps;
+        private final long total;
+        private final Promise<LoadReport> promise;
+
+        private final Histogram latency = new Histogram(HIGHEST_TRACKABLE_LATENCY_MICROS, 3);
+        private final Map<String, Long> responsesByPath = new TreeMap<>();
+
+        private long startNanos;
+        private long startGcCount;
+        private long startGcTimeMs;
+        private long startAllocatedBytes;
+        private long timerId;
+        private long sent;
+        private long completed;
+        private long errors;
+
+        Run(long qps, long total, Promise<LoadReport> promise) {
+            this.qps = qps;
+            this.total = total;
+            this.promise = promise;
+        }
+
+        void start() {
+            if (total <= 0) {
+                promise.fail(new IllegalArgumentException("Nothing to send with given rate and duration"));
+                return;
+            }
+
+            startGcCount = gcCount();
+            startGcTimeMs = gcTimeMs();
+            startAllocatedBytes = allocatedBytes();
+            startNanos = System.nanoTime();
+            timerId = vertx.setPeriodic(TICK_MS, ignored -> sendDueRequests());
+        }
+
+        private void sendDueRequests() {
+            final long due = Math.min((System.nanoTime() - startNanos) * qps / TimeUnit.SECONDS.toNanos(1), total);
+            for (; sent < due; sent++) {
+                send(traffic.get((int) (sent % traffic.size())),
+                        startNanos + sent * TimeUnit.SECONDS.toNanos(1) / qps);
+            }
+            if (sent == total) {
+                vertx.cancelTimer(timerId);
+            }
+        }
+
+        private void send(ReplayRequest replayRequest, long scheduledNanos) {
+            final String path = replayRequest.getUri().split("\\?", 2)[0];
+            final boolean[] done = {false};
+
+            final HttpClientRequest request = httpClient.request(replayRequest.getMethod(), replayRequest.getUri())
+                    .setTimeout(timeoutMs)
+                    .exceptionHandler(exception -> complete(done, path, scheduledNanos, false));
+            request.handler(response -> response
+                    .exceptionHandler(exception -> complete(done, path, scheduledNanos, false))
+                    .bodyHandler(body -> complete(done, path, scheduledNanos, response.statusCode() / 100 == 2)));
+
+            if (replayRequest.getHeaders() != null) {
+                replayRequest.getHeaders().forEach(request::putHeader);
+            }
+            if (replayRequest.getBody() != null) {
+                request.end(replayRequest.getBody());
+            } else {
+                request.end();
+            }
+        }
+
+        private void complete(boolean[] done, String path, long scheduledNanos, boolean succeeded) {
+            if (done[0]) {
+                return;
+            }
+            done[0] = true;
+
+            final long latencyMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - scheduledNanos);
+            latency.recordValue(Math.min(latencyMicros, HIGHEST_TRACKABLE_LATENCY_MICROS));
+            responsesByPath.merge(path, 1L, Long::sum);
+            if (!succeeded) {
+                errors++;
+            }
+
+            if (++completed == total) {
+                promise.complete(LoadReport.builder()
+                        .targetQps(qps)
+                        .durationMs(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos))
+                        .requests(total)
+                        .errors(errors)
+                        .responsesByPath(responsesByPath)
+                        .latency(latency)
+                        .gcCount(gcCount() - startGcCount)
+                        .gcTimeMs(gcTimeMs() - startGcTimeMs)
+                        .allocatedBytes(allocatedBytes() - startAllocatedBytes)
+                        .build());
+            }
+        }
+    }
+
+    private static long gcCount() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream()
+                .mapToLong(GarbageCollectorMXBean::getCollectionCount)
+                .sum();
+    }
+
+    private static long gcTimeMs() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream()
+                .mapToLong(GarbageCollectorMXBean::getCollectionTime)
+                .sum();
+    }
+
+    /**
+     * Returns bytes allocated by live threads, so allocations of threads terminated during the run are missed.
+     */
+    private static long allocatedBytes() {
+        final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        if (!(threadMXBean instanceof com.sun.management.ThreadMXBean)) {
+            return 0;
+        }
+
+        long allocatedBytes = 0;
+        for (final long bytes : ((com.sun.management.ThreadMXBean) threadMXBean)
+                .getThreadAllocatedBytes(threadMXBean.getAllThreadIds())) {
+            allocatedBytes += Math.max(bytes, 0);
+        }
+        return allocatedBytes;
+    }
+}
@@ -0,0 +1,66 @@
+package org.prebid.server.it.loadtest;
+
+import lombok.Builder;
+import lombok.Value;
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+
+/**
+ * Results of single {@link LoadGenerator} run.
+ */
+@Builder
+@Value
+public class LoadReport {
+
+    long targetQps;
+
+    long durationMs;
+
+    long requests;
+
+    /**
+     * Number of requests failed or answered with status other than 2xx.
+     */
+    long errors;
+
+    /**
+     * Number of responses by request path.
+     */
+    Map<String, Long> responsesByPath;
+
+    /**
+     * Latency in microseconds measured from the time request was scheduled to be sent, so that stalls of
+     * server are not hidden by delayed sending (coordinated omission).
+     */
+    Histogram latency;
+
+    long gcCount;
+
+    long gcTimeMs;
+
+    /**
+     * Bytes allocated by JVM threads during the run, includes load generator and simulator allocations.
+     */
+    long allocatedBytes;
+
+    public double throughput() {
+        return durationMs > 0 ? (requests - errors) * 1000.0 / durationMs : 0;
+    }
+
+    public String format() {
+        return String.format("target %d qps, %d requests in %d ms, %d errors, throughput %.1f rps%n"
+                        + "latency ms: p50 %.2f, p90 %.2f, p99 %.2f, p99.9 %.2f, max %.2f%n"
+                        + "gc: %d collections, %d ms; allocated %d MB (%d KB per request)%n"
+                        + "responses by path: %s",
+                targetQps, requests, durationMs, errors, throughput(),
+                percentileMs(50), percentileMs(90), percentileMs(99), percentileMs(99.9),
+                latency.getMaxValue() / 1000.0,
+                gcCount, gcTimeMs, allocatedBytes >> 20, requests > 0 ? (allocatedBytes / requests) >> 10 : 0,
+                responsesByPath);
+    }
+
+    private double percentileMs(double percentile) {
+        return latency.getValueAtPercentile(percentile) / 1000.0;
+    }
+}
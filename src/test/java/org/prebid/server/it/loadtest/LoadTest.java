@@ -0,0 +1,135 @@
+package org.prebid.server.it.loadtest;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.prebid.server.VertxTest;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Drives Prebid Server started with integration tests configuration by replayed traffic, while all bidders, cache
+ * and other external services are served by {@link BidderSimulator}.
+ * <p>
+ * Skipped unless enabled explicitly, for example:
+ * <pre>
+ * mvn test -Dtest=LoadTest -Dloadtest.enabled=true -Dloadtest.qps=500 -Dloadtest.duration-seconds=120
+ * </pre>
+ * Other options: loadtest.warmup-seconds, loadtest.runs, loadtest.seed, loadtest.traffic-file (captured traffic
+ * in JSON lines format, see {@link ReplayTraffic#fromCapture}) and bidder behavior options loadtest.bidder.latency
+ * (see {@link LatencyDistribution#parse}), loadtest.bidder.bid-rate, loadtest.bidder.adm-size,
+ * loadtest.bidder.error-rate and loadtest.bidder.timeout-rate.
+ */
+@RunWith(SpringRunner.class)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@TestPropertySource(locations = "classpath:org/prebid/server/it/test-application.properties", properties = {
+        "http-client.circuit-breaker.enabled=false",
+        "analytics.log.enabled=false"})
+public class LoadTest extends VertxTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoadTest.class);
+
+    private static final String IT_RESOURCES = "src/test/resources/org/prebid/server/it/";
+    private static final int APP_PORT = 8080;
+    private static final int SIMULATOR_PORT = 8090;
+    private static final long REQUEST_TIMEOUT_MS = 5000;
+
+    private static Vertx vertx;
+    private static BidderSimulator bidderSimulator;
+
+    @BeforeClass
+    public static void setUp() throws Exception {
+        assumeTrue("Load test is enabled by loadtest.enabled system property", Boolean.getBoolean("loadtest.enabled"));
+
+        final BidderBehavior bidderBehavior = BidderBehavior.builder()
+                .latency(LatencyDistribution.parse(System.getProperty("loadtest.bidder.latency", "lognormal:40:0.5")))
+                .bidRate(doubleProperty("loadtest.bidder.bid-rate", 0.8))
+                .admSize(Integer.getInteger("loadtest.bidder.adm-size", 2048))
+                .errorRate(doubleProperty("loadtest.bidder.error-rate", 0.01))
+                .timeoutRate(doubleProperty("loadtest.bidder.timeout-rate", 0.005))
+                .build();
+
+        vertx = Vertx.vertx();
+        bidderSimulator = new BidderSimulator(vertx, mapper, bidderBehavior, Long.getLong("loadtest.seed", 42L))
+                .staticBody("/currency-rates", fileContent("currency/latest.json"))
+                .staticBody("/periodic-update", fileContent("storedrequests/test-periodic-refresh.json"));
+        await(bidderSimulator.start(SIMULATOR_PORT));
+    }
+
+    @AfterClass
+    public static void tearDown() throws Exception {
+        if (bidderSimulator != null) {
+            await(bidderSimulator.stop());
+        }
+        if (vertx != null) {
+            vertx.close();
+        }
+    }
+
+    @Test
+    public void replayTraffic() throws Exception {
+        // given
+        final String trafficFile = System.getProperty("loadtest.traffic-file");
+        final List<ReplayRequest> traffic = trafficFile != null
+                ? ReplayTraffic.fromCapture(Paths.get(trafficFile), mapper)
+                : ReplayTraffic.fromItFixtures();
+        final LoadGenerator loadGenerator = new LoadGenerator(vertx, "localhost", APP_PORT, traffic,
+                REQUEST_TIMEOUT_MS);
+
+        final long qps = Long.getLong("loadtest.qps", 100L);
+        final long durationMs = TimeUnit.SECONDS.toMillis(Long.getLong("loadtest.duration-seconds", 60L));
+        final long warmupMs = TimeUnit.SECONDS.toMillis(Long.getLong("loadtest.warmup-seconds", 15L));
+
+        // when
+        logger.info("Warm-up run:\n{0}", await(loadGenerator.run(qps, warmupMs)).format());
+
+        final int runs = Integer.getInteger("loadtest.runs", 1);
+        for (int run = 1; run <= runs; run++) {
+            final LoadReport report = await(loadGenerator.run(qps, durationMs));
+            logger.info("Run {0} of {1}:\n{2}", run, runs, report.format());
+
+            // then
+            assertThat(report.getRequests()).isEqualTo(qps * durationMs / 1000);
+        }
+
+        loadGenerator.close();
+    }
+
+    private static double doubleProperty(String name, double defaultValue) {
+        final String value = System.getProperty(name);
+        return value != null ? Double.parseDouble(value) : defaultValue;
+    }
+
+    private static String fileContent(String file) throws IOException {
+        return new String(Files.readAllBytes(Paths.get(IT_RESOURCES + file)), StandardCharsets.UTF_8);
+    }
+
+    private static <T> T await(Future<T> future) throws Exception {
+        final CompletableFuture<T> result = new CompletableFuture<>();
+        future.setHandler(asyncResult -> {
+            if (asyncResult.succeeded()) {
+                result.complete(asyncResult.result());
+            } else {
+                result.completeExceptionally(asyncResult.cause());
+            }
+        });
+        return result.get(1, TimeUnit.HOURS);
+    }
+}
@@ -0,0 +1,26 @@
+package org.prebid.server.it.loadtest;
+
+import io.vertx.core.http.HttpMethod;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+import java.util.Map;
+
+/**
+ * Captured request to Prebid Server replayed by {@link LoadGenerator}.
+ */
+@AllArgsConstructor(staticName = "of")
+@Value
+public class ReplayRequest {
+
+    HttpMethod method;
+
+    /**
+     * Path with query string.
+     */
+    String uri;
+
+    Map<String, String> headers;
+
+    String body;
+}
@@ -0,0 +1,76 @@
+package org.prebid.server.it.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.vertx.core.http.HttpMethod;
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Sources of requests replayed against Prebid Server.
+ */
+public final class ReplayTraffic {
+
+    private static final Path IT_RESOURCES = Paths.get("src/test/resources/org/prebid/server/it");
+
+    // this uids cookie value stands for {"uids":{"rubicon":"J5VLCWQP-26-CWFT"}}
+    private static final String UIDS_COOKIE = "uids=eyJ1aWRzIjp7InJ1Ymljb24iOiJKNVZMQ1dRUC0yNi1DV0ZUIn19";
+
+    private ReplayTraffic() {
+    }
+
+    /**
+     * Builds traffic from integration tests fixtures: every OpenRTB auction request, AMP request for test stored
+     * request and cookie sync request.
+     */
+    public static List<ReplayRequest> fromItFixtures() throws IOException {
+        final Map<String, String> headers = new HashMap<>();
+        headers.put("Referer", "http://www.example.com");
+        headers.put("X-Forwarded-For", "193.168.244.1");
+        headers.put("User-Agent", "userAgent");
+        headers.put("Origin", "http://www.example.com");
+        headers.put("Cookie", UIDS_COOKIE);
+
+        final List<ReplayRequest> requests = new ArrayList<>();
+        try (Stream<Path> files = Files.walk(IT_RESOURCES.resolve("openrtb2"))) {
+            for (final Path file : files
+                    .filter(path -> path.getFileName().toString().matches("test-auction-.*-request\\.json"))
+                    .sorted()
+                    .collect(Collectors.toList())) {
+                requests.add(ReplayRequest.of(HttpMethod.POST, "/openrtb2/auction", headers,
+                        new String(Files.readAllBytes(file), StandardCharsets.UTF_8)));
+            }
+        }
+
+        requests.add(ReplayRequest.of(HttpMethod.GET, "/openrtb2/amp?tag_id=test-amp-stored-request&ow=980&oh=120"
+                + "&slot=overwrite-tagId&curl=https%3A%2F%2Fgoogle.com&account=accountId", headers, null));
+        requests.add(ReplayRequest.of(HttpMethod.POST, "/cookie_sync", headers,
+                "{\"bidders\":[\"rubicon\",\"appnexus\",\"adform\"],\"gdpr\":0,\"coopSync\":false}"));
+
+        return requests;
+    }
+
+    /**
+     * Reads traffic captured to file where each line is JSON object with "method", "uri", "headers" and "body"
+     * fields of {@link ReplayRequest}.
+     */
+    public static List<ReplayRequest> fromCapture(Path file, ObjectMapper mapper) throws IOException {
+        final List<ReplayRequest> requests = new ArrayList<>();
+        for (final String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+            if (StringUtils.isNotBlank(line)) {
+                requests.add(mapper.readValue(line, ReplayRequest.class));
+            }
+        }
+        return requests;
+    }
+}
@@ -0,0 +1,70 @@
+package org.prebid.server.json;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.Test;
+import org.prebid.server.VertxTest;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class JsonMergePatchTest extends VertxTest {
+
+    @Test
+    public void applyShouldConformToRfc7386Examples() throws IOException {
+        assertMerge("{'a':'b'}", "{'a':'c'}", "{'a':'c'}");
+        assertMerge("{'a':'b'}", "{'b':'c'}", "{'a':'b','b':'c'}");
+        assertMerge("{'a':'b'}", "{'a':null}", "{}");
+        assertMerge("{'a':'b','b':'c'}", "{'a':null}", "{'b':'c'}");
+        assertMerge("{'a':['b']}", "{'a':'c'}", "{'a':'c'}");
+        assertMerge("{'a':'c'}", "{'a':['b']}", "{'a':['b']}");
+        assertMerge("{'a':{'b':'c'}}", "{'a':{'b':'d','c':null}}", "{'a':{'b':'d'}}");
+        assertMerge("{'a':[{'b':'c'}]}", "{'a':[1]}", "{'a':[1]}");
+        assertMerge("['a','b']", "['c','d']", "['c','d']");
+        assertMerge("{'a':'b'}", "['c']", "['c']");
+        assertMerge("{'a':'foo'}", "null", "null");
+        assertMerge("{'a':'foo'}", "'bar'", "'bar'");
+        assertMerge("{'e':null}", "{'a':1}", "{'e':null,'a':1}");
+        assertMerge("[1,2]", "{'a':'b','c':null}", "{'a':'b'}");
+        assertMerge("{}", "{'a':{'bb':{'ccc':null}}}", "{'a':{'bb':{}}}");
+    }
+
+    @Test
+    public void applyShouldNotModifyArguments() throws IOException {
+        // given
+        final JsonNode target = readTree("{'a':{'b':'c','d':'e'},'f':'g'}");
+        final JsonNode patch = readTree("{'a':{'b':null,'x':'y'},'f':null}");
+
+        // when
+        JsonMergePatch.apply(patch, target);
+
+        // then
+        assertThat(target).isEqualTo(readTree("{'a':{'b':'c','d':'e'},'f':'g'}"));
+        assertThat(patch).isEqualTo(readTree("{'a':{'b':null,'x':'y'},'f':null}"));
+    }
+
+    @Test
+    public void applyShouldShareSubtreesNotTouchedByPatch() throws IOException {
+        // given
+        final ObjectNode target = (ObjectNode) readTree("{'a':{'b':'c'},'d':{'e':'f'}}");
+        final ObjectNode patch = (ObjectNode) readTree("{'d':{'e':'g'},'h':{'i':'j'}}");
+
+        // when
+        final JsonNode result = JsonMergePatch.apply(patch, target);
+
+        // then
+        assertThat(result).isNotSameAs(target);
+        assertThat(result.get("a")).isSameAs(target.get("a"));
+        assertThat(result.get("h")).isSameAs(patch.get("h"));
+        assertThat(result.get("d")).isEqualTo(readTree("{'e':'g'}"));
+    }
+
+    private static void assertMerge(String target, String patch, String expected) throws IOException {
+        assertThat(JsonMergePatch.apply(readTree(patch), readTree(target))).isEqualTo(readTree(expected));
+    }
+
+    private static JsonNode readTree(String json) throws IOException {
+        return mapper.readTree(json.replace('\'', '"'));
+    }
+}
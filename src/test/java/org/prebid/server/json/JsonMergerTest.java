@@ -1,15 +1,34 @@
 package org.prebid.server.json;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.fge.jsonpatch.mergepatch.JsonMergePatch;
 import com.iab.openrtb.request.App;
+import com.iab.openrtb.request.Banner;
+import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.request.Device;
+import com.iab.openrtb.request.Format;
+import com.iab.openrtb.request.Geo;
+import com.iab.openrtb.request.Imp;
 import com.iab.openrtb.request.Publisher;
+import com.iab.openrtb.request.Regs;
 import com.iab.openrtb.request.Site;
+import com.iab.openrtb.request.User;
 import org.junit.Before;
 import org.junit.Test;
 import org.prebid.server.VertxTest;
+import org.prebid.server.exception.InvalidRequestException;
 import org.prebid.server.proto.openrtb.ext.request.ExtBidderConfigFpd;
+import org.prebid.server.proto.openrtb.ext.request.ExtRegs;
+import org.prebid.server.proto.openrtb.ext.request.ExtSite;
+import org.prebid.server.proto.openrtb.ext.request.ExtUser;
 
+import java.math.BigDecimal;
+
+import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 public class JsonMergerTest extends VertxTest {
 
@@ -72,4 +91,108 @@ public class JsonMergerTest extends VertxTest {
         assertThat(result).isEqualTo(site);
     }
 
+    @Test
+    public void mergeWithStoredDataShouldMergeBidRequestSameWayAsJsonMergePatch() throws Exception {
+        // given
+        final BidRequest bidRequest = BidRequest.builder()
+                .id("requestId")
+                .imp(singletonList(Imp.builder().id("impId").build()))
+                .site(Site.builder()
+                        .page("page")
+                        .publisher(Publisher.builder().id("publisherId").build())
+                        .ext(ExtSite.of(1, null))
+                        .build())
+                .device(Device.builder().ua("ua").geo(Geo.builder().country("USA").build()).build())
+                .user(User.builder()
+                        .buyeruid("buyeruid")
+                        .ext(ExtUser.builder().consent("consent").data(obj("keywords", "user")).build())
+                        .build())
+                .tmax(1000L)
+                .regs(Regs.of(1, null))
+                .build();
+        final String storedRequest = "{\"id\":\"storedId\",\"cur\":[\"USD\"],\"tmax\":500,"
+                + "\"site\":{\"domain\":\"domain\",\"publisher\":{\"name\":\"name\"},\"ext\":{\"amp\":0}},"
+                + "\"device\":{\"ip\":\"1.2.3.4\",\"geo\":{\"city\":\"city\"}},"
+                + "\"user\":{\"yob\":1980,\"ext\":{\"data\":{\"age\":30}}},"
+                + "\"regs\":{\"ext\":{\"gdpr\":1}},\"imp\":[{\"id\":\"storedImpId\"}]}";
+
+        // when
+        final BidRequest result = target.merge(bidRequest, storedRequest, "id", BidRequest.class);
+
+        // then
+        assertThat(result).isEqualTo(mergeWithLibrary(bidRequest, storedRequest, BidRequest.class));
+        assertThat(result.getSite().getPublisher())
+                .isEqualTo(Publisher.builder().id("publisherId").name("name").build());
+        assertThat(result.getRegs()).isEqualTo(Regs.of(1, ExtRegs.of(1, null)));
+    }
+
+    @Test
+    public void mergeWithStoredDataShouldMergeImpSameWayAsJsonMergePatch() throws Exception {
+        // given
+        final Imp imp = Imp.builder()
+                .id("impId")
+                .banner(Banner.builder().format(singletonList(Format.builder().w(300).h(250).build())).build())
+                .bidfloor(BigDecimal.ONE)
+                .ext(obj("prebid", obj("storedrequest", obj("id", "storedImpId"))))
+                .build();
+        final String storedImp = "{\"tagid\":\"tagid\",\"banner\":{\"pos\":1,\"format\":[{\"w\":1,\"h\":1}]},"
+                + "\"ext\":{\"appnexus\":{\"placementId\":1},\"prebid\":{\"is_rewarded_inventory\":1}}}";
+
+        // when
+        final Imp result = target.merge(imp, storedImp, "id", Imp.class);
+
+        // then
+        assertThat(result).isEqualTo(mergeWithLibrary(imp, storedImp, Imp.class));
+    }
+
+    @Test
+    public void mergeWithStoredDataShouldIgnoreInvalidStoredFieldOverriddenByOriginalObject() {
+        // given
+        final BidRequest bidRequest = BidRequest.builder().tmax(1000L).build();
+
+        // when
+        final BidRequest result = target.merge(bidRequest, "{\"tmax\":\"invalid\",\"cur\":[\"EUR\"]}", "id",
+                BidRequest.class);
+
+        // then
+        assertThat(result).isEqualTo(BidRequest.builder().tmax(1000L).cur(singletonList("EUR")).build());
+    }
+
+    @Test
+    public void mergeWithStoredDataShouldFailIfStoredDataIsNotValidJson() {
+        assertThatThrownBy(() -> target.merge(BidRequest.builder().build(), "{invalid", "id", BidRequest.class))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessage("Can't parse Json for stored request with id id");
+    }
+
+    @Test
+    public void mergeWithStoredDataShouldFailIfResultCouldNotBeConverted() {
+        assertThatThrownBy(() -> target.merge(Site.builder().build(), "{\"mobile\":\"invalid\"}", "id", Site.class))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessageStartingWith("Can't convert merging result for id id");
+    }
+
+    @Test
+    public void mergeShouldMergeJsonNodes() throws Exception {
+        // given
+        final JsonNode original = mapper.readTree("{\"a\":{\"b\":1,\"c\":null},\"d\":[1]}");
+        final JsonNode merging = mapper.readTree("{\"a\":{\"c\":2,\"e\":3},\"d\":[2,3],\"f\":4}");
+
+        // when
+        final JsonNode result = target.merge(original, merging);
+
+        // then
+        assertThat(result).isEqualTo(mapper.readTree("{\"a\":{\"b\":1,\"e\":3},\"d\":[1],\"f\":4}"));
+        assertThat(result).isEqualTo(JsonMergePatch.fromJson(original).apply(merging));
+    }
+
+    private static <T> T mergeWithLibrary(T originalObject, String storedData, Class<T> type) throws Exception {
+        final JsonNode merged = JsonMergePatch.fromJson(mapper.valueToTree(originalObject))
+                .apply(mapper.readTree(storedData));
+        return mapper.treeToValue(merged, type);
+    }
+
+    private static ObjectNode obj(String field, Object value) {
+        return mapper.valueToTree(singletonMap(field, value));
+    }
 }
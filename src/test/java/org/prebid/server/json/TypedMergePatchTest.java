@@ -0,0 +1,116 @@
+package org.prebid.server.json;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.iab.openrtb.request.App;
+import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.request.Imp;
+import com.iab.openrtb.request.Site;
+import com.iab.openrtb.request.User;
+import org.junit.Before;
+import org.junit.Test;
+import org.prebid.server.VertxTest;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.util.List;
+
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TypedMergePatchTest extends VertxTest {
+
+    private TypedMergePatch typedMergePatch;
+
+    @Before
+    public void setUp() {
+        typedMergePatch = new TypedMergePatch(jacksonMapper);
+    }
+
+    @Test
+    public void applyShouldTakeEveryDeclaredFieldOfPatch() throws ReflectiveOperationException,
+            JsonProcessingException {
+        // given
+        final BidRequest bidRequest = givenWithAllFields(BidRequest.class);
+        final Imp imp = givenWithAllFields(Imp.class);
+
+        // when
+        final BidRequest mergedBidRequest = typedMergePatch.apply(bidRequest, givenEmptyBidRequest(),
+                BidRequest.class);
+        final Imp mergedImp = typedMergePatch.apply(imp, Imp.builder().build(), Imp.class);
+
+        // then
+        assertThat(mergedBidRequest).isEqualTo(bidRequest);
+        assertThat(mergedImp).isEqualTo(imp);
+    }
+
+    @Test
+    public void applyShouldTakeEveryDeclaredFieldOfTargetIfAbsentInPatch() throws ReflectiveOperationException,
+            JsonProcessingException {
+        // given
+        final BidRequest bidRequest = givenWithAllFields(BidRequest.class);
+        final Imp imp = givenWithAllFields(Imp.class);
+
+        // when
+        final BidRequest mergedBidRequest = typedMergePatch.apply(givenEmptyBidRequest(), bidRequest,
+                BidRequest.class);
+        final Imp mergedImp = typedMergePatch.apply(Imp.builder().build(), imp, Imp.class);
+
+        // then
+        assertThat(mergedBidRequest).isEqualTo(bidRequest);
+        assertThat(mergedImp).isEqualTo(imp);
+    }
+
+    /**
+     * Creates request with empty objects merged field by field, so each of their fields is merged as well.
+     */
+    private static BidRequest givenEmptyBidRequest() {
+        return BidRequest.builder()
+                .site(Site.builder().build())
+                .app(App.builder().build())
+                .user(User.builder().build())
+                .build();
+    }
+
+    /**
+     * Creates object with every declared field set, found by reflection, so field missed by merge makes result
+     * differ.
+     */
+    private static <T> T givenWithAllFields(Class<T> type) throws ReflectiveOperationException {
+        final Object builder = type.getMethod("builder").invoke(null);
+        for (Field field : type.getDeclaredFields()) {
+            if (!Modifier.isStatic(field.getModifiers())) {
+                builder.getClass().getMethod(field.getName(), field.getType()).invoke(builder, givenValue(field));
+            }
+        }
+        return type.cast(builder.getClass().getMethod("build").invoke(builder));
+    }
+
+    private static Object givenValue(Field field) throws ReflectiveOperationException {
+        final Class<?> type = field.getType();
+        if (type == String.class) {
+            return field.getName();
+        }
+        if (type == Integer.class) {
+            return 1;
+        }
+        if (type == Long.class) {
+            return 1L;
+        }
+        if (type == BigDecimal.class) {
+            return BigDecimal.ONE;
+        }
+        if (type == List.class) {
+            return emptyList();
+        }
+        if (type == ObjectNode.class) {
+            return mapper.createObjectNode().put(field.getName(), 1);
+        }
+        if (type == Site.class || type == App.class || type == User.class) {
+            return givenWithAllFields(type);
+        }
+        // objects merged as JSON trees are taken as is if present only on one side
+        return mapper.convertValue(mapper.createObjectNode(), type);
+    }
+}
@@ -0,0 +1,143 @@
+package org.prebid.server.metric;
+
+import com.codahale.metrics.Snapshot;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+import java.time.Clock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.BDDMockito.given;
+
+public class HdrReservoirTest {
+
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private Clock clock;
+
+    private HdrReservoir reservoir;
+
+    @Before
+    public void setUp() {
+        given(clock.millis()).willReturn(0L);
+
+        reservoir = new HdrReservoir(clock, 1000L);
+    }
+
+    @Test
+    public void getSnapshotShouldReturnQuantilesWithinHistogramPrecision() {
+        // given
+        for (int i = 1; i <= 10000; i++) {
+            reservoir.update(i * 1000L);
+        }
+
+        // when
+        final Snapshot snapshot = reservoir.getSnapshot();
+
+        // then
+        assertThat(snapshot.size()).isEqualTo(10000);
+        assertThat(snapshot.getMedian()).isCloseTo(5_000_000d, within(50_000d));
+        assertThat(snapshot.get99thPercentile()).isCloseTo(9_900_000d, within(99_000d));
+        assertThat(snapshot.getMin()).isCloseTo(1000L, within(10L));
+        assertThat(snapshot.getMax()).isCloseTo(10_000_000L, within(100_000L));
+        assertThat(snapshot.getMean()).isCloseTo(5_000_500d, within(50_000d));
+    }
+
+    @Test
+    public void getSnapshotShouldReturnEmptySnapshotIfNothingRecorded() {
+        // when
+        final Snapshot snapshot = reservoir.getSnapshot();
+
+        // then
+        assertThat(snapshot.size()).isZero();
+        assertThat(snapshot.getMedian()).isZero();
+        assertThat(snapshot.getMax()).isZero();
+        assertThat(snapshot.getValues()).isEmpty();
+    }
+
+    @Test
+    public void getSnapshotShouldReportCurrentAndPreviousWindows() {
+        // given
+        reservoir.update(100L);
+        given(clock.millis()).willReturn(1000L);
+        reservoir.getSnapshot();
+        reservoir.update(200L);
+
+        // when
+        final Snapshot snapshot = reservoir.getSnapshot();
+
+        // then
+        assertThat(snapshot.size()).isEqualTo(2);
+        assertThat(snapshot.getMin()).isEqualTo(100L);
+        assertThat(snapshot.getMax()).isCloseTo(200L, within(2L));
+    }
+
+    @Test
+    public void getSnapshotShouldForgetValuesOlderThanPreviousWindow() {
+        // given
+        reservoir.update(100L);
+        given(clock.millis()).willReturn(1000L);
+        reservoir.getSnapshot();
+        given(clock.millis()).willReturn(2000L);
+
+        // when
+        final Snapshot snapshot = reservoir.getSnapshot();
+
+        // then
+        assertThat(snapshot.size()).isZero();
+    }
+
+    @Test
+    public void getSnapshotShouldReportValuesRecordedSinceLastReadIfNotReadForMoreThanTwoWindows() {
+        // given
+        reservoir.update(100L);
+        given(clock.millis()).willReturn(5000L);
+
+        // when
+        final Snapshot snapshot = reservoir.getSnapshot();
+
+        // then
+        assertThat(snapshot.size()).isEqualTo(1);
+        assertThat(snapshot.getMin()).isEqualTo(100L);
+    }
+
+    @Test
+    public void getSnapshotShouldReportAllValuesRecordedConcurrently() throws InterruptedException {
+        // given
+        final Thread[] threads = new Thread[8];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(() -> {
+                for (int j = 1; j <= 10000; j++) {
+                    reservoir.update(j);
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // when
+        final Snapshot snapshot = reservoir.getSnapshot();
+
+        // then
+        assertThat(snapshot.size()).isEqualTo(80000);
+        assertThat(snapshot.getMedian()).isCloseTo(5000d, within(50d));
+    }
+
+    @Test
+    public void updateShouldRecordNegativeValuesAsZero() {
+        // when
+        reservoir.update(-5L);
+
+        // then
+        assertThat(reservoir.getSnapshot().getValues()).containsOnly(0L);
+    }
+}
@@ -560,6 +560,80 @@ public class MetricsTest {
         assertThat(metricRegistry.counter("adapter.UNKNOWN.requests.badinput").getCount()).isEqualTo(2);
     }
 
+    @Test
+    public void updateAdapterRequestBuildingMetricsShouldUpdateMetrics() {
+        // when
+        metrics.updateAdapterRequestBuildingMetrics(RUBICON, 1500L, 2048L);
+
+        // then
+        assertThat(metricRegistry.timer("adapter.rubicon.request_building_time").getSnapshot().getValues())
+                .containsOnly(1500L);
+        assertThat(metricRegistry.histogram("adapter.rubicon.request_building_allocated_bytes").getSnapshot()
+                .getValues()).containsOnly(2048L);
+    }
+
+    @Test
+    public void updateAdapterResponseParsingMetricsShouldNotUpdateAllocatedBytesIfNotSupported() {
+        // when
+        metrics.updateAdapterResponseParsingMetrics(RUBICON, 1500L, -1L);
+
+        // then
+        assertThat(metricRegistry.timer("adapter.rubicon.response_parsing_time").getCount()).isOne();
+        assertThat(metricRegistry.getHistograms())
+                .doesNotContainKey("adapter.rubicon.response_parsing_allocated_bytes");
+    }
+
+    @Test
+    public void updateAdapterRequestCompressionMetricsShouldUpdateMetrics() {
+        // when
+        metrics.updateAdapterRequestCompressionMetrics(RUBICON, 1500L, 2048L);
+        metrics.updateAdapterRequestCompressionMetrics(RUBICON, 1500L, 1024L);
+
+        // then
+        assertThat(metricRegistry.timer("adapter.rubicon.request_compression_time").getCount()).isEqualTo(2);
+        assertThat(metricRegistry.counter("adapter.rubicon.request_compression_saved_bytes").getCount())
+                .isEqualTo(3072);
+    }
+
+    @Test
+    public void updateAuctionStageTimeMetricShouldUpdateMetric() {
+        // when
+        metrics.updateAuctionStageTimeMetric(MetricName.parse_request, 2500L);
+
+        // then
+        assertThat(metricRegistry.timer("auction.stage.parse_request").getSnapshot().getValues())
+                .containsOnly(2500L);
+    }
+
+    @Test
+    public void updateEventLoopMetricsShouldUpdateMetrics() {
+        // when
+        metrics.updateEventLoopLagMetric(1000L);
+        metrics.updateEventLoopBlockedMetric();
+
+        // then
+        assertThat(metricRegistry.timer("event_loop.lag").getCount()).isOne();
+        assertThat(metricRegistry.counter("event_loop.blocked").getCount()).isOne();
+    }
+
+    @Test
+    public void updateAccountRequestLimitedMetricsShouldIncrementMetric() {
+        // when
+        metrics.updateAccountRequestLimitedMetrics("accountId", MetricName.rate_limited);
+
+        // then
+        assertThat(metricRegistry.counter("account.accountId.requests.rate_limited").getCount()).isOne();
+    }
+
+    @Test
+    public void updateAdmissionShedMetricShouldIncrementMetric() {
+        // when
+        metrics.updateAdmissionShedMetric(MetricName.amp, MetricName.in_flight);
+
+        // then
+        assertThat(metricRegistry.counter("admission.amp.shed.in_flight").getCount()).isOne();
+    }
+
     @Test
     public void updateSizeValidationMetricsShouldIncrementMetrics() {
         // given
@@ -1051,6 +1125,15 @@ public class MetricsTest {
         assertThat(metricRegistry.counter("settings.cache.account.hit").getCount()).isEqualTo(1);
     }
 
+    @Test
+    public void updateHotPathCacheEventMetricShouldIncrementMetric() {
+        // when
+        metrics.updateHotPathCacheEventMetric(MetricName.registrable_domain, MetricName.miss);
+
+        // then
+        assertThat(metricRegistry.counter("hot-path-cache.registrable-domain.miss").getCount()).isOne();
+    }
+
     private void verifyCreatesConfiguredCounterType(Consumer<Metrics> metricsConsumer) {
         final EnumMap<CounterType, Class<? extends Metric>> counterTypeClasses = new EnumMap<>(CounterType.class);
         counterTypeClasses.put(CounterType.counter, Counter.class);
@@ -0,0 +1,79 @@
+package org.prebid.server.metric;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
+import io.prometheus.client.Collector.MetricFamilySamples;
+import io.prometheus.client.dropwizard.DropwizardExports;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.Clock;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+public class PrometheusMetricsCollectorTest {
+
+    private MetricRegistry metricRegistry;
+
+    private PrometheusMetricsCollector collector;
+
+    @Before
+    public void setUp() {
+        metricRegistry = new MetricRegistry();
+
+        collector = new PrometheusMetricsCollector(metricRegistry);
+    }
+
+    @Test
+    public void collectShouldReturnSameSamplesAsDropwizardExports() {
+        // given
+        metricRegistry.counter("account.1001.requests").inc(5);
+        metricRegistry.meter("requests.ok").mark(3);
+        metricRegistry.register("currency-rates.stale", (Gauge<Boolean>) () -> true);
+        metricRegistry.register("in-flight", (Gauge<Long>) () -> 7L);
+        metricRegistry.register("ignored", (Gauge<String>) () -> "value");
+        for (int i = 0; i < 100; i++) {
+            metricRegistry.timer("request_time").update(5, TimeUnit.MILLISECONDS);
+            metricRegistry.histogram("prices").update(42);
+        }
+
+        // when
+        final List<MetricFamilySamples> result = collector.collect();
+
+        // then
+        assertThat(result).containsExactlyInAnyOrderElementsOf(new DropwizardExports(metricRegistry).collect());
+    }
+
+    @Test
+    public void collectShouldReflectRemovedMetrics() {
+        // given
+        metricRegistry.counter("requests").inc();
+        collector.collect();
+        metricRegistry.remove("requests");
+
+        // when
+        final List<MetricFamilySamples> result = collector.collect();
+
+        // then
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    public void collectShouldRenderTimersBackedByHdrReservoir() {
+        // given
+        metricRegistry = new HdrMetricRegistry(Clock.systemUTC(), 60000L);
+        collector = new PrometheusMetricsCollector(metricRegistry);
+        metricRegistry.timer("request_time").update(1, TimeUnit.SECONDS);
+
+        // when
+        final List<MetricFamilySamples> result = collector.collect();
+
+        // then
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).samples).hasSize(7)
+                .allSatisfy(sample -> assertThat(sample.value).isCloseTo(1.0, within(0.01)));
+    }
+}
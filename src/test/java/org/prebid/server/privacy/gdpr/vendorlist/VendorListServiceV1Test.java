@@ -10,6 +10,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
@@ -18,6 +19,7 @@ import org.prebid.server.VertxTest;
 import org.prebid.server.bidder.BidderCatalog;
 import org.prebid.server.exception.PreBidException;
 import org.prebid.server.metric.Metrics;
+import org.prebid.server.privacy.gdpr.vendorlist.proto.Purpose;
 import org.prebid.server.privacy.gdpr.vendorlist.proto.VendorListV1;
 import org.prebid.server.privacy.gdpr.vendorlist.proto.VendorV1;
 import org.prebid.server.vertx.http.HttpClient;
@@ -49,6 +51,7 @@ import static org.prebid.server.privacy.gdpr.vendorlist.proto.Purpose.TWO;
 public class VendorListServiceV1Test extends VertxTest {
 
     private static final String CACHE_DIR = "/cache/dir";
+    private static final int CACHE_SIZE = 10;
     private static final long REFRESH_MISSING_LIST_PERIOD_MS = 3600000L;
     private static final String FALLBACK_VENDOR_LIST_PATH = "fallback.json";
 
@@ -82,6 +85,7 @@ public class VendorListServiceV1Test extends VertxTest {
                 "http://vendorlist/{VERSION}",
                 0,
                 REFRESH_MISSING_LIST_PERIOD_MS,
+                CACHE_SIZE,
                 false,
                 null,
                 FALLBACK_VENDOR_LIST_PATH,
@@ -107,6 +111,7 @@ public class VendorListServiceV1Test extends VertxTest {
                         "http://vendorlist/%s",
                         0,
                         REFRESH_MISSING_LIST_PERIOD_MS,
+                        CACHE_SIZE,
                         false,
                         null,
                         FALLBACK_VENDOR_LIST_PATH,
@@ -127,6 +132,7 @@ public class VendorListServiceV1Test extends VertxTest {
                 "http://vendorlist/{VERSION}",
                 0,
                 REFRESH_MISSING_LIST_PERIOD_MS,
+                CACHE_SIZE,
                 true,
                 null,
                 FALLBACK_VENDOR_LIST_PATH,
@@ -153,6 +159,7 @@ public class VendorListServiceV1Test extends VertxTest {
                 "http://vendorlist/{VERSION}",
                 0,
                 REFRESH_MISSING_LIST_PERIOD_MS,
+                CACHE_SIZE,
                 true,
                 null,
                 null,
@@ -178,6 +185,7 @@ public class VendorListServiceV1Test extends VertxTest {
                         "http://vendorlist/%s",
                         0,
                         REFRESH_MISSING_LIST_PERIOD_MS,
+                        CACHE_SIZE,
                         false,
                         null,
                         FALLBACK_VENDOR_LIST_PATH,
@@ -204,6 +212,7 @@ public class VendorListServiceV1Test extends VertxTest {
                         "http://vendorlist/%s",
                         0,
                         REFRESH_MISSING_LIST_PERIOD_MS,
+                        CACHE_SIZE,
                         false,
                         null,
                         FALLBACK_VENDOR_LIST_PATH,
@@ -230,6 +239,7 @@ public class VendorListServiceV1Test extends VertxTest {
                         "http://vendorlist/%s",
                         0,
                         REFRESH_MISSING_LIST_PERIOD_MS,
+                        CACHE_SIZE,
                         false,
                         null,
                         FALLBACK_VENDOR_LIST_PATH,
@@ -383,6 +393,57 @@ public class VendorListServiceV1Test extends VertxTest {
         verify(fileSystem).writeFile(eq(filePath), eq(Buffer.buffer(vendorListAsString)), any());
     }
 
+    @Test
+    public void shouldSaveBinaryFileIfVendorListNotFound() throws JsonProcessingException {
+        // given
+        givenHttpClientReturnsResponse(200, mapper.writeValueAsString(givenVendorList()));
+
+        given(fileSystem.writeFile(anyString(), any(), any()))
+                .willAnswer(withSelfAndPassObjectToHandler(Future.succeededFuture()));
+
+        // when
+        vendorListService.forVersion(1);
+
+        // then
+        verify(fileSystem).writeFile(eq(new File("/cache/dir/1.bin").getPath()), any(), any());
+    }
+
+    @Test
+    public void creationShouldLoadVendorListFromBinaryFileKeepingOnlyKnownVendors() throws JsonProcessingException {
+        // given
+        final String binaryFilePath = new File("/cache/dir/1.bin").getPath();
+        final Buffer binaryVendorList = givenBinaryVendorList(binaryFilePath, VendorListV1.of(1, new Date(),
+                asList(
+                        VendorV1.of(52, EnumSet.of(ONE, TWO), EnumSet.noneOf(Purpose.class)),
+                        VendorV1.of(42, EnumSet.of(ONE), EnumSet.of(TWO)))));
+
+        given(fileSystem.readDirBlocking(anyString())).willReturn(singletonList("/cache/dir/1.json"));
+        given(fileSystem.existsBlocking(eq(binaryFilePath))).willReturn(true);
+        given(fileSystem.readFileBlocking(eq(binaryFilePath))).willReturn(binaryVendorList);
+
+        // when
+        vendorListService = new VendorListServiceV1(
+                CACHE_DIR,
+                "http://vendorlist/{VERSION}",
+                0,
+                REFRESH_MISSING_LIST_PERIOD_MS,
+                CACHE_SIZE,
+                false,
+                null,
+                FALLBACK_VENDOR_LIST_PATH,
+                bidderCatalog,
+                vertx,
+                fileSystem,
+                httpClient,
+                metrics,
+                jacksonMapper);
+
+        // then
+        verify(fileSystem, never()).readFileBlocking(eq(new File("/cache/dir/1.json").getPath()));
+        assertThat(vendorListService.forVersion(1)).succeededWith(
+                singletonMap(52, VendorV1.of(52, EnumSet.of(ONE, TWO), EnumSet.noneOf(Purpose.class))));
+    }
+
     // In-memory cache related tests
 
     @Test
@@ -558,6 +619,21 @@ public class VendorListServiceV1Test extends VertxTest {
         return VendorListV1.of(1, new Date(), singletonList(vendor));
     }
 
+    private Buffer givenBinaryVendorList(String binaryFilePath, VendorListV1 vendorList)
+            throws JsonProcessingException {
+
+        givenHttpClientReturnsResponse(200, mapper.writeValueAsString(vendorList));
+
+        given(fileSystem.writeFile(anyString(), any(), any()))
+                .willAnswer(withSelfAndPassObjectToHandler(Future.succeededFuture()));
+
+        vendorListService.forVersion(1);
+
+        final ArgumentCaptor<Buffer> bufferCaptor = ArgumentCaptor.forClass(Buffer.class);
+        verify(fileSystem).writeFile(eq(binaryFilePath), bufferCaptor.capture(), any());
+        return bufferCaptor.getValue();
+    }
+
     private void givenHttpClientReturnsResponse(int statusCode, String response) {
         given(httpClient.get(anyString(), anyLong()))
                 .willReturn(Future.succeededFuture(HttpClientResponse.of(statusCode, null, response)));
@@ -1,8 +1,10 @@
 package org.prebid.server.privacy.gdpr.vendorlist;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
+import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.file.FileSystem;
@@ -10,6 +12,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
@@ -33,16 +36,19 @@ import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Map;
 
+import static java.util.Arrays.asList;
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.singleton;
 import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyZeroInteractions;
@@ -53,6 +59,7 @@ import static org.prebid.server.privacy.gdpr.vendorlist.proto.Purpose.TWO;
 public class VendorListServiceV2Test extends VertxTest {
 
     private static final String CACHE_DIR = "/cache/dir";
+    private static final int CACHE_SIZE = 10;
     private static final long REFRESH_MISSING_LIST_PERIOD_MS = 3600000L;
     private static final String FALLBACK_VENDOR_LIST_PATH = "fallback.json";
 
@@ -86,6 +93,7 @@ public class VendorListServiceV2Test extends VertxTest {
                 "http://vendorlist/{VERSION}",
                 0,
                 REFRESH_MISSING_LIST_PERIOD_MS,
+                CACHE_SIZE,
                 false,
                 null,
                 FALLBACK_VENDOR_LIST_PATH,
@@ -111,6 +119,7 @@ public class VendorListServiceV2Test extends VertxTest {
                         "http://vendorlist/%s",
                         0,
                         REFRESH_MISSING_LIST_PERIOD_MS,
+                        CACHE_SIZE,
                         false,
                         null,
                         FALLBACK_VENDOR_LIST_PATH,
@@ -131,6 +140,7 @@ public class VendorListServiceV2Test extends VertxTest {
                 "http://vendorlist/{VERSION}",
                 0,
                 REFRESH_MISSING_LIST_PERIOD_MS,
+                CACHE_SIZE,
                 true,
                 null,
                 FALLBACK_VENDOR_LIST_PATH,
@@ -166,6 +176,7 @@ public class VendorListServiceV2Test extends VertxTest {
                 "http://vendorlist/{VERSION}",
                 0,
                 REFRESH_MISSING_LIST_PERIOD_MS,
+                CACHE_SIZE,
                 true,
                 null,
                 null,
@@ -191,6 +202,7 @@ public class VendorListServiceV2Test extends VertxTest {
                         "http://vendorlist/%s",
                         0,
                         REFRESH_MISSING_LIST_PERIOD_MS,
+                        CACHE_SIZE,
                         false,
                         null,
                         FALLBACK_VENDOR_LIST_PATH,
@@ -217,6 +229,7 @@ public class VendorListServiceV2Test extends VertxTest {
                         "http://vendorlist/%s",
                         0,
                         REFRESH_MISSING_LIST_PERIOD_MS,
+                        CACHE_SIZE,
                         false,
                         null,
                         FALLBACK_VENDOR_LIST_PATH,
@@ -243,6 +256,7 @@ public class VendorListServiceV2Test extends VertxTest {
                         "http://vendorlist/%s",
                         0,
                         REFRESH_MISSING_LIST_PERIOD_MS,
+                        CACHE_SIZE,
                         false,
                         null,
                         FALLBACK_VENDOR_LIST_PATH,
@@ -395,6 +409,95 @@ public class VendorListServiceV2Test extends VertxTest {
         verify(fileSystem).writeFile(eq(filePath), eq(Buffer.buffer(vendorListAsString)), any());
     }
 
+    @Test
+    public void shouldSaveBinaryFileIfVendorListNotFound() throws JsonProcessingException {
+        // given
+        givenHttpClientReturnsResponse(200, mapper.writeValueAsString(givenVendorList()));
+
+        given(fileSystem.writeFile(anyString(), any(), any()))
+                .willAnswer(withSelfAndPassObjectToHandler(Future.succeededFuture()));
+
+        // when
+        vendorListService.forVersion(1);
+
+        // then
+        verify(fileSystem).writeFile(eq(new File("/cache/dir/1.bin").getPath()), any(), any());
+    }
+
+    @Test
+    public void creationShouldLoadVendorListFromBinaryFileIfExists() throws JsonProcessingException {
+        // given
+        final String binaryFilePath = new File("/cache/dir/1.bin").getPath();
+        final Buffer binaryVendorList = givenBinaryVendorList(binaryFilePath);
+
+        given(fileSystem.readDirBlocking(anyString())).willReturn(singletonList("/cache/dir/1.json"));
+        given(fileSystem.existsBlocking(eq(binaryFilePath))).willReturn(true);
+        given(fileSystem.readFileBlocking(eq(binaryFilePath))).willReturn(binaryVendorList);
+
+        // when
+        vendorListService = new VendorListServiceV2(
+                CACHE_DIR,
+                "http://vendorlist/{VERSION}",
+                0,
+                REFRESH_MISSING_LIST_PERIOD_MS,
+                CACHE_SIZE,
+                false,
+                null,
+                FALLBACK_VENDOR_LIST_PATH,
+                bidderCatalog,
+                vertx,
+                fileSystem,
+                httpClient,
+                metrics,
+                jacksonMapper);
+
+        // then
+        verify(fileSystem, never()).readFileBlocking(eq(new File("/cache/dir/1.json").getPath()));
+        assertThat(vendorListService.forVersion(1)).succeededWith(givenVendorList().getVendors());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldLoadVersionsNotFittingInMemoryCacheOnDemand() throws JsonProcessingException {
+        // given
+        given(fileSystem.readDirBlocking(anyString())).willReturn(asList("/cache/dir/1.json", "/cache/dir/2.json"));
+        given(fileSystem.readFileBlocking(anyString()))
+                .willReturn(Buffer.buffer(mapper.writeValueAsString(givenVendorList())));
+
+        willAnswer(invocation -> {
+            final Promise<Object> promise = Promise.promise();
+            ((Handler<Promise<Object>>) invocation.getArgument(0)).handle(promise);
+            ((Handler<AsyncResult<Object>>) invocation.getArgument(2)).handle(promise.future());
+            return null;
+        }).given(vertx).executeBlocking(any(), anyBoolean(), any());
+
+        vendorListService = new VendorListServiceV2(
+                CACHE_DIR,
+                "http://vendorlist/{VERSION}",
+                0,
+                REFRESH_MISSING_LIST_PERIOD_MS,
+                1,
+                false,
+                null,
+                FALLBACK_VENDOR_LIST_PATH,
+                bidderCatalog,
+                vertx,
+                fileSystem,
+                httpClient,
+                metrics,
+                jacksonMapper);
+
+        verify(fileSystem, never()).readFileBlocking(eq(new File("/cache/dir/1.json").getPath()));
+
+        // when
+        final Future<Map<Integer, VendorV2>> future = vendorListService.forVersion(1);
+
+        // then
+        verify(fileSystem).readFileBlocking(eq(new File("/cache/dir/1.json").getPath()));
+        verifyZeroInteractions(httpClient);
+        assertThat(future).succeededWith(givenVendorList().getVendors());
+    }
+
     // In-memory cache related tests
 
     @Test
@@ -598,6 +701,19 @@ public class VendorListServiceV2Test extends VertxTest {
         return VendorListV2.of(1, new Date(), singletonMap(52, vendor));
     }
 
+    private Buffer givenBinaryVendorList(String binaryFilePath) throws JsonProcessingException {
+        givenHttpClientReturnsResponse(200, mapper.writeValueAsString(givenVendorList()));
+
+        given(fileSystem.writeFile(anyString(), any(), any()))
+                .willAnswer(withSelfAndPassObjectToHandler(Future.succeededFuture()));
+
+        vendorListService.forVersion(1);
+
+        final ArgumentCaptor<Buffer> bufferCaptor = ArgumentCaptor.forClass(Buffer.class);
+        verify(fileSystem).writeFile(eq(binaryFilePath), bufferCaptor.capture(), any());
+        return bufferCaptor.getValue();
+    }
+
     private void givenHttpClientReturnsResponse(int statusCode, String response) {
         given(httpClient.get(anyString(), anyLong()))
                 .willReturn(Future.succeededFuture(HttpClientResponse.of(statusCode, null, response)));
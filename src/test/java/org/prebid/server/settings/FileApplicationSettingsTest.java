@@ -12,6 +12,7 @@ import org.prebid.server.settings.model.Account;
 import org.prebid.server.settings.model.AccountAnalyticsConfig;
 import org.prebid.server.settings.model.AccountBidValidationConfig;
 import org.prebid.server.settings.model.AccountGdprConfig;
+import org.prebid.server.settings.model.AccountRateLimitConfig;
 import org.prebid.server.settings.model.BidValidationEnforcement;
 import org.prebid.server.settings.model.EnabledForRequestType;
 import org.prebid.server.settings.model.EnforcePurpose;
@@ -109,6 +110,11 @@ public class FileApplicationSettingsTest {
                         + "},"
                         + "bidValidations: {"
                         + "banner-creative-max-size: 'enforce'"
+                        + "},"
+                        + "rateLimits: {"
+                        + "requests-per-second: 100,"
+                        + "burst: 200,"
+                        + "max-concurrent-requests: 50"
                         + "}"
                         + "}"
                         + "]"));
@@ -146,6 +152,7 @@ public class FileApplicationSettingsTest {
                 .defaultIntegration("web")
                 .analyticsConfig(AccountAnalyticsConfig.of(singletonMap("amp", true)))
                 .bidValidations(AccountBidValidationConfig.of(BidValidationEnforcement.enforce))
+                .rateLimits(AccountRateLimitConfig.of(100, 200, 50))
                 .build());
     }
 
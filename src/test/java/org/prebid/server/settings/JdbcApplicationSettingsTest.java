@@ -26,6 +26,7 @@ import org.prebid.server.settings.model.Account;
 import org.prebid.server.settings.model.AccountAnalyticsConfig;
 import org.prebid.server.settings.model.AccountBidValidationConfig;
 import org.prebid.server.settings.model.AccountGdprConfig;
+import org.prebid.server.settings.model.AccountRateLimitConfig;
 import org.prebid.server.settings.model.BidValidationEnforcement;
 import org.prebid.server.settings.model.EnabledForRequestType;
 import org.prebid.server.settings.model.StoredDataResult;
@@ -63,7 +64,7 @@ public class JdbcApplicationSettingsTest extends VertxTest {
     private static final String SELECT_ACCOUNT_QUERY =
             "SELECT uuid, price_granularity, banner_cache_ttl, video_cache_ttl, "
                     + "events_enabled, enforce_ccpa, tcf_config, analytics_sampling_factor, truncate_target_attr, "
-                    + "default_integration, analytics_config, bid_validations "
+                    + "default_integration, analytics_config, bid_validations, rate_limits "
                     + "FROM accounts_account where uuid = %ACCOUNT_ID% LIMIT 1";
 
     private static final String SELECT_QUERY =
@@ -114,7 +115,8 @@ public class JdbcApplicationSettingsTest extends VertxTest {
                 + "uuid varchar(40) NOT NULL, price_granularity varchar(6), granularityMultiplier numeric(9,3), "
                 + "banner_cache_ttl INT, video_cache_ttl INT, events_enabled BIT, enforce_ccpa BIT, "
                 + "tcf_config varchar(512), analytics_sampling_factor INT, truncate_target_attr INT, "
-                + "default_integration varchar(64), analytics_config varchar(512), bid_validations varchar(512));");
+                + "default_integration varchar(64), analytics_config varchar(512), bid_validations varchar(512), "
+                + "rate_limits varchar(512));");
         connection.createStatement().execute("CREATE TABLE s2sconfig_config (id SERIAL PRIMARY KEY, uuid varchar(40) "
                 + "NOT NULL, config varchar(512));");
         connection.createStatement().execute("CREATE TABLE stored_requests (id SERIAL PRIMARY KEY, "
@@ -133,10 +135,11 @@ public class JdbcApplicationSettingsTest extends VertxTest {
         connection.createStatement().execute("insert into accounts_account "
                 + "(uuid, price_granularity, banner_cache_ttl, video_cache_ttl, events_enabled, enforce_ccpa, "
                 + "tcf_config, analytics_sampling_factor, truncate_target_attr, default_integration, analytics_config, "
-                + "bid_validations) "
+                + "bid_validations, rate_limits) "
                 + "values ('1001','med', 100, 100, TRUE, TRUE, '{\"enabled\": true, "
                 + "\"integration-enabled\": {\"amp\": true, \"app\": true, \"video\": true, \"web\": true}}', 1, 0, "
-                + "'web', '{\"auction-events\": {\"amp\": true}}', '{\"banner-creative-max-size\": \"enforce\"}');");
+                + "'web', '{\"auction-events\": {\"amp\": true}}', '{\"banner-creative-max-size\": \"enforce\"}', "
+                + "'{\"requests-per-second\": 100, \"burst\": 200, \"max-concurrent-requests\": 50}');");
         connection.createStatement().execute(
                 "insert into s2sconfig_config (uuid, config) values ('adUnitConfigId', 'config');");
         connection.createStatement().execute(
@@ -209,6 +212,7 @@ public class JdbcApplicationSettingsTest extends VertxTest {
                     .defaultIntegration("web")
                     .analyticsConfig(AccountAnalyticsConfig.of(singletonMap("amp", true)))
                     .bidValidations(AccountBidValidationConfig.of(BidValidationEnforcement.enforce))
+                    .rateLimits(AccountRateLimitConfig.of(100, 200, 50))
                     .build());
             async.complete();
         }));
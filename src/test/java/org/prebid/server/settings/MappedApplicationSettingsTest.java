@@ -0,0 +1,130 @@
+package org.prebid.server.settings;
+
+import io.vertx.core.Future;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.prebid.server.exception.PreBidException;
+import org.prebid.server.settings.model.Account;
+import org.prebid.server.settings.model.StoredDataResult;
+import org.prebid.server.settings.model.StoredResponseDataResult;
+
+import java.util.HashSet;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.emptySet;
+import static java.util.Collections.singleton;
+import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+
+public class MappedApplicationSettingsTest {
+
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private MappedStoredDataCache cache;
+    @Mock
+    private MappedStoredDataCache ampCache;
+
+    private MappedApplicationSettings mappedApplicationSettings;
+
+    @Before
+    public void setUp() {
+        mappedApplicationSettings = new MappedApplicationSettings(cache, ampCache);
+    }
+
+    @Test
+    public void getAccountByIdShouldReturnFailedFuture() {
+        // when
+        final Future<Account> future = mappedApplicationSettings.getAccountById("accountId", null);
+
+        // then
+        assertThat(future.failed()).isTrue();
+        assertThat(future.cause()).isInstanceOf(PreBidException.class).hasMessage("Not supported");
+    }
+
+    @Test
+    public void getStoredDataShouldReturnFoundValuesAndErrorsForMissedIds() {
+        // given
+        given(cache.getRequest("1")).willReturn("{\"request\":1}");
+        given(cache.getImp("2")).willReturn("{\"imp\":2}");
+
+        // when
+        final Future<StoredDataResult> future = mappedApplicationSettings.getStoredData("accountId",
+                new HashSet<>(asList("1", "3")), singleton("2"), null);
+
+        // then
+        assertThat(future.succeeded()).isTrue();
+        assertThat(future.result()).isEqualTo(StoredDataResult.of(
+                singletonMap("1", "{\"request\":1}"),
+                singletonMap("2", "{\"imp\":2}"),
+                singletonList("No stored request found for id: 3")));
+    }
+
+    @Test
+    public void getStoredDataShouldReturnErrorIfValueCannotBeRead() {
+        // given
+        given(cache.getRequest(any())).willThrow(new IllegalStateException("Stored data value is corrupted"));
+
+        // when
+        final Future<StoredDataResult> future = mappedApplicationSettings.getStoredData(null, singleton("1"),
+                emptySet(), null);
+
+        // then
+        assertThat(future.result()).isEqualTo(StoredDataResult.of(emptyMap(), emptyMap(),
+                singletonList("No stored request found for id: 1")));
+    }
+
+    @Test
+    public void getAmpStoredDataShouldUseAmpCacheAndIgnoreImps() {
+        // given
+        given(ampCache.getRequest("1")).willReturn("{\"amp\":1}");
+
+        // when
+        final Future<StoredDataResult> future = mappedApplicationSettings.getAmpStoredData(null, singleton("1"),
+                singleton("2"), null);
+
+        // then
+        assertThat(future.result()).isEqualTo(StoredDataResult.of(singletonMap("1", "{\"amp\":1}"), emptyMap(),
+                emptyList()));
+        verify(ampCache).getRequest("1");
+        verifyZeroInteractions(cache);
+    }
+
+    @Test
+    public void getVideoStoredDataShouldUseRegularCache() {
+        // given
+        given(cache.getRequest("1")).willReturn("{\"video\":1}");
+
+        // when
+        final Future<StoredDataResult> future = mappedApplicationSettings.getVideoStoredData(null, singleton("1"),
+                emptySet(), null);
+
+        // then
+        assertThat(future.result().getStoredIdToRequest()).containsOnly(entry("1", "{\"video\":1}"));
+        verifyZeroInteractions(ampCache);
+    }
+
+    @Test
+    public void getStoredResponsesShouldReturnErrorsForAllIds() {
+        // when
+        final Future<StoredResponseDataResult> future = mappedApplicationSettings.getStoredResponses(
+                singleton("1"), null);
+
+        // then
+        assertThat(future.result()).isEqualTo(StoredResponseDataResult.of(emptyMap(),
+                singletonList("No stored seatbid found for id: 1")));
+    }
+}
@@ -0,0 +1,258 @@
+package org.prebid.server.settings;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.core.WorkerExecutor;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.Mock;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.verify;
+
+public class MappedStoredDataCacheTest {
+
+    // small segments make records padded to segment boundaries
+    private static final int SEGMENT_SIZE = 256;
+
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Mock
+    private WorkerExecutor workerExecutor;
+    @Mock
+    private CacheNotificationListener listener;
+
+    private File dir;
+
+    private MappedStoredDataCache mappedStoredDataCache;
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setUp() throws IOException {
+        willAnswer(invocation -> {
+            final Promise<Object> promise = Promise.promise();
+            ((Handler<Promise<Object>>) invocation.getArgument(0)).handle(promise);
+            ((Handler<AsyncResult<Object>>) invocation.getArgument(2)).handle(promise.future());
+            return null;
+        }).given(workerExecutor).executeBlocking(any(), anyBoolean(), any());
+
+        dir = temporaryFolder.newFolder("mapped");
+
+        mappedStoredDataCache = new MappedStoredDataCache(dir.getPath(), "stored-data", SEGMENT_SIZE, workerExecutor);
+        mappedStoredDataCache.addListener(listener);
+    }
+
+    @Test
+    public void creationShouldDeleteFilesLeftByPreviousRun() throws IOException {
+        // given
+        final File staleFile = new File(dir, "stored-data-1.dat");
+        final File otherFile = new File(dir, "amp-stored-data-1.dat");
+        assertThat(staleFile.createNewFile()).isTrue();
+        assertThat(otherFile.createNewFile()).isTrue();
+
+        // when
+        new MappedStoredDataCache(dir.getPath(), "stored-data", SEGMENT_SIZE, workerExecutor);
+
+        // then
+        assertThat(staleFile).doesNotExist();
+        assertThat(otherFile).exists();
+    }
+
+    @Test
+    public void getRequestAndGetImpShouldReturnNullIfNothingWasSaved() {
+        // when and then
+        assertThat(mappedStoredDataCache.getRequest("id")).isNull();
+        assertThat(mappedStoredDataCache.getImp("id")).isNull();
+    }
+
+    @Test
+    public void getRequestAndGetImpShouldReturnSavedValues() {
+        // given
+        final Map<String, String> requests = new HashMap<>();
+        final Map<String, String> imps = new HashMap<>();
+        for (int i = 0; i < 100; i++) {
+            requests.put("id" + i, "{\"request\":" + i + "}");
+            imps.put("id" + i, "{\"imp\":" + i + ",\"banner\":{\"format\":[{\"w\":300,\"h\":250}]}}");
+        }
+
+        // when
+        mappedStoredDataCache.save(requests, imps);
+
+        // then
+        requests.forEach((id, value) -> assertThat(mappedStoredDataCache.getRequest(id)).isEqualTo(value));
+        imps.forEach((id, value) -> assertThat(mappedStoredDataCache.getImp(id)).isEqualTo(value));
+        assertThat(mappedStoredDataCache.getRequest("id100")).isNull();
+    }
+
+    @Test
+    public void saveShouldReplaceValuesAndKeepOthers() {
+        // given
+        final Map<String, String> requests = new HashMap<>();
+        requests.put("id1", "{\"value\":1}");
+        requests.put("id2", "{\"value\":2}");
+        mappedStoredDataCache.save(requests, singletonMap("id1", "{\"imp\":1}"));
+
+        // when
+        mappedStoredDataCache.save(singletonMap("id1", "{\"value\":3}"), emptyMap());
+
+        // then
+        assertThat(mappedStoredDataCache.getRequest("id1")).isEqualTo("{\"value\":3}");
+        assertThat(mappedStoredDataCache.getRequest("id2")).isEqualTo("{\"value\":2}");
+        assertThat(mappedStoredDataCache.getImp("id1")).isEqualTo("{\"imp\":1}");
+    }
+
+    @Test
+    public void invalidateShouldRemoveValues() {
+        // given
+        final Map<String, String> requests = new HashMap<>();
+        requests.put("id1", "{\"value\":1}");
+        requests.put("id2", "{\"value\":2}");
+        mappedStoredDataCache.save(requests, singletonMap("id1", "{\"imp\":1}"));
+
+        // when
+        mappedStoredDataCache.invalidate(singletonList("id1"), singletonList("id1"));
+
+        // then
+        assertThat(mappedStoredDataCache.getRequest("id1")).isNull();
+        assertThat(mappedStoredDataCache.getRequest("id2")).isEqualTo("{\"value\":2}");
+        assertThat(mappedStoredDataCache.getImp("id1")).isNull();
+    }
+
+    @Test
+    public void saveShouldKeepPreviousGenerationWithoutChangedIdsIfNewOneCannotBeWritten() {
+        // given
+        final Map<String, String> requests = new HashMap<>();
+        requests.put("id1", "{\"value\":1}");
+        requests.put("id2", "{\"value\":2}");
+        mappedStoredDataCache.save(requests, emptyMap());
+
+        // when
+        mappedStoredDataCache.save(singletonMap("id1", givenValueExceedingSegmentSize()), emptyMap());
+
+        // then
+        assertThat(mappedStoredDataCache.getRequest("id1")).isNull();
+        assertThat(mappedStoredDataCache.getRequest("id2")).isEqualTo("{\"value\":2}");
+        assertThat(dir.list()).containsOnly("stored-data-1.dat");
+    }
+
+    @Test
+    public void saveShouldRetryChangesOfFailedGenerationWithNextUpdate() {
+        // given
+        mappedStoredDataCache.save(singletonMap("id1", "{\"value\":1}"), emptyMap());
+
+        final Map<String, String> requests = new HashMap<>();
+        requests.put("id2", "{\"value\":2}");
+        requests.put("id3", givenValueExceedingSegmentSize());
+        mappedStoredDataCache.save(requests, emptyMap());
+
+        // when
+        mappedStoredDataCache.invalidate(singletonList("id3"), emptyList());
+
+        // then
+        assertThat(mappedStoredDataCache.getRequest("id1")).isEqualTo("{\"value\":1}");
+        assertThat(mappedStoredDataCache.getRequest("id2")).isEqualTo("{\"value\":2}");
+        assertThat(mappedStoredDataCache.getRequest("id3")).isNull();
+        assertThat(dir.list()).containsOnly("stored-data-3.dat");
+    }
+
+    @Test
+    public void saveShouldReplaceFileOfPreviousGeneration() {
+        // given
+        mappedStoredDataCache.save(singletonMap("id1", "{\"value\":1}"), emptyMap());
+
+        // when
+        mappedStoredDataCache.save(singletonMap("id2", "{\"value\":2}"), emptyMap());
+
+        // then
+        assertThat(dir.list()).containsOnly("stored-data-2.dat");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void saveShouldWriteChangesQueuedMeanwhileInOneGeneration() {
+        // given
+        final List<InvocationOnMock> tasks = new ArrayList<>();
+        willAnswer(invocation -> {
+            tasks.add(invocation);
+            return null;
+        }).given(workerExecutor).executeBlocking(any(), anyBoolean(), any());
+
+        mappedStoredDataCache.save(singletonMap("id1", "{\"value\":1}"), emptyMap());
+        mappedStoredDataCache.save(singletonMap("id2", "{\"value\":2}"), emptyMap());
+
+        // when
+        for (InvocationOnMock task : tasks) {
+            final Promise<Object> promise = Promise.promise();
+            ((Handler<Promise<Object>>) task.getArgument(0)).handle(promise);
+            ((Handler<AsyncResult<Object>>) task.getArgument(2)).handle(promise.future());
+        }
+
+        // then
+        assertThat(dir.list()).containsOnly("stored-data-1.dat");
+        assertThat(mappedStoredDataCache.getRequest("id1")).isEqualTo("{\"value\":1}");
+        assertThat(mappedStoredDataCache.getRequest("id2")).isEqualTo("{\"value\":2}");
+        verify(listener).invalidate(eq(singletonList("id1")), eq(emptyList()));
+        verify(listener).invalidate(eq(singletonList("id2")), eq(emptyList()));
+    }
+
+    @Test
+    public void saveAndInvalidateShouldNotifyListenersAboutChangedIds() {
+        // when
+        mappedStoredDataCache.save(singletonMap("id1", "{\"value\":1}"), singletonMap("id2", "{\"imp\":2}"));
+        mappedStoredDataCache.invalidate(singletonList("id3"), emptyList());
+
+        // then
+        verify(listener).invalidate(eq(singletonList("id1")), eq(singletonList("id2")));
+        verify(listener).invalidate(eq(singletonList("id3")), eq(emptyList()));
+    }
+
+    @Test
+    public void saveShouldNotFailOnNonAsciiIdsAndValues() {
+        // given
+        final Map<String, String> requests = new HashMap<>();
+        requests.put("ід", "{\"value\":\"значення\"}");
+        requests.put("id", "{}");
+
+        // when
+        mappedStoredDataCache.save(requests, emptyMap());
+
+        // then
+        assertThat(mappedStoredDataCache.getRequest("ід")).isEqualTo("{\"value\":\"значення\"}");
+        assertThat(mappedStoredDataCache.getRequest("id")).isEqualTo("{}");
+    }
+
+    private static String givenValueExceedingSegmentSize() {
+        // random characters are not deflated enough to fit segment
+        final Random random = new Random(1);
+        final StringBuilder value = new StringBuilder();
+        for (int i = 0; i < SEGMENT_SIZE * 4; i++) {
+            value.append((char) ('!' + random.nextInt(90)));
+        }
+        return value.toString();
+    }
+}
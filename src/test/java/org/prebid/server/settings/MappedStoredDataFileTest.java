@@ -0,0 +1,58 @@
+package org.prebid.server.settings;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.prebid.server.settings.model.StoredDataType;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.emptySet;
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MappedStoredDataFileTest {
+
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private Path path;
+
+    private MappedStoredDataFile mappedStoredDataFile;
+
+    @Before
+    public void setUp() throws IOException {
+        path = temporaryFolder.getRoot().toPath().resolve("stored-data-1.dat");
+
+        mappedStoredDataFile = MappedStoredDataFile.write(path, 256, null, singletonMap("id", "{\"value\":1}"),
+                emptyMap(), emptySet(), emptySet());
+    }
+
+    @Test
+    public void releaseShouldDeleteFileOnlyAfterLastReferenceIsReleased() {
+        // given
+        assertThat(mappedStoredDataFile.acquire()).isTrue();
+
+        // when
+        mappedStoredDataFile.release();
+
+        // then
+        assertThat(path).exists();
+        assertThat(mappedStoredDataFile.get(StoredDataType.request, "id")).isEqualTo("{\"value\":1}");
+
+        mappedStoredDataFile.release();
+        assertThat(path).doesNotExist();
+    }
+
+    @Test
+    public void acquireShouldReturnFalseIfLastReferenceWasReleased() {
+        // given
+        mappedStoredDataFile.release();
+
+        // when and then
+        assertThat(mappedStoredDataFile.acquire()).isFalse();
+    }
+}
@@ -8,6 +8,8 @@ import static java.util.Collections.singleton;
 import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 
 public class SettingsCacheTest {
 
@@ -75,4 +77,19 @@ public class SettingsCacheTest {
         assertThat(settingsCache.getImpCache()).hasSize(1)
                 .containsEntry("impId2", singleton(StoredItem.of(null, "impValue2")));
     }
+
+    @Test
+    public void saveAndInvalidateShouldNotifyListeners() {
+        // given
+        final CacheNotificationListener listener = mock(CacheNotificationListener.class);
+        settingsCache.addListener(listener);
+
+        // when
+        settingsCache.save(singletonMap("reqId1", "reqValue1"), singletonMap("impId1", "impValue1"));
+        settingsCache.invalidate(singletonList("reqId1"), singletonList("impId1"));
+
+        // then
+        verify(listener).save(singletonMap("reqId1", "reqValue1"), singletonMap("impId1", "impValue1"));
+        verify(listener).invalidate(singletonList("reqId1"), singletonList("impId1"));
+    }
 }
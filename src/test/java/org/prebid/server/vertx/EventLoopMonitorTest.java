@@ -0,0 +1,121 @@
+package org.prebid.server.vertx;
+
+import io.vertx.core.Vertx;
+import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.ext.unit.junit.VertxUnitRunner;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.vertx.model.BlockedTaskSample;
+
+import java.time.Clock;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.verify;
+
+@RunWith(VertxUnitRunner.class)
+public class EventLoopMonitorTest {
+
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private Metrics metrics;
+
+    private Vertx vertx;
+
+    private EventLoopMonitor eventLoopMonitor;
+
+    @Before
+    public void setUp() {
+        vertx = Vertx.vertx();
+        eventLoopMonitor = new EventLoopMonitor(vertx, metrics, Clock.systemUTC(), 10L, 100L, 5);
+    }
+
+    @After
+    public void tearDown(TestContext context) {
+        vertx.close(context.asyncAssertSuccess());
+    }
+
+    @Test
+    public void creationShouldFailOnNonPositiveProbeInterval() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new EventLoopMonitor(vertx, metrics, Clock.systemUTC(), 0L, 100L, 5));
+    }
+
+    @Test
+    public void initializeShouldStartReportingEventLoopLag(TestContext context) {
+        // given
+        final Async async = context.async();
+
+        // when
+        eventLoopMonitor.initialize();
+
+        // then
+        vertx.setTimer(100L, ignored -> {
+            verify(metrics, atLeastOnce()).updateEventLoopLagMetric(anyLong());
+            async.complete();
+        });
+    }
+
+    @Test
+    public void shouldCaptureStackTraceOfBlockedEventLoop(TestContext context) {
+        // given
+        final Async async = context.async();
+        eventLoopMonitor.initialize();
+
+        // when
+        vertx.setTimer(50L, ignored -> {
+            sleep(300L);
+            vertx.setTimer(50L, ignored2 -> async.complete());
+        });
+        async.awaitSuccess(5000L);
+
+        // then
+        verify(metrics, atLeastOnce()).updateEventLoopBlockedMetric();
+        final List<BlockedTaskSample> samples = eventLoopMonitor.blockedTaskSamples();
+        assertThat(samples).isNotEmpty();
+        assertThat(samples.get(0).getBlockedMs()).isGreaterThanOrEqualTo(100L);
+        assertThat(samples.get(0).getStackTrace()).anySatisfy(frame -> assertThat(frame).contains("sleep"));
+    }
+
+    @Test
+    public void currentEventLoopLagNanosShouldReturnLagOfBlockedEventLoop(TestContext context) {
+        // given
+        final Async async = context.async();
+        eventLoopMonitor.initialize();
+
+        final AtomicLong lagNanos = new AtomicLong();
+
+        // when
+        vertx.setTimer(50L, ignored -> {
+            sleep(200L);
+            lagNanos.set(eventLoopMonitor.currentEventLoopLagNanos());
+            async.complete();
+        });
+        async.awaitSuccess(5000L);
+
+        // then
+        assertThat(lagNanos.get()).isGreaterThanOrEqualTo(100_000_000L);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -8,6 +8,7 @@ import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.CaseInsensitiveHeaders;
 import io.vertx.core.http.HttpClientRequest;
 import io.vertx.core.http.HttpClientResponse;
+import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.ext.unit.Async;
 import io.vertx.ext.unit.TestContext;
@@ -20,6 +21,7 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
 import org.mockito.stubbing.Answer;
+import org.prebid.server.exception.ResponseTooLargeException;
 
 import java.io.BufferedWriter;
 import java.io.IOException;
@@ -36,6 +38,7 @@ import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @RunWith(VertxUnitRunner.class)
@@ -85,6 +88,21 @@ public class BasicHttpClientTest {
         verify(httpClientRequest).end(eq("body"));
     }
 
+    @Test
+    public void requestBinaryShouldPerformHttpRequestWithBodySentAsIs() {
+        // given
+        final MultiMap headers = mock(MultiMap.class);
+        given(httpClientRequest.headers()).willReturn(headers);
+
+        // when
+        httpClient.requestBinary(HttpMethod.POST, "url", headers, new byte[]{1, 2, 3}, 500L);
+
+        // then
+        verify(wrappedHttpClient).requestAbs(eq(HttpMethod.POST), eq("url"));
+        verify(httpClientRequest.headers()).addAll(eq(headers));
+        verify(httpClientRequest).end(eq(Buffer.buffer(new byte[]{1, 2, 3})));
+    }
+
     @Test
     public void requestShouldSucceedIfHttpRequestSucceeds() {
         // given
@@ -141,6 +159,64 @@ public class BasicHttpClientTest {
         assertThat(future.cause()).hasMessage("Response exception");
     }
 
+    @Test
+    public void requestShouldFailIfContentLengthExceedsMaxResponseSize() {
+        // given
+        given(httpClientRequest.handler(any()))
+                .willAnswer(withSelfAndPassObjectToHandler(httpClientResponse));
+        given(httpClientResponse.getHeader(HttpHeaders.CONTENT_LENGTH)).willReturn("11");
+
+        // when
+        final Future<?> future = httpClient.request(HttpMethod.GET, null, null, null, 1L, 10L);
+
+        // then
+        assertThat(future.failed()).isTrue();
+        assertThat(future.cause())
+                .isInstanceOf(ResponseTooLargeException.class)
+                .hasMessage("Response exceeded maximum size of 10 bytes");
+        verify(httpClientRequest).reset();
+        verify(httpClientResponse, never()).handler(any());
+    }
+
+    @Test
+    public void requestShouldFailIfResponseBodyExceedsMaxResponseSize() {
+        // given
+        given(httpClientRequest.handler(any()))
+                .willAnswer(withSelfAndPassObjectToHandler(httpClientResponse));
+        given(httpClientResponse.handler(any()))
+                .willAnswer(withSelfAndPassObjectToHandler(Buffer.buffer("response body")));
+        given(httpClientResponse.endHandler(any())).willReturn(httpClientResponse);
+
+        // when
+        final Future<?> future = httpClient.request(HttpMethod.GET, null, null, null, 1L, 10L);
+
+        // then
+        assertThat(future.failed()).isTrue();
+        assertThat(future.cause()).isInstanceOf(ResponseTooLargeException.class);
+        verify(httpClientRequest).reset();
+    }
+
+    @Test
+    public void requestShouldSucceedIfResponseBodyDoesNotExceedMaxResponseSize() {
+        // given
+        given(httpClientRequest.handler(any()))
+                .willAnswer(withSelfAndPassObjectToHandler(httpClientResponse));
+        given(httpClientResponse.getHeader(HttpHeaders.CONTENT_LENGTH)).willReturn("8");
+        given(httpClientResponse.handler(any()))
+                .willAnswer(withSelfAndPassObjectToHandler(Buffer.buffer("response")));
+        given(httpClientResponse.endHandler(any()))
+                .willAnswer(withSelfAndPassObjectToHandler(null));
+
+        // when
+        final Future<org.prebid.server.vertx.http.model.HttpClientResponse> future =
+                httpClient.request(HttpMethod.GET, null, null, null, 1L, 10L);
+
+        // then
+        assertThat(future.succeeded()).isTrue();
+        assertThat(future.result().getBody()).isEqualTo("response");
+        verify(httpClientRequest, never()).reset();
+    }
+
     @Test
     public void requestShouldFailIfHttpRequestTimedOut(TestContext context) {
         // given